@@ -0,0 +1,333 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.nio.file.StandardCopyOption;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Properties;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.io.write.ResumablePolygonWriter;
+import ca.bc.gov.nrs.vdyp.io.write.VdypPolygonWriter;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+/**
+ * Periodically records how far a batch run has got so that it can be resumed from that point if it is interrupted,
+ * instead of starting again from the first polygon.
+ * <p>
+ * A checkpoint records the number of input polygons that have been committed, meaning written or bypassed, the
+ * identifier of the last of them, and the number of bytes in each output file at that point. A run that resumes from a
+ * checkpoint truncates its outputs to those offsets, reads past the committed polygons without processing them, and
+ * then continues, producing the same output as a run that was never interrupted. The inputs are read again rather than
+ * seeked because the streaming parsers read ahead of the polygon they return; reading them is cheap next to processing
+ * them.
+ * <p>
+ * The checkpoint file is replaced atomically each time so a run interrupted while writing it leaves the previous one,
+ * and it is deleted when the run finishes. Checkpointing is off unless the checkpointer is created with
+ * {@link #Checkpointer(Path, int, boolean)}.
+ */
+public class Checkpointer {
+
+	private static final Logger log = LoggerFactory.getLogger(Checkpointer.class);
+
+	public static final int DEFAULT_INTERVAL = 1000;
+
+	static final String POLYGONS_PROPERTY = "polygons";
+	static final String LAST_POLYGON_PROPERTY = "lastPolygon";
+	static final String OFFSET_PROPERTY_PREFIX = "offset.";
+
+	/**
+	 * A checkpointer that does nothing
+	 */
+	public static final Checkpointer DISABLED = new Checkpointer();
+
+	/**
+	 * The state of a run after committing a number of polygons
+	 *
+	 * @param polygons      the number of input polygons committed
+	 * @param lastPolygon   identifier of the last polygon committed
+	 * @param outputOffsets bytes in each output file keyed by the name of its control key
+	 */
+	public record Checkpoint(int polygons, PolygonIdentifier lastPolygon, Map<String, Long> outputOffsets) {
+	}
+
+	private final boolean enabled;
+	private final Optional<Path> file;
+	private final int interval;
+	private final boolean resume;
+
+	private Optional<Checkpoint> resumePoint = Optional.empty();
+	private boolean resumePointRead = false;
+	private int skipped = 0;
+
+	private int committed = 0;
+	private Optional<PolygonIdentifier> lastPolygon = Optional.empty();
+	private Optional<Checkpoint> lastCheckpoint = Optional.empty();
+
+	/**
+	 * Create a checkpointer that does nothing
+	 */
+	public Checkpointer() {
+		this.enabled = false;
+		this.file = Optional.empty();
+		this.interval = 0;
+		this.resume = false;
+	}
+
+	/**
+	 * Create a checkpointer that saves a checkpoint every {@code interval} polygons
+	 *
+	 * @param file     the checkpoint file
+	 * @param interval number of polygons between checkpoints
+	 * @param resume   resume from the checkpoint in the file if there is one
+	 */
+	public Checkpointer(Path file, int interval, boolean resume) {
+		if (interval < 1) {
+			throw new IllegalArgumentException("Checkpoint interval must be at least 1 but was " + interval);
+		}
+		this.enabled = true;
+		this.file = Optional.of(file);
+		this.interval = interval;
+		this.resume = resume;
+	}
+
+	/**
+	 * @return a checkpointer saving checkpoints to the given file, with the interval and resume setting of this one if
+	 *         it is enabled or the defaults if not
+	 */
+	public Checkpointer withFile(Path file) {
+		return enabled ? new Checkpointer(file, interval, resume) : new Checkpointer(file, DEFAULT_INTERVAL, false);
+	}
+
+	/**
+	 * @return a checkpointer like this one saving a checkpoint every {@code interval} polygons
+	 * @throws IllegalArgumentException if this checkpointer is not enabled or the interval is less than 1
+	 */
+	public Checkpointer withInterval(int interval) {
+		return new Checkpointer(requireFile("interval"), interval, resume);
+	}
+
+	/**
+	 * @return a checkpointer like this one that resumes from the checkpoint in its file if there is one
+	 * @throws IllegalArgumentException if this checkpointer is not enabled
+	 */
+	public Checkpointer withResume(boolean resume) {
+		return new Checkpointer(requireFile("resume"), interval, resume);
+	}
+
+	private Path requireFile(String setting) {
+		return file.orElseThrow(
+				() -> new IllegalArgumentException("Can not set checkpoint " + setting + " without a checkpoint file")
+		);
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public Optional<Path> getFile() {
+		return file;
+	}
+
+	public int getInterval() {
+		return interval;
+	}
+
+	public boolean isResume() {
+		return resume;
+	}
+
+	/**
+	 * @return the checkpoint to resume from, or empty if not resuming or there is no checkpoint file.
+	 * @throws IOException if the checkpoint file can't be read
+	 */
+	public Optional<Checkpoint> getResumePoint() throws IOException {
+		if (!resumePointRead) {
+			resumePointRead = true;
+			if (resume && Files.exists(file.get())) {
+				resumePoint = Optional.of(read(file.get()));
+				log.atInfo().setMessage("Resuming after {} polygons from checkpoint {}")
+						.addArgument(resumePoint.get().polygons()).addArgument(file.get()).log();
+			}
+		}
+		return resumePoint;
+	}
+
+	/**
+	 * @return the bytes to keep in each output file when opening it, empty if not resuming.
+	 * @throws IOException if the checkpoint file can't be read
+	 */
+	public Map<String, Long> getOutputOffsets() throws IOException {
+		return getResumePoint().map(Checkpoint::outputOffsets).orElse(Map.of());
+	}
+
+	/**
+	 * @return the last checkpoint saved by this run
+	 */
+	public Optional<Checkpoint> getLastCheckpoint() {
+		return lastCheckpoint;
+	}
+
+	/**
+	 * @return the number of polygons committed, including those committed before resuming
+	 */
+	public int getCommitted() {
+		return committed;
+	}
+
+	/**
+	 * Called for each polygon read, before it is processed. While resuming, the polygons that were committed before the
+	 * checkpoint are skipped.
+	 *
+	 * @param polygonIdentifier the polygon that was read
+	 * @return true if the polygon was already committed and should not be processed
+	 * @throws ProcessingException if the polygon at the checkpoint is not the one that was committed, in which case the
+	 *                             inputs have changed since the checkpoint was saved
+	 * @throws IOException         if the checkpoint file can't be read
+	 */
+	public boolean skip(PolygonIdentifier polygonIdentifier) throws ProcessingException, IOException {
+		var point = getResumePoint();
+		if (point.isEmpty() || skipped >= point.get().polygons()) {
+			return false;
+		}
+		skipped++;
+		if (skipped == point.get().polygons()) {
+			if (!polygonIdentifier.equals(point.get().lastPolygon())) {
+				throw new ProcessingException(
+						String.format(
+								"Polygon %d of the input is \"%s\" but was \"%s\" when checkpoint %s was saved",
+								skipped, polygonIdentifier, point.get().lastPolygon(), file.get()
+						)
+				);
+			}
+			committed = skipped;
+			lastPolygon = Optional.of(polygonIdentifier);
+		}
+		return true;
+	}
+
+	/**
+	 * Called once a polygon has been written or bypassed, saving a checkpoint if one is due.
+	 *
+	 * @param polygonIdentifier the polygon committed
+	 * @param output            the destination of the polygons, flushed and its offsets recorded in the checkpoint, or
+	 *                          null if the application has no output files
+	 * @throws IOException           if the checkpoint could not be saved
+	 * @throws IllegalStateException if the output can't be truncated to a checkpoint, as resuming would then lose the
+	 *                               polygons committed before it
+	 */
+	public void committed(PolygonIdentifier polygonIdentifier, VdypPolygonWriter output) throws IOException {
+		if (!enabled) {
+			return;
+		}
+		if (output != null && ! (output instanceof ResumablePolygonWriter)) {
+			throw new IllegalStateException(
+					"Can not checkpoint output to " + output.getClass().getName() + " as it can't be resumed"
+			);
+		}
+		committed++;
+		lastPolygon = Optional.of(polygonIdentifier);
+		if (committed % interval == 0) {
+			Map<String, Long> offsets = Map.of();
+			if (output instanceof ResumablePolygonWriter resumable) {
+				resumable.flush();
+				offsets = resumable.getOffsets();
+			}
+			save(new Checkpoint(committed, polygonIdentifier, offsets));
+		}
+	}
+
+	/**
+	 * Called once a polygon has been processed by an application that has no output files.
+	 *
+	 * @param polygonIdentifier the polygon committed
+	 * @throws IOException if the checkpoint could not be saved
+	 */
+	public void committed(PolygonIdentifier polygonIdentifier) throws IOException {
+		committed(polygonIdentifier, null);
+	}
+
+	/**
+	 * Finish a successful run, removing the checkpoint file.
+	 *
+	 * @throws ProcessingException if the input ended before the checkpoint that was resumed from
+	 * @throws IOException         if the checkpoint file can't be removed
+	 */
+	public void finish() throws ProcessingException, IOException {
+		if (!enabled) {
+			return;
+		}
+		var point = getResumePoint();
+		if (point.isPresent() && skipped < point.get().polygons()) {
+			throw new ProcessingException(
+					String.format(
+							"Input has %d polygons but checkpoint %s was saved after %d", skipped, file.get(),
+							point.get().polygons()
+					)
+			);
+		}
+		Files.deleteIfExists(file.get());
+		log.atInfo().setMessage("Committed {} polygons, last {}").addArgument(committed)
+				.addArgument(() -> lastPolygon.map(PolygonIdentifier::toString).orElse("none")).log();
+	}
+
+	void save(Checkpoint checkpoint) throws IOException {
+		var path = file.get();
+		var temp = path.resolveSibling(path.getFileName() + ".tmp");
+		try (var os = Files.newOutputStream(temp)) {
+			write(checkpoint, os);
+		}
+		Files.move(temp, path, StandardCopyOption.REPLACE_EXISTING, StandardCopyOption.ATOMIC_MOVE);
+		lastCheckpoint = Optional.of(checkpoint);
+		log.atDebug().setMessage("Saved checkpoint after {} polygons at {}").addArgument(checkpoint.polygons())
+				.addArgument(checkpoint.lastPolygon()).log();
+	}
+
+	static void write(Checkpoint checkpoint, OutputStream os) throws IOException {
+		var properties = new Properties();
+		properties.setProperty(POLYGONS_PROPERTY, Integer.toString(checkpoint.polygons()));
+		properties.setProperty(LAST_POLYGON_PROPERTY, checkpoint.lastPolygon().toString());
+		for (var offset : checkpoint.outputOffsets().entrySet()) {
+			properties.setProperty(OFFSET_PROPERTY_PREFIX + offset.getKey(), Long.toString(offset.getValue()));
+		}
+		properties.store(os, "VDYP checkpoint");
+	}
+
+	static Checkpoint read(Path path) throws IOException {
+		var properties = new Properties();
+		try (InputStream is = Files.newInputStream(path)) {
+			properties.load(is);
+		}
+		try {
+			int polygons = Integer.parseInt(required(properties, POLYGONS_PROPERTY));
+			var lastPolygon = PolygonIdentifier.split(required(properties, LAST_POLYGON_PROPERTY));
+			Map<String, Long> offsets = new LinkedHashMap<>();
+			for (var name : properties.stringPropertyNames()) {
+				if (name.startsWith(OFFSET_PROPERTY_PREFIX)) {
+					offsets.put(
+							name.substring(OFFSET_PROPERTY_PREFIX.length()),
+							Long.parseLong(properties.getProperty(name))
+					);
+				}
+			}
+			return new Checkpoint(polygons, lastPolygon, offsets);
+		} catch (IllegalArgumentException ex) {
+			throw new IOException("Invalid checkpoint file " + path, ex);
+		}
+	}
+
+	private static String required(Properties properties, String name) {
+		var value = properties.getProperty(name);
+		if (value == null) {
+			throw new IllegalArgumentException("Missing " + name);
+		}
+		return value;
+	}
+}
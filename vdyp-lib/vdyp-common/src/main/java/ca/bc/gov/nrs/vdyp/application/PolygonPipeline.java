@@ -0,0 +1,183 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.io.IOException;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.IterableStreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.io.write.CapturingPolygonWriter;
+import ca.bc.gov.nrs.vdyp.io.write.QueuePolygonWriter;
+import ca.bc.gov.nrs.vdyp.io.write.TeePolygonWriter;
+import ca.bc.gov.nrs.vdyp.io.write.VdypPolygonWriter;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * Runs a start application (FIPSTART or VRISTART) and passes the polygons it produces directly to the next stage, such
+ * as VDYP Forward, rather than through the VRI Adjust input files.
+ * <p>
+ * By default the polygons are handed over through a bounded queue to the next stage which runs on its own thread. When
+ * the queue is full the start application waits for the next stage to catch up. Alternatively both stages can run one
+ * after the other on the calling thread, in which case all of the polygons are held in memory between them.
+ */
+public class PolygonPipeline {
+
+	private static final Logger log = LoggerFactory.getLogger(PolygonPipeline.class);
+
+	public static final int DEFAULT_CAPACITY = 16;
+
+	/**
+	 * A stage consuming the polygons produced by a start application
+	 */
+	@FunctionalInterface
+	public interface Stage {
+		void process(StreamingParser<VdypPolygon> polygons) throws ProcessingException;
+	}
+
+	private final int capacity;
+	private final boolean keepOutputFiles;
+	private final boolean concurrent;
+
+	/**
+	 * @param capacity        maximum number of polygons waiting to be processed by the next stage
+	 * @param keepOutputFiles if true the polygons are also written by the application's existing writer, so the usual
+	 *                        output files are still produced.
+	 * @param concurrent      if true the next stage runs on its own thread at the same time as the application,
+	 *                        otherwise it runs on the calling thread after the application has finished.
+	 */
+	public PolygonPipeline(int capacity, boolean keepOutputFiles, boolean concurrent) {
+		if (capacity < 1) {
+			throw new IllegalArgumentException("Pipeline capacity must be at least 1 but was " + capacity);
+		}
+		this.capacity = capacity;
+		this.keepOutputFiles = keepOutputFiles;
+		this.concurrent = concurrent;
+	}
+
+	public PolygonPipeline(int capacity, boolean keepOutputFiles) {
+		this(capacity, keepOutputFiles, true);
+	}
+
+	public PolygonPipeline() {
+		this(DEFAULT_CAPACITY, false);
+	}
+
+	/**
+	 * Process the input of the application and pass the resulting polygons to the given stage. The application must
+	 * have been initialized. Its writer is closed once processing is complete.
+	 *
+	 * @param application
+	 * @param next
+	 * @throws ProcessingException if either the application or the next stage fails
+	 */
+	public void run(VdypStartApplication<?, ?, ?, ?> application, Stage next) throws ProcessingException {
+		if (concurrent) {
+			runConcurrent(application, next);
+		} else {
+			runSequential(application, next);
+		}
+		log.atDebug().setMessage("Pipeline from {} complete").addArgument(application.getId()).log();
+	}
+
+	private void attach(VdypStartApplication<?, ?, ?, ?> application, VdypPolygonWriter writer)
+			throws ProcessingException {
+		try {
+			if (keepOutputFiles && application.vriWriter != null) {
+				application.vriWriter = new TeePolygonWriter(application.vriWriter, writer);
+			} else {
+				application.closeVriWriter();
+				application.vriWriter = writer;
+			}
+		} catch (IOException e) {
+			throw new ProcessingException("Error while closing output", e);
+		}
+	}
+
+	private static void processAndClose(VdypStartApplication<?, ?, ?, ?> application) throws ProcessingException {
+		ProcessingException failure = null;
+		try {
+			application.process();
+		} catch (ProcessingException e) {
+			failure = e;
+		} finally {
+			try {
+				application.closeVriWriter();
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = new ProcessingException("Error while closing output", e);
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+	private void runSequential(VdypStartApplication<?, ?, ?, ?> application, Stage next) throws ProcessingException {
+		var captured = new CapturingPolygonWriter();
+		attach(application, captured);
+
+		processAndClose(application);
+
+		try (var reader = new IterableStreamingParser<>(captured.getPolygons().iterator())) {
+			next.process(reader);
+		} catch (IOException e) {
+			throw new ProcessingException("Error while closing pipeline", e);
+		}
+	}
+
+	private void runConcurrent(VdypStartApplication<?, ?, ?, ?> application, Stage next) throws ProcessingException {
+		var queue = new QueuePolygonWriter(capacity);
+		attach(application, queue);
+
+		ExecutorService executor = Executors.newSingleThreadExecutor(r -> {
+			var thread = new Thread(r, "vdyp-pipeline-" + application.getId().name());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			Future<Void> downstream = executor.submit(() -> {
+				try (var reader = queue.getReader()) {
+					next.process(reader);
+				}
+				return null;
+			});
+
+			ProcessingException failure = null;
+			try {
+				// Closing the writer also marks the end of the queue
+				processAndClose(application);
+			} catch (ProcessingException e) {
+				failure = e;
+			}
+
+			try {
+				downstream.get();
+			} catch (ExecutionException e) {
+				// The application also fails if the next stage stops reading, so report the failure of the stage.
+				var cause = e.getCause() instanceof ProcessingException pe ? pe
+						: new ProcessingException("Error in pipeline stage", e.getCause());
+				if (failure != null) {
+					cause.addSuppressed(failure);
+				}
+				throw cause;
+			} catch (InterruptedException e) {
+				Thread.currentThread().interrupt();
+				throw new ProcessingException("Interrupted while waiting for pipeline stage", e);
+			}
+
+			if (failure != null) {
+				throw failure;
+			}
+		} finally {
+			executor.shutdownNow();
+		}
+	}
+}
@@ -0,0 +1,349 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.PriorityQueue;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+/**
+ * Records the time spent in each stage of processing a polygon, and the number of solver evaluations, so that slow
+ * stages and pathological polygons can be found in large batches.
+ * <p>
+ * Profiling is off unless the profiler is created with {@link #StageProfiler(int)}. When it is off the methods do
+ * nothing so they can be left in the processing code. A profiler may be shared by applications processing polygons on
+ * several threads as each thread profiles its own polygon.
+ * <p>
+ * Stage times are exclusive: while a stage is being timed inside another, such as root finding while processing the
+ * primary layer, the time is only charged to the inner stage. Time not in any stage is only counted in the total for
+ * the polygon.
+ */
+public class StageProfiler {
+
+	private static final Logger log = LoggerFactory.getLogger(StageProfiler.class);
+
+	public static final int DEFAULT_SLOWEST_COUNT = 20;
+
+	static final double NANOS_PER_MILLI = 1_000_000.0;
+
+	/**
+	 * A profiler that does nothing
+	 */
+	public static final StageProfiler DISABLED = new StageProfiler();
+
+	public enum Stage {
+		/**
+		 * Validating the polygon and determining its mode
+		 */
+		CHECK,
+		/**
+		 * Processing for polygons in the young and BATC/BATN modes
+		 */
+		SPECIAL_MODE,
+		/**
+		 * Processing the veteran layer
+		 */
+		VETERAN_LAYER,
+		/**
+		 * Processing the primary layer, other than the stages below
+		 */
+		PRIMARY_LAYER,
+		/**
+		 * Finding species diameters and base areas that reproduce the layer totals
+		 */
+		ROOT_FINDING,
+		/**
+		 * Estimating the small component utilization
+		 */
+		SMALL_COMPONENTS,
+		/**
+		 * Computing the utilization components and volumes
+		 */
+		UTILIZATION
+	}
+
+	/**
+	 * Profile of a single polygon
+	 *
+	 * @param polygonIdentifier
+	 * @param totalNanos        time between starting and ending the polygon
+	 * @param stageNanos        time in each stage, indexed by {@link Stage#ordinal()}
+	 * @param evaluations       solver function evaluations
+	 */
+	public record PolygonProfile(
+			PolygonIdentifier polygonIdentifier, long totalNanos, long[] stageNanos, long evaluations
+	) {
+		public long getStageNanos(Stage stage) {
+			return stageNanos[stage.ordinal()];
+		}
+	}
+
+	/**
+	 * Times a stage until it is closed
+	 */
+	public static class StageTimer implements AutoCloseable {
+		private final Stage stage;
+		private final Optional<Current> current;
+		private final Optional<StageTimer> parent;
+		private long start;
+
+		private StageTimer(Stage stage, Optional<Current> current, Optional<StageTimer> parent, long start) {
+			this.stage = stage;
+			this.current = current;
+			this.parent = parent;
+			this.start = start;
+		}
+
+		@Override
+		public void close() {
+			current.ifPresent(polygon -> {
+				long now = System.nanoTime();
+				polygon.stageNanos[stage.ordinal()] += now - start;
+				parent.ifPresent(timer -> timer.start = now);
+				polygon.active = parent;
+			});
+		}
+	}
+
+	private static final StageTimer NOT_TIMED = new StageTimer(Stage.CHECK, Optional.empty(), Optional.empty(), 0);
+
+	/**
+	 * The polygon being profiled on a thread
+	 */
+	private static class Current {
+		final PolygonIdentifier polygonIdentifier;
+		final long start;
+		final long[] stageNanos = new long[Stage.values().length];
+		long evaluations = 0;
+		Optional<StageTimer> active = Optional.empty();
+
+		Current(PolygonIdentifier polygonIdentifier, long start) {
+			this.polygonIdentifier = polygonIdentifier;
+			this.start = start;
+		}
+	}
+
+	private final boolean enabled;
+	private final int slowestCount;
+	private Optional<Path> summaryFile = Optional.empty();
+
+	private final ThreadLocal<Current> current = new ThreadLocal<>();
+
+	// Totals over all polygons, guarded by this
+	private long polygons = 0;
+	private long totalNanos = 0;
+	private long evaluations = 0;
+	private final long[] stageNanos = new long[Stage.values().length];
+	private final long[] maxStageNanos = new long[Stage.values().length];
+	private final PriorityQueue<PolygonProfile> slowest = new PriorityQueue<>(
+			Comparator.comparingLong(PolygonProfile::totalNanos)
+	);
+
+	/**
+	 * Create a profiler that does nothing
+	 */
+	public StageProfiler() {
+		this.enabled = false;
+		this.slowestCount = 0;
+	}
+
+	/**
+	 * Create a profiler that records each polygon
+	 *
+	 * @param slowestCount the number of slowest polygons to report
+	 */
+	public StageProfiler(int slowestCount) {
+		if (slowestCount < 0) {
+			throw new IllegalArgumentException(
+					"Number of slowest polygons must not be negative but was " + slowestCount
+			);
+		}
+		this.enabled = true;
+		this.slowestCount = slowestCount;
+	}
+
+	public boolean isEnabled() {
+		return enabled;
+	}
+
+	public Optional<Path> getSummaryFile() {
+		return summaryFile;
+	}
+
+	/**
+	 * @param summaryFile file to write the summary to when {@link #finish()} is called
+	 */
+	public void setSummaryFile(Optional<Path> summaryFile) {
+		this.summaryFile = summaryFile;
+	}
+
+	/**
+	 * Start profiling a polygon on the current thread, discarding any polygon that wasn't ended.
+	 */
+	public void startPolygon(PolygonIdentifier polygonIdentifier) {
+		if (enabled) {
+			current.set(new Current(polygonIdentifier, System.nanoTime()));
+		}
+	}
+
+	/**
+	 * Start timing a stage of the polygon being profiled on the current thread. The returned timer should be closed
+	 * when the stage ends, usually with a try-with-resources statement.
+	 */
+	public StageTimer time(Stage stage) {
+		var polygon = current.get();
+		if (polygon == null) {
+			return NOT_TIMED;
+		}
+		long now = System.nanoTime();
+		// Pause the enclosing stage until this one is closed
+		polygon.active.ifPresent(timer -> polygon.stageNanos[timer.stage.ordinal()] += now - timer.start);
+		var timer = new StageTimer(stage, Optional.of(polygon), polygon.active, now);
+		polygon.active = Optional.of(timer);
+		return timer;
+	}
+
+	/**
+	 * Add solver function evaluations to the polygon being profiled on the current thread.
+	 */
+	public void addEvaluations(long count) {
+		var polygon = current.get();
+		if (polygon != null) {
+			polygon.evaluations += count;
+		}
+	}
+
+	/**
+	 * End profiling the polygon on the current thread and add it to the totals.
+	 */
+	public void endPolygon() {
+		var polygon = current.get();
+		if (polygon == null) {
+			return;
+		}
+		current.remove();
+		var profile = new PolygonProfile(
+				polygon.polygonIdentifier, System.nanoTime() - polygon.start, polygon.stageNanos, polygon.evaluations
+		);
+
+		synchronized (this) {
+			polygons++;
+			totalNanos += profile.totalNanos();
+			evaluations += profile.evaluations();
+			for (int i = 0; i < stageNanos.length; i++) {
+				stageNanos[i] += profile.stageNanos()[i];
+				maxStageNanos[i] = Math.max(maxStageNanos[i], profile.stageNanos()[i]);
+			}
+			if (slowestCount > 0) {
+				slowest.add(profile);
+				if (slowest.size() > slowestCount) {
+					slowest.remove();
+				}
+			}
+		}
+	}
+
+	/**
+	 * @return the number of polygons profiled
+	 */
+	public synchronized long getPolygons() {
+		return polygons;
+	}
+
+	/**
+	 * @return the solver function evaluations over all polygons
+	 */
+	public synchronized long getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return the time in each stage over all polygons
+	 */
+	public synchronized Map<Stage, Long> getStageNanos() {
+		Map<Stage, Long> result = new EnumMap<>(Stage.class);
+		for (var stage : Stage.values()) {
+			result.put(stage, stageNanos[stage.ordinal()]);
+		}
+		return result;
+	}
+
+	/**
+	 * @return the slowest polygons, slowest first
+	 */
+	public synchronized List<PolygonProfile> getSlowest() {
+		List<PolygonProfile> result = new ArrayList<>(slowest);
+		result.sort(Comparator.comparingLong(PolygonProfile::totalNanos).reversed());
+		return result;
+	}
+
+	/**
+	 * Write a report of the time in each stage and the slowest polygons.
+	 */
+	public synchronized void writeSummary(Writer writer) {
+		var out = new PrintWriter(writer);
+
+		out.printf("Polygons profiled: %d%n", polygons);
+		out.printf("Total time (ms): %.3f%n", totalNanos / NANOS_PER_MILLI);
+		out.printf("Solver evaluations: %d%n", evaluations);
+		out.println();
+
+		out.printf("%-20s %14s %12s %12s%n", "Stage", "Total (ms)", "Mean (ms)", "Max (ms)");
+		for (var stage : Stage.values()) {
+			int i = stage.ordinal();
+			out.printf(
+					"%-20s %14.3f %12.3f %12.3f%n", stage, stageNanos[i] / NANOS_PER_MILLI,
+					polygons == 0 ? 0.0 : stageNanos[i] / NANOS_PER_MILLI / polygons, maxStageNanos[i] / NANOS_PER_MILLI
+			);
+		}
+		out.println();
+
+		out.printf("Slowest polygons%n");
+		out.printf("%-25s %12s %11s", "Polygon", "Total (ms)", "Evaluations");
+		for (var stage : Stage.values()) {
+			out.printf(" %16s", stage);
+		}
+		out.println();
+		for (var profile : getSlowest()) {
+			out.printf(
+					"%-25s %12.3f %11d", profile.polygonIdentifier(), profile.totalNanos() / NANOS_PER_MILLI,
+					profile.evaluations()
+			);
+			for (var stage : Stage.values()) {
+				out.printf(" %16.3f", profile.getStageNanos(stage) / NANOS_PER_MILLI);
+			}
+			out.println();
+		}
+		out.flush();
+	}
+
+	/**
+	 * Finish a run, writing the summary to the summary file if there is one.
+	 */
+	public void finish() throws IOException {
+		if (!enabled) {
+			return;
+		}
+		log.atInfo().setMessage("Profiled {} polygons with {} solver evaluations").addArgument(this::getPolygons)
+				.addArgument(this::getEvaluations).log();
+		if (summaryFile.isPresent()) {
+			try (var writer = Files.newBufferedWriter(summaryFile.get(), StandardCharsets.UTF_8)) {
+				writeSummary(writer);
+			}
+			log.atInfo().setMessage("Wrote profile summary to {}").addArgument(summaryFile.get()).log();
+		}
+	}
+}
@@ -18,4 +18,15 @@ public abstract class VdypApplication extends VdypComponent {
 	public int getJProgramNumber() {
 		return getId().getJProgramNumber();
 	}
+
+	/**
+	 * @return the argument of a command line option
+	 * @throws IllegalArgumentException if the argument is missing
+	 */
+	protected static String optionArgument(String[] args, int i, String option) {
+		if (i >= args.length) {
+			throw new IllegalArgumentException("Missing argument for " + option);
+		}
+		return args[i];
+	}
 }
@@ -5,16 +5,16 @@ import static ca.bc.gov.nrs.vdyp.math.FloatMath.exp;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.floor;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.log;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.pow;
+import static ca.bc.gov.nrs.vdyp.model.UtilizationVectorAccessor.ALL_BUT_LOREY_HEIGHT;
+import static ca.bc.gov.nrs.vdyp.model.UtilizationVectorAccessor.NON_VOLUME;
+import static ca.bc.gov.nrs.vdyp.model.UtilizationVectorAccessor.SUMMABLE;
 import static java.lang.Math.max;
 import static java.lang.Math.min;
 
-import java.beans.IntrospectionException;
-import java.beans.Introspector;
-import java.beans.PropertyDescriptor;
 import java.io.Closeable;
 import java.io.IOException;
 import java.io.InputStream;
-import java.lang.reflect.InvocationTargetException;
+import java.nio.file.Path;
 import java.text.MessageFormat;
 import java.util.ArrayList;
 import java.util.Arrays;
@@ -28,6 +28,7 @@ import java.util.Optional;
 import java.util.Set;
 import java.util.function.Consumer;
 import java.util.function.Function;
+import java.util.function.Supplier;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.IntStream;
@@ -38,15 +39,19 @@ import org.slf4j.LoggerFactory;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.common.EstimationMethods;
 import ca.bc.gov.nrs.vdyp.common.ReconcilationMethods;
+import ca.bc.gov.nrs.vdyp.common.UtilizationWorkspace;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.common.ValueOrMarker;
 import ca.bc.gov.nrs.vdyp.common_calculators.BaseAreaTreeDensityDiameter;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.UpperCoefficientParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.io.write.VdypPolygonWriter;
 import ca.bc.gov.nrs.vdyp.io.write.VriAdjustInputWriter;
 import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypLayer;
@@ -61,9 +66,11 @@ import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap3;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
+import ca.bc.gov.nrs.vdyp.model.UtilizationVectorAccessor;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
 import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
 import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
@@ -109,13 +116,108 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		debugModes[index] = mode;
 	}
 
+	/**
+	 * Use the same debug modes as another application
+	 *
+	 * @param source
+	 */
+	protected void copyDebugModes(VdypStartApplication<?, ?, ?, ?> source) {
+		debugModes = Arrays.copyOf(source.debugModes, source.debugModes.length);
+	}
+
+	private boolean sortMergeJoin = false;
+
+	public boolean isSortMergeJoin() {
+		return sortMergeJoin;
+	}
+
+	/**
+	 * Join the child input files to the polygon file by polygon identifier rather than by position. All the input files
+	 * must then be sorted by polygon identifier but they may leave out polygons that have no records.
+	 *
+	 * @param sortMergeJoin
+	 */
+	public void setSortMergeJoin(boolean sortMergeJoin) {
+		this.sortMergeJoin = sortMergeJoin;
+	}
+
+	/**
+	 * Get a streaming parser for a child input file which is joined to the polygon file by polygon identifier if
+	 * {@link #setSortMergeJoin} is set.
+	 *
+	 * @param key     control key of the file
+	 * @param idKey   polygon identifier of an entry, or empty if the entry has no records
+	 * @param missing creates the entry for a polygon with no records
+	 */
+	protected <T> StreamingParser<T>
+			getChildStreamingParser(ControlKey key, Function<T, Optional<PolygonIdentifier>> idKey, Supplier<T> missing)
+					throws ProcessingException {
+		StreamingParser<T> stream = getStreamingParser(key);
+		if (sortMergeJoin) {
+			return new SortMergeJoinStreamingParser<>(stream, key.name(), idKey, missing);
+		}
+		return stream;
+	}
+
+	private StageProfiler profiler = StageProfiler.DISABLED;
+
+	public StageProfiler getProfiler() {
+		// Partial mocks of the applications don't run field initializers
+		return profiler == null ? StageProfiler.DISABLED : profiler;
+	}
+
+	/**
+	 * Profile the stages of processing each polygon. The default profiler does nothing.
+	 *
+	 * @param profiler
+	 */
+	public void setProfiler(StageProfiler profiler) {
+		this.profiler = profiler;
+	}
+
+	private Checkpointer checkpointer = Checkpointer.DISABLED;
+
+	public Checkpointer getCheckpointer() {
+		// Partial mocks of the applications don't run field initializers
+		return checkpointer == null ? Checkpointer.DISABLED : checkpointer;
+	}
+
+	/**
+	 * Save checkpoints while processing so that an interrupted run can be resumed. This must be set before the
+	 * application is initialized so that the output files can be opened at the checkpoint. The default checkpointer
+	 * does nothing.
+	 *
+	 * @param checkpointer
+	 */
+	public void setCheckpointer(Checkpointer checkpointer) {
+		this.checkpointer = checkpointer;
+	}
+
+	/**
+	 * Commit a polygon that has been written or bypassed to the checkpointer.
+	 *
+	 * @param polygonIdentifier
+	 * @throws IOException if a checkpoint could not be saved
+	 */
+	protected void commitPolygon(PolygonIdentifier polygonIdentifier) throws IOException {
+		var current = getCheckpointer();
+		if (current.isEnabled()) {
+			current.committed(polygonIdentifier, getVriWriter());
+		}
+	}
+
 	static final Set<String> HARDWOODS = Set.of("AC", "AT", "D", "E", "MB");
 
+	/**
+	 * Run an application from the command line.
+	 *
+	 * @param args any options accepted by {@link #applyOption(String[], int)} followed by the control files
+	 */
 	protected static void doMain(VdypStartApplication<?, ?, ?, ?> app, final String... args) {
 		var resolver = new FileSystemFileResolver();
 
 		try {
-			app.init(resolver, args);
+			app.init(resolver, app.applyOptions(args));
 		} catch (Exception ex) {
 			log.error("Error during initialization", ex);
 			System.exit(CONFIG_LOAD_ERROR);
@@ -132,39 +234,20 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 	/**
 	 * Accessor methods for utilization vectors, except for Lorey Height, on Layer and Species objects.
 	 */
-	protected static final Collection<PropertyDescriptor> UTILIZATION_VECTOR_ACCESSORS;
+	protected static final Collection<UtilizationVectorAccessor> UTILIZATION_VECTOR_ACCESSORS = ALL_BUT_LOREY_HEIGHT;
 
 	/**
 	 * Accessor methods for utilization vectors, except for Lorey Height and Quadratic Mean Diameter, on Layer and
 	 * Species objects. These are properties where the values for the layer are the sum of those for its species.
 	 */
-	static final Collection<PropertyDescriptor> SUMMABLE_UTILIZATION_VECTOR_ACCESSORS;
+	static final Collection<UtilizationVectorAccessor> SUMMABLE_UTILIZATION_VECTOR_ACCESSORS = SUMMABLE;
 
 	/**
 	 * Accessor methods for utilization vectors, except for Lorey Height,and Volume on Layer and Species objects.
 	 */
-	protected static final Collection<PropertyDescriptor> NON_VOLUME_UTILIZATION_VECTOR_ACCESSORS;
-
-	static {
-		try {
-			var bean = Introspector.getBeanInfo(VdypUtilizationHolder.class);
-			UTILIZATION_VECTOR_ACCESSORS = Arrays.stream(bean.getPropertyDescriptors()) //
-					.filter(p -> p.getName().endsWith("ByUtilization")) //
-					.filter(p -> !p.getName().startsWith("loreyHeight")) //
-					.filter(p -> p.getPropertyType() == UtilizationVector.class) //
-					.toList();
-		} catch (IntrospectionException e) {
-			throw new IllegalStateException(e);
-		}
-
-		SUMMABLE_UTILIZATION_VECTOR_ACCESSORS = UTILIZATION_VECTOR_ACCESSORS.stream()
-				.filter(x -> !x.getName().startsWith("quadraticMeanDiameter")).toList();
+	protected static final Collection<UtilizationVectorAccessor> NON_VOLUME_UTILIZATION_VECTOR_ACCESSORS = NON_VOLUME;
 
-		NON_VOLUME_UTILIZATION_VECTOR_ACCESSORS = UTILIZATION_VECTOR_ACCESSORS.stream()
-				.filter(x -> !x.getName().contains("Volume")).toList();
-	}
-
-	protected VriAdjustInputWriter vriWriter;
+	protected VdypPolygonWriter vriWriter;
 
 	protected Map<String, Object> controlMap = new HashMap<>();
 
@@ -183,6 +266,60 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		super();
 	}
 
+	/**
+	 * Apply the options at the start of the command line arguments. Options start with {@code -} and must be given
+	 * before the control files.
+	 *
+	 * @return the remaining arguments, which name the control files
+	 * @throws IllegalArgumentException if an option is unknown or its argument is missing or invalid
+	 */
+	public String[] applyOptions(String... args) {
+		int i = 0;
+		while (i < args.length && args[i].startsWith("-")) {
+			i = applyOption(args, i) + 1;
+		}
+		return Arrays.copyOfRange(args, i, args.length);
+	}
+
+	/**
+	 * Apply the command line option at {@code args[i]}. The options accepted by all applications are:
+	 * <ul>
+	 * <li>{@code -profile <count>} profile the stages of processing each polygon, reporting the given number of slowest
+	 * polygons
+	 * <li>{@code -profile-summary <file>} write the profile summary to a file, profiling with the default number of
+	 * slowest polygons if {@code -profile} isn't given
+	 * <li>{@code -checkpoint <file>} save checkpoints to a file so that an interrupted run can be resumed
+	 * <li>{@code -checkpoint-interval <count>} polygons between checkpoints, after {@code -checkpoint}
+	 * <li>{@code -resume} resume from the checkpoint in the checkpoint file if there is one, after {@code -checkpoint}
+	 * </ul>
+	 * Applications that accept other options override this and call it for any they don't recognize.
+	 *
+	 * @return the index of the last argument used by the option
+	 * @throws IllegalArgumentException if the option is unknown or its argument is missing or invalid
+	 */
+	protected int applyOption(String[] args, int i) {
+		var option = args[i];
+		switch (option) {
+		case "-profile" -> {
+			var summaryFile = getProfiler().getSummaryFile();
+			setProfiler(new StageProfiler(Integer.parseInt(optionArgument(args, ++i, option))));
+			getProfiler().setSummaryFile(summaryFile);
+		}
+		case "-profile-summary" -> {
+			if (!getProfiler().isEnabled()) {
+				setProfiler(new StageProfiler(StageProfiler.DEFAULT_SLOWEST_COUNT));
+			}
+			getProfiler().setSummaryFile(Optional.of(Path.of(optionArgument(args, ++i, option))));
+		}
+		case "-checkpoint" -> setCheckpointer(getCheckpointer().withFile(Path.of(optionArgument(args, ++i, option))));
+		case "-checkpoint-interval" ->
+			setCheckpointer(getCheckpointer().withInterval(Integer.parseInt(optionArgument(args, ++i, option))));
+		case "-resume" -> setCheckpointer(getCheckpointer().withResume(true));
+		default -> throw new IllegalArgumentException("Unknown option " + option);
+		}
+		return i;
+	}
+
 	/**
 	 * Initialize application
 	 *
@@ -191,8 +328,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 	 * @throws IOException
 	 * @throws ResourceParseException
 	 */
-	public void init(FileSystemFileResolver resolver, String... controlFilePaths)
-			throws IOException, ResourceParseException {
+	public void init(FileResolver resolver, String... controlFilePaths) throws IOException, ResourceParseException {
 
 		// Load the control map
 
@@ -222,11 +358,24 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 	 * @param controlMap
 	 * @throws IOException
 	 */
-	public void init(FileSystemFileResolver resolver, Map<String, Object> controlMap) throws IOException {
+	public void init(FileResolver resolver, Map<String, Object> controlMap) throws IOException {
+
+		init(controlMap, new VriAdjustInputWriter(controlMap, resolver, getCheckpointer().getOutputOffsets()));
+	}
+
+	/**
+	 * Initialize application with an already configured destination for the output polygons. This allows the output to
+	 * be captured in memory or passed on to another application instead of being written to files.
+	 *
+	 * @param controlMap
+	 * @param writer
+	 * @throws IOException
+	 */
+	public void init(Map<String, Object> controlMap, VdypPolygonWriter writer) throws IOException {
 
 		setControlMap(controlMap);
 		closeVriWriter();
-		vriWriter = new VriAdjustInputWriter(controlMap, resolver);
+		vriWriter = writer;
 	}
 
 	protected abstract BaseControlParser getControlFileParser();
@@ -507,7 +656,7 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		return group;
 	}
 
-	protected VriAdjustInputWriter getVriWriter() {
+	protected VdypPolygonWriter getVriWriter() {
 		return vriWriter;
 	}
 
@@ -1151,25 +1300,27 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 			}
 			float wholeStemVolumeSpec = spec.getWholeStemVolumeByUtilization().getAll();
 
-			var baseAreaUtil = Utils.utilizationVector();
-			var quadMeanDiameterUtil = Utils.utilizationVector();
-			var treesPerHectareUtil = Utils.utilizationVector();
-			var wholeStemVolumeUtil = Utils.utilizationVector();
-			var closeVolumeUtil = Utils.utilizationVector();
-			var closeVolumeNetDecayUtil = Utils.utilizationVector();
-			var closeVolumeNetDecayWasteUtil = Utils.utilizationVector();
-			var closeVolumeNetDecayWasteBreakUtil = Utils.utilizationVector();
+			// Scratch vectors, the results are copied to the species at the end
+			var workspace = UtilizationWorkspace.forCurrentThread();
+			var baseAreaUtil = workspace.basalAreas;
+			var quadMeanDiameterUtil = workspace.quadMeanDiameters;
+			var treesPerHectareUtil = workspace.treesPerHectare;
+			var wholeStemVolumeUtil = workspace.wholeStemVolumes;
+			var closeVolumeUtil = workspace.closeUtilizationVolumes;
+			var closeVolumeNetDecayUtil = workspace.closeUtilizationVolumesNetOfDecay;
+			var closeVolumeNetDecayWasteUtil = workspace.closeUtilizationVolumesNetOfDecayAndWaste;
+			var closeVolumeNetDecayWasteBreakUtil = workspace.closeUtilizationVolumesNetOfDecayWasteAndBreakage;
 
 			baseAreaUtil.setAll(baseAreaSpec); // BAU
 			quadMeanDiameterUtil.setAll(quadMeanDiameterSpec); // DQU
 			treesPerHectareUtil.setAll(treesPerHectareSpec); // TPHU
 			wholeStemVolumeUtil.setAll(wholeStemVolumeSpec); // WSU
 
-			var adjustCloseUtil = Utils.utilizationVector(); // ADJVCU
+			var adjustCloseUtil = workspace.adjustCloseUtilization; // ADJVCU
 			@SuppressWarnings("unused")
-			var adjustDecayUtil = Utils.utilizationVector(); // ADJVD
+			var adjustDecayUtil = workspace.adjustDecay; // ADJVD
 			@SuppressWarnings("unused")
-			var adjustDecayWasteUtil = Utils.utilizationVector(); // ADJVDW
+			var adjustDecayWasteUtil = workspace.adjustDecayWaste; // ADJVDW
 
 			// EMP071
 			estimationMethods.estimateQuadMeanDiameterByUtilization(bec, quadMeanDiameterUtil, spec.getGenus());
@@ -1361,31 +1512,19 @@ public abstract class VdypStartApplication<P extends BaseVdypPolygon<L, Optional
 		}
 	}
 
-	// TODO De-reflectify this when we want to make it work in GralVM
-	void sumSpeciesUtilizationVectorsToLayer(VdypLayer vdypLayer) throws IllegalStateException {
-		try {
-			for (var accessors : SUMMABLE_UTILIZATION_VECTOR_ACCESSORS) {
-				var utilVector = Utils.utilizationVector();
-				for (var vdypSpecies : vdypLayer.getSpecies().values()) {
-					var speciesVector = (Coefficients) accessors.getReadMethod().invoke(vdypSpecies);
-					utilVector.pairwiseInPlace(speciesVector, (x, y) -> x + y);
-				}
-				accessors.getWriteMethod().invoke(vdypLayer, utilVector);
+	void sumSpeciesUtilizationVectorsToLayer(VdypLayer vdypLayer) {
+		for (var accessor : SUMMABLE_UTILIZATION_VECTOR_ACCESSORS) {
+			var utilVector = Utils.utilizationVector();
+			for (var vdypSpecies : vdypLayer.getSpecies().values()) {
+				utilVector.pairwiseInPlace(accessor.get(vdypSpecies), (x, y) -> x + y);
 			}
-		} catch (IllegalAccessException | InvocationTargetException ex) {
-			throw new IllegalStateException(ex);
+			accessor.set(vdypLayer, utilVector);
 		}
 	}
 
-	// TODO De-reflectify this when we want to make it work in GralVM
-	protected void scaleAllSummableUtilization(VdypUtilizationHolder holder, float factor)
-			throws IllegalStateException {
-		try {
-			for (var accessors : SUMMABLE_UTILIZATION_VECTOR_ACCESSORS) {
-				((Coefficients) accessors.getReadMethod().invoke(holder)).scalarInPlace(x -> x * factor);
-			}
-		} catch (IllegalAccessException | InvocationTargetException ex) {
-			throw new IllegalStateException(ex);
+	protected void scaleAllSummableUtilization(VdypUtilizationHolder holder, float factor) {
+		for (var accessor : SUMMABLE_UTILIZATION_VECTOR_ACCESSORS) {
+			accessor.get(holder).scalarInPlace(x -> x * factor);
 		}
 	}
 
@@ -0,0 +1,68 @@
+package ca.bc.gov.nrs.vdyp.common;
+
+import ca.bc.gov.nrs.vdyp.model.Coefficients;
+import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
+
+/**
+ * Reusable scratch vectors for estimating the utilization components of a species, so that the vectors passed to the
+ * {@link EstimationMethods} routines don't need to be allocated for every species of every polygon.
+ * <p>
+ * Each thread has its own workspace, obtained with {@link #forCurrentThread()}, which is reset to zero each time it is
+ * obtained. The vectors are only valid until the next call to {@link #forCurrentThread()} or {@link #reset()} on the
+ * same thread, so results must be copied out of them and the vectors themselves must never be stored.
+ */
+public class UtilizationWorkspace {
+
+	private static final ThreadLocal<UtilizationWorkspace> WORKSPACE = ThreadLocal
+			.withInitial(UtilizationWorkspace::new);
+
+	public final UtilizationVector basalAreas = Utils.utilizationVector(); // BAU
+	public final UtilizationVector treesPerHectare = Utils.utilizationVector(); // TPHU
+	public final UtilizationVector quadMeanDiameters = Utils.utilizationVector(); // DQU
+	public final UtilizationVector wholeStemVolumes = Utils.utilizationVector(); // WSU
+	public final UtilizationVector closeUtilizationVolumes = Utils.utilizationVector(); // CVU
+	public final UtilizationVector closeUtilizationVolumesNetOfDecay = Utils.utilizationVector(); // CVD
+	public final UtilizationVector closeUtilizationVolumesNetOfDecayAndWaste = Utils.utilizationVector(); // CVDW
+	public final UtilizationVector closeUtilizationVolumesNetOfDecayWasteAndBreakage = Utils.utilizationVector(); // CVDWB
+
+	public final UtilizationVector adjustCloseUtilization = Utils.utilizationVector(); // ADJVCU
+	public final UtilizationVector adjustDecay = Utils.utilizationVector(); // ADJVD
+	public final UtilizationVector adjustDecayWaste = Utils.utilizationVector(); // ADJVDW
+
+	/**
+	 * Volume adjustments for a single utilization class, indexed from 1
+	 */
+	public final Coefficients volumeAdjust = new Coefficients(new float[4], 1);
+
+	UtilizationWorkspace() {
+	}
+
+	/**
+	 * Get the workspace for the current thread, with all values reset to zero.
+	 */
+	public static UtilizationWorkspace forCurrentThread() {
+		var workspace = WORKSPACE.get();
+		workspace.reset();
+		return workspace;
+	}
+
+	/**
+	 * Set all values to zero.
+	 */
+	public void reset() {
+		basalAreas.fill(0f);
+		treesPerHectare.fill(0f);
+		quadMeanDiameters.fill(0f);
+		wholeStemVolumes.fill(0f);
+		closeUtilizationVolumes.fill(0f);
+		closeUtilizationVolumesNetOfDecay.fill(0f);
+		closeUtilizationVolumesNetOfDecayAndWaste.fill(0f);
+		closeUtilizationVolumesNetOfDecayWasteAndBreakage.fill(0f);
+
+		adjustCloseUtilization.fill(0f);
+		adjustDecay.fill(0f);
+		adjustDecayWaste.fill(0f);
+
+		volumeAdjust.fill(0f);
+	}
+}
@@ -6,6 +6,10 @@ import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquati
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation.SI_SW_GOUDIE_NATAC;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation.SI_SW_GOUDIE_PLAAC;
 
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CalculatorFailure;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.LessThan13Exception;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
@@ -17,9 +21,31 @@ import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeTyp
  * SiteIndex2HeightSmoothed
  *
  * Defines {@code index_to_height_smoothed}
+ * <p>
+ * The join between the young-stand curve and the main curve depends only on the curve, site index, years to breast
+ * height and seedling age and height, not on the age. It is computed once for each combination of these, by a
+ * {@link Smoother}, and the most recently used smoothers are kept for reuse.
  */
 public class SiteIndex2HeightSmoothed {
 
+	/** The maximum number of smoothers kept by {@link #smoother} */
+	public static final int SMOOTHER_CACHE_CAPACITY = 1024;
+
+	private record SmootherKey(
+			SiteIndexEquation cuIndex, double siteIndex, double yearsToBreastHeight, double seedlingAge,
+			double seedlingHeight
+	) {
+	}
+
+	private static final Map<SmootherKey, Smoother> smoothers = new LinkedHashMap<>(16, 0.75f, true) {
+		private static final long serialVersionUID = 1L;
+
+		@Override
+		protected boolean removeEldestEntry(Map.Entry<SmootherKey, Smoother> eldest) {
+			return size() > SMOOTHER_CACHE_CAPACITY;
+		}
+	};
+
 	/**
 	 * @param cuIndex
 	 * @param age
@@ -36,88 +62,180 @@ public class SiteIndex2HeightSmoothed {
 			SiteIndexEquation cuIndex, double age, SiteIndexAgeType ageType, double siteIndex,
 			double yearsToBreastHeight, double seedlingAge, double seedlingHeight
 	) throws CommonCalculatorException {
+		return smoother(cuIndex, siteIndex, yearsToBreastHeight, seedlingAge, seedlingHeight).height(age, ageType);
+	}
 
-		double result; // return value
-
-		double tage; // total age
-		double bhage; // breast-height age
-		double pi; // proportion of height growth between breast height
-					// ages 0 and 1 that occurs below breast height
+	/**
+	 * Get the smoother for a curve, site index, years to breast height and seedling age and height, reusing a recently
+	 * used one if there is one.
+	 */
+	public static Smoother smoother(
+			SiteIndexEquation cuIndex, double siteIndex, double yearsToBreastHeight, double seedlingAge,
+			double seedlingHeight
+	) {
+		var key = new SmootherKey(cuIndex, siteIndex, yearsToBreastHeight, seedlingAge, seedlingHeight);
 
-		if (siteIndex < 1.3) {
-			throw new LessThan13Exception("Site index < 1.3m: " + siteIndex);
+		Smoother smoother;
+		synchronized (smoothers) {
+			smoother = smoothers.get(key);
 		}
-
-		if (yearsToBreastHeight < 0) {
-			throw new NoAnswerException(
-					"Iteration could not converge (projected height > 999), y2bh: " + yearsToBreastHeight
-			);
+		if (smoother == null) {
+			// Built outside the lock; threads building the same smoother at once build identical ones
+			smoother = new Smoother(cuIndex, siteIndex, yearsToBreastHeight, seedlingAge, seedlingHeight);
+			synchronized (smoothers) {
+				smoothers.put(key, smoother);
+			}
 		}
+		return smoother;
+	}
 
-		double totalAge = age;
-		if (ageType == SI_AT_BREAST) {
-			totalAge = age + yearsToBreastHeight;
-		}
-		if (totalAge < 0.0) {
-			throw new NoAnswerException("Iteration could not converge (projected height > 999), itage: " + totalAge);
-		}
-		if (totalAge < 0.00001) {
-			return 0.0;
-		}
+	/**
+	 * Smoothed heights along a curve for a particular site index, years to breast height and seedling age and height.
+	 * The join between the young-stand curve and the main curve is computed when the smoother is created; a failure to
+	 * compute it is reported by {@link #height} for any age that needs it.
+	 * <p>
+	 * Smoothers are immutable and may be shared between threads.
+	 */
+	public static final class Smoother {
 
-		if (cuIndex == null) {
-			throw new NoAnswerException("cuIndex is null");
-		}
+		private final SiteIndexEquation cuIndex;
+		private final double siteIndex;
+		private final double yearsToBreastHeight;
+		private final double seedlingAge;
+		private final double seedlingHeight;
+
+		private final double pi; // proportion of height growth between breast height
+									// ages 0 and 1 that occurs below breast height
+		private final double tage; // total age at which the curves join
+		private final double k0;
+		private final double k1;
+
+		/** A (negative) result of the main curve that is returned for all ages, or NaN if there is none */
+		private final double failedResult;
+		/** The failure to join the curves, or null if there is none */
+		private final CalculatorFailure joinFailure;
 
-		if (cuIndex == SI_PLI_THROWER || cuIndex == SI_SW_GOUDIE_PLAAC || cuIndex == SI_SW_GOUDIE_NATAC
-				|| cuIndex == SI_FDC_BRUCEAC || cuIndex == SI_HWC_WILEYAC) {
-			pi = yearsToBreastHeight - (int) yearsToBreastHeight;
-		} else {
-			pi = 0.5;
+		Smoother(
+				SiteIndexEquation cuIndex, double siteIndex, double yearsToBreastHeight, double seedlingAge,
+				double seedlingHeight
+		) {
+			this.cuIndex = cuIndex;
+			this.siteIndex = siteIndex;
+			this.yearsToBreastHeight = yearsToBreastHeight;
+			this.seedlingAge = seedlingAge;
+			this.seedlingHeight = seedlingHeight;
+
+			if (cuIndex == SI_PLI_THROWER || cuIndex == SI_SW_GOUDIE_PLAAC || cuIndex == SI_SW_GOUDIE_NATAC
+					|| cuIndex == SI_FDC_BRUCEAC || cuIndex == SI_HWC_WILEYAC) {
+				pi = yearsToBreastHeight - (int) yearsToBreastHeight;
+			} else {
+				pi = 0.5;
+			}
+
+			double joinTage = 0;
+			double joinK0 = 0;
+			double joinK1 = 0;
+			double joinFailedResult = Double.NaN;
+			CalculatorFailure failure = null;
+
+			// Only join when height will accept the arguments; it reports the problem otherwise
+			if (siteIndex >= 1.3 && yearsToBreastHeight >= 0 && cuIndex != null) {
+				try {
+					double bhage = 2;
+					do {
+						double result = SiteIndex2Height
+								.indexToHeight(cuIndex, bhage, SI_AT_BREAST, siteIndex, yearsToBreastHeight, pi);
+						if (result < 0) {
+							joinFailedResult = result;
+							break;
+						}
+						joinTage = bhage + (int) yearsToBreastHeight;
+						joinK1 = Math.log( (1.3 - seedlingHeight) / (result - seedlingHeight))
+								/ Math.log( (yearsToBreastHeight - seedlingAge) / (joinTage - seedlingAge));
+						if (joinK1 >= 1) {
+							joinK0 = (1.3 - seedlingHeight) / Math.pow(yearsToBreastHeight - seedlingAge, joinK1);
+							break;
+						}
+						bhage++;
+						if (bhage >= 25) {
+							throw new NoAnswerException(
+									"Iteration could not converge (projected height > 999), bhage >= 25: " + bhage
+							);
+						}
+					} while (true);
+				} catch (CommonCalculatorException e) {
+					failure = CalculatorFailure.of(e);
+				}
+			}
+
+			tage = joinTage;
+			k0 = joinK0;
+			k1 = joinK1;
+			failedResult = joinFailedResult;
+			joinFailure = failure;
 		}
 
-		double k0;
-		double k1;
+		/**
+		 * Calculate the smoothed height at an age, as
+		 * {@link SiteIndex2HeightSmoothed#indexToHeightSmoothed(SiteIndexEquation, double, SiteIndexAgeType, double, double, double, double)}.
+		 */
+		public double height(double age, SiteIndexAgeType ageType) throws CommonCalculatorException {
+
+			double result; // return value
 
-		bhage = 2;
-		do {
-			result = SiteIndex2Height.indexToHeight(cuIndex, bhage, SI_AT_BREAST, siteIndex, yearsToBreastHeight, pi);
-			if (result < 0) {
-				return result;
+			if (siteIndex < 1.3) {
+				throw new LessThan13Exception("Site index < 1.3m: " + siteIndex);
 			}
-			tage = bhage + (int) yearsToBreastHeight;
-			k1 = Math.log( (1.3 - seedlingHeight) / (result - seedlingHeight))
-					/ Math.log( (yearsToBreastHeight - seedlingAge) / (tage - seedlingAge));
-			if (k1 >= 1) {
-				k0 = (1.3 - seedlingHeight) / Math.pow(yearsToBreastHeight - seedlingAge, k1);
-				break;
+
+			if (yearsToBreastHeight < 0) {
+				throw new NoAnswerException(
+						"Iteration could not converge (projected height > 999), y2bh: " + yearsToBreastHeight
+				);
 			}
-			bhage++;
-			if (bhage >= 25) {
+
+			double totalAge = age;
+			if (ageType == SI_AT_BREAST) {
+				totalAge = age + yearsToBreastHeight;
+			}
+			if (totalAge < 0.0) {
 				throw new NoAnswerException(
-						"Iteration could not converge (projected height > 999), bhage >= 25: " + bhage
+						"Iteration could not converge (projected height > 999), itage: " + totalAge
 				);
 			}
-		} while (true);
+			if (totalAge < 0.00001) {
+				return 0.0;
+			}
 
-		if (seedlingAge == 0) {
-			if (totalAge <= tage) {
-				result = k0 * Math.pow(totalAge, k1);
-			} else {
-				result = SiteIndex2Height
-						.indexToHeight(cuIndex, totalAge, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, pi);
+			if (cuIndex == null) {
+				throw new NoAnswerException("cuIndex is null");
+			}
+
+			if (joinFailure != null) {
+				throw joinFailure.toException();
+			}
+			if (!Double.isNaN(failedResult)) {
+				return failedResult;
 			}
-		} else {
-			if (totalAge < seedlingAge) {
-				result = seedlingHeight / seedlingAge * totalAge;
-			} else if (totalAge < tage) {
-				result = seedlingHeight + k0 * Math.pow(totalAge - seedlingAge, k1);
+
+			if (seedlingAge == 0) {
+				if (totalAge <= tage) {
+					result = k0 * Math.pow(totalAge, k1);
+				} else {
+					result = SiteIndex2Height
+							.indexToHeight(cuIndex, totalAge, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, pi);
+				}
 			} else {
-				result = SiteIndex2Height
-						.indexToHeight(cuIndex, totalAge, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, pi);
+				if (totalAge < seedlingAge) {
+					result = seedlingHeight / seedlingAge * totalAge;
+				} else if (totalAge < tage) {
+					result = seedlingHeight + k0 * Math.pow(totalAge - seedlingAge, k1);
+				} else {
+					result = SiteIndex2Height
+							.indexToHeight(cuIndex, totalAge, SI_AT_TOTAL, siteIndex, yearsToBreastHeight, pi);
+				}
 			}
-		}
 
-		return result;
+			return result;
+		}
 	}
 }
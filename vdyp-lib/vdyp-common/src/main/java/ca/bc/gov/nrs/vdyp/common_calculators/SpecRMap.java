@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.common_calculators;
 
+import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_NO_SPECIES;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_ACB;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_ACT;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_AT;
@@ -25,468 +26,260 @@ import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecie
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_SS;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_SW;
 
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexForestInventoryZone;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
 
 /**
  * SpecRMap.java - determines the default species/curve index for a given species code. - initial species code
  * remappings provided by Inventory Branch. - species codes can be 1-3 letters, in upper or lower case.
+ * <p>
+ * The remappings are materialized once into a table with a row for each species code and a column for each forest
+ * inventory zone (A - L), plus a column for unrecognized zones, so that remapping a code is a map lookup followed by an
+ * array access.
  */
 public class SpecRMap {
 
-	public static SiteIndexSpecies species_remap(String sc, char fiz) throws CodeErrorException {
+	private record Remap(String code, SiteIndexSpecies coastalSpecies, SiteIndexSpecies interiorSpecies) {
+	}
 
-		if (sc != null) {
+	private static Remap remap(String code, SiteIndexSpecies species) {
+		return new Remap(code, species, species);
+	}
 
-			String sc2 = sc.replaceAll(" ", "").toUpperCase();
+	private static Remap remap(String code, SiteIndexSpecies coastalSpecies, SiteIndexSpecies interiorSpecies) {
+		return new Remap(code, coastalSpecies, interiorSpecies);
+	}
 
-			if (sc2.equals("A")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("ABAL")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("ABCO")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("AC")) {
-				return SI_SPEC_ACB;
-			}
-			if (sc2.equals("ACB")) {
-				return SI_SPEC_ACB;
-			}
-			if (sc2.equals("ACT")) {
-				return SI_SPEC_ACT;
-			}
-			if (sc2.equals("AD")) {
-				return SI_SPEC_ACT;
-			}
-			if (sc2.equals("AH")) {
-				return SI_SPEC_ACT;
-			}
-			if (sc2.equals("AT")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("AX")) {
-				return SI_SPEC_ACB;
-			}
-			if (sc2.equals("B")) {
-				return speciesByFizCategory(fiz, SI_SPEC_BA, SI_SPEC_BL);
-			}
-			if (sc2.equals("BA")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("BAC")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("BAI")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("BB")) {
-				return SI_SPEC_BL;
-			}
-			if (sc2.equals("BC")) {
-				return speciesByFizCategory(fiz, SI_SPEC_BA, SI_SPEC_BL);
-			}
-			if (sc2.equals("BG")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("BI")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("BL")) {
-				return SI_SPEC_BL;
-			}
-			if (sc2.equals("BM")) {
-				return SI_SPEC_BA;
-			}
-			if (sc2.equals("BN")) {
-				return SI_SPEC_BP;
-			}
-			if (sc2.equals("BP")) {
-				return SI_SPEC_BP;
-			}
-			// if (sc2.equals("BV")) {
-			// return SI_SPEC_AT;
-			// }
-			if (sc2.equals("C")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("CI")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("COT")) {
-				return SI_SPEC_ACT;
-			}
-			if (sc2.equals("CP")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("CT")) {
-				return SI_SPEC_ACT;
-			}
-			if (sc2.equals("CW")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("CWC")) {
-				return SI_SPEC_CWC;
-			}
-			if (sc2.equals("CWI")) {
-				return SI_SPEC_CWI;
-			}
-			if (sc2.equals("CY")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("D")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("DF")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
-			}
-			if (sc2.equals("DG")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("DM")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("DR")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("E")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("EA")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("EB")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("EE")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("EP")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("ES")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("EW")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("EXP")) {
-				return SI_SPEC_EP;
-			}
-			if (sc2.equals("F")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
-			}
-			if (sc2.equals("FD")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
-			}
-			if (sc2.equals("FDC")) {
-				return SI_SPEC_FDC;
-			}
-			if (sc2.equals("FDI")) {
-				return SI_SPEC_FDI;
-			}
-			if (sc2.equals("G")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("GP")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("GR")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("H")) {
-				return speciesByFizCategory(fiz, SI_SPEC_HWC, SI_SPEC_HWI);
-			}
-			if (sc2.equals("HM")) {
-				return SI_SPEC_HM;
-			}
-			if (sc2.equals("HW")) {
-				return speciesByFizCategory(fiz, SI_SPEC_HWC, SI_SPEC_HWI);
-			}
-			if (sc2.equals("HWC")) {
-				return SI_SPEC_HWC;
-			}
-			if (sc2.equals("HWI")) {
-				return SI_SPEC_HWI;
-			}
-			if (sc2.equals("HXM")) {
-				return speciesByFizCategory(fiz, SI_SPEC_HWC, SI_SPEC_HWI);
-			}
-			if (sc2.equals("IG")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("IS")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("J")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("JR")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("K")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("KC")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("L")) {
-				return SI_SPEC_LW;
-			}
-			if (sc2.equals("LA")) {
-				return SI_SPEC_LW;
-			}
-			if (sc2.equals("LE")) {
-				return SI_SPEC_LW;
-			}
-			if (sc2.equals("LT")) {
-				return SI_SPEC_LW;
-			}
-			if (sc2.equals("LW")) {
-				return SI_SPEC_LW;
-			}
-			if (sc2.equals("M")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("MB")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("ME")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("MN")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("MR")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("MS")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("MV")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("OA")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("OB")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("OC")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("OD")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("OE")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("OF")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("OG")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("P")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PA")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PF")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PJ")) {
-				return SI_SPEC_PJ;
-			}
-			if (sc2.equals("PL")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PLC")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PLI")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PM")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PR")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PS")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PV")) {
-				return SI_SPEC_PY;
-			}
-			if (sc2.equals("PW")) {
-				return SI_SPEC_PW;
-			}
-			if (sc2.equals("PXJ")) {
-				return SI_SPEC_PLI;
-			}
-			if (sc2.equals("PY")) {
-				return SI_SPEC_PY;
-			}
-			if (sc2.equals("Q")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("QE")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("QG")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("R")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("RA")) {
-				return SI_SPEC_DR;
-			}
-			if (sc2.equals("S")) { // Duplicate case? Unreachable
-				return speciesByFizCategory(fiz, SI_SPEC_SS, SI_SPEC_SW);
-			}
-			if (sc2.equals("SA")) { // Duplicate case? Unreachable
-				return SI_SPEC_SW;
-			}
-			if (sc2.equals("SB")) {
-				return SI_SPEC_SB;
-			}
-			if (sc2.equals("SE")) {
-				return SI_SPEC_SE;
-			}
-			if (sc2.equals("SI")) {
-				return SI_SPEC_SW;
-			}
-			if (sc2.equals("SN")) {
-				return SI_SPEC_SW;
-			}
-			if (sc2.equals("SS")) {
-				return SI_SPEC_SS;
-			}
-			if (sc2.equals("SW")) {
-				return SI_SPEC_SW;
-			}
-			if (sc2.equals("SX")) {
-				return speciesByFizCategory(fiz, SI_SPEC_SS, SI_SPEC_SW);
-			}
-			if (sc2.equals("SXB")) {
-				return SI_SPEC_SW;
-			}
-			if (sc2.equals("SXE")) {
-				return speciesByFizCategory(fiz, SI_SPEC_SS, SI_SPEC_SE);
-			}
-			if (sc2.equals("SXL")) {
-				return speciesByFizCategory(fiz, SI_SPEC_SS, SI_SPEC_SW);
-			}
-			if (sc2.equals("SXS")) {
-				return speciesByFizCategory(fiz, SI_SPEC_SS, SI_SPEC_SW);
-			}
-			if (sc2.equals("SXW")) {
-				return SI_SPEC_SW;
-			}
-			if (sc2.equals("SXX")) {
-				return speciesByFizCategory(fiz, SI_SPEC_SS, SI_SPEC_SW);
-			}
-			if (sc2.equals("T")) {
-				return speciesByFizCategory(fiz, SI_SPEC_HWC, SI_SPEC_HWI);
-			}
-			if (sc2.equals("TW")) {
-				return speciesByFizCategory(fiz, SI_SPEC_HWC, SI_SPEC_HWI);
-			}
-			if (sc2.equals("U")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("UA")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("UP")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("V")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("VB")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("VP")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("VS")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("VV")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("W")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WA")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WB")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WD")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WI")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WP")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WS")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("WT")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("X")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
-			}
-			if (sc2.equals("XC")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
-			}
-			if (sc2.equals("XH")) {
-				return SI_SPEC_AT;
-			}
-			if (sc2.equals("Y")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("YC")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("YP")) {
-				return speciesByFizCategory(fiz, SI_SPEC_CWC, SI_SPEC_CWI);
-			}
-			if (sc2.equals("Z")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
+	private static final List<Remap> REMAPS = List.of(
+			remap("A", SI_SPEC_AT), //
+			remap("ABAL", SI_SPEC_BA), //
+			remap("ABCO", SI_SPEC_BA), //
+			remap("AC", SI_SPEC_ACB), //
+			remap("ACB", SI_SPEC_ACB), //
+			remap("ACT", SI_SPEC_ACT), //
+			remap("AD", SI_SPEC_ACT), //
+			remap("AH", SI_SPEC_ACT), //
+			remap("AT", SI_SPEC_AT), //
+			remap("AX", SI_SPEC_ACB), //
+			remap("B", SI_SPEC_BA, SI_SPEC_BL), //
+			remap("BA", SI_SPEC_BA), //
+			remap("BAC", SI_SPEC_BA), //
+			remap("BAI", SI_SPEC_BA), //
+			remap("BB", SI_SPEC_BL), //
+			remap("BC", SI_SPEC_BA, SI_SPEC_BL), //
+			remap("BG", SI_SPEC_BA), //
+			remap("BI", SI_SPEC_AT), //
+			remap("BL", SI_SPEC_BL), //
+			remap("BM", SI_SPEC_BA), //
+			remap("BN", SI_SPEC_BP), //
+			remap("BP", SI_SPEC_BP), //
+			// remap("BV", SI_SPEC_AT), //
+			remap("C", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("CI", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("COT", SI_SPEC_ACT), //
+			remap("CP", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("CT", SI_SPEC_ACT), //
+			remap("CW", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("CWC", SI_SPEC_CWC), //
+			remap("CWI", SI_SPEC_CWI), //
+			remap("CY", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("D", SI_SPEC_DR), //
+			remap("DF", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("DG", SI_SPEC_DR), //
+			remap("DM", SI_SPEC_DR), //
+			remap("DR", SI_SPEC_DR), //
+			remap("E", SI_SPEC_EP), //
+			remap("EA", SI_SPEC_EP), //
+			remap("EB", SI_SPEC_EP), //
+			remap("EE", SI_SPEC_EP), //
+			remap("EP", SI_SPEC_EP), //
+			remap("ES", SI_SPEC_EP), //
+			remap("EW", SI_SPEC_EP), //
+			remap("EXP", SI_SPEC_EP), //
+			remap("F", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("FD", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("FDC", SI_SPEC_FDC), //
+			remap("FDI", SI_SPEC_FDI), //
+			remap("G", SI_SPEC_DR), //
+			remap("GP", SI_SPEC_DR), //
+			remap("GR", SI_SPEC_DR), //
+			remap("H", SI_SPEC_HWC, SI_SPEC_HWI), //
+			remap("HM", SI_SPEC_HM), //
+			remap("HW", SI_SPEC_HWC, SI_SPEC_HWI), //
+			remap("HWC", SI_SPEC_HWC), //
+			remap("HWI", SI_SPEC_HWI), //
+			remap("HXM", SI_SPEC_HWC, SI_SPEC_HWI), //
+			remap("IG", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("IS", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("J", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("JR", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("K", SI_SPEC_AT), //
+			remap("KC", SI_SPEC_AT), //
+			remap("L", SI_SPEC_LW), //
+			remap("LA", SI_SPEC_LW), //
+			remap("LE", SI_SPEC_LW), //
+			remap("LT", SI_SPEC_LW), //
+			remap("LW", SI_SPEC_LW), //
+			remap("M", SI_SPEC_DR), //
+			remap("MB", SI_SPEC_DR), //
+			remap("ME", SI_SPEC_DR), //
+			remap("MN", SI_SPEC_DR), //
+			remap("MR", SI_SPEC_DR), //
+			remap("MS", SI_SPEC_DR), //
+			remap("MV", SI_SPEC_DR), //
+			remap("OA", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("OB", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("OC", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("OD", SI_SPEC_AT), //
+			remap("OE", SI_SPEC_AT), //
+			remap("OF", SI_SPEC_AT), //
+			remap("OG", SI_SPEC_AT), //
+			remap("P", SI_SPEC_PLI), //
+			remap("PA", SI_SPEC_PLI), //
+			remap("PF", SI_SPEC_PLI), //
+			remap("PJ", SI_SPEC_PJ), //
+			remap("PL", SI_SPEC_PLI), //
+			remap("PLC", SI_SPEC_PLI), //
+			remap("PLI", SI_SPEC_PLI), //
+			remap("PM", SI_SPEC_PLI), //
+			remap("PR", SI_SPEC_PLI), //
+			remap("PS", SI_SPEC_PLI), //
+			remap("PV", SI_SPEC_PY), //
+			remap("PW", SI_SPEC_PW), //
+			remap("PXJ", SI_SPEC_PLI), //
+			remap("PY", SI_SPEC_PY), //
+			remap("Q", SI_SPEC_AT), //
+			remap("QE", SI_SPEC_AT), //
+			remap("QG", SI_SPEC_AT), //
+			remap("R", SI_SPEC_DR), //
+			remap("RA", SI_SPEC_DR), //
+			remap("S", SI_SPEC_SS, SI_SPEC_SW), //
+			remap("SA", SI_SPEC_SW), //
+			remap("SB", SI_SPEC_SB), //
+			remap("SE", SI_SPEC_SE), //
+			remap("SI", SI_SPEC_SW), //
+			remap("SN", SI_SPEC_SW), //
+			remap("SS", SI_SPEC_SS), //
+			remap("SW", SI_SPEC_SW), //
+			remap("SX", SI_SPEC_SS, SI_SPEC_SW), //
+			remap("SXB", SI_SPEC_SW), //
+			remap("SXE", SI_SPEC_SS, SI_SPEC_SE), //
+			remap("SXL", SI_SPEC_SS, SI_SPEC_SW), //
+			remap("SXS", SI_SPEC_SS, SI_SPEC_SW), //
+			remap("SXW", SI_SPEC_SW), //
+			remap("SXX", SI_SPEC_SS, SI_SPEC_SW), //
+			remap("T", SI_SPEC_HWC, SI_SPEC_HWI), //
+			remap("TW", SI_SPEC_HWC, SI_SPEC_HWI), //
+			remap("U", SI_SPEC_AT), //
+			remap("UA", SI_SPEC_AT), //
+			remap("UP", SI_SPEC_AT), //
+			remap("V", SI_SPEC_AT), //
+			remap("VB", SI_SPEC_AT), //
+			remap("VP", SI_SPEC_AT), //
+			remap("VS", SI_SPEC_AT), //
+			remap("VV", SI_SPEC_AT), //
+			remap("W", SI_SPEC_AT), //
+			remap("WA", SI_SPEC_AT), //
+			remap("WB", SI_SPEC_AT), //
+			remap("WD", SI_SPEC_AT), //
+			remap("WI", SI_SPEC_AT), //
+			remap("WP", SI_SPEC_AT), //
+			remap("WS", SI_SPEC_AT), //
+			remap("WT", SI_SPEC_AT), //
+			remap("X", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("XC", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("XH", SI_SPEC_AT), //
+			remap("Y", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("YC", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("YP", SI_SPEC_CWC, SI_SPEC_CWI), //
+			remap("Z", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("ZC", SI_SPEC_FDC, SI_SPEC_FDI), //
+			remap("ZH", SI_SPEC_AT)
+	);
+
+	/** Column 0 is for unrecognized zones, columns 1 - 12 for zones A - L */
+	private static final int FIZ_COLUMNS = 'L' - 'A' + 2;
+
+	private static final SiteIndexSpecies[] SPECIES = SiteIndexSpecies.values();
+
+	private static final Map<String, Integer> codeIds = new HashMap<>();
+	private static final short[] remapTable = new short[REMAPS.size() * FIZ_COLUMNS];
+
+	static {
+		for (int id = 0; id < REMAPS.size(); id++) {
+			var remap = REMAPS.get(id);
+			codeIds.put(remap.code(), id);
+
+			for (int column = 0; column < FIZ_COLUMNS; column++) {
+				SiteIndexSpecies species;
+				if (remap.coastalSpecies() == remap.interiorSpecies()) {
+					species = remap.coastalSpecies();
+				} else {
+					species = speciesByFizCategory(
+							column == 0 ? ' ' : (char) ('A' + column - 1), remap.coastalSpecies(),
+							remap.interiorSpecies()
+					);
+				}
+				remapTable[id * FIZ_COLUMNS + column] = (short) species.ordinal();
 			}
-			if (sc2.equals("ZC")) {
-				return speciesByFizCategory(fiz, SI_SPEC_FDC, SI_SPEC_FDI);
+		}
+	}
+
+	public static SiteIndexSpecies species_remap(String sc, char fiz) throws CodeErrorException {
+
+		SiteIndexSpecies result = findSpeciesRemap(sc, fiz);
+		if (result == SI_NO_SPECIES) {
+			if (sc != null && ForestInventoryZone.toRegion(fiz) == SiteIndexForestInventoryZone.FIZ_UNKNOWN
+					&& findSpeciesRemap(sc, 'A') != SI_NO_SPECIES) {
+				throw new CodeErrorException("Unknown forest inventory code: " + fiz);
 			}
-			if (sc2.equals("ZH")) {
-				return SI_SPEC_AT;
+			throw new CodeErrorException("Unknown species code: " + sc);
+		}
+		return result;
+	}
+
+	/**
+	 * As {@link #species_remap(String, char)}, except that <code>SI_NO_SPECIES</code> is returned rather than an
+	 * exception being thrown when the species code is not recognized, or when the species code requires a forest
+	 * inventory zone and the given one is not recognized.
+	 *
+	 * @param sc  the species code
+	 * @param fiz the forest inventory zone (A - L)
+	 * @return the SINDEX species for the code, or <code>SI_NO_SPECIES</code>
+	 */
+	public static SiteIndexSpecies findSpeciesRemap(String sc, char fiz) {
+
+		if (sc == null) {
+			return SI_NO_SPECIES;
+		}
+
+		Integer id = codeIds.get(sc);
+		if (id == null) {
+			id = codeIds.get(SiteIndexSpecies.normalizeCode(sc));
+			if (id == null) {
+				return SI_NO_SPECIES;
 			}
 		}
 
-		throw new CodeErrorException("Unknown species code: " + sc);
+		int column = fiz >= 'A' && fiz <= 'L' ? fiz - 'A' + 1 : 0;
+
+		return SPECIES[remapTable[id * FIZ_COLUMNS + column]];
 	}
 
 	private static SiteIndexSpecies
-			speciesByFizCategory(char fiz, SiteIndexSpecies coastalSpecies, SiteIndexSpecies interiorSpecies)
-					throws CodeErrorException {
+			speciesByFizCategory(char fiz, SiteIndexSpecies coastalSpecies, SiteIndexSpecies interiorSpecies) {
 		switch (ForestInventoryZone.toRegion(fiz)) {
 		case FIZ_COAST:
 			return coastalSpecies;
 		case FIZ_INTERIOR:
 			return interiorSpecies;
 		default:
-			throw new CodeErrorException("Unknown forest inventory code: " + fiz);
+			return SI_NO_SPECIES;
 		}
 	}
 }
@@ -0,0 +1,34 @@
+package ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions;
+
+import java.lang.reflect.InvocationTargetException;
+
+/**
+ * The kind and message of a {@link CommonCalculatorException}, for results that are remembered and reported again
+ * later. Each report creates a new exception so that exceptions with their stack traces and suppressed exceptions are
+ * never shared between callers or threads.
+ *
+ * @param kind    the class of the exception
+ * @param message the detail message of the exception
+ */
+public record CalculatorFailure(Class<? extends CommonCalculatorException> kind, String message) {
+
+	/**
+	 * @return the kind and message of the given exception
+	 */
+	public static CalculatorFailure of(CommonCalculatorException exception) {
+		return new CalculatorFailure(exception.getClass(), exception.getMessage());
+	}
+
+	/**
+	 * @return a new exception of this kind with this message
+	 * @throws IllegalStateException if the kind has no public constructor taking a message
+	 */
+	public CommonCalculatorException toException() {
+		try {
+			return kind.getConstructor(String.class).newInstance(message);
+		} catch (NoSuchMethodException | InstantiationException | IllegalAccessException
+				| InvocationTargetException e) {
+			throw new IllegalStateException("Could not recreate " + kind.getName() + ": " + message, e);
+		}
+	}
+}
@@ -145,9 +145,16 @@ public enum SiteIndexSpecies {
 	SI_SPEC_ZH(134, "Zh");
 
 	private static final Map<Integer, SiteIndexSpecies> byIndex = new HashMap<>();
+	private static final Map<String, SiteIndexSpecies> byCode = new HashMap<>();
 	private static final SiteIndexSpecies first, last;
 
 	static {
+		for (SiteIndexSpecies v : values()) {
+			if (v != SI_NO_SPECIES) {
+				byCode.put(v.code.toUpperCase(), v);
+			}
+		}
+
 		first = SiteIndexSpecies.getByIndex(0);
 
 		int firstMissingIndexCandidate = 0;
@@ -187,16 +194,39 @@ public enum SiteIndexSpecies {
 	}
 
 	public static SiteIndexSpecies getByCode(String code) throws CodeErrorException {
-		try {
-			if (code != null) {
-				String enumEntryText = "SI_SPEC_" + code.replace(" ", "").toUpperCase();
-				return SiteIndexSpecies.valueOf(enumEntryText);
-			}
-		} catch (IllegalArgumentException | NullPointerException e) {
-			/* fall through */
+		SiteIndexSpecies e = findByCode(code);
+		if (e == SI_NO_SPECIES) {
+			throw new CodeErrorException("Unknown species code: " + code);
 		}
+		return e;
+	}
 
-		throw new CodeErrorException("Unknown species code: " + code);
+	/**
+	 * As {@link #getByCode(String)}, except that <code>SI_NO_SPECIES</code> is returned if the code is not recognized.
+	 * Spaces in the code are ignored, as is case.
+	 *
+	 * @param code the species code
+	 * @return the species with that code, or <code>SI_NO_SPECIES</code>
+	 */
+	public static SiteIndexSpecies findByCode(String code) {
+		if (code == null) {
+			return SI_NO_SPECIES;
+		}
+		SiteIndexSpecies e = byCode.get(code);
+		if (e == null) {
+			e = byCode.getOrDefault(normalizeCode(code), SI_NO_SPECIES);
+		}
+		return e;
+	}
+
+	/**
+	 * Remove any spaces from the given species code and convert it to upper case.
+	 */
+	public static String normalizeCode(String code) {
+		if (code.indexOf(' ') >= 0) {
+			code = code.replace(" ", "");
+		}
+		return code.toUpperCase();
 	}
 
 	public static SiteIndexSpecies getByIndex(int n) {
@@ -9,6 +9,22 @@ public interface FileResolver {
 
 	OutputStream resolveForOutput(String filename) throws IOException;
 
+	/**
+	 * Open a file for output keeping its first {@code offset} bytes, so that a run can be resumed from a checkpoint.
+	 * The rest of the file is discarded and writing continues after the bytes that were kept.
+	 *
+	 * @param filename
+	 * @param offset   number of bytes to keep, 0 to replace the file as {@link #resolveForOutput(String)} does
+	 * @return
+	 * @throws IOException if the file is shorter than {@code offset} or the resolver can't resume output
+	 */
+	default OutputStream resolveForOutput(String filename, long offset) throws IOException {
+		if (offset == 0) {
+			return resolveForOutput(filename);
+		}
+		throw new IOException("Can not resume output to " + toString(filename));
+	}
+
 	String toString(String filename) throws IOException;
 
 	/**
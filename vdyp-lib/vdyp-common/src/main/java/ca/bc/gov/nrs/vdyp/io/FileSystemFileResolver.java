@@ -3,8 +3,11 @@ package ca.bc.gov.nrs.vdyp.io;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 import java.util.Optional;
 
 public class FileSystemFileResolver implements FileResolver {
@@ -33,6 +36,29 @@ public class FileSystemFileResolver implements FileResolver {
 		return Files.newOutputStream(toPath(filename));
 	}
 
+	@Override
+	public OutputStream resolveForOutput(String filename, long offset) throws IOException {
+		if (offset == 0) {
+			return resolveForOutput(filename);
+		}
+		var channel = FileChannel.open(toPath(filename), StandardOpenOption.WRITE);
+		try {
+			if (channel.size() < offset) {
+				throw new IOException(
+						String.format(
+								"%s has %d bytes but %d were expected", toString(filename), channel.size(), offset
+						)
+				);
+			}
+			channel.truncate(offset);
+			channel.position(offset);
+			return Channels.newOutputStream(channel);
+		} catch (IOException ex) {
+			channel.close();
+			throw ex;
+		}
+	}
+
 	@Override
 	public String toString(String filename) throws IOException {
 		return String.format("file:%s", toPath(filename));
@@ -0,0 +1,123 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.nio.charset.StandardCharsets;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A FileResolver that keeps its files in memory rather than on the file system. Output streams store their content when
+ * they are closed so that it can be read back, either through this resolver or directly as bytes. This allows the
+ * applications to be run without touching the disk, for instance when their output is handed straight to another
+ * application.
+ */
+public class MemoryFileResolver implements FileResolver {
+
+	private final Map<String, byte[]> files;
+	private final String prefix;
+
+	public MemoryFileResolver() {
+		this(new ConcurrentHashMap<>(), "");
+	}
+
+	private MemoryFileResolver(Map<String, byte[]> files, String prefix) {
+		this.files = files;
+		this.prefix = prefix;
+	}
+
+	String toName(String filename) {
+		return prefix + filename;
+	}
+
+	/**
+	 * Add a file with the given content, replacing any existing file with the same name.
+	 */
+	public void addFile(String filename, byte[] content) {
+		files.put(toName(filename), content.clone());
+	}
+
+	/**
+	 * Add a file with the given content encoded as UTF-8, replacing any existing file with the same name.
+	 */
+	public void addFile(String filename, String content) {
+		addFile(filename, content.getBytes(StandardCharsets.UTF_8));
+	}
+
+	/**
+	 * Get the content of a file, if it exists. Files being written only become visible once their stream is closed.
+	 */
+	public Optional<byte[]> getBytes(String filename) {
+		return Optional.ofNullable(files.get(toName(filename))).map(byte[]::clone);
+	}
+
+	/**
+	 * Get the content of a file decoded as UTF-8, if it exists.
+	 */
+	public Optional<String> getString(String filename) {
+		return getBytes(filename).map(bytes -> new String(bytes, StandardCharsets.UTF_8));
+	}
+
+	@Override
+	public InputStream resolveForInput(String filename) throws IOException {
+		var content = files.get(toName(filename));
+		if (content == null) {
+			throw new FileNotFoundException(toString(filename));
+		}
+		return new ByteArrayInputStream(content);
+	}
+
+	@Override
+	public OutputStream resolveForOutput(String filename) throws IOException {
+		final var name = toName(filename);
+		return new ByteArrayOutputStream() {
+			private boolean closed = false;
+
+			@Override
+			public void close() throws IOException {
+				if (!closed) {
+					closed = true;
+					files.put(name, toByteArray());
+				}
+			}
+		};
+	}
+
+	@Override
+	public OutputStream resolveForOutput(String filename, long offset) throws IOException {
+		if (offset == 0) {
+			return resolveForOutput(filename);
+		}
+		var content = files.get(toName(filename));
+		if (content == null || content.length < offset) {
+			throw new IOException(
+					String.format(
+							"%s has %d bytes but %d were expected", toString(filename),
+							content == null ? 0 : content.length, offset
+					)
+			);
+		}
+		var os = resolveForOutput(filename);
+		os.write(content, 0, (int) offset);
+		return os;
+	}
+
+	@Override
+	public String toString(String filename) throws IOException {
+		return String.format("mem:%s", toName(filename));
+	}
+
+	@Override
+	public MemoryFileResolver relative(String path) throws IOException {
+		var newPrefix = toName(path);
+		if (!newPrefix.isEmpty() && !newPrefix.endsWith("/")) {
+			newPrefix = newPrefix + "/";
+		}
+		return new MemoryFileResolver(files, newPrefix);
+	}
+}
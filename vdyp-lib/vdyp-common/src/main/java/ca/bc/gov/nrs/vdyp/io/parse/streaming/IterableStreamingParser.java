@@ -0,0 +1,53 @@
+package ca.bc.gov.nrs.vdyp.io.parse.streaming;
+
+import java.io.IOException;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+
+/**
+ * Streaming parser that returns objects which have already been created rather than parsing them from a resource. This
+ * allows model objects to be fed directly into an application in place of one of its input files.
+ *
+ * @param <T>
+ */
+public class IterableStreamingParser<T> implements StreamingParser<T> {
+
+	private final Iterator<? extends T> iterator;
+
+	public IterableStreamingParser(Iterator<? extends T> iterator) {
+		this.iterator = iterator;
+	}
+
+	/**
+	 * Create a factory which provides a new parser over the given objects each time it is called.
+	 *
+	 * @param <T>
+	 * @param source
+	 * @return
+	 */
+	public static <T> StreamingParserFactory<T> factory(Iterable<? extends T> source) {
+		return () -> new IterableStreamingParser<>(source.iterator());
+	}
+
+	@Override
+	public T next() throws IOException, ResourceParseException {
+		try {
+			return iterator.next();
+		} catch (NoSuchElementException e) {
+			throw new IllegalStateException("Attempted to read past the end of the stream", e);
+		}
+	}
+
+	@Override
+	public boolean hasNext() throws IOException, ResourceParseException {
+		return iterator.hasNext();
+	}
+
+	@Override
+	public void close() throws IOException {
+		// Nothing to close
+	}
+
+}
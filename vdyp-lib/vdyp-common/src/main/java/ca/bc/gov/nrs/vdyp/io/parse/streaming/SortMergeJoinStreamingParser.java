@@ -0,0 +1,186 @@
+package ca.bc.gov.nrs.vdyp.io.parse.streaming;
+
+import java.io.IOException;
+import java.util.Collection;
+import java.util.Optional;
+import java.util.function.Function;
+import java.util.function.Supplier;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+/**
+ * Wraps a StreamingParser of child records, usually grouped by polygon, so they can be joined to a polygon stream by
+ * polygon identifier rather than by position.
+ * <p>
+ * Both the polygon stream and the child stream must be sorted by polygon identifier, in the order of
+ * {@link PolygonIdentifier#compareTo}, but they don't need to have records for exactly the same polygons. A polygon
+ * with no child records gets an empty entry and child records for a polygon that isn't requested are skipped. Only one
+ * child entry is held at a time so memory use doesn't depend on the size of the files.
+ *
+ * @param <T>
+ */
+public class SortMergeJoinStreamingParser<T> implements StreamingParser<T> {
+
+	private static final Logger log = LoggerFactory.getLogger(SortMergeJoinStreamingParser.class);
+
+	final StreamingParser<T> delegate;
+
+	private final String name;
+	private final Function<T, Optional<PolygonIdentifier>> key;
+	private final Supplier<T> missing;
+
+	private Optional<T> next = Optional.empty();
+	private Optional<PolygonIdentifier> nextKey = Optional.empty();
+
+	private Optional<PolygonIdentifier> lastChild = Optional.empty();
+	private Optional<PolygonIdentifier> lastPolygon = Optional.empty();
+
+	private int missingCount = 0;
+	private int skippedCount = 0;
+
+	/**
+	 *
+	 * @param delegate the child records
+	 * @param name     name of the child records for messages
+	 * @param key      polygon identifier of an entry, or empty if the entry has no records
+	 * @param missing  creates the entry for a polygon with no records
+	 */
+	public SortMergeJoinStreamingParser(
+			StreamingParser<T> delegate, String name, Function<T, Optional<PolygonIdentifier>> key, Supplier<T> missing
+	) {
+		this.delegate = delegate;
+		this.name = name;
+		this.key = key;
+		this.missing = missing;
+	}
+
+	/**
+	 * Key function for entries that are groups of records for a single polygon, which takes the polygon identifier of
+	 * the first record.
+	 */
+	public static <U> Function<Collection<U>, Optional<PolygonIdentifier>>
+			firstKey(Function<U, PolygonIdentifier> recordKey) {
+		return group -> group.stream().findFirst().map(recordKey);
+	}
+
+	/**
+	 * Get the entry for the given polygon, skipping any entries for polygons before it.
+	 *
+	 * @param polygon the polygon identifier, which must not be before that of the previous call
+	 * @return the entry for the polygon, or an empty entry if there are no records for it
+	 * @throws ResourceParseException if either the polygons or the child records are not sorted
+	 */
+	public T nextFor(PolygonIdentifier polygon) throws IOException, ResourceParseException {
+		if (lastPolygon.map(last -> last.compareTo(polygon) > 0).orElse(false)) {
+			throw new ResourceParseException(
+					String.format(
+							"Polygons are not sorted by polygon identifier: %s follows %s", polygon, lastPolygon.get()
+					)
+			);
+		}
+		lastPolygon = Optional.of(polygon);
+
+		while (doGetNext()) {
+			int compare = nextKey.get().compareTo(polygon);
+			if (compare == 0) {
+				return take();
+			}
+			if (compare > 0) {
+				break;
+			}
+			log.atWarn().setMessage("Skipping {} for polygon {} which is not in the polygon file").addArgument(name)
+					.addArgument(nextKey.get()).log();
+			skippedCount++;
+			take();
+		}
+
+		log.atDebug().setMessage("No {} for polygon {}").addArgument(name).addArgument(polygon).log();
+		missingCount++;
+		return missing.get();
+	}
+
+	/**
+	 * Read ahead to the next entry with records, if there isn't one already
+	 *
+	 * @return true if there is an entry with records
+	 */
+	private boolean doGetNext() throws IOException, ResourceParseException {
+		while (next.isEmpty() && delegate.hasNext()) {
+			var entry = delegate.next();
+			var entryKey = key.apply(entry);
+			if (entryKey.isEmpty()) {
+				continue;
+			}
+			if (lastChild.map(last -> last.compareTo(entryKey.get()) > 0).orElse(false)) {
+				throw new ResourceParseException(
+						String.format(
+								"%s is not sorted by polygon identifier: %s follows %s", name, entryKey.get(),
+								lastChild.get()
+						)
+				);
+			}
+			lastChild = entryKey;
+			next = Optional.of(entry);
+			nextKey = entryKey;
+		}
+		return next.isPresent();
+	}
+
+	private T take() {
+		var result = next.get();
+		next = Optional.empty();
+		nextKey = Optional.empty();
+		return result;
+	}
+
+	/**
+	 * @return the number of polygons that had no entry
+	 */
+	public int getMissingCount() {
+		return missingCount;
+	}
+
+	/**
+	 * @return the number of entries skipped because they were for polygons that weren't requested
+	 */
+	public int getSkippedCount() {
+		return skippedCount;
+	}
+
+	/**
+	 * Get the next entry without joining it to a polygon.
+	 */
+	@Override
+	public T next() throws IOException, ResourceParseException {
+		if (next.isPresent()) {
+			return take();
+		}
+		return delegate.next();
+	}
+
+	@Override
+	public boolean hasNext() throws IOException, ResourceParseException {
+		return next.isPresent() || delegate.hasNext();
+	}
+
+	@Override
+	public void close() throws IOException {
+		delegate.close();
+	}
+
+	/**
+	 * Get the entry for a polygon from a child stream, joining by polygon identifier if the stream is a
+	 * {@code SortMergeJoinStreamingParser} and otherwise taking the next entry.
+	 */
+	public static <T> T nextForPolygon(StreamingParser<T> stream, PolygonIdentifier polygon)
+			throws IOException, ResourceParseException {
+		if (stream instanceof SortMergeJoinStreamingParser<T> join) {
+			return join.nextFor(polygon);
+		}
+		return stream.next();
+	}
+}
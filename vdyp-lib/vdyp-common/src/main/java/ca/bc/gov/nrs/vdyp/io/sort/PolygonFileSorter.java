@@ -0,0 +1,546 @@
+package ca.bc.gov.nrs.vdyp.io.sort;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.io.Writer;
+import java.nio.charset.Charset;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.PriorityQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.Semaphore;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import org.slf4j.Logger;
+import org.slf4j.LoggerFactory;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseLineException;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+/**
+ * Sorts VDYP input files by the polygon identifier at the start of each line, using no more than a given amount of
+ * memory for the lines being sorted.
+ * <p>
+ * Lines are read into runs that fit within the memory budget, each run is sorted on a pool of threads and written to a
+ * spill file, and the spill files are then merged. The sort is stable so the records for a polygon stay in the order
+ * they were in the input.
+ * <p>
+ * Files with a group of records for each polygon, such as layer or species files, are written in the grouped layout the
+ * parsers expect, with a single end of record line after the records for each polygon.
+ */
+public class PolygonFileSorter {
+
+	private static final Logger log = LoggerFactory.getLogger(PolygonFileSorter.class);
+
+	/**
+	 * Read and write the bytes of the files as they are
+	 */
+	static final Charset CHARSET = StandardCharsets.ISO_8859_1;
+
+	static final String NEW_LINE = "\n";
+
+	/**
+	 * Position of the layer code that is "Z" on end of record lines
+	 */
+	static final int LAYER_POSITION = PolygonIdentifier.ID_LENGTH + 1;
+
+	static final String DEFAULT_END_OF_RECORD_SUFFIX = " Z";
+
+	public static final int ARGUMENT_ERROR = 1;
+	public static final int PROCESSING_ERROR = 2;
+
+	public static final long DEFAULT_MEMORY_BUDGET = 256L * 1024 * 1024;
+	public static final int DEFAULT_MAX_MERGE_FILES = 64;
+
+	// Rough memory used by a line held for sorting beyond its characters
+	static final long LINE_OVERHEAD = 96;
+
+	private long memoryBudget = DEFAULT_MEMORY_BUDGET;
+	private int threads = Runtime.getRuntime().availableProcessors();
+	private int maxMergeFiles = DEFAULT_MAX_MERGE_FILES;
+	private Optional<Path> tempDirectory = Optional.empty();
+
+	private int runs = 0;
+	private int mergePasses = 0;
+
+	public enum Layout {
+		/**
+		 * One line per record, such as a polygon file
+		 */
+		LINES,
+		/**
+		 * A group of lines for each polygon ending with an end of record line, such as a layer or species file
+		 */
+		GROUPED
+	}
+
+	record SortTask(Path input, Path output, Layout layout) {
+	}
+
+	/**
+	 * Sort the input files of a run by polygon identifier.
+	 * <p>
+	 * The arguments are any of these options followed by the files to sort, each given as a layout and the input and
+	 * output file names:
+	 * <ul>
+	 * <li>{@code -memory <megabytes>} memory to use for sorting
+	 * <li>{@code -threads <count>} threads to sort runs
+	 * <li>{@code -temp <directory>} directory for spill files
+	 * <li>{@code -lines <input> <output>} a file with a line for each record, such as a polygon file
+	 * <li>{@code -grouped <input> <output>} a file with a group of lines for each polygon, such as a layer file
+	 * </ul>
+	 */
+	public static void main(final String... args) {
+		int result = run(new PolygonFileSorter(), args);
+		if (result != 0) {
+			System.exit(result);
+		}
+	}
+
+	static int run(PolygonFileSorter sorter, String... args) {
+		List<SortTask> tasks = new ArrayList<>();
+		try {
+			for (int i = 0; i < args.length; i++) {
+				var option = args[i];
+				switch (option) {
+				case "-memory" -> sorter.setMemoryBudget(Long.parseLong(argument(args, ++i, option)) * 1024 * 1024);
+				case "-threads" -> sorter.setThreads(Integer.parseInt(argument(args, ++i, option)));
+				case "-temp" -> sorter.setTempDirectory(Optional.of(Path.of(argument(args, ++i, option))));
+				case "-lines", "-grouped" -> {
+					var input = Path.of(argument(args, ++i, option));
+					var output = Path.of(argument(args, ++i, option));
+					tasks.add(new SortTask(input, output, option.equals("-lines") ? Layout.LINES : Layout.GROUPED));
+				}
+				default -> throw new IllegalArgumentException("Unknown option " + option);
+				}
+			}
+			if (tasks.isEmpty()) {
+				throw new IllegalArgumentException("No files to sort");
+			}
+		} catch (IllegalArgumentException ex) {
+			log.atError().setMessage(
+					"{}. Usage: PolygonFileSorter [-memory <megabytes>] [-threads <count>] [-temp <directory>] (-lines|-grouped) <input> <output> ..."
+			).addArgument(ex.getMessage()).log();
+			return ARGUMENT_ERROR;
+		}
+
+		try {
+			for (var task : tasks) {
+				sorter.sort(task.input(), task.output(), task.layout());
+			}
+		} catch (IOException | ResourceParseException ex) {
+			log.atError().setMessage("Error while sorting").setCause(ex).log();
+			return PROCESSING_ERROR;
+		}
+		return 0;
+	}
+
+	private static String argument(String[] args, int i, String option) {
+		if (i >= args.length) {
+			throw new IllegalArgumentException("Missing argument for " + option);
+		}
+		return args[i];
+	}
+
+	public long getMemoryBudget() {
+		return memoryBudget;
+	}
+
+	/**
+	 * @param memoryBudget approximate number of bytes to use for the lines being sorted
+	 */
+	public void setMemoryBudget(long memoryBudget) {
+		if (memoryBudget < 1) {
+			throw new IllegalArgumentException("Memory budget must be positive");
+		}
+		this.memoryBudget = memoryBudget;
+	}
+
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * @param threads number of threads to sort and spill runs
+	 */
+	public void setThreads(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be at least 1");
+		}
+		this.threads = threads;
+	}
+
+	public int getMaxMergeFiles() {
+		return maxMergeFiles;
+	}
+
+	/**
+	 * @param maxMergeFiles the most spill files to merge at once. If there are more the merge is done in passes.
+	 */
+	public void setMaxMergeFiles(int maxMergeFiles) {
+		if (maxMergeFiles < 2) {
+			throw new IllegalArgumentException("Must merge at least 2 files at once");
+		}
+		this.maxMergeFiles = maxMergeFiles;
+	}
+
+	public Optional<Path> getTempDirectory() {
+		return tempDirectory;
+	}
+
+	/**
+	 * @param tempDirectory directory for spill files, or empty to use the default temporary directory
+	 */
+	public void setTempDirectory(Optional<Path> tempDirectory) {
+		this.tempDirectory = tempDirectory;
+	}
+
+	/**
+	 * @return the number of runs written to spill files by the last sort, 0 if it was sorted in memory
+	 */
+	public int getRuns() {
+		return runs;
+	}
+
+	/**
+	 * @return the number of merge passes before the final merge in the last sort
+	 */
+	public int getMergePasses() {
+		return mergePasses;
+	}
+
+	/**
+	 * Sort a file by polygon identifier
+	 *
+	 * @param input  the file to sort
+	 * @param output where to write the sorted file, which may not be the input file
+	 * @param layout the layout of the file
+	 * @throws ResourceParseException if a line doesn't start with a polygon identifier
+	 */
+	public void sort(Path input, Path output, Layout layout) throws IOException, ResourceParseException {
+		log.atInfo().setMessage("Sorting {} to {}").addArgument(input).addArgument(output).log();
+
+		runs = 0;
+		mergePasses = 0;
+
+		Path spillDirectory = tempDirectory.isPresent() ? Files.createTempDirectory(tempDirectory.get(), "vdyp-sort")
+				: Files.createTempDirectory("vdyp-sort");
+		var runNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			var thread = new Thread(r, "vdyp-sort-" + runNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+		try {
+			// A run is filled while the others are sorted and spilled
+			long runBudget = Math.max(1, memoryBudget / (threads + 1));
+			var permits = new Semaphore(threads);
+			List<Future<Path>> spills = new ArrayList<>();
+
+			Optional<String> endOfRecordSuffix = Optional.empty();
+			List<Line> run = new ArrayList<>();
+			long runSize = 0;
+
+			try (var reader = Files.newBufferedReader(input, CHARSET)) {
+				String text;
+				int lineNumber = 0;
+				while ( (text = reader.readLine()) != null) {
+					lineNumber++;
+					if (text.isBlank()) {
+						continue;
+					}
+					var line = Line.parse(text, lineNumber, layout);
+					if (line.endOfRecord && endOfRecordSuffix.isEmpty()) {
+						endOfRecordSuffix = Optional.of(text.substring(PolygonIdentifier.ID_LENGTH));
+					}
+					run.add(line);
+					runSize += line.size();
+
+					if (runSize >= runBudget) {
+						spills.add(spill(executor, permits, spillDirectory, run));
+						run = new ArrayList<>();
+						runSize = 0;
+					}
+				}
+			}
+
+			var suffix = endOfRecordSuffix.orElse(DEFAULT_END_OF_RECORD_SUFFIX);
+			try (var writer = new LineWriter(Files.newBufferedWriter(output, CHARSET), layout, suffix)) {
+				if (spills.isEmpty()) {
+					// It all fits in memory
+					run.sort(Line.ORDER);
+					for (var line : run) {
+						writer.write(line);
+					}
+				} else {
+					if (!run.isEmpty()) {
+						spills.add(spill(executor, permits, spillDirectory, run));
+					}
+					run = null;
+
+					List<Path> runFiles = new ArrayList<>();
+					for (var spill : spills) {
+						runFiles.add(get(spill));
+					}
+					runs = runFiles.size();
+
+					while (runFiles.size() > maxMergeFiles) {
+						runFiles = mergePass(runFiles, spillDirectory, layout);
+						mergePasses++;
+					}
+					merge(runFiles, writer, layout);
+				}
+			}
+
+			log.atInfo().setMessage("Sorted {} with {} runs and {} merge passes").addArgument(input).addArgument(runs)
+					.addArgument(mergePasses).log();
+		} finally {
+			executor.shutdownNow();
+			try {
+				// Let any runs being spilled finish before their directory is removed
+				executor.awaitTermination(1, TimeUnit.MINUTES);
+			} catch (InterruptedException ex) {
+				Thread.currentThread().interrupt();
+			}
+			deleteDirectory(spillDirectory);
+		}
+	}
+
+	private Future<Path> spill(ExecutorService executor, Semaphore permits, Path spillDirectory, List<Line> run)
+			throws IOException {
+		try {
+			permits.acquire();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while waiting to spill a run", ex);
+		}
+		return executor.submit(() -> {
+			try {
+				run.sort(Line.ORDER);
+				var file = Files.createTempFile(spillDirectory, "run", ".dat");
+				try (var writer = Files.newBufferedWriter(file, CHARSET)) {
+					for (var line : run) {
+						writer.write(line.text);
+						writer.write(NEW_LINE);
+					}
+				}
+				return file;
+			} finally {
+				permits.release();
+			}
+		});
+	}
+
+	private static Path get(Future<Path> spill) throws IOException {
+		try {
+			return spill.get();
+		} catch (InterruptedException ex) {
+			Thread.currentThread().interrupt();
+			throw new IOException("Interrupted while spilling a run", ex);
+		} catch (ExecutionException ex) {
+			if (ex.getCause() instanceof IOException ioEx) {
+				throw ioEx;
+			}
+			throw new IOException("Error while spilling a run", ex.getCause());
+		}
+	}
+
+	/**
+	 * Merge consecutive groups of runs so there are no more than {@link #maxMergeFiles} of them. Keeping the runs in
+	 * order keeps the sort stable.
+	 */
+	private List<Path> mergePass(List<Path> runFiles, Path spillDirectory, Layout layout)
+			throws IOException, ResourceParseException {
+		List<Path> result = new ArrayList<>();
+		for (int i = 0; i < runFiles.size(); i += maxMergeFiles) {
+			var group = runFiles.subList(i, Math.min(runFiles.size(), i + maxMergeFiles));
+			var file = Files.createTempFile(spillDirectory, "merge", ".dat");
+			try (var writer = new LineWriter(Files.newBufferedWriter(file, CHARSET), Layout.LINES, "")) {
+				merge(group, writer, layout);
+			}
+			for (var run : group) {
+				Files.delete(run);
+			}
+			result.add(file);
+		}
+		return result;
+	}
+
+	private static void merge(List<Path> runFiles, LineWriter writer, Layout layout)
+			throws IOException, ResourceParseException {
+		// Ties go to the earlier run so the merge is stable
+		PriorityQueue<RunCursor> queue = new PriorityQueue<>(
+				Comparator.<RunCursor, Line>comparing(cursor -> cursor.line, Line.ORDER)
+						.thenComparingInt(cursor -> cursor.run)
+		);
+		List<BufferedReader> readers = new ArrayList<>();
+		try {
+			for (int i = 0; i < runFiles.size(); i++) {
+				var reader = Files.newBufferedReader(runFiles.get(i), CHARSET);
+				readers.add(reader);
+				var cursor = new RunCursor(reader, i, layout);
+				if (cursor.advance()) {
+					queue.add(cursor);
+				}
+			}
+			while (!queue.isEmpty()) {
+				var cursor = queue.poll();
+				writer.write(cursor.line);
+				if (cursor.advance()) {
+					queue.add(cursor);
+				}
+			}
+		} finally {
+			for (var reader : readers) {
+				reader.close();
+			}
+		}
+	}
+
+	private static void deleteDirectory(Path directory) {
+		try (var files = Files.list(directory)) {
+			for (var file : files.toList()) {
+				Files.deleteIfExists(file);
+			}
+			Files.deleteIfExists(directory);
+		} catch (IOException | UncheckedIOException ex) {
+			log.atWarn().setMessage("Could not remove spill directory {}").addArgument(directory).setCause(ex).log();
+		}
+	}
+
+	/**
+	 * A line of an input file with its polygon identifier
+	 */
+	static class Line {
+		static final Comparator<Line> ORDER = Comparator.comparing(line -> line.polygonIdentifier);
+
+		final PolygonIdentifier polygonIdentifier;
+		final String text;
+		final boolean endOfRecord;
+
+		Line(PolygonIdentifier polygonIdentifier, String text, boolean endOfRecord) {
+			this.polygonIdentifier = polygonIdentifier;
+			this.text = text;
+			this.endOfRecord = endOfRecord;
+		}
+
+		static Line parse(String text, int lineNumber, Layout layout) throws ResourceParseLineException {
+			if (text.length() < PolygonIdentifier.ID_LENGTH) {
+				throw new ResourceParseLineException(lineNumber, "Line does not start with a polygon identifier");
+			}
+			PolygonIdentifier polygonIdentifier;
+			try {
+				polygonIdentifier = PolygonIdentifier.split(text.substring(0, PolygonIdentifier.ID_LENGTH));
+			} catch (IllegalArgumentException ex) {
+				throw new ResourceParseLineException(lineNumber, ex);
+			}
+			return new Line(polygonIdentifier, text, layout == Layout.GROUPED && isEndOfRecord(text));
+		}
+
+		/**
+		 * An end of record line has a layer code of "Z" or nothing after the polygon identifier.
+		 */
+		static boolean isEndOfRecord(String text) {
+			var stripped = text.stripTrailing();
+			return stripped.length() <= LAYER_POSITION || stripped.charAt(LAYER_POSITION) == 'Z';
+		}
+
+		long size() {
+			return LINE_OVERHEAD + 2L * text.length();
+		}
+	}
+
+	private static class RunCursor {
+		final BufferedReader reader;
+		final int run;
+		final Layout layout;
+
+		int lineNumber = 0;
+		Line line;
+
+		RunCursor(BufferedReader reader, int run, Layout layout) {
+			this.reader = reader;
+			this.run = run;
+			this.layout = layout;
+		}
+
+		boolean advance() throws IOException, ResourceParseException {
+			var text = reader.readLine();
+			if (text == null) {
+				line = null;
+				return false;
+			}
+			line = Line.parse(text, ++lineNumber, layout);
+			return true;
+		}
+	}
+
+	/**
+	 * Writes sorted lines, replacing the end of record lines of a grouped file with one after the records for each
+	 * polygon. A polygon that had only an end of record line keeps it so positional readers stay aligned.
+	 */
+	private static class LineWriter implements AutoCloseable {
+		final BufferedWriter writer;
+		final Layout layout;
+		final String endOfRecordSuffix;
+
+		Optional<PolygonIdentifier> current = Optional.empty();
+		Optional<String> currentEndOfRecord = Optional.empty();
+
+		LineWriter(BufferedWriter writer, Layout layout, String endOfRecordSuffix) {
+			this.writer = writer;
+			this.layout = layout;
+			this.endOfRecordSuffix = endOfRecordSuffix;
+		}
+
+		void write(Line line) throws IOException {
+			if (layout == Layout.LINES) {
+				writeText(writer, line.text);
+				return;
+			}
+			if (!current.map(line.polygonIdentifier::equals).orElse(false)) {
+				endRecord();
+				current = Optional.of(line.polygonIdentifier);
+			}
+			if (line.endOfRecord) {
+				currentEndOfRecord = Optional.of(line.text);
+			} else {
+				writeText(writer, line.text);
+			}
+		}
+
+		private void endRecord() throws IOException {
+			if (current.isPresent()) {
+				writeText(writer, currentEndOfRecord.orElseGet(() -> current.get().toString() + endOfRecordSuffix));
+			}
+			current = Optional.empty();
+			currentEndOfRecord = Optional.empty();
+		}
+
+		private static void writeText(Writer writer, String text) throws IOException {
+			writer.write(text);
+			writer.write(NEW_LINE);
+		}
+
+		@Override
+		public void close() throws IOException {
+			try {
+				endRecord();
+			} finally {
+				writer.close();
+			}
+		}
+	}
+}
@@ -0,0 +1,44 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * Keeps the polygons written to it in memory instead of formatting them as VRI Adjust input files.
+ */
+public class CapturingPolygonWriter implements VdypPolygonWriter {
+
+	private final List<VdypPolygon> polygons = Collections.synchronizedList(new ArrayList<>());
+	private boolean closed = false;
+
+	@Override
+	public void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon) throws IOException {
+		if (closed) {
+			throw new IOException("Writer has been closed");
+		}
+		polygons.add(polygon);
+	}
+
+	/**
+	 * The polygons written so far, in the order they were written.
+	 */
+	public List<VdypPolygon> getPolygons() {
+		synchronized (polygons) {
+			return List.copyOf(polygons);
+		}
+	}
+
+	public boolean isClosed() {
+		return closed;
+	}
+
+	@Override
+	public void close() throws IOException {
+		closed = true;
+	}
+
+}
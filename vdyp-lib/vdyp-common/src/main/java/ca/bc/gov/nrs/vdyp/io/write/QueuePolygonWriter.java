@@ -0,0 +1,111 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.IOException;
+import java.io.InterruptedIOException;
+import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.TimeUnit;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * Hands polygons over to another thread through a bounded queue. Writing blocks while the queue is full so a slow
+ * consumer holds back the producer. The consumer reads the polygons with the parser from {@link #getReader()}, which
+ * reaches its end once this writer has been closed.
+ * <p>
+ * If the reader is closed before the end is reached, further writes fail rather than blocking forever.
+ */
+public class QueuePolygonWriter implements VdypPolygonWriter {
+
+	private static final long POLL_MILLIS = 100;
+
+	// Optional.empty() marks the end of the stream
+	private final BlockingQueue<Optional<VdypPolygon>> queue;
+
+	private volatile boolean cancelled = false;
+	private boolean closed = false;
+
+	private final StreamingParser<VdypPolygon> reader = new StreamingParser<>() {
+
+		private Optional<Optional<VdypPolygon>> next = Optional.empty();
+
+		@Override
+		public VdypPolygon next() throws IOException, ResourceParseException {
+			if (!hasNext()) {
+				throw new IllegalStateException("Attempted to read past the end of the stream");
+			}
+			var result = next.get().get();
+			next = Optional.empty();
+			return result;
+		}
+
+		@Override
+		public boolean hasNext() throws IOException, ResourceParseException {
+			if (next.isEmpty()) {
+				try {
+					next = Optional.of(queue.take());
+				} catch (InterruptedException e) {
+					Thread.currentThread().interrupt();
+					throw new InterruptedIOException("Interrupted while waiting for next polygon");
+				}
+			}
+			return next.get().isPresent();
+		}
+
+		@Override
+		public void close() throws IOException {
+			cancelled = true;
+			queue.clear();
+		}
+	};
+
+	/**
+	 * @param capacity the maximum number of polygons waiting to be read
+	 */
+	public QueuePolygonWriter(int capacity) {
+		this.queue = new ArrayBlockingQueue<>(capacity);
+	}
+
+	/**
+	 * Parser which returns the polygons written to this writer, in the order they were written. It should only be used
+	 * by a single consumer.
+	 */
+	public StreamingParser<VdypPolygon> getReader() {
+		return reader;
+	}
+
+	@Override
+	public void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon) throws IOException {
+		if (closed) {
+			throw new IOException("Writer has been closed");
+		}
+		put(Optional.of(polygon));
+	}
+
+	private void put(Optional<VdypPolygon> entry) throws IOException {
+		try {
+			do {
+				if (cancelled) {
+					throw new IOException("Reader has been closed");
+				}
+			} while (!queue.offer(entry, POLL_MILLIS, TimeUnit.MILLISECONDS));
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new InterruptedIOException("Interrupted while waiting to write polygon");
+		}
+	}
+
+	@Override
+	public void close() throws IOException {
+		if (!closed) {
+			closed = true;
+			if (!cancelled) {
+				put(Optional.empty());
+			}
+		}
+	}
+
+}
@@ -0,0 +1,20 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.Flushable;
+import java.util.Map;
+
+/**
+ * A polygon writer whose output can be truncated back to a checkpoint and continued, so that a long run can be resumed
+ * after it is interrupted.
+ */
+public interface ResumablePolygonWriter extends VdypPolygonWriter, Flushable {
+
+	/**
+	 * The number of bytes written to each output, including any kept from an earlier run. The outputs must be flushed
+	 * before the offsets are recorded in a checkpoint.
+	 *
+	 * @return the offsets keyed by the name of the control key of each output file
+	 */
+	Map<String, Long> getOffsets();
+
+}
@@ -0,0 +1,49 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.IOException;
+import java.util.List;
+
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * Writes each polygon to several other writers in turn, for instance to keep the VRI Adjust input files while also
+ * passing the polygons on in memory.
+ */
+public class TeePolygonWriter implements VdypPolygonWriter {
+
+	private final List<VdypPolygonWriter> writers;
+
+	public TeePolygonWriter(VdypPolygonWriter... writers) {
+		this.writers = List.of(writers);
+	}
+
+	@Override
+	public void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon) throws IOException {
+		for (var writer : writers) {
+			writer.writePolygonWithSpeciesAndUtilization(polygon);
+		}
+	}
+
+	/**
+	 * Close all of the writers, even if closing one of them fails.
+	 */
+	@Override
+	public void close() throws IOException {
+		IOException failure = null;
+		for (var writer : writers) {
+			try {
+				writer.close();
+			} catch (IOException e) {
+				if (failure == null) {
+					failure = e;
+				} else {
+					failure.addSuppressed(e);
+				}
+			}
+		}
+		if (failure != null) {
+			throw failure;
+		}
+	}
+
+}
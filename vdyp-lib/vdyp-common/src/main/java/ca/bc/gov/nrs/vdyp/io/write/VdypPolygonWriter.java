@@ -0,0 +1,21 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import java.io.Closeable;
+import java.io.IOException;
+
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+/**
+ * Destination for the polygons produced by a start application, including their layers, species and utilizations.
+ */
+public interface VdypPolygonWriter extends Closeable {
+
+	/**
+	 * Write a polygon along with its layers, species, and utilizations.
+	 *
+	 * @param polygon
+	 * @throws IOException
+	 */
+	void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon) throws IOException;
+
+}
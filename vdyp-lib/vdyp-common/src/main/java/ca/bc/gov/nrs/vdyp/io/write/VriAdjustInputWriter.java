@@ -1,10 +1,11 @@
 package ca.bc.gov.nrs.vdyp.io.write;
 
-import java.io.Closeable;
+import java.io.FilterOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
 import java.util.AbstractMap;
 import java.util.ArrayList;
+import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Map.Entry;
@@ -28,12 +29,12 @@ import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
 /**
  * Write files to be input into VRI Adjust.
  */
-public class VriAdjustInputWriter implements Closeable {
+public class VriAdjustInputWriter implements ResumablePolygonWriter {
 
 	private Map<String, Object> controlMap;
-	private OutputStream polygonFile;
-	private OutputStream speciesFile;
-	private OutputStream utilizationFile;
+	private CountingOutputStream polygonFile;
+	private CountingOutputStream speciesFile;
+	private CountingOutputStream utilizationFile;
 
 	static final String POLY_IDENTIFIER_FORMAT = "%-25s";
 	static final String LAYER_TYPE_FORMAT = "%-1s";
@@ -75,34 +76,88 @@ public class VriAdjustInputWriter implements Closeable {
 	public VriAdjustInputWriter(
 			OutputStream polygonFile, OutputStream speciesFile, OutputStream utilizationFile,
 			Map<String, Object> controlMap
+	) {
+		this(polygonFile, speciesFile, utilizationFile, controlMap, Map.of());
+	}
+
+	private VriAdjustInputWriter(
+			OutputStream polygonFile, OutputStream speciesFile, OutputStream utilizationFile,
+			Map<String, Object> controlMap, Map<String, Long> offsets
 	) {
 		this.controlMap = controlMap;
-		this.polygonFile = polygonFile;
-		this.speciesFile = speciesFile;
-		this.utilizationFile = utilizationFile;
+		this.polygonFile = new CountingOutputStream(
+				polygonFile, offsets.getOrDefault(ControlKey.VRI_OUTPUT_VDYP_POLYGON.name(), 0L)
+		);
+		this.speciesFile = new CountingOutputStream(
+				speciesFile, offsets.getOrDefault(ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name(), 0L)
+		);
+		this.utilizationFile = new CountingOutputStream(
+				utilizationFile, offsets.getOrDefault(ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), 0L)
+		);
 	}
 
 	/**
 	 * Create a writer for VRI Adjust input files configured using the given control map.
 	 *
-	 * @param polygonFile
-	 * @param speciesFile
-	 * @param utilizationFile
 	 * @param controlMap
+	 * @param resolver
 	 */
 	public VriAdjustInputWriter(Map<String, Object> controlMap, FileResolver resolver) throws IOException {
+		this(controlMap, resolver, Map.of());
+	}
+
+	/**
+	 * Create a writer for VRI Adjust input files configured using the given control map, resuming from a checkpoint.
+	 * Each file keeps the number of bytes given in {@code offsets} and the rest is replaced.
+	 *
+	 * @param controlMap
+	 * @param resolver
+	 * @param offsets    bytes to keep in each file keyed by the name of its control key, as returned by
+	 *                   {@link #getOffsets()}. Files without an offset are replaced.
+	 */
+	public VriAdjustInputWriter(Map<String, Object> controlMap, FileResolver resolver, Map<String, Long> offsets)
+			throws IOException {
 		this(
-				getOutputStream(controlMap, resolver, ControlKey.VRI_OUTPUT_VDYP_POLYGON.name()),
-				getOutputStream(controlMap, resolver, ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name()),
-				getOutputStream(controlMap, resolver, ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name()),
-				controlMap
+				getOutputStream(controlMap, resolver, ControlKey.VRI_OUTPUT_VDYP_POLYGON.name(), offsets),
+				getOutputStream(controlMap, resolver, ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name(), offsets),
+				getOutputStream(controlMap, resolver, ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), offsets),
+				controlMap, offsets
 		);
 	}
 
-	static OutputStream getOutputStream(Map<String, Object> controlMap, FileResolver resolver, String key)
-			throws IOException {
+	static OutputStream getOutputStream(
+			Map<String, Object> controlMap, FileResolver resolver, String key, Map<String, Long> offsets
+	) throws IOException {
 		String fileName = Utils.expectParsedControl(controlMap, key, String.class);
-		return resolver.resolveForOutput(fileName);
+		long offset = offsets.getOrDefault(key, 0L);
+		if (offset == 0) {
+			return resolver.resolveForOutput(fileName);
+		}
+		return resolver.resolveForOutput(fileName, offset);
+	}
+
+	/**
+	 * Counts the bytes written to a stream, starting from the bytes kept when it was opened
+	 */
+	private static class CountingOutputStream extends FilterOutputStream {
+		private long count;
+
+		CountingOutputStream(OutputStream out, long count) {
+			super(out);
+			this.count = count;
+		}
+
+		@Override
+		public void write(int b) throws IOException {
+			out.write(b);
+			count++;
+		}
+
+		@Override
+		public void write(byte[] b, int off, int len) throws IOException {
+			out.write(b, off, len);
+			count += len;
+		}
 	}
 
 	// V7W_AIP
@@ -244,6 +299,7 @@ public class VriAdjustInputWriter implements Closeable {
 	 * @throws IOException
 	 */
 	// VDYP_OUT when JPROGRAM = 1 (FIPSTART) or 3 (VRISTART)
+	@Override
 	public void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon) throws IOException {
 
 		writePolygon(polygon);
@@ -277,6 +333,22 @@ public class VriAdjustInputWriter implements Closeable {
 		os.write(String.format(format, params).getBytes());
 	}
 
+	@Override
+	public Map<String, Long> getOffsets() {
+		Map<String, Long> result = new LinkedHashMap<>();
+		result.put(ControlKey.VRI_OUTPUT_VDYP_POLYGON.name(), polygonFile.count);
+		result.put(ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name(), speciesFile.count);
+		result.put(ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), utilizationFile.count);
+		return result;
+	}
+
+	@Override
+	public void flush() throws IOException {
+		polygonFile.flush();
+		speciesFile.flush();
+		utilizationFile.flush();
+	}
+
 	@Override
 	public void close() throws IOException {
 		polygonFile.close();
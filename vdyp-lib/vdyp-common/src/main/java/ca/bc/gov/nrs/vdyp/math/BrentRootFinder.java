@@ -0,0 +1,192 @@
+package ca.bc.gov.nrs.vdyp.math;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.exception.NoBracketingException;
+import org.apache.commons.math3.exception.TooManyEvaluationsException;
+
+/**
+ * Brent's method for a root of a function of one variable, as implemented by the commons-math {@code BrentSolver} with
+ * its default accuracies, but starting from a bracket where the function values at the ends are already known so they
+ * don't need to be evaluated again.
+ * <p>
+ * As with the commons-math solver the function is last evaluated either at the root returned or at the last point tried
+ * by Brent's method, which is within the accuracy of the root.
+ */
+public class BrentRootFinder {
+
+	public static final double DEFAULT_ABSOLUTE_ACCURACY = 1e-6;
+	public static final double DEFAULT_RELATIVE_ACCURACY = 1e-14;
+	public static final double DEFAULT_FUNCTION_VALUE_ACCURACY = 1e-15;
+
+	private final double absoluteAccuracy;
+	private final double relativeAccuracy;
+	private final double functionValueAccuracy;
+
+	private int maxEvaluations;
+	private int evaluations;
+
+	public BrentRootFinder() {
+		this(DEFAULT_ABSOLUTE_ACCURACY, DEFAULT_RELATIVE_ACCURACY, DEFAULT_FUNCTION_VALUE_ACCURACY);
+	}
+
+	public BrentRootFinder(double absoluteAccuracy, double relativeAccuracy, double functionValueAccuracy) {
+		this.absoluteAccuracy = absoluteAccuracy;
+		this.relativeAccuracy = relativeAccuracy;
+		this.functionValueAccuracy = functionValueAccuracy;
+	}
+
+	/**
+	 * @return the number of function evaluations made by the last solve
+	 */
+	public int getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * Find a root within a bracket.
+	 *
+	 * @param maxEval  maximum number of function evaluations
+	 * @param function the function
+	 * @param min      lower end of the bracket
+	 * @param max      upper end of the bracket
+	 * @param fMin     value of the function at {@code min}
+	 * @param fMax     value of the function at {@code max}
+	 * @param initial  initial guess, which is replaced by the secant of the bracket if it is not strictly inside it
+	 * @return the root
+	 * @throws NoBracketingException       if the function values at the ends of the bracket have the same sign
+	 * @throws TooManyEvaluationsException if the root isn't found within {@code maxEval} evaluations
+	 */
+	public double solve(
+			int maxEval, UnivariateFunction function, double min, double max, double fMin, double fMax, double initial
+	) {
+		this.maxEvaluations = maxEval;
+		this.evaluations = 0;
+
+		// An end of the bracket that is good enough is evaluated again so that it's the last point evaluated
+		if (Math.abs(fMin) <= functionValueAccuracy) {
+			evaluate(function, min);
+			return min;
+		}
+		if (Math.abs(fMax) <= functionValueAccuracy) {
+			evaluate(function, max);
+			return max;
+		}
+		if (fMin * fMax > 0) {
+			throw new NoBracketingException(min, max, fMin, fMax);
+		}
+
+		if (! (initial > min && initial < max)) {
+			initial = secant(min, max, fMin, fMax);
+		}
+
+		double yInitial = evaluate(function, initial);
+		if (Math.abs(yInitial) <= functionValueAccuracy) {
+			return initial;
+		}
+
+		if (yInitial * fMin < 0) {
+			return brent(function, min, initial, fMin, yInitial);
+		}
+		return brent(function, initial, max, yInitial, fMax);
+	}
+
+	/**
+	 * The point where the straight line between the ends of a bracket crosses 0, or the middle of the bracket if that
+	 * isn't strictly inside it.
+	 */
+	public static double secant(double min, double max, double fMin, double fMax) {
+		double x = min - fMin * (max - min) / (fMax - fMin);
+		if (x > min && x < max) {
+			return x;
+		}
+		return (min + max) / 2;
+	}
+
+	private double evaluate(UnivariateFunction function, double x) {
+		if (++evaluations > maxEvaluations) {
+			throw new TooManyEvaluationsException(maxEvaluations);
+		}
+		return function.value(x);
+	}
+
+	private double brent(UnivariateFunction function, double lo, double hi, double fLo, double fHi) {
+		double a = lo;
+		double fa = fLo;
+		double b = hi;
+		double fb = fHi;
+		double c = a;
+		double fc = fa;
+		double d = b - a;
+		double e = d;
+
+		while (true) {
+			if (Math.abs(fc) < Math.abs(fb)) {
+				a = b;
+				b = c;
+				c = a;
+				fa = fb;
+				fb = fc;
+				fc = fa;
+			}
+
+			final double tol = 2 * relativeAccuracy * Math.abs(b) + absoluteAccuracy;
+			final double m = 0.5 * (c - b);
+
+			if (Math.abs(m) <= tol || fb == 0) {
+				return b;
+			}
+			if (Math.abs(e) < tol || Math.abs(fa) <= Math.abs(fb)) {
+				// Force bisection
+				d = m;
+				e = d;
+			} else {
+				double s = fb / fa;
+				double p;
+				double q;
+				// The equality test (a == c) is part of Brent's method and should not be replaced by a proximity test
+				if (a == c) {
+					// Linear interpolation
+					p = 2 * m * s;
+					q = 1 - s;
+				} else {
+					// Inverse quadratic interpolation
+					q = fa / fc;
+					final double r = fb / fc;
+					p = s * (2 * m * q * (q - r) - (b - a) * (r - 1));
+					q = (q - 1) * (r - 1) * (s - 1);
+				}
+				if (p > 0) {
+					q = -q;
+				} else {
+					p = -p;
+				}
+				s = e;
+				e = d;
+				if (p >= 1.5 * m * q - Math.abs(tol * q) || p >= Math.abs(0.5 * s * q)) {
+					// Interpolation gives a value in the wrong direction or progress is slow, so bisect
+					d = m;
+					e = d;
+				} else {
+					d = p / q;
+				}
+			}
+			a = b;
+			fa = fb;
+
+			if (Math.abs(d) > tol) {
+				b += d;
+			} else if (m > 0) {
+				b += tol;
+			} else {
+				b -= tol;
+			}
+			fb = evaluate(function, b);
+			if ( (fb > 0 && fc > 0) || (fb <= 0 && fc <= 0)) {
+				c = a;
+				fc = fa;
+				d = b - a;
+				e = d;
+			}
+		}
+	}
+}
@@ -0,0 +1,759 @@
+package ca.bc.gov.nrs.vdyp.math;
+
+import java.text.MessageFormat;
+import java.util.Arrays;
+
+/**
+ * Levenberg-Marquardt solver for small square systems of equations {@code f(x) = goal}.
+ * <p>
+ * This follows the MINPACK algorithm in the same way as the commons-math {@code LevenbergMarquardtOptimizer} with its
+ * default settings, and reaches the same points when given the same function, Jacobian, goal, start point and uniform
+ * weight. Unlike the general purpose optimizer it works directly on primitive arrays, and all the work space for a
+ * particular number of unknowns is allocated once when the solver is created so that repeated solves allocate nothing.
+ * <p>
+ * The Jacobian is only evaluated at points that are accepted as steps, rather than at every trial point, so each
+ * rejected step saves a Jacobian evaluation. As a consequence the function is not necessarily last evaluated at the
+ * root, which matters if it has side effects.
+ * <p>
+ * A solver is not thread safe, each thread should have its own.
+ */
+public class LevenbergMarquardtSolver {
+
+	/**
+	 * Evaluates a system of equations
+	 */
+	@FunctionalInterface
+	public interface VectorFunction {
+		/**
+		 * @param point  the point to evaluate the function at, which must not be modified
+		 * @param result array to store the value of the function in
+		 */
+		void value(double[] point, double[] result);
+	}
+
+	/**
+	 * Evaluates the Jacobian of a system of equations
+	 */
+	@FunctionalInterface
+	public interface JacobianFunction {
+		/**
+		 * @param point  the point to evaluate the Jacobian at, which must not be modified
+		 * @param value  the value of the function at the point
+		 * @param result array to store the Jacobian in, indexed by equation then by unknown
+		 */
+		void jacobian(double[] point, double[] value, double[][] result);
+	}
+
+	/** Relative step used for forward difference Jacobians, the square root of single precision machine epsilon */
+	public static final double FORWARD_DIFFERENCE_STEP = Math.sqrt(Math.max(1.19e-07, 2.22e-16));
+
+	public static final double DEFAULT_COST_RELATIVE_TOLERANCE = 1e-10;
+	public static final int DEFAULT_MAX_EVALUATIONS = 200;
+	public static final int DEFAULT_MAX_ITERATIONS = 1000;
+
+	static final double INITIAL_STEP_BOUND_FACTOR = 100;
+	static final double PARAMETERS_RELATIVE_TOLERANCE = 1e-10;
+	static final double ORTHOGONALITY_TOLERANCE = 1e-10;
+	static final double QR_RANKING_THRESHOLD = 0x1.0p-1022;
+	static final double SAFE_MIN = 0x1.0p-1022;
+	static final double TWO_EPS = 2 * 0x1.0p-53;
+
+	private final int n;
+
+	private double costRelativeTolerance = DEFAULT_COST_RELATIVE_TOLERANCE;
+	private double weight = 1;
+	private int maxEvaluations = DEFAULT_MAX_EVALUATIONS;
+	private int maxIterations = DEFAULT_MAX_ITERATIONS;
+
+	private int evaluations;
+	private int iterations;
+
+	// Function and Jacobian
+	private final double[] value;
+	private final double[][] jacobian;
+	private final double[] differencePoint;
+	private final double[] differenceValue;
+	private VectorFunction differenced;
+	private final JacobianFunction forwardDifference = (x, y, result) -> forwardDifference(differenced, x, y, result);
+
+	// Weighted residuals at the current point and the previous one
+	private double[] residuals;
+	private double[] oldResiduals;
+
+	// QR decomposition of the negated weighted Jacobian
+	private final double[][] r;
+	private final int[] permutation;
+	private final double[] diagR;
+	private final double[] jacNorm;
+	private final double[] beta;
+	private int rank;
+
+	private final double[] lmDir;
+	private final double[] diag;
+	private final double[] oldX;
+	private final double[] qtf;
+	private final double[] work1;
+	private final double[] work2;
+	private final double[] work3;
+
+	/**
+	 * @param n the number of unknowns, which is also the number of equations
+	 */
+	public LevenbergMarquardtSolver(int n) {
+		if (n < 1) {
+			throw new IllegalArgumentException(MessageFormat.format("Number of unknowns {0} must be positive", n));
+		}
+		this.n = n;
+
+		value = new double[n];
+		jacobian = new double[n][n];
+		differencePoint = new double[n];
+		differenceValue = new double[n];
+
+		residuals = new double[n];
+		oldResiduals = new double[n];
+
+		r = new double[n][n];
+		permutation = new int[n];
+		diagR = new double[n];
+		jacNorm = new double[n];
+		beta = new double[n];
+
+		lmDir = new double[n];
+		diag = new double[n];
+		oldX = new double[n];
+		qtf = new double[n];
+		work1 = new double[n];
+		work2 = new double[n];
+		work3 = new double[n];
+	}
+
+	public int getDimension() {
+		return n;
+	}
+
+	/**
+	 * Stop when both the actual and predicted relative reductions in the cost are at most this.
+	 */
+	public void setCostRelativeTolerance(double costRelativeTolerance) {
+		this.costRelativeTolerance = costRelativeTolerance;
+	}
+
+	/**
+	 * Weight applied to every equation, equivalent to a diagonal weight matrix with this on the diagonal.
+	 */
+	public void setWeight(double weight) {
+		if (! (weight > 0)) {
+			throw new IllegalArgumentException(MessageFormat.format("Weight {0} must be positive", weight));
+		}
+		this.weight = weight;
+	}
+
+	public void setMaxEvaluations(int maxEvaluations) {
+		this.maxEvaluations = maxEvaluations;
+	}
+
+	public void setMaxIterations(int maxIterations) {
+		this.maxIterations = maxIterations;
+	}
+
+	/**
+	 * @return the number of function evaluations made by the last solve
+	 */
+	public int getEvaluations() {
+		return evaluations;
+	}
+
+	/**
+	 * @return the number of iterations made by the last solve
+	 */
+	public int getIterations() {
+		return iterations;
+	}
+
+	/**
+	 * Solve using a forward difference estimate of the Jacobian.
+	 *
+	 * @param function the system of equations
+	 * @param goal     the value the function should have at the root
+	 * @param point    the point to start from, which is replaced by the root
+	 * @throws IllegalStateException if the maximum number of evaluations or iterations is exceeded, or the tolerances
+	 *                               can not be met
+	 */
+	public void solve(VectorFunction function, double[] goal, double[] point) {
+		differenced = function;
+		try {
+			solve(function, forwardDifference, goal, point);
+		} finally {
+			differenced = null;
+		}
+	}
+
+	/**
+	 * Solve using the given Jacobian.
+	 *
+	 * @param function         the system of equations
+	 * @param jacobianFunction the Jacobian of the system of equations
+	 * @param goal             the value the function should have at the root
+	 * @param point            the point to start from, which is replaced by the root
+	 * @throws IllegalStateException if the maximum number of evaluations or iterations is exceeded, or the tolerances
+	 *                               can not be met
+	 */
+	public void solve(VectorFunction function, JacobianFunction jacobianFunction, double[] goal, double[] point) {
+		if (goal.length != n || point.length != n) {
+			throw new IllegalArgumentException(
+					MessageFormat.format(
+							"Expected goal and point of dimension {0} but were {1} and {2}", n, goal.length,
+							point.length
+					)
+			);
+		}
+
+		evaluations = 0;
+		iterations = 0;
+
+		final double weightSqrt = Math.sqrt(weight);
+
+		double lmPar = 0;
+		double delta = 0;
+		double xNorm = 0;
+
+		double currentCost = evaluate(function, goal, point, weightSqrt);
+
+		boolean firstIteration = true;
+		while (true) {
+			if (++iterations > maxIterations) {
+				throw new IllegalStateException(
+						MessageFormat.format("Maximal count ({0}) exceeded: iterations", maxIterations)
+				);
+			}
+
+			// The Jacobian of the accepted point, negated and weighted
+			jacobianFunction.jacobian(point, value, jacobian);
+			for (int i = 0; i < n; i++) {
+				for (int j = 0; j < n; j++) {
+					r[i][j] = - (weightSqrt * jacobian[i][j]);
+				}
+			}
+
+			qrDecomposition();
+
+			System.arraycopy(residuals, 0, qtf, 0, n);
+			qTy(qtf);
+
+			// Q is no longer needed so put the diagonal of R in place
+			for (int k = 0; k < n; ++k) {
+				int pk = permutation[k];
+				r[k][pk] = diagR[pk];
+			}
+
+			if (firstIteration) {
+				// Scale the point according to the norms of the columns of the initial Jacobian
+				xNorm = 0;
+				for (int k = 0; k < n; ++k) {
+					double dk = jacNorm[k];
+					if (dk == 0) {
+						dk = 1.0;
+					}
+					double xk = dk * point[k];
+					xNorm += xk * xk;
+					diag[k] = dk;
+				}
+				xNorm = Math.sqrt(xNorm);
+
+				delta = (xNorm == 0) ? INITIAL_STEP_BOUND_FACTOR : (INITIAL_STEP_BOUND_FACTOR * xNorm);
+			}
+
+			// Check orthogonality between the residuals and the Jacobian columns
+			double maxCosine = 0;
+			if (currentCost != 0) {
+				for (int j = 0; j < n; ++j) {
+					int pj = permutation[j];
+					double s = jacNorm[pj];
+					if (s != 0) {
+						double sum = 0;
+						for (int i = 0; i <= j; ++i) {
+							sum += r[i][pj] * qtf[i];
+						}
+						maxCosine = Math.max(maxCosine, Math.abs(sum) / (s * currentCost));
+					}
+				}
+			}
+			if (maxCosine <= ORTHOGONALITY_TOLERANCE) {
+				return;
+			}
+
+			for (int j = 0; j < n; ++j) {
+				diag[j] = Math.max(diag[j], jacNorm[j]);
+			}
+
+			for (double ratio = 0; ratio < 1.0e-4;) {
+
+				for (int j = 0; j < n; ++j) {
+					int pj = permutation[j];
+					oldX[pj] = point[pj];
+				}
+				final double previousCost = currentCost;
+				double[] tmpVec = residuals;
+				residuals = oldResiduals;
+				oldResiduals = tmpVec;
+
+				lmPar = determineLMParameter(delta, lmPar);
+
+				// Compute the new point and the norm of the step
+				double lmNorm = 0;
+				for (int j = 0; j < n; ++j) {
+					int pj = permutation[j];
+					lmDir[pj] = -lmDir[pj];
+					point[pj] = oldX[pj] + lmDir[pj];
+					double s = diag[pj] * lmDir[pj];
+					lmNorm += s * s;
+				}
+				lmNorm = Math.sqrt(lmNorm);
+				if (firstIteration) {
+					delta = Math.min(delta, lmNorm);
+				}
+
+				currentCost = evaluate(function, goal, point, weightSqrt);
+
+				// Scaled actual reduction
+				double actRed = -1.0;
+				if (0.1 * currentCost < previousCost) {
+					double ratioCost = currentCost / previousCost;
+					actRed = 1.0 - ratioCost * ratioCost;
+				}
+
+				// Scaled predicted reduction and scaled directional derivative
+				for (int j = 0; j < n; ++j) {
+					int pj = permutation[j];
+					double dirJ = lmDir[pj];
+					work1[j] = 0;
+					for (int i = 0; i <= j; ++i) {
+						work1[i] += r[i][pj] * dirJ;
+					}
+				}
+				double coeff1 = 0;
+				for (int j = 0; j < n; ++j) {
+					coeff1 += work1[j] * work1[j];
+				}
+				double pc2 = previousCost * previousCost;
+				coeff1 /= pc2;
+				double coeff2 = lmPar * lmNorm * lmNorm / pc2;
+				double preRed = coeff1 + 2 * coeff2;
+				double dirDer = - (coeff1 + coeff2);
+
+				ratio = (preRed == 0) ? 0 : (actRed / preRed);
+
+				// Update the step bound
+				if (ratio <= 0.25) {
+					double tmp = (actRed < 0) ? (0.5 * dirDer / (dirDer + 0.5 * actRed)) : 0.5;
+					if ( (0.1 * currentCost >= previousCost) || (tmp < 0.1)) {
+						tmp = 0.1;
+					}
+					delta = tmp * Math.min(delta, 10.0 * lmNorm);
+					lmPar /= tmp;
+				} else if ( (lmPar == 0) || (ratio >= 0.75)) {
+					delta = 2 * lmNorm;
+					lmPar *= 0.5;
+				}
+
+				if (ratio >= 1.0e-4) {
+					// Successful iteration
+					firstIteration = false;
+					xNorm = 0;
+					for (int k = 0; k < n; ++k) {
+						double xK = diag[k] * point[k];
+						xNorm += xK * xK;
+					}
+					xNorm = Math.sqrt(xNorm);
+				} else {
+					// Failed iteration, go back to the previous point
+					currentCost = previousCost;
+					for (int j = 0; j < n; ++j) {
+						int pj = permutation[j];
+						point[pj] = oldX[pj];
+					}
+					tmpVec = residuals;
+					residuals = oldResiduals;
+					oldResiduals = tmpVec;
+				}
+
+				if ( (Math.abs(actRed) <= costRelativeTolerance && preRed <= costRelativeTolerance && ratio <= 2.0)
+						|| delta <= PARAMETERS_RELATIVE_TOLERANCE * xNorm) {
+					return;
+				}
+
+				if (Math.abs(actRed) <= TWO_EPS && preRed <= TWO_EPS && ratio <= 2.0) {
+					throw new IllegalStateException(
+							MessageFormat.format(
+									"Cost relative tolerance is too small ({0}), no further reduction in the sum of squares is possible",
+									costRelativeTolerance
+							)
+					);
+				} else if (delta <= TWO_EPS * xNorm) {
+					throw new IllegalStateException(
+							MessageFormat.format(
+									"Parameters relative tolerance is too small ({0}), no further improvement in the approximate solution is possible",
+									PARAMETERS_RELATIVE_TOLERANCE
+							)
+					);
+				} else if (maxCosine <= TWO_EPS) {
+					throw new IllegalStateException(
+							MessageFormat.format(
+									"Orthogonality tolerance is too small ({0}), solution is orthogonal to the jacobian",
+									ORTHOGONALITY_TOLERANCE
+							)
+					);
+				}
+			}
+		}
+	}
+
+	/**
+	 * Evaluate the function at a point, storing its value and weighted residuals.
+	 *
+	 * @return the cost, the norm of the weighted residuals
+	 */
+	private double evaluate(VectorFunction function, double[] goal, double[] point, double weightSqrt) {
+		if (++evaluations > maxEvaluations) {
+			throw new IllegalStateException(
+					MessageFormat.format("Maximal count ({0}) exceeded: evaluations", maxEvaluations)
+			);
+		}
+		function.value(point, value);
+		double sum = 0;
+		for (int i = 0; i < n; i++) {
+			double residual = weightSqrt * (goal[i] - value[i]);
+			residuals[i] = residual;
+			sum += residual * residual;
+		}
+		return Math.sqrt(sum);
+	}
+
+	private void forwardDifference(VectorFunction function, double[] x, double[] y, double[][] result) {
+		System.arraycopy(x, 0, differencePoint, 0, n);
+
+		for (int j = 0; j < n; j++) {
+			double temp = x[j];
+			double h = FORWARD_DIFFERENCE_STEP * Math.abs(temp);
+			if (h == 0) {
+				h = FORWARD_DIFFERENCE_STEP;
+			}
+			differencePoint[j] = temp + h;
+			function.value(differencePoint, differenceValue);
+			differencePoint[j] = temp;
+			for (int i = 0; i < n; i++) {
+				result[i][j] = (differenceValue[i] - y[i]) / h;
+			}
+		}
+	}
+
+	/**
+	 * Householder QR decomposition with column pivoting of {@link #r}, leaving R above the diagonal (with its diagonal
+	 * in {@link #diagR}) and the Householder vectors on and below it.
+	 */
+	private void qrDecomposition() {
+		for (int k = 0; k < n; ++k) {
+			permutation[k] = k;
+			double norm2 = 0;
+			for (int i = 0; i < n; ++i) {
+				double akk = r[i][k];
+				norm2 += akk * akk;
+			}
+			jacNorm[k] = Math.sqrt(norm2);
+		}
+		Arrays.fill(diagR, 0);
+		Arrays.fill(beta, 0);
+
+		rank = n;
+		for (int k = 0; k < n; ++k) {
+
+			// Select the column with the greatest norm on active components
+			int nextColumn = -1;
+			double ak2 = Double.NEGATIVE_INFINITY;
+			for (int i = k; i < n; ++i) {
+				double norm2 = 0;
+				for (int j = k; j < n; ++j) {
+					double aki = r[j][permutation[i]];
+					norm2 += aki * aki;
+				}
+				if (Double.isInfinite(norm2) || Double.isNaN(norm2)) {
+					throw new IllegalStateException(
+							MessageFormat.format("Unable to perform QR decomposition on {0}x{0} jacobian matrix", n)
+					);
+				}
+				if (norm2 > ak2) {
+					nextColumn = i;
+					ak2 = norm2;
+				}
+			}
+			if (ak2 <= QR_RANKING_THRESHOLD) {
+				rank = k;
+				return;
+			}
+			int pk = permutation[nextColumn];
+			permutation[nextColumn] = permutation[k];
+			permutation[k] = pk;
+
+			// Choose alpha such that Hk.u = alpha ek
+			double akk = r[k][pk];
+			double alpha = (akk > 0) ? -Math.sqrt(ak2) : Math.sqrt(ak2);
+			double betak = 1.0 / (ak2 - akk * alpha);
+			beta[pk] = betak;
+
+			diagR[pk] = alpha;
+			r[k][pk] -= alpha;
+
+			for (int dk = n - 1 - k; dk > 0; --dk) {
+				double gamma = 0;
+				for (int j = k; j < n; ++j) {
+					gamma += r[j][pk] * r[j][permutation[k + dk]];
+				}
+				gamma *= betak;
+				for (int j = k; j < n; ++j) {
+					r[j][permutation[k + dk]] -= gamma * r[j][pk];
+				}
+			}
+		}
+	}
+
+	/**
+	 * Replace y with Q<sup>T</sup>y
+	 */
+	private void qTy(double[] y) {
+		for (int k = 0; k < n; ++k) {
+			int pk = permutation[k];
+			double gamma = 0;
+			for (int i = k; i < n; ++i) {
+				gamma += r[i][pk] * y[i];
+			}
+			gamma *= beta[pk];
+			for (int i = k; i < n; ++i) {
+				y[i] -= gamma * r[i][pk];
+			}
+		}
+	}
+
+	/**
+	 * Determine the Levenberg-Marquardt parameter for the step bound delta, leaving the step in {@link #lmDir}.
+	 */
+	private double determineLMParameter(double delta, double lmPar) {
+		// Gauss-Newton direction, or a least squares solution if the Jacobian is rank deficient
+		for (int j = 0; j < rank; ++j) {
+			lmDir[permutation[j]] = qtf[j];
+		}
+		for (int j = rank; j < n; ++j) {
+			lmDir[permutation[j]] = 0;
+		}
+		for (int k = rank - 1; k >= 0; --k) {
+			int pk = permutation[k];
+			double ypk = lmDir[pk] / diagR[pk];
+			for (int i = 0; i < k; ++i) {
+				lmDir[permutation[i]] -= ypk * r[i][pk];
+			}
+			lmDir[pk] = ypk;
+		}
+
+		// Accept the Gauss-Newton direction if it is within the step bound
+		double dxNorm = 0;
+		for (int j = 0; j < n; ++j) {
+			int pj = permutation[j];
+			double s = diag[pj] * lmDir[pj];
+			work1[pj] = s;
+			dxNorm += s * s;
+		}
+		dxNorm = Math.sqrt(dxNorm);
+		double fp = dxNorm - delta;
+		if (fp <= 0.1 * delta) {
+			return 0;
+		}
+
+		// Lower bound from the Newton step if the Jacobian has full rank
+		double sum2;
+		double parl = 0;
+		if (rank == n) {
+			for (int j = 0; j < n; ++j) {
+				int pj = permutation[j];
+				work1[pj] *= diag[pj] / dxNorm;
+			}
+			sum2 = 0;
+			for (int j = 0; j < n; ++j) {
+				int pj = permutation[j];
+				double sum = 0;
+				for (int i = 0; i < j; ++i) {
+					sum += r[i][pj] * work1[permutation[i]];
+				}
+				double s = (work1[pj] - sum) / diagR[pj];
+				work1[pj] = s;
+				sum2 += s * s;
+			}
+			parl = fp / (delta * sum2);
+		}
+
+		// Upper bound
+		sum2 = 0;
+		for (int j = 0; j < n; ++j) {
+			int pj = permutation[j];
+			double sum = 0;
+			for (int i = 0; i <= j; ++i) {
+				sum += r[i][pj] * qtf[i];
+			}
+			sum /= diag[pj];
+			sum2 += sum * sum;
+		}
+		double gNorm = Math.sqrt(sum2);
+		double paru = gNorm / delta;
+		if (paru == 0) {
+			paru = SAFE_MIN / Math.min(delta, 0.1);
+		}
+
+		lmPar = Math.min(paru, Math.max(lmPar, parl));
+		if (lmPar == 0) {
+			lmPar = gNorm / dxNorm;
+		}
+
+		for (int countdown = 10; countdown >= 0; --countdown) {
+
+			if (lmPar == 0) {
+				lmPar = Math.max(SAFE_MIN, 0.001 * paru);
+			}
+			double sPar = Math.sqrt(lmPar);
+			for (int j = 0; j < n; ++j) {
+				int pj = permutation[j];
+				work1[pj] = sPar * diag[pj];
+			}
+			determineLMDirection(work1, work2, work3);
+
+			dxNorm = 0;
+			for (int j = 0; j < n; ++j) {
+				int pj = permutation[j];
+				double s = diag[pj] * lmDir[pj];
+				work3[pj] = s;
+				dxNorm += s * s;
+			}
+			dxNorm = Math.sqrt(dxNorm);
+			double previousFP = fp;
+			fp = dxNorm - delta;
+
+			if (Math.abs(fp) <= 0.1 * delta || (parl == 0 && fp <= previousFP && previousFP < 0)) {
+				return lmPar;
+			}
+
+			// Newton correction
+			for (int j = 0; j < n; ++j) {
+				int pj = permutation[j];
+				work1[pj] = work3[pj] * diag[pj] / dxNorm;
+			}
+			for (int j = 0; j < n; ++j) {
+				int pj = permutation[j];
+				work1[pj] /= work2[j];
+				double tmp = work1[pj];
+				for (int i = j + 1; i < n; ++i) {
+					work1[permutation[i]] -= r[i][pj] * tmp;
+				}
+			}
+			sum2 = 0;
+			for (int j = 0; j < n; ++j) {
+				double s = work1[permutation[j]];
+				sum2 += s * s;
+			}
+			double correction = fp / (delta * sum2);
+
+			if (fp > 0) {
+				parl = Math.max(parl, lmPar);
+			} else if (fp < 0) {
+				paru = Math.min(paru, lmPar);
+			}
+
+			lmPar = Math.max(parl, lmPar + correction);
+		}
+
+		return lmPar;
+	}
+
+	/**
+	 * Solve the system with R augmented by the diagonal matrix {@code scale} in the least squares sense, leaving the
+	 * step in {@link #lmDir}.
+	 */
+	private void determineLMDirection(double[] scale, double[] lmDiag, double[] work) {
+		// Copy R and Q^T y, saving the diagonal of R in lmDir
+		for (int j = 0; j < n; ++j) {
+			int pj = permutation[j];
+			for (int i = j + 1; i < n; ++i) {
+				r[i][pj] = r[j][permutation[i]];
+			}
+			lmDir[j] = diagR[pj];
+			work[j] = qtf[j];
+		}
+
+		// Eliminate the diagonal matrix using Givens rotations
+		for (int j = 0; j < n; ++j) {
+			int pj = permutation[j];
+			double dpj = scale[pj];
+			if (dpj != 0) {
+				Arrays.fill(lmDiag, j + 1, n, 0);
+			}
+			lmDiag[j] = dpj;
+
+			double qtbpj = 0;
+			for (int k = j; k < n; ++k) {
+				int pk = permutation[k];
+
+				if (lmDiag[k] != 0) {
+
+					final double sin;
+					final double cos;
+					double rkk = r[k][pk];
+					if (Math.abs(rkk) < Math.abs(lmDiag[k])) {
+						final double cotan = rkk / lmDiag[k];
+						sin = 1.0 / Math.sqrt(1.0 + cotan * cotan);
+						cos = sin * cotan;
+					} else {
+						final double tan = lmDiag[k] / rkk;
+						cos = 1.0 / Math.sqrt(1.0 + tan * tan);
+						sin = cos * tan;
+					}
+
+					r[k][pk] = cos * rkk + sin * lmDiag[k];
+					final double temp = cos * work[k] + sin * qtbpj;
+					qtbpj = -sin * work[k] + cos * qtbpj;
+					work[k] = temp;
+
+					for (int i = k + 1; i < n; ++i) {
+						double rik = r[i][pk];
+						final double temp2 = cos * rik + sin * lmDiag[i];
+						lmDiag[i] = -sin * rik + cos * lmDiag[i];
+						r[i][pk] = temp2;
+					}
+				}
+			}
+
+			// Store the diagonal element of S and restore the diagonal element of R
+			lmDiag[j] = r[j][permutation[j]];
+			r[j][permutation[j]] = lmDir[j];
+		}
+
+		// Solve the triangular system, or find a least squares solution if it is singular
+		int nSing = n;
+		for (int j = 0; j < n; ++j) {
+			if ( (lmDiag[j] == 0) && (nSing == n)) {
+				nSing = j;
+			}
+			if (nSing < n) {
+				work[j] = 0;
+			}
+		}
+		for (int j = nSing - 1; j >= 0; --j) {
+			int pj = permutation[j];
+			double sum = 0;
+			for (int i = j + 1; i < nSing; ++i) {
+				sum += r[i][pj] * work[i];
+			}
+			work[j] = (work[j] - sum) / lmDiag[j];
+		}
+
+		for (int j = 0; j < n; ++j) {
+			lmDir[permutation[j]] = work[j];
+		}
+	}
+}
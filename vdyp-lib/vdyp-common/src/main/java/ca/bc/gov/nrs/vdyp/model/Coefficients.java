@@ -1,6 +1,7 @@
 package ca.bc.gov.nrs.vdyp.model;
 
 import java.util.AbstractList;
+import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.stream.DoubleStream;
@@ -92,6 +93,13 @@ public class Coefficients extends AbstractList<Float> implements List<Float> {
 		return indexFrom;
 	}
 
+	/**
+	 * Set all coefficients to the given value
+	 */
+	public void fill(float value) {
+		Arrays.fill(coe, value);
+	}
+
 	private int getRealIndex(int i) {
 		var max = coe.length + indexFrom - 1;
 		if (i < indexFrom || i > max) {
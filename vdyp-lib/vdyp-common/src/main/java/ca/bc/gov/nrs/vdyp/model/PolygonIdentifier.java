@@ -3,7 +3,7 @@ package ca.bc.gov.nrs.vdyp.model;
 import java.util.Objects;
 import java.util.function.IntUnaryOperator;
 
-public class PolygonIdentifier {
+public class PolygonIdentifier implements Comparable<PolygonIdentifier> {
 
 	private final String base;
 	private final int year;
@@ -66,6 +66,22 @@ public class PolygonIdentifier {
 		return Objects.equals(base, other.base) && year == other.year;
 	}
 
+	/**
+	 * Orders identifiers the same way as their text in {@link #FORMAT}, which is how files sorted by polygon identifier
+	 * are ordered: by base padded with spaces, then by year.
+	 */
+	@Override
+	public int compareTo(PolygonIdentifier other) {
+		for (int i = 0; i < BASE_LENGTH; i++) {
+			char c1 = i < base.length() ? base.charAt(i) : ' ';
+			char c2 = i < other.base.length() ? other.base.charAt(i) : ' ';
+			if (c1 != c2) {
+				return Character.compare(c1, c2);
+			}
+		}
+		return Integer.compare(year, other.year);
+	}
+
 	public PolygonIdentifier forYear(int year) {
 		return new PolygonIdentifier(getBase(), year);
 	}
@@ -0,0 +1,102 @@
+package ca.bc.gov.nrs.vdyp.model;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.function.BiConsumer;
+import java.util.function.Function;
+
+/**
+ * The utilization vector properties of {@link VdypUtilizationHolder}, with direct accessors so that they can be
+ * iterated over without reflection.
+ * <p>
+ * The constants are in the same order as the bean properties, which is the order in which they were previously
+ * processed.
+ */
+public enum UtilizationVectorAccessor {
+	BASE_AREA(
+			VdypUtilizationHolder::getBaseAreaByUtilization, VdypUtilizationHolder::setBaseAreaByUtilization, true,
+			false
+	), //
+	CLOSE_UTILIZATION_VOLUME(
+			VdypUtilizationHolder::getCloseUtilizationVolumeByUtilization,
+			VdypUtilizationHolder::setCloseUtilizationVolumeByUtilization, true, true
+	), //
+	CLOSE_UTILIZATION_VOLUME_NET_OF_DECAY_AND_WASTE(
+			VdypUtilizationHolder::getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization,
+			VdypUtilizationHolder::setCloseUtilizationVolumeNetOfDecayAndWasteByUtilization, true, true
+	), //
+	CLOSE_UTILIZATION_VOLUME_NET_OF_DECAY(
+			VdypUtilizationHolder::getCloseUtilizationVolumeNetOfDecayByUtilization,
+			VdypUtilizationHolder::setCloseUtilizationVolumeNetOfDecayByUtilization, true, true
+	), //
+	CLOSE_UTILIZATION_VOLUME_NET_OF_DECAY_WASTE_AND_BREAKAGE(
+			VdypUtilizationHolder::getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization,
+			VdypUtilizationHolder::setCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization, true, true
+	), //
+	LOREY_HEIGHT(
+			VdypUtilizationHolder::getLoreyHeightByUtilization, VdypUtilizationHolder::setLoreyHeightByUtilization,
+			false, false
+	), //
+	QUADRATIC_MEAN_DIAMETER(
+			VdypUtilizationHolder::getQuadraticMeanDiameterByUtilization,
+			VdypUtilizationHolder::setQuadraticMeanDiameterByUtilization, false, false
+	), //
+	TREES_PER_HECTARE(
+			VdypUtilizationHolder::getTreesPerHectareByUtilization,
+			VdypUtilizationHolder::setTreesPerHectareByUtilization, true, false
+	), //
+	WHOLE_STEM_VOLUME(
+			VdypUtilizationHolder::getWholeStemVolumeByUtilization,
+			VdypUtilizationHolder::setWholeStemVolumeByUtilization, true, true
+	);
+
+	private final Function<VdypUtilizationHolder, UtilizationVector> getter;
+	private final BiConsumer<VdypUtilizationHolder, UtilizationVector> setter;
+
+	/**
+	 * The value for a layer is the sum of the values for its species
+	 */
+	public final boolean summable;
+
+	/**
+	 * The property is one of the volumes
+	 */
+	public final boolean volume;
+
+	private UtilizationVectorAccessor(
+			Function<VdypUtilizationHolder, UtilizationVector> getter,
+			BiConsumer<VdypUtilizationHolder, UtilizationVector> setter, boolean summable, boolean volume
+	) {
+		this.getter = getter;
+		this.setter = setter;
+		this.summable = summable;
+		this.volume = volume;
+	}
+
+	/**
+	 * All utilization vectors except for Lorey Height
+	 */
+	public static final Collection<UtilizationVectorAccessor> ALL_BUT_LOREY_HEIGHT = Arrays.stream(values())
+			.filter(x -> x != LOREY_HEIGHT).toList();
+
+	/**
+	 * All utilization vectors except for Lorey Height and Quadratic Mean Diameter. These are the properties where the
+	 * values for a layer are the sum of those for its species.
+	 */
+	public static final Collection<UtilizationVectorAccessor> SUMMABLE = Arrays.stream(values()).filter(x -> x.summable)
+			.toList();
+
+	/**
+	 * All utilization vectors except for Lorey Height and the volumes
+	 */
+	public static final Collection<UtilizationVectorAccessor> NON_VOLUME = Arrays.stream(values())
+			.filter(x -> x != LOREY_HEIGHT && !x.volume).toList();
+
+	public UtilizationVector get(VdypUtilizationHolder holder) {
+		return getter.apply(holder);
+	}
+
+	public void set(VdypUtilizationHolder holder, UtilizationVector value) {
+		setter.accept(holder, value);
+	}
+}
@@ -0,0 +1,229 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.application.Checkpointer.Checkpoint;
+import ca.bc.gov.nrs.vdyp.io.write.CapturingPolygonWriter;
+import ca.bc.gov.nrs.vdyp.io.write.ResumablePolygonWriter;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class CheckpointerTest {
+
+	@TempDir
+	Path dir;
+
+	static PolygonIdentifier id(int i) {
+		return new PolygonIdentifier("01002 S" + String.format("%06d", i) + " 00", 1970);
+	}
+
+	/**
+	 * Writer that counts the polygons written to a single output
+	 */
+	static class CountingWriter implements ResumablePolygonWriter {
+		long offset = 0;
+		int flushes = 0;
+
+		@Override
+		public void writePolygonWithSpeciesAndUtilization(VdypPolygon polygon) throws IOException {
+			offset += 10;
+		}
+
+		@Override
+		public Map<String, Long> getOffsets() {
+			return Map.of("OUTPUT", offset);
+		}
+
+		@Override
+		public void flush() throws IOException {
+			flushes++;
+		}
+
+		@Override
+		public void close() throws IOException {
+			// Nothing to close
+		}
+	}
+
+	@Test
+	void testDisabled() throws Exception {
+		var unit = new Checkpointer();
+
+		assertThat(unit.isEnabled(), is(false));
+		assertThat(unit.skip(id(1)), is(false));
+		unit.committed(id(1), new CountingWriter());
+		unit.finish();
+
+		assertThat(unit.getCommitted(), is(0));
+		assertThat(unit.getResumePoint(), is(Optional.empty()));
+		assertThat(unit.getOutputOffsets(), is(Map.of()));
+	}
+
+	@Test
+	void testSaveEveryInterval() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		var unit = new Checkpointer(file, 2, false);
+		var writer = new CountingWriter();
+
+		for (int i = 1; i <= 5; i++) {
+			assertThat(unit.skip(id(i)), is(false));
+			writer.offset += 10;
+			unit.committed(id(i), writer);
+		}
+
+		assertThat(unit.getCommitted(), is(5));
+		assertThat(writer.flushes, is(2));
+		assertThat(unit.getLastCheckpoint(), is(Optional.of(new Checkpoint(4, id(4), Map.of("OUTPUT", 40L)))));
+		assertThat(Checkpointer.read(file), is(new Checkpoint(4, id(4), Map.of("OUTPUT", 40L))));
+
+		unit.finish();
+		assertThat(Files.exists(file), is(false));
+	}
+
+	@Test
+	void testWithoutOutputFiles() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		var unit = new Checkpointer(file, 1, false);
+
+		unit.committed(id(1));
+
+		assertThat(Checkpointer.read(file), is(new Checkpoint(1, id(1), Map.of())));
+	}
+
+	@Test
+	void testWriterThatCannotResume() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		var unit = new Checkpointer(file, 1, false);
+		var writer = new CapturingPolygonWriter();
+
+		assertThrows(IllegalStateException.class, () -> unit.committed(id(1), writer));
+		assertThat(unit.getCommitted(), is(0));
+		assertThat(Files.exists(file), is(false));
+
+		// Nothing to check when checkpointing is off
+		Checkpointer.DISABLED.committed(id(1), writer);
+	}
+
+	@Test
+	void testResume() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		Map<String, Long> offsets = new LinkedHashMap<>();
+		offsets.put("POLYGONS", 123L);
+		offsets.put("SPECIES", 4567L);
+		try (var os = Files.newOutputStream(file)) {
+			Checkpointer.write(new Checkpoint(3, id(3), offsets), os);
+		}
+
+		var unit = new Checkpointer(file, 2, true);
+
+		assertThat(unit.getOutputOffsets(), is(offsets));
+		assertThat(unit.skip(id(1)), is(true));
+		assertThat(unit.skip(id(2)), is(true));
+		assertThat(unit.skip(id(3)), is(true));
+		assertThat(unit.getCommitted(), is(3));
+		assertThat(unit.skip(id(4)), is(false));
+
+		// Checkpoints continue from the resumed count
+		unit.committed(id(4), new CountingWriter());
+		assertThat(Checkpointer.read(file), is(new Checkpoint(4, id(4), Map.of("OUTPUT", 0L))));
+
+		unit.finish();
+		assertThat(Files.exists(file), is(false));
+	}
+
+	@Test
+	void testResumeWithoutCheckpoint() throws Exception {
+		var unit = new Checkpointer(dir.resolve("checkpoint.properties"), 2, true);
+
+		assertThat(unit.getResumePoint(), is(Optional.empty()));
+		assertThat(unit.skip(id(1)), is(false));
+	}
+
+	@Test
+	void testNotResuming() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		try (var os = Files.newOutputStream(file)) {
+			Checkpointer.write(new Checkpoint(3, id(3), Map.of()), os);
+		}
+
+		var unit = new Checkpointer(file, 2, false);
+
+		assertThat(unit.getResumePoint(), is(Optional.empty()));
+		assertThat(unit.skip(id(1)), is(false));
+	}
+
+	@Test
+	void testInputChanged() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		try (var os = Files.newOutputStream(file)) {
+			Checkpointer.write(new Checkpoint(2, id(2), Map.of()), os);
+		}
+
+		var unit = new Checkpointer(file, 2, true);
+
+		assertThat(unit.skip(id(1)), is(true));
+		assertThrows(ProcessingException.class, () -> unit.skip(id(3)));
+	}
+
+	@Test
+	void testInputEndsBeforeCheckpoint() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		try (var os = Files.newOutputStream(file)) {
+			Checkpointer.write(new Checkpoint(2, id(2), Map.of()), os);
+		}
+
+		var unit = new Checkpointer(file, 2, true);
+
+		assertThat(unit.skip(id(1)), is(true));
+		assertThrows(ProcessingException.class, unit::finish);
+	}
+
+	@Test
+	void testBadCheckpoint() throws Exception {
+		var file = dir.resolve("checkpoint.properties");
+		Files.writeString(file, "polygons=two\n");
+
+		var unit = new Checkpointer(file, 2, true);
+
+		assertThrows(IOException.class, unit::getResumePoint);
+	}
+
+	@Test
+	void testWith() {
+		var file = dir.resolve("checkpoint.properties");
+		var other = dir.resolve("other.properties");
+
+		var unit = Checkpointer.DISABLED.withFile(file);
+		assertThat(unit.isEnabled(), is(true));
+		assertThat(unit.getFile(), is(Optional.of(file)));
+		assertThat(unit.getInterval(), is(Checkpointer.DEFAULT_INTERVAL));
+		assertThat(unit.isResume(), is(false));
+
+		unit = unit.withInterval(5).withResume(true).withFile(other);
+		assertThat(unit.getFile(), is(Optional.of(other)));
+		assertThat(unit.getInterval(), is(5));
+		assertThat(unit.isResume(), is(true));
+
+		assertThat(Checkpointer.DISABLED.isEnabled(), is(false));
+		assertThrows(IllegalArgumentException.class, () -> Checkpointer.DISABLED.withInterval(5));
+		assertThrows(IllegalArgumentException.class, () -> Checkpointer.DISABLED.withResume(true));
+	}
+
+	@Test
+	void testBadInterval() {
+		var file = dir.resolve("checkpoint.properties");
+		assertThrows(IllegalArgumentException.class, () -> new Checkpointer(file, 0, false));
+	}
+}
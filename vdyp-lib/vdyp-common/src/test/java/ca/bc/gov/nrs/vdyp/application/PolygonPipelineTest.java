@@ -0,0 +1,151 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ca.bc.gov.nrs.vdyp.application.test.TestStartApplication;
+import ca.bc.gov.nrs.vdyp.io.write.CapturingPolygonWriter;
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class PolygonPipelineTest {
+
+	static VdypPolygon polygon(int i) {
+		return VdypPolygon.build(builder -> {
+			builder.polygonIdentifier("082E004    " + i, 1988);
+			builder.percentAvailable(90f);
+			builder.biogeoclimaticZone("IDF");
+			builder.forestInventoryZone("D");
+			builder.mode(PolygonMode.START);
+		});
+	}
+
+	static class ProducingApplication extends TestStartApplication {
+
+		final List<VdypPolygon> toWrite;
+
+		ProducingApplication(List<VdypPolygon> toWrite) {
+			super(new HashMap<>(), false);
+			this.toWrite = toWrite;
+		}
+
+		@Override
+		public void process() throws ProcessingException {
+			try {
+				for (var polygon : toWrite) {
+					getVriWriter().writePolygonWithSpeciesAndUtilization(polygon);
+				}
+			} catch (IOException e) {
+				throw new ProcessingException("Error while writing data.", e);
+			}
+		}
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void testPassesPolygonsInOrder(boolean concurrent) throws Exception {
+		var polygons = new ArrayList<VdypPolygon>();
+		for (int i = 0; i < 50; i++) {
+			polygons.add(polygon(i));
+		}
+
+		var received = new ArrayList<VdypPolygon>();
+
+		try (var app = new ProducingApplication(polygons)) {
+			new PolygonPipeline(2, false, concurrent).run(app, reader -> {
+				try {
+					while (reader.hasNext()) {
+						received.add(reader.next());
+					}
+				} catch (Exception e) {
+					throw new ProcessingException(e);
+				}
+			});
+		}
+
+		assertThat(received, is(polygons));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void testKeepsExistingOutput(boolean concurrent) throws Exception {
+		var poly = polygon(1);
+		var files = new CapturingPolygonWriter();
+		var received = new ArrayList<VdypPolygon>();
+
+		try (var app = new ProducingApplication(List.of(poly))) {
+			app.init(new HashMap<>(), files);
+			new PolygonPipeline(2, true, concurrent).run(app, reader -> {
+				try {
+					while (reader.hasNext()) {
+						received.add(reader.next());
+					}
+				} catch (Exception e) {
+					throw new ProcessingException(e);
+				}
+			});
+		}
+
+		assertThat(received, contains(sameInstance(poly)));
+		assertThat(files.getPolygons(), contains(sameInstance(poly)));
+		assertThat(files.isClosed(), is(true));
+	}
+
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void testStageFailureIsReported(boolean concurrent) throws Exception {
+		var polygons = new ArrayList<VdypPolygon>();
+		for (int i = 0; i < 50; i++) {
+			polygons.add(polygon(i));
+		}
+
+		try (var app = new ProducingApplication(polygons)) {
+			var unit = new PolygonPipeline(1, false, concurrent);
+			var ex = assertThrows(ProcessingException.class, () -> unit.run(app, reader -> {
+				throw new ProcessingException("Test");
+			}));
+			assertThat(ex.getMessage(), is("Test"));
+		}
+	}
+
+	@Test
+	void testApplicationFailureIsReported() throws Exception {
+		try (var app = new TestStartApplication(new HashMap<>(), false) {
+			@Override
+			public void process() throws ProcessingException {
+				throw new ProcessingException("Test");
+			}
+		}) {
+			var received = new ArrayList<VdypPolygon>();
+			var unit = new PolygonPipeline(1, false, true);
+			var ex = assertThrows(ProcessingException.class, () -> unit.run(app, reader -> {
+				try {
+					while (reader.hasNext()) {
+						received.add(reader.next());
+					}
+				} catch (Exception e) {
+					throw new ProcessingException(e);
+				}
+			}));
+			assertThat(ex.getMessage(), is("Test"));
+			assertThat(received, is(List.of()));
+		}
+	}
+
+	@Test
+	void testInvalidCapacity() {
+		assertThrows(IllegalArgumentException.class, () -> new PolygonPipeline(0, false));
+	}
+}
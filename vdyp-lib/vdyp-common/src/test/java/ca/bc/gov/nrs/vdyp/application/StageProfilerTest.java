@@ -0,0 +1,153 @@
+package ca.bc.gov.nrs.vdyp.application;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThanOrEqualTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.StringWriter;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Optional;
+import java.util.concurrent.Executors;
+import java.util.concurrent.TimeUnit;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.application.StageProfiler.PolygonProfile;
+import ca.bc.gov.nrs.vdyp.application.StageProfiler.Stage;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+class StageProfilerTest {
+
+	static final long MILLIS = 1_000_000;
+
+	static PolygonIdentifier id(String base) {
+		return new PolygonIdentifier(base, 2024);
+	}
+
+	static void profile(StageProfiler unit, String base, long sleepMillis, long evaluations)
+			throws InterruptedException {
+		unit.startPolygon(id(base));
+		try (var timer = unit.time(Stage.PRIMARY_LAYER)) {
+			try (var inner = unit.time(Stage.ROOT_FINDING)) {
+				Thread.sleep(sleepMillis);
+				unit.addEvaluations(evaluations);
+			}
+		}
+		unit.endPolygon();
+	}
+
+	@Test
+	void testDisabled() throws Exception {
+		var unit = new StageProfiler();
+		profile(unit, "A", 0, 5);
+
+		assertThat(unit.isEnabled(), is(false));
+		assertThat(unit.getPolygons(), is(0L));
+		assertThat(unit.getEvaluations(), is(0L));
+		assertThat(unit.getSlowest(), empty());
+	}
+
+	@Test
+	void testStagesAreExclusive() throws Exception {
+		var unit = new StageProfiler(5);
+		profile(unit, "A", 20, 7);
+
+		assertThat(unit.getPolygons(), is(1L));
+		assertThat(unit.getEvaluations(), is(7L));
+
+		var profile = unit.getSlowest().get(0);
+		assertThat(profile.polygonIdentifier(), is(id("A")));
+		assertThat(profile.evaluations(), is(7L));
+		assertThat(profile.getStageNanos(Stage.ROOT_FINDING), greaterThanOrEqualTo(20 * MILLIS));
+		assertThat(profile.getStageNanos(Stage.PRIMARY_LAYER), lessThan(profile.getStageNanos(Stage.ROOT_FINDING)));
+		assertThat(profile.getStageNanos(Stage.CHECK), is(0L));
+		assertThat(
+				profile.totalNanos(),
+				greaterThanOrEqualTo(
+						profile.getStageNanos(Stage.ROOT_FINDING) + profile.getStageNanos(Stage.PRIMARY_LAYER)
+				)
+		);
+		assertThat(unit.getStageNanos().get(Stage.ROOT_FINDING), is(profile.getStageNanos(Stage.ROOT_FINDING)));
+	}
+
+	@Test
+	void testSlowest() throws Exception {
+		var unit = new StageProfiler(2);
+		profile(unit, "A", 1, 1);
+		profile(unit, "B", 30, 2);
+		profile(unit, "C", 1, 3);
+		profile(unit, "D", 15, 4);
+
+		assertThat(unit.getPolygons(), is(4L));
+		assertThat(unit.getEvaluations(), is(10L));
+		assertThat(
+				unit.getSlowest().stream().map(PolygonProfile::polygonIdentifier).toList(), contains(id("B"), id("D"))
+		);
+	}
+
+	@Test
+	void testNotStarted() {
+		var unit = new StageProfiler(2);
+		try (var timer = unit.time(Stage.CHECK)) {
+			unit.addEvaluations(3);
+		}
+		unit.endPolygon();
+
+		assertThat(unit.getPolygons(), is(0L));
+		assertThat(unit.getEvaluations(), is(0L));
+	}
+
+	@Test
+	void testThreads() throws Exception {
+		var unit = new StageProfiler(10);
+		var executor = Executors.newFixedThreadPool(4);
+		try {
+			for (int i = 0; i < 20; i++) {
+				var base = "P" + i;
+				executor.submit(() -> {
+					profile(unit, base, 1, 2);
+					return null;
+				});
+			}
+		} finally {
+			executor.shutdown();
+			executor.awaitTermination(1, TimeUnit.MINUTES);
+		}
+
+		assertThat(unit.getPolygons(), is(20L));
+		assertThat(unit.getEvaluations(), is(40L));
+		assertThat(unit.getSlowest().size(), is(10));
+	}
+
+	@Test
+	void testSummary(@TempDir Path dir) throws Exception {
+		var unit = new StageProfiler(2);
+		profile(unit, "A", 1, 3);
+
+		var writer = new StringWriter();
+		unit.writeSummary(writer);
+		var summary = writer.toString();
+		assertThat(summary, containsString("Polygons profiled: 1\n"));
+		assertThat(summary, containsString("Solver evaluations: 3\n"));
+		assertThat(summary, containsString("ROOT_FINDING"));
+		assertThat(summary, containsString("Slowest polygons\n"));
+		assertThat(summary, containsString(id("A").toString()));
+
+		var file = dir.resolve("profile.txt");
+		unit.setSummaryFile(Optional.of(file));
+		unit.finish();
+		assertThat(Files.readString(file), is(summary));
+	}
+
+	@Test
+	void testBadSlowestCount() {
+		assertThrows(IllegalArgumentException.class, () -> new StageProfiler(-1));
+	}
+}
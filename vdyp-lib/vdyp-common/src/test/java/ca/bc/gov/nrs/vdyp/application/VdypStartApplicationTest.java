@@ -6,6 +6,7 @@ import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.coe;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.utilization;
 import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.utilizationHeight;
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.describedAs;
 import static org.hamcrest.Matchers.hasProperty;
@@ -18,6 +19,7 @@ import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.InputStream;
 import java.io.OutputStream;
+import java.nio.file.Path;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
@@ -197,6 +199,96 @@ class VdypStartApplicationTest {
 
 	}
 
+	@Nested
+	class ApplyOptions {
+
+		@Test
+		void testNoOptions() throws Exception {
+			var mockControl = EasyMock.createControl();
+
+			try (VdypStartApplication app = getTestUnit(mockControl)) {
+				mockControl.replay();
+				assertThat(app.applyOptions("a.ctr", "b.ctr"), arrayContaining("a.ctr", "b.ctr"));
+				assertThat(app.getProfiler().isEnabled(), is(false));
+			}
+			mockControl.verify();
+		}
+
+		@Test
+		void testProfile() throws Exception {
+			var mockControl = EasyMock.createControl();
+
+			try (VdypStartApplication app = getTestUnit(mockControl)) {
+				mockControl.replay();
+				assertThat(
+						app.applyOptions("-profile-summary", "profile.txt", "-profile", "5", "a.ctr"),
+						arrayContaining("a.ctr")
+				);
+				assertThat(app.getProfiler().isEnabled(), is(true));
+				assertThat(app.getProfiler().getSummaryFile(), is(Optional.of(Path.of("profile.txt"))));
+			}
+			mockControl.verify();
+		}
+
+		@Test
+		void testProfileSummaryOnly() throws Exception {
+			var mockControl = EasyMock.createControl();
+
+			try (VdypStartApplication app = getTestUnit(mockControl)) {
+				mockControl.replay();
+				assertThat(app.applyOptions("-profile-summary", "profile.txt", "a.ctr"), arrayContaining("a.ctr"));
+				assertThat(app.getProfiler().isEnabled(), is(true));
+				assertThat(app.getProfiler().getSummaryFile(), is(Optional.of(Path.of("profile.txt"))));
+				assertThat(StageProfiler.DISABLED.getSummaryFile(), is(Optional.empty()));
+			}
+			mockControl.verify();
+		}
+
+		@Test
+		void testCheckpoint() throws Exception {
+			var mockControl = EasyMock.createControl();
+
+			try (VdypStartApplication app = getTestUnit(mockControl)) {
+				mockControl.replay();
+				assertThat(
+						app.applyOptions(
+								"-checkpoint", "checkpoint.properties", "-checkpoint-interval", "50", "-resume", "a.ctr"
+						), arrayContaining("a.ctr")
+				);
+				assertThat(app.getCheckpointer().isEnabled(), is(true));
+				assertThat(app.getCheckpointer().getFile(), is(Optional.of(Path.of("checkpoint.properties"))));
+				assertThat(app.getCheckpointer().getInterval(), is(50));
+				assertThat(app.getCheckpointer().isResume(), is(true));
+			}
+			mockControl.verify();
+		}
+
+		@Test
+		void testBadOptions() throws Exception {
+			var mockControl = EasyMock.createControl();
+
+			try (VdypStartApplication app = getTestUnit(mockControl)) {
+				mockControl.replay();
+				assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-unknown", "a.ctr"));
+				assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-profile"));
+				assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-profile", "all", "a.ctr"));
+				assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-profile", "-1", "a.ctr"));
+				assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-resume", "a.ctr"));
+				assertThrows(
+						IllegalArgumentException.class, () -> app.applyOptions("-checkpoint-interval", "5", "a.ctr")
+				);
+				assertThat(app.getProfiler().isEnabled(), is(false));
+				assertThat(app.getCheckpointer().isEnabled(), is(false));
+
+				assertThrows(
+						IllegalArgumentException.class,
+						() -> app.applyOptions("-checkpoint", "c.properties", "-checkpoint-interval", "0", "a.ctr")
+				);
+			}
+			mockControl.verify();
+		}
+	}
+
 	protected VdypStartApplication getTestUnit(IMocksControl control) throws IOException {
 
 		VdypStartApplication mock = EasyMock.createMockBuilder(VdypStartApplication.class)//
@@ -11,7 +11,7 @@ import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.common.Utils;
-import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
+import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
 import ca.bc.gov.nrs.vdyp.io.parse.control.NonFipControlParser;
@@ -27,15 +27,14 @@ public class TestStartApplication extends VdypStartApplication<TestPolygon, Test
 	}
 
 	@Override
-	public void init(FileSystemFileResolver resolver, String... controlFilePaths)
-			throws IOException, ResourceParseException {
+	public void init(FileResolver resolver, String... controlFilePaths) throws IOException, ResourceParseException {
 		if (realInit) {
 			super.init(resolver, controlFilePaths);
 		}
 	}
 
 	@Override
-	public void init(FileSystemFileResolver resolver, Map<String, Object> controlMap) throws IOException {
+	public void init(FileResolver resolver, Map<String, Object> controlMap) throws IOException {
 		if (realInit) {
 			super.init(resolver, controlMap);
 		}
@@ -0,0 +1,46 @@
+package ca.bc.gov.nrs.vdyp.common;
+
+import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.coe;
+import static ca.bc.gov.nrs.vdyp.test.VdypMatchers.utilization;
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.util.concurrent.CompletableFuture;
+
+import org.junit.jupiter.api.Test;
+
+class UtilizationWorkspaceTest {
+
+	@Test
+	void testReusedOnSameThread() {
+		var first = UtilizationWorkspace.forCurrentThread();
+		var second = UtilizationWorkspace.forCurrentThread();
+
+		assertThat(second, sameInstance(first));
+	}
+
+	@Test
+	void testSeparateForEachThread() throws Exception {
+		var mine = UtilizationWorkspace.forCurrentThread();
+		var other = CompletableFuture.supplyAsync(UtilizationWorkspace::forCurrentThread).get();
+
+		assertThat(other, not(sameInstance(mine)));
+	}
+
+	@Test
+	void testResetWhenObtained() {
+		var workspace = UtilizationWorkspace.forCurrentThread();
+		workspace.basalAreas.setCoe(0, 2f);
+		workspace.closeUtilizationVolumesNetOfDecayWasteAndBreakage.setCoe(4, 3f);
+		workspace.adjustCloseUtilization.setCoe(-1, 4f);
+		workspace.volumeAdjust.setCoe(2, 5f);
+
+		workspace = UtilizationWorkspace.forCurrentThread();
+
+		assertThat(workspace.basalAreas, utilization(0f, 0f, 0f, 0f, 0f, 0f));
+		assertThat(workspace.closeUtilizationVolumesNetOfDecayWasteAndBreakage, utilization(0f, 0f, 0f, 0f, 0f, 0f));
+		assertThat(workspace.adjustCloseUtilization, utilization(0f, 0f, 0f, 0f, 0f, 0f));
+		assertThat(workspace.volumeAdjust, coe(1, 0f, 0f, 0f, 0f));
+	}
+}
@@ -6,7 +6,11 @@ import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquati
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation.SI_PLI_THROWER;
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
 import static org.junit.jupiter.api.Assertions.assertThrows;
+import static org.junit.jupiter.api.Assertions.fail;
 
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
@@ -14,6 +18,8 @@ import org.junit.jupiter.api.Test;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.LessThan13Exception;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 
 class SiteIndex2HeightSmoothedTest {
 	private static final double ERROR_TOLERANCE = 0.00001;
@@ -82,4 +88,93 @@ class SiteIndex2HeightSmoothedTest {
 
 	}
 
+	@Nested
+	class SmootherTest {
+
+		static String outcome(SiteIndex2HeightSmoothed.Smoother smoother, double age, SiteIndexAgeType ageType) {
+			try {
+				return Double.toString(smoother.height(age, ageType));
+			} catch (CommonCalculatorException e) {
+				return e.getClass().getSimpleName() + ": " + e.getMessage();
+			}
+		}
+
+		static String referenceOutcome(
+				SiteIndexEquation cuIndex, double age, SiteIndexAgeType ageType, double siteIndex, double y2bh,
+				double seedlingAge, double seedlingHeight
+		) {
+			try {
+				return Double.toString(
+						SiteIndex2HeightSmoothedReference.indexToHeightSmoothed(
+								cuIndex, age, ageType, siteIndex, y2bh, seedlingAge, seedlingHeight
+						)
+				);
+			} catch (CommonCalculatorException e) {
+				return e.getClass().getSimpleName() + ": " + e.getMessage();
+			}
+		}
+
+		@Test
+		void testMatchesReference() {
+			double[] siteIndices = { 1.2, 15, 35 };
+			double[] y2bhs = { -1, 4.5 };
+			double[][] seedlings = { { 0, 0 }, { 3.1, 1.3 } };
+			double[] ages = { -5, 0, 1, 3, 6, 12, 40, 120 };
+
+			for (var cuIndex : SiteIndexEquation.values()) {
+				for (double siteIndex : siteIndices) {
+					for (double y2bh : y2bhs) {
+						for (double[] seedling : seedlings) {
+							var smoother = SiteIndex2HeightSmoothed
+									.smoother(cuIndex, siteIndex, y2bh, seedling[0], seedling[1]);
+							for (var ageType : SiteIndexAgeType.values()) {
+								for (double age : ages) {
+									assertThat(
+											cuIndex + " " + siteIndex + " " + y2bh + " " + age + " " + ageType,
+											outcome(smoother, age, ageType),
+											is(
+													referenceOutcome(
+															cuIndex, age, ageType, siteIndex, y2bh, seedling[0],
+															seedling[1]
+													)
+											)
+									);
+								}
+							}
+						}
+					}
+				}
+			}
+		}
+
+		@Test
+		void testJoinFailureIsNotShared() {
+			// Find a smoother whose curves can't be joined
+			for (var cuIndex : SiteIndexEquation.values()) {
+				var smoother = SiteIndex2HeightSmoothed.smoother(cuIndex, 35, 4.5, 0, 0);
+				CommonCalculatorException first;
+				try {
+					smoother.height(1, SI_AT_TOTAL);
+					continue;
+				} catch (CommonCalculatorException e) {
+					first = e;
+				}
+				var second = assertThrows(CommonCalculatorException.class, () -> smoother.height(1, SI_AT_TOTAL));
+				assertThat(second, not(sameInstance(first)));
+				assertThat(second.getClass(), is((Object) first.getClass()));
+				assertThat(second.getMessage(), is(first.getMessage()));
+				return;
+			}
+			fail("No smoother failed to join its curves");
+		}
+
+		@Test
+		void testSmootherIsReused() {
+			var smoother = SiteIndex2HeightSmoothed.smoother(SI_FDI_HUANG_NAT, 16.0, 4.0, 0.0, 0.0);
+
+			assertThat(
+					SiteIndex2HeightSmoothed.smoother(SI_FDI_HUANG_NAT, 16.0, 4.0, 0.0, 0.0), sameInstance(smoother)
+			);
+		}
+	}
 }
@@ -4,6 +4,9 @@ import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecie
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.List;
+
 import org.junit.jupiter.api.Nested;
 import org.junit.jupiter.api.Test;
 
@@ -29,6 +32,20 @@ class SpecRMapTest {
 			assertThrows(CodeErrorException.class, () -> SiteIndexSpecies.getByCode("zzz"));
 		}
 
+		@Test
+		void testFindByCode() throws CommonCalculatorException {
+			for (SiteIndexSpecies s : SiteIndexSpecies.values()) {
+				if (s != SiteIndexSpecies.SI_NO_SPECIES) {
+					assertEquals(s, SiteIndexSpecies.findByCode(s.getCode()));
+					assertEquals(s, SiteIndexSpecies.findByCode(" " + s.getCode().toLowerCase()));
+				}
+			}
+
+			assertEquals(SI_NO_SPECIES, SiteIndexSpecies.findByCode(null));
+			assertEquals(SI_NO_SPECIES, SiteIndexSpecies.findByCode(""));
+			assertEquals(SI_NO_SPECIES, SiteIndexSpecies.findByCode("zzz"));
+		}
+
 		@Test
 		void testSpeciesLowercase() throws CommonCalculatorException {
 			SiteIndexSpecies actualResult = SiteIndexSpecies.getByCode("abal");
@@ -320,6 +337,51 @@ class SpecRMapTest {
 			}
 		}
 
+		@Test
+		void testTableMatchesReference() {
+			List<String> codes = new ArrayList<>(List.of("", "ABAL", "ABCO", "ERIC", "f  d", " X c", "bv"));
+			for (SiteIndexSpecies s : SiteIndexSpecies.values()) {
+				codes.add(s.getCode());
+			}
+			String letters = "ABCDEFGHIJKLMNOPQRSTUVWXYZ";
+			for (char c1 : letters.toCharArray()) {
+				codes.add("" + c1);
+				for (char c2 : letters.toCharArray()) {
+					codes.add("" + c1 + c2);
+					for (char c3 : letters.toCharArray()) {
+						codes.add("" + c1 + c2 + c3);
+					}
+				}
+			}
+
+			char[] fizs = " ABCDEFGHIJKLMXa".toCharArray();
+			for (String code : codes) {
+				for (String variant : List.of(code, code.toLowerCase())) {
+					for (char fiz : fizs) {
+						assertEquals(
+								SpecRMapReference.findSpeciesRemap(variant, fiz),
+								SpecRMap.findSpeciesRemap(variant, fiz), "Error with " + variant + " in " + fiz
+						);
+					}
+				}
+			}
+		}
+
+		@Test
+		void testFindSpeciesRemap() throws CommonCalculatorException {
+			String[] cases = { "B", "ABCO", "f  d", "hw", "S", "x", "ZH" };
+
+			for (String caseValue : cases) {
+				for (char fiz = 'A'; fiz <= 'L'; fiz++) {
+					assertEquals(SpecRMap.species_remap(caseValue, fiz), SpecRMap.findSpeciesRemap(caseValue, fiz));
+				}
+			}
+
+			assertEquals(SI_NO_SPECIES, SpecRMap.findSpeciesRemap("B", 'X'));
+			assertEquals(SI_NO_SPECIES, SpecRMap.findSpeciesRemap("ERIC", 'A'));
+			assertEquals(SI_NO_SPECIES, SpecRMap.findSpeciesRemap(null, 'A'));
+		}
+
 	}
 
 }
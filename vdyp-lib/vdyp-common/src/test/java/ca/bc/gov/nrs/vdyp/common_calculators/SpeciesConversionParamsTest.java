@@ -8,13 +8,14 @@ import static org.hamcrest.Matchers.nullValue;
 
 import org.junit.jupiter.api.Test;
 
-import ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexNames.SpeciesConversionParamsDetails;
+import ca.bc.gov.nrs.vdyp.common_calculators.SpeciesConversionParams.SpeciesConversionParamsDetails;
 
-class SiteIndexNamesTest {
+class SpeciesConversionParamsTest {
 
 	@Test
 	void testTypicalUsage() {
-		SpeciesConversionParamsDetails details = SiteIndexNames.getSpeciesConversionParams(SI_SPEC_HWC, SI_SPEC_FDC);
+		SpeciesConversionParamsDetails details = SpeciesConversionParams
+				.getSpeciesConversionParams(SI_SPEC_HWC, SI_SPEC_FDC);
 
 		assertThat(details.param1(), is(0.48053393));
 		assertThat(details.param2(), is(1.11234705));
@@ -22,7 +23,8 @@ class SiteIndexNamesTest {
 
 	@Test
 	void testNoEntry() {
-		SpeciesConversionParamsDetails details = SiteIndexNames.getSpeciesConversionParams(SI_SPEC_HWC, SI_SPEC_HWC);
+		SpeciesConversionParamsDetails details = SpeciesConversionParams
+				.getSpeciesConversionParams(SI_SPEC_HWC, SI_SPEC_HWC);
 
 		assertThat(details, nullValue());
 	}
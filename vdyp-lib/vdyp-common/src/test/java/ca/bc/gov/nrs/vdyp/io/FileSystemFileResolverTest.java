@@ -2,7 +2,9 @@ package ca.bc.gov.nrs.vdyp.io;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.io.IOException;
 import java.nio.file.Files;
 import java.nio.file.Path;
 
@@ -73,4 +75,30 @@ class FileSystemFileResolverTest {
 			assertThat(result, equalTo("blah"));
 		}
 	}
+
+	@Test
+	void testResumeOutput() throws Exception {
+		var unit = new FileSystemFileResolver(testDir);
+		Files.writeString(testDir.resolve("test"), "blahblah");
+
+		try (var os = unit.resolveForOutput("test", 4)) {
+			os.write("bloo".getBytes());
+		}
+
+		assertThat(Files.readString(testDir.resolve("test")), equalTo("blahbloo"));
+		assertThrows(IOException.class, () -> unit.resolveForOutput("test", 9));
+		assertThrows(IOException.class, () -> unit.resolveForOutput("missing", 1));
+	}
+
+	@Test
+	void testResumeOutputFromStart() throws Exception {
+		var unit = new FileSystemFileResolver(testDir);
+		Files.writeString(testDir.resolve("test"), "blahblah");
+
+		try (var os = unit.resolveForOutput("test", 0)) {
+			os.write("bloo".getBytes());
+		}
+
+		assertThat(Files.readString(testDir.resolve("test")), equalTo("bloo"));
+	}
 }
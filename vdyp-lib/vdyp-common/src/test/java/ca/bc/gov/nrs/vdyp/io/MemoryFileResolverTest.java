@@ -0,0 +1,82 @@
+package ca.bc.gov.nrs.vdyp.io;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.FileNotFoundException;
+import java.io.IOException;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class MemoryFileResolverTest {
+
+	@Test
+	void testInput() throws Exception {
+		var unit = new MemoryFileResolver();
+		unit.addFile("test", "blah");
+
+		try (var is = unit.resolveForInput("test")) {
+			var result = is.readAllBytes();
+			assertThat(result, equalTo("blah".getBytes()));
+		}
+	}
+
+	@Test
+	void testInputMissing() throws Exception {
+		var unit = new MemoryFileResolver();
+
+		assertThrows(FileNotFoundException.class, () -> unit.resolveForInput("test"));
+	}
+
+	@Test
+	void testOutput() throws Exception {
+		var unit = new MemoryFileResolver();
+
+		try (var os = unit.resolveForOutput("test")) {
+			os.write("blah".getBytes());
+			assertThat(unit.getString("test"), equalTo(Optional.empty()));
+		}
+
+		assertThat(unit.getString("test"), equalTo(Optional.of("blah")));
+		try (var is = unit.resolveForInput("test")) {
+			assertThat(is.readAllBytes(), equalTo("blah".getBytes()));
+		}
+	}
+
+	@Test
+	void testResumeOutput() throws Exception {
+		var unit = new MemoryFileResolver();
+		unit.addFile("test", "blahblah");
+
+		try (var os = unit.resolveForOutput("test", 4)) {
+			os.write("bloo".getBytes());
+		}
+
+		assertThat(unit.getString("test"), equalTo(Optional.of("blahbloo")));
+		assertThrows(IOException.class, () -> unit.resolveForOutput("test", 9));
+		assertThrows(IOException.class, () -> unit.resolveForOutput("missing", 1));
+	}
+
+	@Test
+	void testRelative() throws Exception {
+		var base = new MemoryFileResolver();
+		var unit = base.relative("rel");
+
+		try (var os = unit.resolveForOutput("test")) {
+			os.write("blah".getBytes());
+		}
+
+		assertThat(unit.getString("test"), equalTo(Optional.of("blah")));
+		assertThat(base.getString("rel/test"), equalTo(Optional.of("blah")));
+		assertThat(base.getString("test"), equalTo(Optional.empty()));
+	}
+
+	@Test
+	void testToString() throws Exception {
+		var unit = new MemoryFileResolver().relative("rel");
+
+		assertThat(unit.toString("test"), equalTo("mem:rel/test"));
+	}
+}
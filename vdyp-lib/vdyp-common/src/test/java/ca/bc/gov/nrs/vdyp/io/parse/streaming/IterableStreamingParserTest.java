@@ -0,0 +1,39 @@
+package ca.bc.gov.nrs.vdyp.io.parse.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+class IterableStreamingParserTest {
+
+	@Test
+	void testEmpty() throws Exception {
+		var factory = IterableStreamingParser.<String>factory(List.of());
+
+		try (var unit = factory.get()) {
+			assertThat(unit.hasNext(), is(false));
+			assertThrows(IllegalStateException.class, () -> unit.next());
+		}
+	}
+
+	@Test
+	void testEntries() throws Exception {
+		var factory = IterableStreamingParser.factory(List.of("A", "B"));
+
+		// Each parser from the factory starts from the beginning
+		for (int i = 0; i < 2; i++) {
+			try (var unit = factory.get()) {
+				assertThat(unit.hasNext(), is(true));
+				assertThat(unit.next(), equalTo("A"));
+				assertThat(unit.hasNext(), is(true));
+				assertThat(unit.next(), equalTo("B"));
+				assertThat(unit.hasNext(), is(false));
+			}
+		}
+	}
+}
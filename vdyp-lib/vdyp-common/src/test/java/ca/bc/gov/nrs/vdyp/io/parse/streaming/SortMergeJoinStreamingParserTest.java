@@ -0,0 +1,201 @@
+package ca.bc.gov.nrs.vdyp.io.parse.streaming;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Collection;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+class SortMergeJoinStreamingParserTest {
+
+	static PolygonIdentifier id(String base) {
+		return new PolygonIdentifier(base, 2024);
+	}
+
+	// Child records are the text of their polygon identifier followed by a name
+	static SortMergeJoinStreamingParser<Collection<String>> unit(List<List<String>> groups) {
+		return new SortMergeJoinStreamingParser<>(
+				new IterableStreamingParser<Collection<String>>(groups.iterator()), "Test",
+				SortMergeJoinStreamingParser.firstKey(child -> PolygonIdentifier.split(child.substring(0, 25))),
+				List::of
+		);
+	}
+
+	static String child(String base, String name) {
+		return id(base).toString() + name;
+	}
+
+	@Test
+	void testAligned() throws Exception {
+		try (
+				var unit = unit(
+						List.of(
+								List.of(child("A", "1"), child("A", "2")), //
+								List.of(child("B", "1")), //
+								List.of(child("C", "1"))
+						)
+				)
+		) {
+			assertThat(unit.nextFor(id("A")), contains(child("A", "1"), child("A", "2")));
+			assertThat(unit.nextFor(id("B")), contains(child("B", "1")));
+			assertThat(unit.nextFor(id("C")), contains(child("C", "1")));
+			assertThat(unit.hasNext(), is(false));
+			assertThat(unit.getMissingCount(), is(0));
+			assertThat(unit.getSkippedCount(), is(0));
+		}
+	}
+
+	@Test
+	void testMissing() throws Exception {
+		try (var unit = unit(List.of(List.of(child("B", "1"))))) {
+			assertThat(unit.nextFor(id("A")), empty());
+			assertThat(unit.nextFor(id("B")), contains(child("B", "1")));
+			assertThat(unit.nextFor(id("C")), empty());
+			assertThat(unit.getMissingCount(), is(2));
+			assertThat(unit.getSkippedCount(), is(0));
+		}
+	}
+
+	@Test
+	void testSkipped() throws Exception {
+		try (
+				var unit = unit(
+						List.of(
+								List.of(child("A", "1")), //
+								List.of(child("B", "1")), //
+								List.of(child("C", "1")), //
+								List.of(child("D", "1"))
+						)
+				)
+		) {
+			assertThat(unit.nextFor(id("B")), contains(child("B", "1")));
+			assertThat(unit.nextFor(id("D")), contains(child("D", "1")));
+			assertThat(unit.getMissingCount(), is(0));
+			assertThat(unit.getSkippedCount(), is(2));
+		}
+	}
+
+	@Test
+	void testEmptyGroupsIgnored() throws Exception {
+		try (
+				var unit = unit(
+						List.of(
+								List.of(), //
+								List.of(child("B", "1")), //
+								List.of(), //
+								List.of()
+						)
+				)
+		) {
+			assertThat(unit.nextFor(id("A")), empty());
+			assertThat(unit.nextFor(id("B")), contains(child("B", "1")));
+			assertThat(unit.nextFor(id("C")), empty());
+			assertThat(unit.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	void testRepeatedPolygon() throws Exception {
+		try (var unit = unit(List.of(List.of(child("A", "1"))))) {
+			assertThat(unit.nextFor(id("A")), contains(child("A", "1")));
+			assertThat(unit.nextFor(id("A")), empty());
+		}
+	}
+
+	@Test
+	void testChildrenNotSorted() throws Exception {
+		try (
+				var unit = unit(
+						List.of(
+								List.of(child("B", "1")), //
+								List.of(child("A", "1"))
+						)
+				)
+		) {
+			assertThat(unit.nextFor(id("A")), empty());
+			var ex = assertThrows(ResourceParseException.class, () -> unit.nextFor(id("C")));
+			assertThat(
+					ex,
+					hasProperty(
+							"message",
+							is(
+									"Test is not sorted by polygon identifier: A                    2024 follows B                    2024"
+							)
+					)
+			);
+		}
+	}
+
+	@Test
+	void testPolygonsNotSorted() throws Exception {
+		try (var unit = unit(List.of(List.of(child("B", "1"))))) {
+			assertThat(unit.nextFor(id("B")), contains(child("B", "1")));
+			var ex = assertThrows(ResourceParseException.class, () -> unit.nextFor(id("A")));
+			assertThat(
+					ex,
+					hasProperty(
+							"message",
+							is(
+									"Polygons are not sorted by polygon identifier: A                    2024 follows B                    2024"
+							)
+					)
+			);
+		}
+	}
+
+	@Test
+	void testNextForPolygon() throws Exception {
+		// Joined by polygon identifier
+		try (var unit = unit(List.of(List.of(child("B", "1"))))) {
+			StreamingParser<Collection<String>> stream = unit;
+			assertThat(SortMergeJoinStreamingParser.nextForPolygon(stream, id("A")), empty());
+			assertThat(SortMergeJoinStreamingParser.nextForPolygon(stream, id("B")), contains(child("B", "1")));
+		}
+		// Any other parser is read by position
+		try (
+				var stream = new IterableStreamingParser<Collection<String>>(
+						List.of(List.of(child("B", "1"))).iterator()
+				)
+		) {
+			assertThat(SortMergeJoinStreamingParser.nextForPolygon(stream, id("A")), contains(child("B", "1")));
+		}
+	}
+
+	@Test
+	void testUnjoined() throws Exception {
+		try (
+				var unit = unit(
+						List.of(
+								List.of(child("A", "1")), //
+								List.of(), //
+								List.of(child("C", "1"))
+						)
+				)
+		) {
+			assertThat(unit.nextFor(id("A")), contains(child("A", "1")));
+			assertThat(unit.hasNext(), is(true));
+			assertThat(unit.next(), empty());
+			assertThat(unit.next(), contains(child("C", "1")));
+			assertThat(unit.hasNext(), is(false));
+		}
+	}
+
+	@Test
+	void testClose() throws Exception {
+		var delegate = new MockStreamingParser<Collection<String>>();
+		var unit = new SortMergeJoinStreamingParser<>(
+				delegate, "Test", SortMergeJoinStreamingParser.firstKey(PolygonIdentifier::split), List::of
+		);
+		unit.close();
+		delegate.expectClosed();
+	}
+}
@@ -0,0 +1,264 @@
+package ca.bc.gov.nrs.vdyp.io.sort;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Optional;
+import java.util.Random;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
+
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseLineException;
+import ca.bc.gov.nrs.vdyp.io.sort.PolygonFileSorter.Layout;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
+
+class PolygonFileSorterTest {
+
+	@TempDir
+	Path dir;
+
+	Path write(String name, String... lines) throws IOException {
+		var path = dir.resolve(name);
+		Files.write(path, List.of(lines), PolygonFileSorter.CHARSET);
+		return path;
+	}
+
+	List<String> read(Path path) throws IOException {
+		return Files.readAllLines(path, PolygonFileSorter.CHARSET);
+	}
+
+	@Test
+	void testLines() throws IOException, Exception {
+		var input = write(
+				"poly.dat", //
+				"01002 S000002 00     1970 A CWH                1.00", //
+				"01002 S000001 00     1970 A CWH                1.00", //
+				"", //
+				"01002 S000001 00     1953 A CWH                2.00", //
+				"01002 S000001 00     1970 A CWH                3.00"
+		);
+		var output = dir.resolve("sorted.dat");
+
+		var unit = new PolygonFileSorter();
+		unit.sort(input, output, Layout.LINES);
+
+		assertThat(
+				read(output), contains(
+						"01002 S000001 00     1953 A CWH                2.00", //
+						"01002 S000001 00     1970 A CWH                1.00", //
+						"01002 S000001 00     1970 A CWH                3.00", //
+						"01002 S000002 00     1970 A CWH                1.00"
+				)
+		);
+		assertThat(unit.getRuns(), is(0));
+	}
+
+	@Test
+	void testGrouped() throws IOException, Exception {
+		var input = write(
+				"layers.dat", //
+				"01002 S000002 00     1970 1  45 24.3 28.7 82.8   H  H  5.4 0              34", //
+				"01002 S000002 00     1970 Z 105  0.0  0.0  0.0         0.0", //
+				"01002 S000001 00     1970 1  55 35.3 35.0 87.4   D  D  1.0 0              13", //
+				"01002 S000003 00     1970 Z", //
+				"01002 S000002 00     1970 V 105 26.2 16.7  4.0   H  H  7.1 0              34", //
+				"01002 S000002 00     1970 Z 105  0.0  0.0  0.0         0.0"
+		);
+		var output = dir.resolve("sorted.dat");
+
+		var unit = new PolygonFileSorter();
+		unit.sort(input, output, Layout.GROUPED);
+
+		assertThat(
+				read(output), contains(
+						"01002 S000001 00     1970 1  55 35.3 35.0 87.4   D  D  1.0 0              13", //
+						// No end of record for this polygon so it's made from the first one in the file
+						"01002 S000001 00     1970 Z 105  0.0  0.0  0.0         0.0", //
+						"01002 S000002 00     1970 1  45 24.3 28.7 82.8   H  H  5.4 0              34", //
+						"01002 S000002 00     1970 V 105 26.2 16.7  4.0   H  H  7.1 0              34", //
+						"01002 S000002 00     1970 Z 105  0.0  0.0  0.0         0.0", //
+						// A polygon with no records keeps its group
+						"01002 S000003 00     1970 Z"
+				)
+		);
+	}
+
+	@Test
+	void testGroupedWithoutEndOfRecord() throws IOException, Exception {
+		var input = write(
+				"species.dat", //
+				"01002 S000002 00     1970 P  3 B  B  100.0", //
+				"01002 S000001 00     1970 P  3 B  B  100.0"
+		);
+		var output = dir.resolve("sorted.dat");
+
+		new PolygonFileSorter().sort(input, output, Layout.GROUPED);
+
+		assertThat(
+				read(output), contains(
+						"01002 S000001 00     1970 P  3 B  B  100.0", //
+						"01002 S000001 00     1970 Z", //
+						"01002 S000002 00     1970 P  3 B  B  100.0", //
+						"01002 S000002 00     1970 Z"
+				)
+		);
+	}
+
+	@Test
+	void testBlankEndOfRecord() {
+		assertThat(PolygonFileSorter.Line.isEndOfRecord("01002 S000001 00     1970"), is(true));
+		assertThat(PolygonFileSorter.Line.isEndOfRecord("01002 S000001 00     1970   "), is(true));
+		assertThat(PolygonFileSorter.Line.isEndOfRecord("01002 S000001 00     1970 Z"), is(true));
+		assertThat(PolygonFileSorter.Line.isEndOfRecord("01002 S000001 00     1970 P  3 B  B"), is(false));
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 3 })
+	void testSpillAndMerge(int threads) throws IOException, Exception {
+		var random = new Random(42);
+
+		// Records for 200 polygons in a random order, with the records of some polygons split into two groups
+		List<List<String>> polygons = new ArrayList<>();
+		List<String> expected = new ArrayList<>();
+		for (int i = 0; i < 200; i++) {
+			var id = String.format("%-21s%4d", "0100" + i % 7 + " S" + String.format("%06d", i), 1950 + i % 3);
+			List<String> records = new ArrayList<>();
+			for (int j = 0; j < random.nextInt(5); j++) {
+				records.add(id + " P " + j);
+			}
+			expected.addAll(records);
+
+			List<String> group = new ArrayList<>();
+			var split = records.isEmpty() ? 0 : random.nextInt(records.size());
+			group.addAll(records.subList(0, split));
+			group.add(id + " Z");
+			if (split < records.size()) {
+				group.addAll(records.subList(split, records.size()));
+				group.add(id + " Z");
+			}
+			polygons.add(group);
+		}
+		Collections.shuffle(polygons, random);
+		List<String> lines = polygons.stream().flatMap(List::stream).toList();
+		var input = write("species.dat", lines.toArray(String[]::new));
+
+		var inMemory = dir.resolve("inMemory.dat");
+		new PolygonFileSorter().sort(input, inMemory, Layout.GROUPED);
+
+		var spilled = dir.resolve("spilled.dat");
+		var unit = new PolygonFileSorter();
+		unit.setThreads(threads);
+		unit.setMemoryBudget(4000 * (threads + 1));
+		unit.setMaxMergeFiles(3);
+		unit.setTempDirectory(Optional.of(dir));
+		unit.sort(input, spilled, Layout.GROUPED);
+
+		assertThat(unit.getRuns(), greaterThan(3));
+		assertThat(unit.getMergePasses(), greaterThan(0));
+		assertThat(read(spilled), is(read(inMemory)));
+
+		// Each polygon's records are in their original order followed by one end of record
+		List<String> result = read(spilled);
+		List<String> records = result.stream().filter(x -> !x.endsWith(" Z")).toList();
+		expected.sort(Comparator.comparing(record -> record.substring(0, PolygonIdentifier.ID_LENGTH)));
+		assertThat(records, is(expected));
+		assertThat(result.stream().filter(x -> x.endsWith(" Z")).count(), is(200L));
+
+		// Spill files are removed
+		try (var files = Files.list(dir)) {
+			assertThat(files.filter(Files::isDirectory).toList(), empty());
+		}
+	}
+
+	@Test
+	void testBadLine() throws IOException {
+		var input = write(
+				"poly.dat", //
+				"01002 S000002 00     1970 A CWH                1.00", //
+				"01002 S000001"
+		);
+
+		var ex = assertThrows(
+				ResourceParseLineException.class,
+				() -> new PolygonFileSorter().sort(input, dir.resolve("sorted.dat"), Layout.LINES)
+		);
+		assertThat(ex, hasProperty("line", is(2)));
+	}
+
+	@Test
+	void testRun() throws IOException {
+		var polygons = write(
+				"poly.dat", //
+				"01002 S000002 00     1970 A CWH                1.00", //
+				"01002 S000001 00     1970 A CWH                1.00"
+		);
+		var layers = write(
+				"layers.dat", //
+				"01002 S000002 00     1970 1  45", //
+				"01002 S000002 00     1970 Z", //
+				"01002 S000001 00     1970 1  55", //
+				"01002 S000001 00     1970 Z"
+		);
+		var sortedPolygons = dir.resolve("sortedPoly.dat");
+		var sortedLayers = dir.resolve("sortedLayers.dat");
+
+		var unit = new PolygonFileSorter();
+		int result = PolygonFileSorter.run(
+				unit, "-memory", "1", "-threads", "2", "-temp", dir.toString(), "-lines", polygons.toString(),
+				sortedPolygons.toString(), "-grouped", layers.toString(), sortedLayers.toString()
+		);
+
+		assertThat(result, is(0));
+		assertThat(unit.getMemoryBudget(), is(1024L * 1024));
+		assertThat(unit.getThreads(), is(2));
+		assertThat(unit.getTempDirectory(), is(Optional.of(dir)));
+		assertThat(
+				read(sortedPolygons), contains(
+						"01002 S000001 00     1970 A CWH                1.00", //
+						"01002 S000002 00     1970 A CWH                1.00"
+				)
+		);
+		assertThat(
+				read(sortedLayers), contains(
+						"01002 S000001 00     1970 1  55", //
+						"01002 S000001 00     1970 Z", //
+						"01002 S000002 00     1970 1  45", //
+						"01002 S000002 00     1970 Z"
+				)
+		);
+	}
+
+	@Test
+	void testRunErrors() throws IOException {
+		assertThat(PolygonFileSorter.run(new PolygonFileSorter()), is(PolygonFileSorter.ARGUMENT_ERROR));
+		assertThat(
+				PolygonFileSorter.run(new PolygonFileSorter(), "-threads", "none", "-lines", "a", "b"),
+				is(PolygonFileSorter.ARGUMENT_ERROR)
+		);
+		assertThat(PolygonFileSorter.run(new PolygonFileSorter(), "-lines", "a"), is(PolygonFileSorter.ARGUMENT_ERROR));
+		assertThat(
+				PolygonFileSorter.run(new PolygonFileSorter(), "-sort", "a", "b"), is(PolygonFileSorter.ARGUMENT_ERROR)
+		);
+		assertThat(
+				PolygonFileSorter.run(
+						new PolygonFileSorter(), "-lines", dir.resolve("missing.dat").toString(),
+						dir.resolve("sorted.dat").toString()
+				), is(PolygonFileSorter.PROCESSING_ERROR)
+		);
+	}
+}
@@ -0,0 +1,49 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class CapturingPolygonWriterTest {
+
+	VdypPolygon polygon(String id) {
+		return VdypPolygon.build(builder -> {
+			builder.polygonIdentifier(id, 1988);
+			builder.percentAvailable(90f);
+			builder.biogeoclimaticZone("IDF");
+			builder.forestInventoryZone("D");
+			builder.mode(PolygonMode.START);
+		});
+	}
+
+	@Test
+	void testCapturesInOrder() throws Exception {
+		var poly1 = polygon("082E004    615");
+		var poly2 = polygon("082E004    616");
+
+		try (var unit = new CapturingPolygonWriter()) {
+			unit.writePolygonWithSpeciesAndUtilization(poly1);
+			unit.writePolygonWithSpeciesAndUtilization(poly2);
+
+			assertThat(unit.getPolygons(), contains(sameInstance(poly1), sameInstance(poly2)));
+		}
+	}
+
+	@Test
+	void testWriteAfterClose() throws Exception {
+		var unit = new CapturingPolygonWriter();
+		unit.close();
+
+		assertThat(unit.isClosed(), is(true));
+		assertThrows(IOException.class, () -> unit.writePolygonWithSpeciesAndUtilization(polygon("082E004    615")));
+	}
+}
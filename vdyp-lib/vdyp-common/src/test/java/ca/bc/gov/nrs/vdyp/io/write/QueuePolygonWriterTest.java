@@ -0,0 +1,94 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.TimeoutException;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class QueuePolygonWriterTest {
+
+	VdypPolygon polygon(String id) {
+		return VdypPolygon.build(builder -> {
+			builder.polygonIdentifier(id, 1988);
+			builder.percentAvailable(90f);
+			builder.biogeoclimaticZone("IDF");
+			builder.forestInventoryZone("D");
+			builder.mode(PolygonMode.START);
+		});
+	}
+
+	@Test
+	void testReadInOrder() throws Exception {
+		var poly1 = polygon("082E004    615");
+		var poly2 = polygon("082E004    616");
+
+		var unit = new QueuePolygonWriter(3);
+		unit.writePolygonWithSpeciesAndUtilization(poly1);
+		unit.writePolygonWithSpeciesAndUtilization(poly2);
+		unit.close();
+
+		try (var reader = unit.getReader()) {
+			assertThat(reader.hasNext(), is(true));
+			assertThat(reader.next(), sameInstance(poly1));
+			assertThat(reader.hasNext(), is(true));
+			assertThat(reader.next(), sameInstance(poly2));
+			assertThat(reader.hasNext(), is(false));
+			assertThrows(IllegalStateException.class, () -> reader.next());
+		}
+	}
+
+	@Test
+	void testBlocksWhenFull() throws Exception {
+		var poly1 = polygon("082E004    615");
+		var poly2 = polygon("082E004    616");
+
+		var unit = new QueuePolygonWriter(1);
+		unit.writePolygonWithSpeciesAndUtilization(poly1);
+
+		var secondWrite = CompletableFuture.runAsync(() -> {
+			try {
+				unit.writePolygonWithSpeciesAndUtilization(poly2);
+			} catch (IOException e) {
+				throw new IllegalStateException(e);
+			}
+		});
+
+		assertThrows(TimeoutException.class, () -> secondWrite.get(200, TimeUnit.MILLISECONDS));
+
+		var reader = unit.getReader();
+		assertThat(reader.next(), sameInstance(poly1));
+
+		secondWrite.get(5, TimeUnit.SECONDS);
+		assertThat(reader.next(), sameInstance(poly2));
+	}
+
+	@Test
+	void testWriteFailsAfterReaderClosed() throws Exception {
+		var unit = new QueuePolygonWriter(1);
+		unit.writePolygonWithSpeciesAndUtilization(polygon("082E004    615"));
+
+		unit.getReader().close();
+
+		assertThrows(IOException.class, () -> unit.writePolygonWithSpeciesAndUtilization(polygon("082E004    616")));
+		assertThrows(IOException.class, () -> unit.writePolygonWithSpeciesAndUtilization(polygon("082E004    617")));
+		unit.close();
+	}
+
+	@Test
+	void testWriteAfterClose() throws Exception {
+		var unit = new QueuePolygonWriter(1);
+		unit.close();
+
+		assertThrows(IOException.class, () -> unit.writePolygonWithSpeciesAndUtilization(polygon("082E004    615")));
+	}
+}
@@ -0,0 +1,59 @@
+package ca.bc.gov.nrs.vdyp.io.write;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+
+import org.easymock.EasyMock;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+
+class TeePolygonWriterTest {
+
+	@Test
+	void testWritesToAll() throws Exception {
+		var polygon = VdypPolygon.build(builder -> {
+			builder.polygonIdentifier("082E004    615", 1988);
+			builder.percentAvailable(90f);
+			builder.biogeoclimaticZone("IDF");
+			builder.forestInventoryZone("D");
+			builder.mode(PolygonMode.START);
+		});
+
+		var writer1 = new CapturingPolygonWriter();
+		var writer2 = new CapturingPolygonWriter();
+
+		try (var unit = new TeePolygonWriter(writer1, writer2)) {
+			unit.writePolygonWithSpeciesAndUtilization(polygon);
+		}
+
+		assertThat(writer1.getPolygons(), contains(sameInstance(polygon)));
+		assertThat(writer2.getPolygons(), contains(sameInstance(polygon)));
+		assertThat(writer1.isClosed(), is(true));
+		assertThat(writer2.isClosed(), is(true));
+	}
+
+	@Test
+	void testClosesAllWhenOneFails() throws Exception {
+		var control = EasyMock.createControl();
+		VdypPolygonWriter failing = control.createMock(VdypPolygonWriter.class);
+		failing.close();
+		EasyMock.expectLastCall().andThrow(new IOException("Test"));
+		control.replay();
+
+		var other = new CapturingPolygonWriter();
+
+		var unit = new TeePolygonWriter(failing, other);
+
+		var ex = assertThrows(IOException.class, unit::close);
+		assertThat(ex.getMessage(), is("Test"));
+		assertThat(other.isClosed(), is(true));
+		control.verify();
+	}
+}
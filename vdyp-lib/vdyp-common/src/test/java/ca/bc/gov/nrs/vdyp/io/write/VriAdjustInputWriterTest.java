@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.io.write;
 
+import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.emptyString;
 import static org.hamcrest.Matchers.is;
 
@@ -13,6 +14,7 @@ import org.junit.jupiter.api.Test;
 
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
@@ -85,6 +87,78 @@ class VriAdjustInputWriterTest {
 		utilStream.assertContent(emptyString());
 	}
 
+	VdypPolygon simplePolygon() {
+		VdypPolygon polygon = VdypPolygon.build(builder -> {
+
+			builder.polygonIdentifier("082E004    615       1988");
+			builder.percentAvailable(90f);
+			builder.biogeoclimaticZone("IDF");
+			builder.forestInventoryZone("D");
+			builder.mode(PolygonMode.START);
+		});
+		var layer = VdypLayer.build(polygon, builder -> {
+			builder.polygonIdentifier("082E004    615       1988");
+			builder.layerType(LayerType.PRIMARY);
+		});
+		layer.setEmpericalRelationshipParameterIndex(Optional.of(119));
+		layer.setInventoryTypeGroup(Optional.of(28));
+		return polygon;
+	}
+
+	@Test
+	void testOffsets() throws IOException {
+		try (var unit = new VriAdjustInputWriter(controlMap, fileResolver);) {
+			assertThat(
+					unit.getOffsets(),
+					is(
+							Map.of(
+									ControlKey.VRI_OUTPUT_VDYP_POLYGON.name(), 0L,
+									ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name(), 0L,
+									ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(), 0L
+							)
+					)
+			);
+
+			unit.writePolygonWithSpeciesAndUtilization(simplePolygon());
+			unit.flush();
+
+			assertThat(
+					unit.getOffsets(),
+					is(
+							Map.of(
+									ControlKey.VRI_OUTPUT_VDYP_POLYGON.name(), (long) polyStream.toString().length(),
+									ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name(),
+									(long) specStream.toString().length(),
+									ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(),
+									(long) utilStream.toString().length()
+							)
+					)
+			);
+		}
+	}
+
+	@Test
+	void testResumeAtOffsets() throws IOException {
+		var resolver = new MemoryFileResolver();
+		resolver.addFile("testPolygonFile", "kept\ndiscarded\n");
+		resolver.addFile("testSpeciesFile", "discarded\n");
+		resolver.addFile("testUtilizationFile", "discarded\n");
+
+		var offsets = Map.of(ControlKey.VRI_OUTPUT_VDYP_POLYGON.name(), 5L);
+		try (var unit = new VriAdjustInputWriter(controlMap, resolver, offsets);) {
+			unit.writePolygon(simplePolygon());
+
+			assertThat(unit.getOffsets().get(ControlKey.VRI_OUTPUT_VDYP_POLYGON.name()), is(53L));
+			assertThat(unit.getOffsets().get(ControlKey.VRI_OUTPUT_VDYP_LAYER_BY_SPECIES.name()), is(0L));
+		}
+
+		assertThat(
+				resolver.getString("testPolygonFile").get(),
+				is("kept\n082E004    615       1988 IDF  D    90 28119  1\n")
+		);
+		assertThat(resolver.getString("testSpeciesFile").get(), emptyString());
+	}
+
 	@Test
 	void testWritePolygon() throws IOException {
 		try (var unit = new VriAdjustInputWriter(controlMap, fileResolver);) {
@@ -0,0 +1,82 @@
+package ca.bc.gov.nrs.vdyp.math;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import org.apache.commons.math3.analysis.UnivariateFunction;
+import org.apache.commons.math3.analysis.solvers.BrentSolver;
+import org.apache.commons.math3.exception.NoBracketingException;
+import org.apache.commons.math3.exception.TooManyEvaluationsException;
+import org.junit.jupiter.api.Test;
+
+class BrentRootFinderTest {
+
+	static final UnivariateFunction CUBIC = x -> x * x * x - 2 * x - 5;
+
+	@Test
+	void testMatchesCommonsFromMidpoint() {
+		double[][] brackets = { { 2, 3 }, { 0, 10 }, { -1, 2.5 }, { 2.09, 2.1 } };
+		for (var bracket : brackets) {
+			double min = bracket[0];
+			double max = bracket[1];
+
+			var commons = new BrentSolver();
+			double expected = commons.solve(100, CUBIC, min, max, (min + max) / 2);
+
+			var finder = new BrentRootFinder();
+			double result = finder.solve(100, CUBIC, min, max, CUBIC.value(min), CUBIC.value(max), (min + max) / 2);
+
+			assertThat(result, is(expected));
+			// The values at the ends of the bracket are not evaluated again
+			assertThat(finder.getEvaluations(), lessThan(commons.getEvaluations()));
+		}
+	}
+
+	@Test
+	void testSecantStart() {
+		var finder = new BrentRootFinder();
+		double result = finder.solve(100, CUBIC, 2, 3, CUBIC.value(2), CUBIC.value(3), Double.NaN);
+
+		assertThat(result, closeTo(2.0945514815, 1e-6));
+	}
+
+	@Test
+	void testSecant() {
+		assertThat(BrentRootFinder.secant(0, 4, -1, 3), is(1.0));
+		// Falls back to the middle when the line doesn't cross 0 inside the bracket
+		assertThat(BrentRootFinder.secant(0, 4, 1, 3), is(2.0));
+	}
+
+	@Test
+	void testRootAtEnd() {
+		var finder = new BrentRootFinder();
+
+		assertThat(finder.solve(100, x -> x - 1, 1, 3, 0, 2, 2), is(1.0));
+		assertThat(finder.getEvaluations(), is(1));
+
+		assertThat(finder.solve(100, x -> x - 3, 1, 3, -2, 0, 2), is(3.0));
+		assertThat(finder.getEvaluations(), is(1));
+	}
+
+	@Test
+	void testNoBracket() {
+		var finder = new BrentRootFinder();
+
+		assertThrows(
+				NoBracketingException.class, () -> finder.solve(100, CUBIC, 3, 4, CUBIC.value(3), CUBIC.value(4), 3.5)
+		);
+	}
+
+	@Test
+	void testTooManyEvaluations() {
+		var finder = new BrentRootFinder();
+
+		assertThrows(
+				TooManyEvaluationsException.class,
+				() -> finder.solve(3, CUBIC, 0, 10, CUBIC.value(0), CUBIC.value(10), 5)
+		);
+	}
+}
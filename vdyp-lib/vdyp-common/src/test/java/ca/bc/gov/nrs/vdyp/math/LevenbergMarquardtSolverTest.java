@@ -0,0 +1,169 @@
+package ca.bc.gov.nrs.vdyp.math;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.analysis.MultivariateMatrixFunction;
+import org.apache.commons.math3.analysis.MultivariateVectorFunction;
+import org.apache.commons.math3.fitting.leastsquares.LeastSquaresFactory;
+import org.apache.commons.math3.fitting.leastsquares.LevenbergMarquardtOptimizer;
+import org.apache.commons.math3.linear.DiagonalMatrix;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.math.LevenbergMarquardtSolver.JacobianFunction;
+import ca.bc.gov.nrs.vdyp.math.LevenbergMarquardtSolver.VectorFunction;
+
+class LevenbergMarquardtSolverTest {
+
+	// x^2 + y^2 + z = 6, x y - z = -1, exp(x - 1) + y z = 4
+	static final VectorFunction SYSTEM = (p, y) -> {
+		y[0] = p[0] * p[0] + p[1] * p[1] + p[2];
+		y[1] = p[0] * p[1] - p[2];
+		y[2] = Math.exp(p[0] - 1) + p[1] * p[2];
+	};
+
+	static final JacobianFunction SYSTEM_JACOBIAN = (p, v, j) -> {
+		j[0][0] = 2 * p[0];
+		j[0][1] = 2 * p[1];
+		j[0][2] = 1;
+		j[1][0] = p[1];
+		j[1][1] = p[0];
+		j[1][2] = -1;
+		j[2][0] = Math.exp(p[0] - 1);
+		j[2][1] = p[2];
+		j[2][2] = p[1];
+	};
+
+	static final double[] GOAL = { 6, -1, 4 };
+
+	static double[] value(VectorFunction function, double[] point) {
+		var result = new double[point.length];
+		function.value(point, result);
+		return result;
+	}
+
+	static double[] forwardDifference(MultivariateVectorFunction func, double[] x) {
+		// Forward difference as estimated by FipStart
+		var y = func.value(x);
+		var result = new double[x.length][x.length];
+		var x2 = Arrays.copyOf(x, x.length);
+		for (int j = 0; j < x.length; j++) {
+			double temp = x[j];
+			double h = LevenbergMarquardtSolver.FORWARD_DIFFERENCE_STEP * Math.abs(temp);
+			if (h == 0) {
+				h = LevenbergMarquardtSolver.FORWARD_DIFFERENCE_STEP;
+			}
+			x2[j] = temp + h;
+			var y2 = func.value(x2);
+			x2[j] = temp;
+			for (int i = 0; i < x.length; i++) {
+				result[i][j] = (y2[i] - y[i]) / h;
+			}
+		}
+		return Arrays.stream(result).flatMapToDouble(Arrays::stream).toArray();
+	}
+
+	static double[] reference(
+			MultivariateVectorFunction func, MultivariateMatrixFunction jacFunc, double[] goal, double[] start,
+			double weight, double tolerance
+	) {
+		var optimizer = new LevenbergMarquardtOptimizer().withCostRelativeTolerance(tolerance);
+		var diag = new double[start.length];
+		Arrays.fill(diag, weight);
+		var problem = LeastSquaresFactory.create(func, jacFunc, goal, start, new DiagonalMatrix(diag), null, 200, 1000);
+		return optimizer.optimize(problem).getPoint().toArray();
+	}
+
+	@Test
+	void testMatchesCommonsMathWithForwardDifference() {
+		MultivariateVectorFunction func = p -> value(SYSTEM, p);
+		MultivariateMatrixFunction jacFunc = p -> {
+			var flat = forwardDifference(func, p);
+			var result = new double[p.length][p.length];
+			for (int i = 0; i < p.length; i++) {
+				System.arraycopy(flat, i * p.length, result[i], 0, p.length);
+			}
+			return result;
+		};
+
+		var solver = new LevenbergMarquardtSolver(3);
+		solver.setWeight(3);
+		for (double tolerance : new double[] { 2.0e-3f, 1e-10 }) {
+			solver.setCostRelativeTolerance(tolerance);
+			for (var start : new double[][] { { 1, 1, 1 }, { 0, 0, 0 }, { 3, -2, 5 } }) {
+				var expected = reference(func, jacFunc, GOAL, start, 3, tolerance);
+
+				var point = Arrays.copyOf(start, start.length);
+				solver.solve(SYSTEM, GOAL, point);
+
+				assertThat(point, is(expected));
+			}
+		}
+	}
+
+	@Test
+	void testMatchesCommonsMathWithJacobian() {
+		MultivariateVectorFunction func = p -> value(SYSTEM, p);
+		MultivariateMatrixFunction jacFunc = p -> {
+			var result = new double[p.length][p.length];
+			SYSTEM_JACOBIAN.jacobian(p, null, result);
+			return result;
+		};
+
+		var solver = new LevenbergMarquardtSolver(3);
+		for (var start : new double[][] { { 1, 1, 1 }, { 0.5, 3, 0 } }) {
+			var expected = reference(func, jacFunc, GOAL, start, 1, 1e-10);
+
+			var point = Arrays.copyOf(start, start.length);
+			solver.solve(SYSTEM, SYSTEM_JACOBIAN, GOAL, point);
+
+			assertThat(point, is(expected));
+
+			var y = value(SYSTEM, point);
+			for (int i = 0; i < GOAL.length; i++) {
+				assertThat(y[i], closeTo(GOAL[i], 1e-8));
+			}
+		}
+		assertThat(solver.getEvaluations(), lessThan(LevenbergMarquardtSolver.DEFAULT_MAX_EVALUATIONS));
+	}
+
+	@Test
+	void testOneUnknown() {
+		var solver = new LevenbergMarquardtSolver(1);
+		var point = new double[] { 1 };
+		solver.solve((p, y) -> y[0] = p[0] * p[0], new double[] { 2 }, point);
+
+		assertThat(point[0], closeTo(Math.sqrt(2), 1e-6));
+		assertThat(solver.getIterations(), lessThan(20));
+	}
+
+	@Test
+	void testTooManyEvaluations() {
+		var solver = new LevenbergMarquardtSolver(1);
+		solver.setMaxEvaluations(3);
+
+		// No root, so the solver keeps trying
+		var ex = assertThrows(
+				IllegalStateException.class,
+				() -> solver.solve((p, y) -> y[0] = p[0] * p[0] + 1, new double[] { 0 }, new double[] { 5 })
+		);
+		assertThat(ex.getMessage(), is("Maximal count (3) exceeded: evaluations"));
+	}
+
+	@Test
+	void testInvalidArguments() {
+		assertThrows(IllegalArgumentException.class, () -> new LevenbergMarquardtSolver(0));
+
+		var solver = new LevenbergMarquardtSolver(2);
+		assertThrows(IllegalArgumentException.class, () -> solver.setWeight(0));
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> solver.solve((p, y) -> y[0] = p[0], new double[] { 0 }, new double[] { 1, 1 })
+		);
+	}
+}
@@ -25,6 +25,13 @@ class CoefficientsTest {
 		assertThrows(ArrayIndexOutOfBoundsException.class, () -> unit.getCoe(2));
 	}
 
+	@Test
+	void testFill() {
+		var unit = new Coefficients(new float[] { 2f, 3f, 4f }, -1);
+		unit.fill(0f);
+		assertThat(unit, VdypMatchers.coe(-1, 0f, 0f, 0f));
+	}
+
 	@Test
 	void testPairwiseInPlace() {
 		var unit1 = new Coefficients(new float[] { 2f, 3f, 4f }, -1);
@@ -2,11 +2,18 @@ package ca.bc.gov.nrs.vdyp.model;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
 import static org.hamcrest.Matchers.not;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
 import org.junit.jupiter.params.ParameterizedTest;
 import org.junit.jupiter.params.provider.CsvFileSource;
 import org.junit.jupiter.params.provider.ValueSource;
@@ -44,6 +51,33 @@ class PolygonIdentifierTest {
 		assertThat(unit.hashCode(), not(is(differentYear.hashCode())));
 	}
 
+	@Test
+	void testCompareTo() {
+		var ids = List.of(
+				"                     2024", //
+				"01002 S000001 00     1970", //
+				"01002 S000001 00     1971", //
+				"01002 S000001 00A    1953", //
+				"01002 S000002 00     1953", //
+				"01003AS000001 00     1953", //
+				"TestPolygon           256", //
+				"TestPolygon          2024", //
+				"TestPolygonxxxxxxxxxx2024"
+		);
+
+		// Same order as the text of the identifiers
+		var shuffled = new ArrayList<>(ids.stream().map(PolygonIdentifier::split).toList());
+		Collections.reverse(shuffled);
+		Collections.sort(shuffled);
+		assertThat(shuffled.stream().map(PolygonIdentifier::toString).toList(), equalTo(ids));
+
+		var unit = PolygonIdentifier.split("01002 S000001 00     1970");
+		assertThat(unit.compareTo(PolygonIdentifier.split("01002 S000001 00     1970")), is(0));
+		assertThat(unit.compareTo(PolygonIdentifier.split("01002 S000001 00     1969")), greaterThan(0));
+		assertThat(unit.compareTo(PolygonIdentifier.split("01002 S000001 0      1970")), greaterThan(0));
+		assertThat(unit.compareTo(PolygonIdentifier.split("01002 S000001 00     1971")), lessThan(0));
+	}
+
 	@ParameterizedTest
 	@ValueSource(
 			strings = { //
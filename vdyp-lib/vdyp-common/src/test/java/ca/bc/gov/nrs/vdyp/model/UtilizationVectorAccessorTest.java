@@ -0,0 +1,94 @@
+package ca.bc.gov.nrs.vdyp.model;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsInAnyOrder;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import java.beans.Introspector;
+import java.beans.PropertyDescriptor;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.List;
+import java.util.Locale;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.EnumSource;
+
+class UtilizationVectorAccessorTest {
+
+	VdypSpecies species() {
+		return VdypSpecies.build(builder -> {
+			builder.polygonIdentifier("Test", 2024);
+			builder.layerType(LayerType.PRIMARY);
+			builder.genus("B");
+			builder.percentGenus(50f);
+			builder.volumeGroup(1);
+			builder.decayGroup(2);
+			builder.breakageGroup(3);
+		});
+	}
+
+	@ParameterizedTest
+	@EnumSource(UtilizationVectorAccessor.class)
+	void testAccessorsUseMatchingProperty(UtilizationVectorAccessor accessor) throws Exception {
+		var spec = species();
+		var vector = new UtilizationVector(1f, 2f, 3f, 4f, 5f, 6f);
+
+		accessor.set(spec, vector);
+		assertThat(accessor.get(spec), sameInstance(vector));
+
+		var property = propertyFor(accessor);
+		assertThat(property.getReadMethod().invoke(spec), sameInstance(vector));
+	}
+
+	@Test
+	void testCoversAllProperties() throws Exception {
+		var properties = utilizationProperties().stream().map(PropertyDescriptor::getName).toList();
+		var accessors = Arrays.stream(UtilizationVectorAccessor.values()).map(this::propertyName).toList();
+
+		assertThat(accessors, containsInAnyOrder(properties.toArray()));
+	}
+
+	// These are the filters previously applied to the properties found by reflection
+	@Test
+	void testGroups() throws Exception {
+		var all = utilizationProperties().stream().map(PropertyDescriptor::getName)
+				.filter(name -> !name.startsWith("loreyHeight")).toList();
+
+		assertThat(names(UtilizationVectorAccessor.ALL_BUT_LOREY_HEIGHT), is(all));
+		assertThat(
+				names(UtilizationVectorAccessor.SUMMABLE),
+				is(all.stream().filter(name -> !name.startsWith("quadraticMeanDiameter")).toList())
+		);
+		assertThat(
+				names(UtilizationVectorAccessor.NON_VOLUME),
+				is(all.stream().filter(name -> !name.contains("Volume")).toList())
+		);
+	}
+
+	List<String> names(Collection<UtilizationVectorAccessor> accessors) {
+		return accessors.stream().map(this::propertyName).toList();
+	}
+
+	String propertyName(UtilizationVectorAccessor accessor) {
+		var words = accessor.name().toLowerCase(Locale.ROOT).split("_");
+		var result = new StringBuilder(words[0]);
+		for (int i = 1; i < words.length; i++) {
+			result.append(Character.toUpperCase(words[i].charAt(0))).append(words[i].substring(1));
+		}
+		return result.append("ByUtilization").toString();
+	}
+
+	PropertyDescriptor propertyFor(UtilizationVectorAccessor accessor) throws Exception {
+		var name = propertyName(accessor);
+		return utilizationProperties().stream().filter(p -> p.getName().equals(name)).findFirst().orElseThrow();
+	}
+
+	List<PropertyDescriptor> utilizationProperties() throws Exception {
+		return Arrays.stream(Introspector.getBeanInfo(VdypUtilizationHolder.class).getPropertyDescriptors())
+				.filter(p -> p.getName().endsWith("ByUtilization"))
+				.filter(p -> p.getPropertyType() == UtilizationVector.class).toList();
+	}
+}
@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.fip;
 
+import static ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser.nextForPolygon;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.abs;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.clamp;
 import static ca.bc.gov.nrs.vdyp.math.FloatMath.exp;
@@ -9,39 +10,40 @@ import static java.lang.Math.max;
 import static java.lang.Math.min;
 
 import java.io.IOException;
-import java.lang.reflect.InvocationTargetException;
+import java.util.ArrayDeque;
 import java.util.Arrays;
 import java.util.Collection;
 import java.util.Comparator;
+import java.util.Deque;
 import java.util.EnumMap;
 import java.util.EnumSet;
 import java.util.HashMap;
-import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.NoSuchElementException;
 import java.util.Objects;
 import java.util.Optional;
+import java.util.concurrent.ArrayBlockingQueue;
+import java.util.concurrent.BlockingQueue;
+import java.util.concurrent.ExecutionException;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.function.ToDoubleFunction;
 import java.util.stream.Collectors;
 import java.util.stream.Stream;
 
-import org.apache.commons.math3.analysis.MultivariateMatrixFunction;
 import org.apache.commons.math3.analysis.MultivariateVectorFunction;
-import org.apache.commons.math3.fitting.leastsquares.LeastSquaresFactory;
-import org.apache.commons.math3.fitting.leastsquares.LeastSquaresProblem;
-import org.apache.commons.math3.fitting.leastsquares.LevenbergMarquardtOptimizer;
-import org.apache.commons.math3.linear.DiagonalMatrix;
-import org.apache.commons.math3.linear.RealMatrix;
-import org.apache.commons.math3.linear.RealVector;
 import org.apache.commons.math3.util.FastMath;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
 import ca.bc.gov.nrs.vdyp.application.LowValueException;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.application.StageProfiler.Stage;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
@@ -58,7 +60,9 @@ import ca.bc.gov.nrs.vdyp.fip.model.FipSpecies;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.BecDefinitionParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.math.LevenbergMarquardtSolver;
 import ca.bc.gov.nrs.vdyp.model.BaseVdypSpecies;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
@@ -86,6 +90,26 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 	public static final float TOLERANCE = 2.0e-3f;
 
+	// Root finding work space by number of unknowns, reused between polygons
+	private final Map<Integer, LevenbergMarquardtSolver> rootSolvers = new HashMap<>();
+
+	private boolean analyticRootJacobian = false;
+
+	/**
+	 * Polygons that may be read ahead of the next one to be written, for each thread processing polygons
+	 */
+	static final int PENDING_POLYGONS_PER_THREAD = 4;
+
+	// Number of threads processing polygons, 1 to process them on the calling thread
+	private int threads = 1;
+
+	/**
+	 * Run FIPSTART from the command line. The arguments are any of these options, or those accepted by all start
+	 * applications, followed by the control files:
+	 * <ul>
+	 * <li>{@code -threads <count>} threads processing polygons
+	 * </ul>
+	 */
 	public static void main(final String... args) throws IOException {
 
 		try (var app = new FipStart();) {
@@ -93,18 +117,39 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		}
 	}
 
+	@Override
+	protected int applyOption(String[] args, int i) {
+		var option = args[i];
+		switch (option) {
+		case "-threads" -> setThreads(Integer.parseInt(optionArgument(args, ++i, option)));
+		default -> i = super.applyOption(args, i);
+		}
+		return i;
+	}
+
 	// FIP_SUB
 	// TODO Fortran takes a vector of flags (FIPPASS) controlling which stages are
 	// implemented. FIPSTART always uses the same vector so far now that's not
 	// implemented.
 	@Override
 	public void process() throws ProcessingException {
+		if (threads > 1) {
+			processConcurrently();
+			return;
+		}
+
 		int polygonsRead = 0;
 		int polygonsWritten = 0;
 		try (
 				var polyStream = this.<FipPolygon>getStreamingParser(ControlKey.FIP_INPUT_YIELD_POLY);
-				var layerStream = this.<Map<LayerType, FipLayer>>getStreamingParser(ControlKey.FIP_INPUT_YIELD_LAYER);
-				var speciesStream = this.<Collection<FipSpecies>>getStreamingParser(ControlKey.FIP_INPUT_YIELD_LX_SP0);
+				var layerStream = this.<Map<LayerType, FipLayer>>getChildStreamingParser(
+						ControlKey.FIP_INPUT_YIELD_LAYER,
+						layers -> layers.values().stream().findFirst().map(FipLayer::getPolygonIdentifier), HashMap::new
+				);
+				var speciesStream = this.<Collection<FipSpecies>>getChildStreamingParser(
+						ControlKey.FIP_INPUT_YIELD_LX_SP0,
+						SortMergeJoinStreamingParser.firstKey(FipSpecies::getPolygonIdentifier), List::of
+				);
 		) {
 			log.atDebug().setMessage("Start Stand processing").log();
 
@@ -113,6 +158,9 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 				// FIP_GET
 				log.atInfo().setMessage("Getting polygon {}").addArgument(polygonsRead + 1).log();
 				var polygon = getPolygon(polyStream, layerStream, speciesStream);
+				if (getCheckpointer().skip(polygon.getPolygonIdentifier())) {
+					continue;
+				}
 				try {
 
 					var resultPoly = processPolygon(polygonsRead, polygon);
@@ -135,17 +183,184 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 					log.atWarn().setMessage("Polygon {} bypassed").addArgument(polygon.getPolygonIdentifier())
 							.setCause(ex);
 				}
+				commitPolygon(polygon.getPolygonIdentifier());
 
 			}
+			getCheckpointer().finish();
+			getProfiler().finish();
+		} catch (IOException | ResourceParseException ex) {
+			throw new ProcessingException("Error while reading or writing data.", ex);
+		}
+	}
+
+	/**
+	 * As {@link #process} but the polygons are processed by a pool of workers, each a separate {@code FipStart} created
+	 * by {@link #createWorker}. Polygons are still read and written on the calling thread, in the order they are read,
+	 * and a polygon that fails with a {@link StandProcessingException} is bypassed as it is when processing them one at
+	 * a time.
+	 */
+	void processConcurrently() throws ProcessingException {
+		BlockingQueue<FipStart> workers = new ArrayBlockingQueue<>(threads);
+		for (int i = 0; i < threads; i++) {
+			workers.add(createWorker());
+		}
+
+		var threadNumber = new AtomicInteger();
+		ExecutorService executor = Executors.newFixedThreadPool(threads, r -> {
+			var thread = new Thread(r, "vdyp-fipstart-" + threadNumber.incrementAndGet());
+			thread.setDaemon(true);
+			return thread;
+		});
+
+		Deque<PendingPolygon> pending = new ArrayDeque<>();
+		int polygonsRead = 0;
+		int polygonsWritten = 0;
+		try (
+				var polyStream = this.<FipPolygon>getStreamingParser(ControlKey.FIP_INPUT_YIELD_POLY);
+				var layerStream = this.<Map<LayerType, FipLayer>>getChildStreamingParser(
+						ControlKey.FIP_INPUT_YIELD_LAYER,
+						layers -> layers.values().stream().findFirst().map(FipLayer::getPolygonIdentifier), HashMap::new
+				);
+				var speciesStream = this.<Collection<FipSpecies>>getChildStreamingParser(
+						ControlKey.FIP_INPUT_YIELD_LX_SP0,
+						SortMergeJoinStreamingParser.firstKey(FipSpecies::getPolygonIdentifier), List::of
+				);
+		) {
+			log.atDebug().setMessage("Start Stand processing with {} threads").addArgument(threads).log();
+
+			while (polyStream.hasNext()) {
+
+				// FIP_GET
+				log.atInfo().setMessage("Getting polygon {}").addArgument(polygonsRead + 1).log();
+				var polygon = getPolygon(polyStream, layerStream, speciesStream);
+				polygonsRead++;
+				if (getCheckpointer().skip(polygon.getPolygonIdentifier())) {
+					continue;
+				}
+				// As when processing them one at a time this is the number written before this polygon, but those
+				// still pending aren't counted yet
+				final int polygonNumber = polygonsWritten;
+
+				// There is a worker for each thread so one is always free when a task starts
+				var result = executor.submit(() -> {
+					var worker = workers.take();
+					try {
+						return worker.processPolygon(polygonNumber, polygon);
+					} finally {
+						workers.put(worker);
+					}
+				});
+				pending.add(new PendingPolygon(polygon, result));
+
+				if (pending.size() >= threads * PENDING_POLYGONS_PER_THREAD && writeNextPolygon(pending)) {
+					polygonsWritten++;
+				}
+			}
+
+			while (!pending.isEmpty()) {
+				if (writeNextPolygon(pending)) {
+					polygonsWritten++;
+				}
+			}
+
+			log.atDebug().setMessage("Read {} polygons and wrote {}").addArgument(polygonsRead)
+					.addArgument(polygonsWritten).log();
+			getCheckpointer().finish();
+			getProfiler().finish();
+
 		} catch (IOException | ResourceParseException ex) {
 			throw new ProcessingException("Error while reading or writing data.", ex);
+		} finally {
+			executor.shutdownNow();
 		}
 	}
 
+	private record PendingPolygon(FipPolygon polygon, Future<Optional<VdypPolygon>> result) {
+	}
+
+	/**
+	 * Wait for the oldest pending polygon to be processed, write it, and commit it to the checkpointer.
+	 *
+	 * @return true if a polygon was written, false if it was skipped or bypassed
+	 */
+	private boolean writeNextPolygon(Deque<PendingPolygon> pending) throws ProcessingException, IOException {
+		var next = pending.remove();
+		boolean written = false;
+		try {
+			var resultPoly = next.result().get();
+			if (resultPoly.isPresent()) {
+				getVriWriter().writePolygonWithSpeciesAndUtilization(resultPoly.get());
+				written = true;
+			}
+		} catch (ExecutionException e) {
+			var cause = e.getCause();
+			if (cause instanceof StandProcessingException ex) {
+				log.atWarn().setMessage("Polygon {} bypassed").addArgument(next.polygon().getPolygonIdentifier())
+						.setCause(ex).log();
+			} else if (cause instanceof ProcessingException ex) {
+				throw ex;
+			} else if (cause instanceof RuntimeException ex) {
+				throw ex;
+			} else if (cause instanceof Error err) {
+				throw err;
+			} else {
+				throw new ProcessingException(
+						"Error while processing polygon " + next.polygon().getPolygonIdentifier(), cause
+				);
+			}
+		} catch (InterruptedException e) {
+			Thread.currentThread().interrupt();
+			throw new ProcessingException("Interrupted while processing polygons", e);
+		}
+		commitPolygon(next.polygon().getPolygonIdentifier());
+		return written;
+	}
+
+	/**
+	 * Create a {@code FipStart} to process polygons on another thread. It shares the control map, which is only read
+	 * while processing, but has its own estimation methods and root finding work space.
+	 */
+	protected FipStart createWorker() {
+		var worker = new FipStart();
+		worker.setControlMap(controlMap);
+		worker.copyDebugModes(this);
+		worker.setAnalyticRootJacobian(analyticRootJacobian);
+		worker.setProfiler(getProfiler());
+		return worker;
+	}
+
+	/**
+	 * @return the number of threads processing polygons
+	 */
+	public int getThreads() {
+		return threads;
+	}
+
+	/**
+	 * Set the number of threads processing polygons. With more than one the polygons are processed concurrently but are
+	 * still written in the order they are read. The default is 1, processing them on the calling thread.
+	 */
+	public void setThreads(int threads) {
+		if (threads < 1) {
+			throw new IllegalArgumentException("Number of threads must be at least 1 but was " + threads);
+		}
+		this.threads = threads;
+	}
+
 	static final EnumSet<PolygonMode> ACCEPTABLE_MODES = EnumSet.of(PolygonMode.START, PolygonMode.YOUNG);
 
 	Optional<VdypPolygon> processPolygon(int polygonsRead, FipPolygon polygon)
 			throws ProcessingException, LowValueException {
+		getProfiler().startPolygon(polygon.getPolygonIdentifier());
+		try {
+			return processPolygonStages(polygonsRead, polygon);
+		} finally {
+			getProfiler().endPolygon();
+		}
+	}
+
+	private Optional<VdypPolygon> processPolygonStages(int polygonsRead, FipPolygon polygon)
+			throws ProcessingException, LowValueException {
 		VdypPolygon resultPoly;
 		log.atInfo().setMessage("Read polygon {}, preparing to process").addArgument(polygon.getPolygonIdentifier())
 				.log();
@@ -170,7 +385,9 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 		log.atInfo().setMessage("Checking validity of polygon {}:{}").addArgument(polygonsRead)
 				.addArgument(polygon.getPolygonIdentifier()).log();
-		checkPolygon(polygon);
+		try (var timer = getProfiler().time(Stage.CHECK)) {
+			checkPolygon(polygon);
+		}
 
 		// CALL FIPCALCV( BAV, IER)
 		// CALL FIPCALC1( BAV, BA_TOTL1, IER)
@@ -181,7 +398,9 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		var fipVetLayer = Optional.ofNullable(fipLayers.get(LayerType.VETERAN));
 		Optional<VdypLayer> resultVetLayer;
 		if (fipVetLayer.isPresent()) {
-			resultVetLayer = Optional.of(processLayerAsVeteran(polygon, fipVetLayer.get()));
+			try (var timer = getProfiler().time(Stage.VETERAN_LAYER)) {
+				resultVetLayer = Optional.of(processLayerAsVeteran(polygon, fipVetLayer.get()));
+			}
 		} else {
 			resultVetLayer = Optional.empty();
 		}
@@ -189,10 +408,13 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 		FipLayerPrimary fipPrimeLayer = (FipLayerPrimary) fipLayers.get(LayerType.PRIMARY);
 		assert fipPrimeLayer != null;
-		var resultPrimeLayer = processLayerAsPrimary(
-				polygon, fipPrimeLayer,
-				resultVetLayer.map(VdypLayer::getBaseAreaByUtilization).map(coe -> coe.getAll()).orElse(0f)
-		);
+		VdypLayer resultPrimeLayer;
+		try (var timer = getProfiler().time(Stage.PRIMARY_LAYER)) {
+			resultPrimeLayer = processLayerAsPrimary(
+					polygon, fipPrimeLayer,
+					resultVetLayer.map(VdypLayer::getBaseAreaByUtilization).map(coe -> coe.getAll()).orElse(0f)
+			);
+		}
 		processedLayers.put(LayerType.PRIMARY, resultPrimeLayer);
 
 		resultPoly = createVdypPolygon(polygon, processedLayers);
@@ -362,13 +584,19 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 			}
 
 			// ROOTF01
-			findRootsForDiameterAndBaseArea(result, fipLayer, bec, iPass + 1);
+			try (var timer = getProfiler().time(Stage.ROOT_FINDING)) {
+				findRootsForDiameterAndBaseArea(result, fipLayer, bec, iPass + 1);
+			}
 		}
 
-		estimateSmallComponents(fipPolygon, result);
+		try (var timer = getProfiler().time(Stage.SMALL_COMPONENTS)) {
+			estimateSmallComponents(fipPolygon, result);
+		}
 
 		// YUC1
-		computeUtilizationComponentsPrimary(bec, result, VolumeComputeMode.BY_UTIL, CompatibilityVariableMode.NONE);
+		try (var timer = getProfiler().time(Stage.UTILIZATION)) {
+			computeUtilizationComponentsPrimary(bec, result, VolumeComputeMode.BY_UTIL, CompatibilityVariableMode.NONE);
+		}
 
 		return result;
 	}
@@ -384,8 +612,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		var quadMeanDiameterTotal = result.getQuadraticMeanDiameterByUtilization().getAll(); // DQ_TOT
 		var baseAreaTotal = result.getBaseAreaByUtilization().getAll(); // BA_TOT
 		var treesPerHectareTotal = result.getTreesPerHectareByUtilization().getAll(); // TPH_TOT
-		Map<String, Float> goal = new LinkedHashMap<>(); // GOAL
-		Map<String, Float> xMap = new LinkedHashMap<>(); // X
+		float[] goal = new float[result.getSpecies().size()]; // GOAL
 
 		float treesPerHectareSum;
 
@@ -393,15 +620,8 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 
 		if (result.getSpecies().size() == 1) {
 			var spec = result.getSpecies().values().iterator().next();
-			for (var accessors : NON_VOLUME_UTILIZATION_VECTOR_ACCESSORS) {
-
-				try {
-					UtilizationVector specVector = (UtilizationVector) accessors.getReadMethod().invoke(spec);
-					UtilizationVector layerVector = (UtilizationVector) accessors.getReadMethod().invoke(result);
-					specVector.setAll(layerVector.getAll());
-				} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException e) {
-					throw new IllegalStateException(e);
-				}
+			for (var accessor : NON_VOLUME_UTILIZATION_VECTOR_ACCESSORS) {
+				accessor.get(spec).setAll(accessor.get(result).getAll());
 			}
 
 			result.getLoreyHeightByUtilization().setAll(spec.getLoreyHeightByUtilization().getAll());
@@ -485,30 +705,34 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 			// that must be more than 1
 			// Fill in target and trial values
 
-			Utils.eachButLast(result.getSpecies().values(), spec -> {
-				goal.put(spec.getGenus(), spec.getPercentGenus());
-				xMap.put(spec.getGenus(), spec.getPercentGenus());
-			}, spec -> {
-				goal.put(spec.getGenus(), quadMeanDiameterTotal);
-				xMap.put(spec.getGenus(), 0f);
-			});
-
-			var xVec = xMap.values().stream().mapToDouble(v -> (double) v).toArray();
-			var goalVec = goal.values().stream().mapToDouble(v -> (double) v).toArray();
+			double[] goalVec = new double[goal.length];
+			double[] xVec = new double[goal.length]; // X
+			{
+				int i = 0;
+				for (var spec : result.getSpecies().values()) {
+					if (i < goal.length - 1) {
+						goal[i] = spec.getPercentGenus();
+						xVec[i] = spec.getPercentGenus();
+					} else {
+						goal[i] = quadMeanDiameterTotal;
+						xVec[i] = 0f;
+					}
+					goalVec[i] = goal[i];
+					i++;
+				}
+			}
 
 			// SNQSOL
 			var rootVec = this.findRoot(quadMeanDiameterBase, goalVec, xVec, result, TOLERANCE);
 
-			var rootMap = new LinkedHashMap<String, Float>();
 			{
 				float percentSum = 0;
 				var it = result.getSpecies().values().iterator();
 				for (int i = 0; it.hasNext(); i++) {
 					var spec = it.next();
-					rootMap.put(spec.getGenus(), (float) rootVec.getEntry(i));
 					if (it.hasNext()) {
-						spec.setPercentGenus((float) rootVec.getEntry(i));
-						percentSum += rootVec.getEntry(i);
+						spec.setPercentGenus((float) rootVec[i]);
+						percentSum += rootVec[i];
 					} else {
 						spec.setPercentGenus(100 - percentSum);
 					}
@@ -522,7 +746,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 				int i = 0;
 				for (var spec : result.getSpecies().values()) {
 					float dqBase = (float) quadMeanDiameterBase[i++];
-					float dq = 7.5f + (dqBase - 7.5f) * exp((float) rootVec.getEntry(rootVec.getDimension() - 1) / 20f);
+					float dq = 7.5f + (dqBase - 7.5f) * exp((float) rootVec[rootVec.length - 1] / 20f);
 					assert dq >= 0;
 					float ba = baseAreaTotal * spec.getPercentGenus() / 100f;
 					assert ba >= 0;
@@ -566,8 +790,9 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		}
 
 		if (result.getSpecies().size() > 1) {
+			int i = 0;
 			for (var spec : result.getSpecies().values()) {
-				if (spec.getWholeStemVolumeByUtilization().getAll() / volumeSum - goal.get(spec.getGenus()) > 0.1) {
+				if (spec.getWholeStemVolumeByUtilization().getAll() / volumeSum - goal[i++] > 0.1) {
 					throw new ProcessingException("TODO");
 				}
 			}
@@ -692,120 +917,114 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		var volumeAdjustMap = Utils.<Map<String, Coefficients>>expectParsedControl(
 				controlMap, ControlKey.VETERAN_LAYER_VOLUME_ADJUST, Map.class
 		);
-		try {
-			for (var vdypSpecies : vdypLayer.getSpecies().values()) {
-
-				var treesPerHectareUtil = Utils.utilizationVector();
-				var quadMeanDiameterUtil = Utils.utilizationVector();
-				var baseAreaUtil = Utils.utilizationVector();
-				var wholeStemVolumeUtil = Utils.utilizationVector();
-
-				var closeUtilizationVolumeUtil = Utils.utilizationVector();
-				var closeUtilizationNetOfDecayUtil = Utils.utilizationVector();
-				var closeUtilizationNetOfDecayAndWasteUtil = Utils.utilizationVector();
-				var closeUtilizationNetOfDecayWasteAndBreakageUtil = Utils.utilizationVector();
-
-				var hlSp = vdypSpecies.getLoreyHeightByUtilization().getAll();
-				{
-					var baSp = vdypSpecies.getBaseAreaByUtilization().getLarge();
-					var tphSp = vdypSpecies.getTreesPerHectareByUtilization().getLarge();
-					var dqSp = vdypSpecies.getQuadraticMeanDiameterByUtilization().getLarge();
-
-					treesPerHectareUtil.setAll(tphSp);
-					quadMeanDiameterUtil.setAll(dqSp);
-					baseAreaUtil.setAll(baSp);
-					wholeStemVolumeUtil.setAll(0f);
-
-					treesPerHectareUtil.setLarge(tphSp);
-					quadMeanDiameterUtil.setLarge(dqSp);
-					baseAreaUtil.setLarge(baSp);
-					wholeStemVolumeUtil.setLarge(0f);
-				}
-				// AADJUSTV
-				var volumeAdjustCoe = volumeAdjustMap.get(vdypSpecies.getGenus());
+		for (var vdypSpecies : vdypLayer.getSpecies().values()) {
 
-				var utilizationClass = UtilizationClass.OVER225; // IUC_VET
+			var treesPerHectareUtil = Utils.utilizationVector();
+			var quadMeanDiameterUtil = Utils.utilizationVector();
+			var baseAreaUtil = Utils.utilizationVector();
+			var wholeStemVolumeUtil = Utils.utilizationVector();
 
-				// ADJ
-				var adjust = new Coefficients(new float[] { 0f, 0f, 0f, 0f }, 1);
+			var closeUtilizationVolumeUtil = Utils.utilizationVector();
+			var closeUtilizationNetOfDecayUtil = Utils.utilizationVector();
+			var closeUtilizationNetOfDecayAndWasteUtil = Utils.utilizationVector();
+			var closeUtilizationNetOfDecayWasteAndBreakageUtil = Utils.utilizationVector();
 
-				// EMP091
-				EstimationMethods.estimateWholeStemVolume(
-						controlMap, utilizationClass, volumeAdjustCoe.getCoe(1), vdypSpecies.getVolumeGroup(), hlSp,
-						quadMeanDiameterUtil, baseAreaUtil, wholeStemVolumeUtil
-				);
+			var hlSp = vdypSpecies.getLoreyHeightByUtilization().getAll();
+			{
+				var baSp = vdypSpecies.getBaseAreaByUtilization().getLarge();
+				var tphSp = vdypSpecies.getTreesPerHectareByUtilization().getLarge();
+				var dqSp = vdypSpecies.getQuadraticMeanDiameterByUtilization().getLarge();
+
+				treesPerHectareUtil.setAll(tphSp);
+				quadMeanDiameterUtil.setAll(dqSp);
+				baseAreaUtil.setAll(baSp);
+				wholeStemVolumeUtil.setAll(0f);
+
+				treesPerHectareUtil.setLarge(tphSp);
+				quadMeanDiameterUtil.setLarge(dqSp);
+				baseAreaUtil.setLarge(baSp);
+				wholeStemVolumeUtil.setLarge(0f);
+			}
+			// AADJUSTV
+			var volumeAdjustCoe = volumeAdjustMap.get(vdypSpecies.getGenus());
 
-				adjust.setCoe(4, volumeAdjustCoe.getCoe(2));
-				// EMP092
-				EstimationMethods.estimateCloseUtilizationVolume(
-						controlMap, utilizationClass, adjust, vdypSpecies.getVolumeGroup(), hlSp, quadMeanDiameterUtil,
-						wholeStemVolumeUtil, closeUtilizationVolumeUtil
-				);
+			var utilizationClass = UtilizationClass.OVER225; // IUC_VET
 
-				adjust.setCoe(4, volumeAdjustCoe.getCoe(3));
-				// EMP093
-				EstimationMethods.estimateNetDecayVolume(
-						controlMap, vdypSpecies.getGenus(), bec.getRegion(), utilizationClass, adjust,
-						vdypSpecies.getDecayGroup(), vdypLayer.getBreastHeightAge().orElse(0f), quadMeanDiameterUtil,
-						closeUtilizationVolumeUtil, closeUtilizationNetOfDecayUtil
-				);
+			// ADJ
+			var adjust = new Coefficients(new float[] { 0f, 0f, 0f, 0f }, 1);
 
-				adjust.setCoe(4, volumeAdjustCoe.getCoe(4));
-				// EMP094
-				final var netDecayCoeMap = Utils.<Map<String, Coefficients>>expectParsedControl(
-						controlMap, ControlKey.VOLUME_NET_DECAY_WASTE, Map.class
-				);
-				final var wasteModifierMap = Utils.<MatrixMap2<String, Region, Float>>expectParsedControl(
-						controlMap, ControlKey.WASTE_MODIFIERS, MatrixMap2.class
-				);
-				EstimationMethods.estimateNetDecayAndWasteVolume(
-						bec.getRegion(), utilizationClass, adjust, vdypSpecies.getGenus(), hlSp, netDecayCoeMap,
-						wasteModifierMap, quadMeanDiameterUtil, closeUtilizationVolumeUtil,
-						closeUtilizationNetOfDecayUtil, closeUtilizationNetOfDecayAndWasteUtil
-				);
+			// EMP091
+			EstimationMethods.estimateWholeStemVolume(
+					controlMap, utilizationClass, volumeAdjustCoe.getCoe(1), vdypSpecies.getVolumeGroup(), hlSp,
+					quadMeanDiameterUtil, baseAreaUtil, wholeStemVolumeUtil
+			);
 
-				if (getId().isStart()) {
-					// EMP095
-					EstimationMethods.estimateNetDecayWasteAndBreakageVolume(
-							controlMap, utilizationClass, vdypSpecies.getBreakageGroup(), quadMeanDiameterUtil,
-							closeUtilizationVolumeUtil, closeUtilizationNetOfDecayAndWasteUtil,
-							closeUtilizationNetOfDecayWasteAndBreakageUtil
-					);
-				}
+			adjust.setCoe(4, volumeAdjustCoe.getCoe(2));
+			// EMP092
+			EstimationMethods.estimateCloseUtilizationVolume(
+					controlMap, utilizationClass, adjust, vdypSpecies.getVolumeGroup(), hlSp, quadMeanDiameterUtil,
+					wholeStemVolumeUtil, closeUtilizationVolumeUtil
+			);
 
-				vdypSpecies.setBaseAreaByUtilization(baseAreaUtil);
-				vdypSpecies.setTreesPerHectareByUtilization(treesPerHectareUtil);
-				vdypSpecies.setQuadraticMeanDiameterByUtilization(quadMeanDiameterUtil);
-				vdypSpecies.setWholeStemVolumeByUtilization(wholeStemVolumeUtil);
-				vdypSpecies.setCloseUtilizationVolumeByUtilization(closeUtilizationVolumeUtil);
-				vdypSpecies.setCloseUtilizationVolumeNetOfDecayByUtilization(closeUtilizationNetOfDecayUtil);
-				vdypSpecies.setCloseUtilizationVolumeNetOfDecayAndWasteByUtilization(
-						closeUtilizationNetOfDecayAndWasteUtil
-				);
-				vdypSpecies.setCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization(
+			adjust.setCoe(4, volumeAdjustCoe.getCoe(3));
+			// EMP093
+			EstimationMethods.estimateNetDecayVolume(
+					controlMap, vdypSpecies.getGenus(), bec.getRegion(), utilizationClass, adjust,
+					vdypSpecies.getDecayGroup(), vdypLayer.getBreastHeightAge().orElse(0f), quadMeanDiameterUtil,
+					closeUtilizationVolumeUtil, closeUtilizationNetOfDecayUtil
+			);
+
+			adjust.setCoe(4, volumeAdjustCoe.getCoe(4));
+			// EMP094
+			final var netDecayCoeMap = Utils.<Map<String, Coefficients>>expectParsedControl(
+					controlMap, ControlKey.VOLUME_NET_DECAY_WASTE, Map.class
+			);
+			final var wasteModifierMap = Utils.<MatrixMap2<String, Region, Float>>expectParsedControl(
+					controlMap, ControlKey.WASTE_MODIFIERS, MatrixMap2.class
+			);
+			EstimationMethods.estimateNetDecayAndWasteVolume(
+					bec.getRegion(), utilizationClass, adjust, vdypSpecies.getGenus(), hlSp, netDecayCoeMap,
+					wasteModifierMap, quadMeanDiameterUtil, closeUtilizationVolumeUtil, closeUtilizationNetOfDecayUtil,
+					closeUtilizationNetOfDecayAndWasteUtil
+			);
+
+			if (getId().isStart()) {
+				// EMP095
+				EstimationMethods.estimateNetDecayWasteAndBreakageVolume(
+						controlMap, utilizationClass, vdypSpecies.getBreakageGroup(), quadMeanDiameterUtil,
+						closeUtilizationVolumeUtil, closeUtilizationNetOfDecayAndWasteUtil,
 						closeUtilizationNetOfDecayWasteAndBreakageUtil
 				);
+			}
 
-				for (var accessors : UTILIZATION_VECTOR_ACCESSORS) {
-					UtilizationVector utilVector = (UtilizationVector) accessors.getReadMethod().invoke(vdypSpecies);
-
-					// Set all components other than 4 to 0.0
-					for (var uc : UtilizationClass.ALL_BUT_LARGEST) {
-						utilVector.set(uc, 0f);
-					}
+			vdypSpecies.setBaseAreaByUtilization(baseAreaUtil);
+			vdypSpecies.setTreesPerHectareByUtilization(treesPerHectareUtil);
+			vdypSpecies.setQuadraticMeanDiameterByUtilization(quadMeanDiameterUtil);
+			vdypSpecies.setWholeStemVolumeByUtilization(wholeStemVolumeUtil);
+			vdypSpecies.setCloseUtilizationVolumeByUtilization(closeUtilizationVolumeUtil);
+			vdypSpecies.setCloseUtilizationVolumeNetOfDecayByUtilization(closeUtilizationNetOfDecayUtil);
+			vdypSpecies
+					.setCloseUtilizationVolumeNetOfDecayAndWasteByUtilization(closeUtilizationNetOfDecayAndWasteUtil);
+			vdypSpecies.setCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization(
+					closeUtilizationNetOfDecayWasteAndBreakageUtil
+			);
 
-					// Set component 0 to equal component 4.
-					utilVector.setAll(utilVector.getLarge());
+			for (var accessor : UTILIZATION_VECTOR_ACCESSORS) {
+				UtilizationVector utilVector = accessor.get(vdypSpecies);
 
-					accessors.getWriteMethod().invoke(vdypSpecies, utilVector);
+				// Set all components other than 4 to 0.0
+				for (var uc : UtilizationClass.ALL_BUT_LARGEST) {
+					utilVector.set(uc, 0f);
 				}
-			}
 
-			computeLayerUtilizationComponentsFromSpecies(vdypLayer);
+				// Set component 0 to equal component 4.
+				utilVector.setAll(utilVector.getLarge());
 
-		} catch (IllegalAccessException | InvocationTargetException ex) {
-			throw new IllegalStateException(ex);
+				accessor.set(vdypSpecies, utilVector);
+			}
 		}
+
+		computeLayerUtilizationComponentsFromSpecies(vdypLayer);
 	}
 
 	// FIP_GET
@@ -820,7 +1039,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		log.trace("Getting layers for polygon {}", polygon.getPolygonIdentifier());
 		Map<LayerType, FipLayer> layers;
 		try {
-			layers = layerStream.next();
+			layers = nextForPolygon(layerStream, polygon.getPolygonIdentifier());
 		} catch (NoSuchElementException ex) {
 			throw validationError("Layers file has fewer records than polygon file.", ex);
 		}
@@ -828,7 +1047,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		log.trace("Getting species for polygon {}", polygon.getPolygonIdentifier());
 		Collection<FipSpecies> species;
 		try {
-			species = speciesStream.next();
+			species = nextForPolygon(speciesStream, polygon.getPolygonIdentifier());
 		} catch (NoSuchElementException ex) {
 			throw validationError("Species file has fewer records than polygon file.", ex);
 		}
@@ -982,15 +1201,7 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 	 * @return
 	 */
 	public float estimateMeanVolume(int volumeGroup, float loreyHeight, float quadMeanDiameter) {
-		var coeMap = Utils.<Map<Integer, Coefficients>>expectParsedControl(
-				controlMap, ControlKey.TOTAL_STAND_WHOLE_STEM_VOL, Map.class
-		);
-
-		var coe = coeMap.get(volumeGroup);
-
-		if (coe == null) {
-			throw new IllegalArgumentException("Coefficients not found for volume group " + volumeGroup);
-		}
+		var coe = meanVolumeCoefficients(volumeGroup);
 
 		float lvMean = //
 				coe.getCoe(0) + //
@@ -1006,17 +1217,35 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		return exp(lvMean);
 	}
 
+	private Coefficients meanVolumeCoefficients(int volumeGroup) {
+		var coeMap = Utils.<Map<Integer, Coefficients>>expectParsedControl(
+				controlMap, ControlKey.TOTAL_STAND_WHOLE_STEM_VOL, Map.class
+		);
+
+		var coe = coeMap.get(volumeGroup);
+
+		if (coe == null) {
+			throw new IllegalArgumentException("Coefficients not found for volume group " + volumeGroup);
+		}
+		return coe;
+	}
+
 	double[] rootFinderFunction(double[] point, VdypLayer layer, double[] diameterBase) {
+		var y = new double[point.length];
+		rootFinderFunction(point, layer, diameterBase, y);
+		return y;
+	}
+
+	/**
+	 * Evaluate the root finding function into an existing array so that the solver doesn't allocate on each evaluation.
+	 */
+	void rootFinderFunction(double[] point, VdypLayer layer, double[] diameterBase, double[] y) {
 
-		var percentL1 = new double[point.length];
 		double percentSum = 0;
-		if (point.length > 1) {
-			for (int i = 0; i < point.length - 1; i++) {
-				percentL1[i] = point[i];
-				percentSum += point[i];
-			}
+		for (int i = 0; i < point.length - 1; i++) {
+			percentSum += point[i];
 		}
-		percentL1[point.length - 1] = 100d - percentSum;
+		final double percentLast = 100d - percentSum;
 
 		double volumeSum = 0d;
 		double treesPerHectareSum = 0d;
@@ -1035,7 +1264,8 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 						+ (diameterBase[j] - 7.5) * FastMath.exp(point[point.length - 1] / 20d));
 				spec.getQuadraticMeanDiameterByUtilization().setAll(quadMeanDiameter);
 
-				final float baseArea = (float) (layerBa * percentL1[j] / 100d);
+				final double percentL1 = j < point.length - 1 ? point[j] : percentLast;
+				final float baseArea = (float) (layerBa * percentL1 / 100d);
 				spec.getBaseAreaByUtilization().setAll(baseArea);
 
 				final float tph = BaseAreaTreeDensityDiameter.treesPerHectare(baseArea, quadMeanDiameter);
@@ -1055,8 +1285,6 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		double dqFinal = BaseAreaTreeDensityDiameter
 				.quadMeanDiameter(layer.getBaseAreaByUtilization().getAll(), (float) treesPerHectareSum);
 
-		var y = new double[point.length];
-
 		if (layer.getSpecies().size() > 1) {
 			var it = layer.getSpecies().values().iterator();
 			for (int i = 0; it.hasNext(); i++) {
@@ -1066,7 +1294,123 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 			}
 		}
 		y[y.length - 1] = dqFinal;
-		return y;
+	}
+
+	/**
+	 * Analytic Jacobian of {@link #rootFinderFunction}, treating it as a function of doubles rather than of the floats
+	 * it rounds its intermediate values to. Unlike the function this has no side effects on the layer.
+	 *
+	 * @param result array to store the Jacobian in, indexed by equation then by unknown
+	 */
+	void rootFinderJacobian(double[] point, VdypLayer layer, double[] diameterBase, double[][] result) {
+		final int n = point.length;
+		final int last = n - 1;
+
+		double percentSum = 0;
+		for (int i = 0; i < last; i++) {
+			percentSum += point[i];
+		}
+		final double percentLast = 100d - percentSum;
+
+		final double layerBa = layer.getBaseAreaByUtilization().getAll();
+		final double growth = FastMath.exp(point[last] / 20d);
+
+		var wholeStemVolume = new double[n];
+		var wholeStemVolumeByPercent = new double[n]; // d WSV_j / d percent_j
+		var wholeStemVolumeByLast = new double[n]; // d WSV_j / d X(last)
+		var treesPerHectareByPercent = new double[n]; // d TPH_j / d percent_j
+
+		double volumeSum = 0d;
+		double volumeSumByLast = 0d;
+		double treesPerHectareSum = 0d;
+		double treesPerHectareSumByLast = 0d;
+
+		{
+			var it = layer.getSpecies().values().iterator();
+			for (int j = 0; it.hasNext(); j++) {
+				var spec = it.next();
+
+				final double quadMeanDiameter = 7.5 + (diameterBase[j] - 7.5) * growth;
+				final double quadMeanDiameterByLast = (diameterBase[j] - 7.5) * growth / 20d;
+
+				final double baseArea = layerBa * (j < last ? point[j] : percentLast) / 100d;
+
+				// Trees per hectare are 0, and so constant, outside this
+				if (baseArea <= 0 || quadMeanDiameter <= 0) {
+					continue;
+				}
+
+				final double basalAreaPerTree = BaseAreaTreeDensityDiameter.PI_40K * quadMeanDiameter
+						* quadMeanDiameter;
+				final double tph = baseArea / basalAreaPerTree;
+				final double tphByPercent = layerBa / 100d / basalAreaPerTree;
+				final double tphByDiameter = -2d * tph / quadMeanDiameter;
+
+				final double loreyHeight = spec.getLoreyHeightByUtilization().getAll();
+				final var coe = meanVolumeCoefficients(spec.getVolumeGroup());
+
+				final double lvMean = //
+						coe.getCoe(0) + //
+								coe.getCoe(1) * Math.log(quadMeanDiameter) + //
+								coe.getCoe(2) * Math.log(loreyHeight) + //
+								coe.getCoe(3) * quadMeanDiameter + //
+								coe.getCoe(4) / quadMeanDiameter + //
+								coe.getCoe(5) * loreyHeight + //
+								coe.getCoe(6) * quadMeanDiameter * quadMeanDiameter + //
+								coe.getCoe(7) * quadMeanDiameter * loreyHeight + //
+								coe.getCoe(8) * loreyHeight / quadMeanDiameter;
+				final double lvMeanByDiameter = //
+						coe.getCoe(1) / quadMeanDiameter + //
+								coe.getCoe(3) - //
+								coe.getCoe(4) / (quadMeanDiameter * quadMeanDiameter) + //
+								2 * coe.getCoe(6) * quadMeanDiameter + //
+								coe.getCoe(7) * loreyHeight - //
+								coe.getCoe(8) * loreyHeight / (quadMeanDiameter * quadMeanDiameter);
+				final double meanVolume = Math.exp(lvMean);
+
+				wholeStemVolume[j] = tph * meanVolume;
+				wholeStemVolumeByPercent[j] = tphByPercent * meanVolume;
+				wholeStemVolumeByLast[j] = (tphByDiameter + tph * lvMeanByDiameter) * meanVolume
+						* quadMeanDiameterByLast;
+				treesPerHectareByPercent[j] = tphByPercent;
+
+				volumeSum += wholeStemVolume[j];
+				volumeSumByLast += wholeStemVolumeByLast[j];
+				treesPerHectareSum += tph;
+				treesPerHectareSumByLast += tphByDiameter * quadMeanDiameterByLast;
+			}
+		}
+
+		// Percentages of volume by species. Raising one percentage lowers the last species' to compensate.
+		if (layer.getSpecies().size() > 1 && volumeSum > 0) {
+			final double volumeSum2 = volumeSum * volumeSum;
+			for (int i = 0; i < last; i++) {
+				for (int k = 0; k < last; k++) {
+					final double volumeSumByPercent = wholeStemVolumeByPercent[k] - wholeStemVolumeByPercent[last];
+					final double volumeByPercent = i == k ? wholeStemVolumeByPercent[i] : 0d;
+					result[i][k] = 100d * (volumeByPercent * volumeSum - wholeStemVolume[i] * volumeSumByPercent)
+							/ volumeSum2;
+				}
+				result[i][last] = 100d * (wholeStemVolumeByLast[i] * volumeSum - wholeStemVolume[i] * volumeSumByLast)
+						/ volumeSum2;
+			}
+		} else {
+			for (int i = 0; i < last; i++) {
+				Arrays.fill(result[i], 0d);
+			}
+		}
+
+		// Quadratic mean diameter of the layer, sqrt(BA / TPH / PI_40K)
+		Arrays.fill(result[last], 0d);
+		if (layerBa > 0 && layerBa <= 1e6 && treesPerHectareSum > 0 && treesPerHectareSum <= 1e6) {
+			final double dqFinal = Math.sqrt(layerBa / treesPerHectareSum / BaseAreaTreeDensityDiameter.PI_40K);
+			final double dqFinalByTreesPerHectare = -dqFinal / (2d * treesPerHectareSum);
+			for (int k = 0; k < last; k++) {
+				result[last][k] = dqFinalByTreesPerHectare
+						* (treesPerHectareByPercent[k] - treesPerHectareByPercent[last]);
+			}
+			result[last][last] = dqFinalByTreesPerHectare * treesPerHectareSumByLast;
+		}
 	}
 
 	@Override
@@ -1124,36 +1468,46 @@ public class FipStart extends VdypStartApplication<FipPolygon, FipLayer, FipSpec
 		return result;
 	}
 
-	RealMatrix identityMatrix(int n) {
-		var diag = new double[n];
-		Arrays.fill(diag, n);
-		return new DiagonalMatrix(diag);
-
-	}
-
-	RealVector findRoot(double[] diameterBase, double[] goal, double[] x, VdypLayer layer, double tolerance) {
-		MultivariateVectorFunction func = point -> rootFinderFunction(point, layer, diameterBase);
-
-		MultivariateMatrixFunction jacFunc = point -> estimateJacobian(point, func);
+	/**
+	 * Find the point where {@link #rootFinderFunction} reaches the goal, weighting each equation by the number of
+	 * equations. The Jacobian is estimated by forward difference as in VDYP7 unless the analytic Jacobian is enabled.
+	 *
+	 * @return the root, in a new array
+	 */
+	double[] findRoot(double[] diameterBase, double[] goal, double[] x, VdypLayer layer, double tolerance) {
+		var solver = rootSolvers.computeIfAbsent(x.length, LevenbergMarquardtSolver::new);
 
-		LevenbergMarquardtOptimizer optimizer = new LevenbergMarquardtOptimizer();
+		solver.setCostRelativeTolerance(tolerance); // Not sure if this is the right tolerance
+		solver.setWeight(x.length);
 
-		optimizer.withCostRelativeTolerance(tolerance); // Not sure if this is the right tolerance
+		var point = Arrays.copyOf(x, x.length);
+		LevenbergMarquardtSolver.VectorFunction function = (p, y) -> rootFinderFunction(p, layer, diameterBase, y);
+		try {
+			if (analyticRootJacobian) {
+				solver.solve(
+						function, (p, y, jacobian) -> rootFinderJacobian(p, layer, diameterBase, jacobian), goal, point
+				);
+			} else {
+				solver.solve(function, goal, point);
+			}
+		} finally {
+			getProfiler().addEvaluations(solver.getEvaluations());
+		}
 
-		LeastSquaresProblem leastSquaresProblem = LeastSquaresFactory.create(
-				func, //
-				jacFunc, //
-				goal, //
-				x, //
-				identityMatrix(x.length), //
-				null, //
-				200, //
-				1000 //
-		);
+		return point;
+	}
 
-		var result = optimizer.optimize(leastSquaresProblem);
+	public boolean isAnalyticRootJacobian() {
+		return analyticRootJacobian;
+	}
 
-		return result.getPoint();
+	/**
+	 * Use the analytic Jacobian of the species diameter and base area system when finding roots in
+	 * {@link #findRootsForDiameterAndBaseArea} rather than estimating it by forward difference. This saves a function
+	 * evaluation per species on each step but the roots may differ slightly from those VDYP7 finds.
+	 */
+	public void setAnalyticRootJacobian(boolean analyticRootJacobian) {
+		this.analyticRootJacobian = analyticRootJacobian;
 	}
 
 	@Override
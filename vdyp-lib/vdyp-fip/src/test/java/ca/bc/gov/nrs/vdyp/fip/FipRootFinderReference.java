@@ -0,0 +1,76 @@
+package ca.bc.gov.nrs.vdyp.fip;
+
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+
+import java.util.Arrays;
+
+import org.apache.commons.math3.analysis.MultivariateMatrixFunction;
+import org.apache.commons.math3.analysis.MultivariateVectorFunction;
+import org.apache.commons.math3.fitting.leastsquares.LeastSquaresFactory;
+import org.apache.commons.math3.fitting.leastsquares.LeastSquaresProblem;
+import org.apache.commons.math3.fitting.leastsquares.LevenbergMarquardtOptimizer;
+import org.apache.commons.math3.linear.DiagonalMatrix;
+
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+
+/**
+ * The commons-math implementation of {@link FipStart#findRoot} that was replaced by
+ * {@link ca.bc.gov.nrs.vdyp.math.LevenbergMarquardtSolver}, kept to check that the solver reaches the same roots.
+ */
+public class FipRootFinderReference {
+
+	private FipRootFinderReference() {
+	}
+
+	public static double[] findRoot(
+			FipStart app, double[] diameterBase, double[] goal, double[] x, VdypLayer layer, double tolerance
+	) {
+		MultivariateVectorFunction func = point -> app.rootFinderFunction(point, layer, diameterBase);
+
+		MultivariateMatrixFunction jacFunc = point -> app.estimateJacobian(point, func);
+
+		LevenbergMarquardtOptimizer optimizer = new LevenbergMarquardtOptimizer();
+
+		optimizer.withCostRelativeTolerance(tolerance);
+
+		var diag = new double[x.length];
+		Arrays.fill(diag, x.length);
+
+		LeastSquaresProblem leastSquaresProblem = LeastSquaresFactory.create(
+				func, //
+				jacFunc, //
+				goal, //
+				x, //
+				new DiagonalMatrix(diag), //
+				null, //
+				200, //
+				1000 //
+		);
+
+		return optimizer.optimize(leastSquaresProblem).getPoint().toArray();
+	}
+
+	/**
+	 * FipStart that checks every root it finds against the reference implementation
+	 */
+	public static class CheckingFipStart extends FipStart {
+
+		private int roots = 0;
+
+		@Override
+		double[] findRoot(double[] diameterBase, double[] goal, double[] x, VdypLayer layer, double tolerance) {
+			var expected = FipRootFinderReference.findRoot(this, diameterBase, goal, x, layer, tolerance);
+			var actual = super.findRoot(diameterBase, goal, x, layer, tolerance);
+			assertArrayEquals(expected, actual);
+			roots++;
+			return actual;
+		}
+
+		/**
+		 * @return the number of roots that have been checked
+		 */
+		public int getRoots() {
+			return roots;
+		}
+	}
+}
@@ -8,12 +8,14 @@ import static org.hamcrest.Matchers.aMapWithSize;
 import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anEmptyMap;
 import static org.hamcrest.Matchers.any;
+import static org.hamcrest.Matchers.arrayContaining;
 import static org.hamcrest.Matchers.contains;
 import static org.hamcrest.Matchers.equalTo;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasProperty;
 import static org.hamcrest.Matchers.instanceOf;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThanOrEqualTo;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -25,10 +27,12 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.Collections;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.LinkedHashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.function.Consumer;
 import java.util.function.Function;
 import java.util.stream.Collectors;
@@ -38,8 +42,11 @@ import org.easymock.IMocksControl;
 import org.hamcrest.Matcher;
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.ValueSource;
 
 import ca.bc.gov.nrs.vdyp.application.ApplicationTestUtils;
+import ca.bc.gov.nrs.vdyp.application.PolygonPipeline;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
@@ -58,6 +65,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.MockStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.io.write.CapturingPolygonWriter;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
@@ -100,6 +108,247 @@ class FipStartTest {
 
 	}
 
+	@ParameterizedTest
+	@ValueSource(booleans = { true, false })
+	void testProcessToPipeline(boolean concurrent) throws Exception {
+
+		var polygonId = polygonId("Test Polygon", 2023);
+		var layer = LayerType.PRIMARY;
+
+		testWith(
+				FipTestUtils.loadControlMap(), Arrays.asList(getTestPolygon(polygonId, TestUtils.valid())), //
+				Arrays.asList(layerMap(getTestPrimaryLayer(polygonId, TestUtils.valid(), TestUtils.valid()))), //
+				Arrays.asList(Collections.singletonList(getTestSpecies(polygonId, layer, TestUtils.valid()))), //
+				(app, controlMap) -> {
+					var files = new CapturingPolygonWriter();
+					app.init(controlMap, files);
+
+					var received = new ArrayList<VdypPolygon>();
+					new PolygonPipeline(1, true, concurrent).run(app, polygons -> {
+						try {
+							while (polygons.hasNext()) {
+								received.add(polygons.next());
+							}
+						} catch (IOException | ResourceParseException e) {
+							throw new ProcessingException(e);
+						}
+					});
+
+					assertThat(received, is(files.getPolygons()));
+					assertThat(files.isClosed(), is(true));
+				}
+		);
+
+	}
+
+	@ParameterizedTest
+	@ValueSource(ints = { 1, 2, 5 })
+	void testProcessWithThreads(int threads) throws Exception {
+
+		var layer = LayerType.PRIMARY;
+
+		var polygons = new ArrayList<FipPolygon>();
+		var layers = new ArrayList<Map<LayerType, FipLayer>>();
+		var species = new ArrayList<Collection<FipSpecies>>();
+		var expectedIds = new ArrayList<PolygonIdentifier>();
+		var bypassedIds = new HashSet<PolygonIdentifier>();
+		var skippedIds = new HashSet<PolygonIdentifier>();
+		for (int i = 0; i < 12; i++) {
+			var polygonId = polygonId("Test Polygon " + i, 2023);
+			polygons.add(getTestPolygon(polygonId, TestUtils.valid()));
+			layers.add(layerMap(getTestPrimaryLayer(polygonId, TestUtils.valid(), TestUtils.valid())));
+			species.add(Collections.singletonList(getTestSpecies(polygonId, layer, TestUtils.valid())));
+			switch (i % 4) {
+			case 1 -> bypassedIds.add(polygonId);
+			case 2 -> skippedIds.add(polygonId);
+			default -> expectedIds.add(polygonId);
+			}
+		}
+
+		Map<PolygonIdentifier, Integer> polygonsReadWhenProcessed = new ConcurrentHashMap<>();
+		var app = new FipStart() {
+
+			@Override
+			protected FipStart createWorker() {
+				// The replacement processPolygon doesn't use any state so this can be shared between threads
+				return this;
+			}
+
+			@Override
+			Optional<VdypPolygon> processPolygon(int polygonsRead, FipPolygon polygon) throws ProcessingException {
+				polygonsReadWhenProcessed.put(polygon.getPolygonIdentifier(), polygonsRead);
+				try {
+					// Finish the earlier polygons last
+					Thread.sleep(12 - polygons.indexOf(polygon));
+				} catch (InterruptedException e) {
+					throw new ProcessingException(e);
+				}
+				if (bypassedIds.contains(polygon.getPolygonIdentifier())) {
+					throw new StandProcessingException("Bypassed");
+				}
+				if (skippedIds.contains(polygon.getPolygonIdentifier())) {
+					return Optional.empty();
+				}
+				return Optional.of(VdypPolygon.build(builder -> builder.adapt(polygon, x -> 90f)));
+			}
+		};
+
+		testWith(app, FipTestUtils.loadControlMap(), polygons, layers, species, (unit, controlMap) -> {
+			var files = new CapturingPolygonWriter();
+			unit.init(controlMap, files);
+			app.setThreads(threads);
+
+			app.process();
+
+			assertThat(files.getPolygons().stream().map(VdypPolygon::getPolygonIdentifier).toList(), is(expectedIds));
+
+			// Only written polygons are counted, though those still being processed may not be counted yet
+			int writtenBefore = 0;
+			for (var polygon : polygons) {
+				var polygonId = polygon.getPolygonIdentifier();
+				if (threads == 1) {
+					assertThat(polygonsReadWhenProcessed.get(polygonId), is(writtenBefore));
+				} else {
+					assertThat(polygonsReadWhenProcessed.get(polygonId), lessThanOrEqualTo(writtenBefore));
+				}
+				if (expectedIds.contains(polygonId)) {
+					writtenBefore++;
+				}
+			}
+		});
+	}
+
+	@Test
+	void testProcessWithThreadsFailure() throws Exception {
+
+		var layer = LayerType.PRIMARY;
+
+		var polygons = new ArrayList<FipPolygon>();
+		var layers = new ArrayList<Map<LayerType, FipLayer>>();
+		var species = new ArrayList<Collection<FipSpecies>>();
+		for (int i = 0; i < 3; i++) {
+			var polygonId = polygonId("Test Polygon " + i, 2023);
+			polygons.add(getTestPolygon(polygonId, TestUtils.valid()));
+			layers.add(layerMap(getTestPrimaryLayer(polygonId, TestUtils.valid(), TestUtils.valid())));
+			species.add(Collections.singletonList(getTestSpecies(polygonId, layer, TestUtils.valid())));
+		}
+
+		var app = new FipStart() {
+
+			@Override
+			protected FipStart createWorker() {
+				return this;
+			}
+
+			@Override
+			Optional<VdypPolygon> processPolygon(int polygonsRead, FipPolygon polygon) throws ProcessingException {
+				throw new ProcessingException("Failed");
+			}
+		};
+
+		testWith(app, FipTestUtils.loadControlMap(), polygons, layers, species, (unit, controlMap) -> {
+			app.setThreads(2);
+
+			var ex = assertThrows(ProcessingException.class, () -> app.process());
+			assertThat(ex, hasProperty("message", is("Failed")));
+		});
+	}
+
+	@Test
+	void testThreadsOption() throws Exception {
+		try (var app = new FipStart()) {
+			assertThat(app.applyOptions("-threads", "3", "a.ctr", "b.ctr"), arrayContaining("a.ctr", "b.ctr"));
+			assertThat(app.getThreads(), is(3));
+
+			assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-threads"));
+			assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-threads", "many", "a.ctr"));
+			assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-threads", "0", "a.ctr"));
+			assertThrows(IllegalArgumentException.class, () -> app.applyOptions("-unknown", "a.ctr"));
+			assertThat(app.getThreads(), is(3));
+		}
+	}
+
+	@Test
+	void testSetThreads() throws Exception {
+		try (var app = new FipStart()) {
+			assertThat(app.getThreads(), is(1));
+			app.setThreads(3);
+			assertThat(app.getThreads(), is(3));
+			assertThrows(IllegalArgumentException.class, () -> app.setThreads(0));
+		}
+	}
+
+	@Test
+	void testProcessWithSortMergeJoin() throws Exception {
+
+		var layer = LayerType.PRIMARY;
+
+		var polygons = new ArrayList<FipPolygon>();
+		var layers = new ArrayList<Map<LayerType, FipLayer>>();
+		var species = new ArrayList<Collection<FipSpecies>>();
+		for (int i = 0; i < 6; i++) {
+			var polygonId = polygonId("Test Polygon " + i, 2023);
+			polygons.add(getTestPolygon(polygonId, TestUtils.valid()));
+			// No records at all for polygon 1 and no species for polygon 2
+			if (i != 1) {
+				layers.add(layerMap(getTestPrimaryLayer(polygonId, TestUtils.valid(), TestUtils.valid())));
+			}
+			if (i != 1 && i != 2) {
+				species.add(Collections.singletonList(getTestSpecies(polygonId, layer, TestUtils.valid())));
+			}
+			// Records for a polygon that isn't in the polygon file
+			if (i == 3) {
+				var orphanId = polygonId("Test Polygon 3A", 2023);
+				layers.add(layerMap(getTestPrimaryLayer(orphanId, TestUtils.valid(), TestUtils.valid())));
+				species.add(Collections.singletonList(getTestSpecies(orphanId, layer, TestUtils.valid())));
+			}
+		}
+
+		var processed = new ArrayList<FipPolygon>();
+		var app = new FipStart() {
+
+			@Override
+			Optional<VdypPolygon> processPolygon(int polygonsRead, FipPolygon polygon) throws ProcessingException {
+				processed.add(polygon);
+				return Optional.empty();
+			}
+		};
+
+		testWith(app, FipTestUtils.loadControlMap(), polygons, layers, species, (unit, controlMap) -> {
+			app.setSortMergeJoin(true);
+
+			app.process();
+
+			assertThat(processed, is(polygons));
+			for (int i = 0; i < 6; i++) {
+				var polygon = processed.get(i);
+				if (i == 1) {
+					assertThat(polygon.getLayers(), anEmptyMap());
+					continue;
+				}
+				var primary = polygon.getLayers().get(layer);
+				assertThat(primary.getPolygonIdentifier(), is(polygon.getPolygonIdentifier()));
+				assertThat(primary.getSpecies(), aMapWithSize(i == 2 ? 0 : 1));
+			}
+		});
+	}
+
+	@Test
+	void testProcessWithSortMergeJoinNotSorted() throws Exception {
+
+		var polygons = new ArrayList<FipPolygon>();
+		for (int i : new int[] { 1, 0 }) {
+			polygons.add(getTestPolygon(polygonId("Test Polygon " + i, 2023), TestUtils.valid()));
+		}
+
+		testWith(polygons, Collections.emptyList(), Collections.emptyList(), (app, controlMap) -> {
+			app.setSortMergeJoin(true);
+
+			var ex = assertThrows(ProcessingException.class, () -> app.process());
+			assertThat(ex, hasProperty("cause", instanceOf(ResourceParseException.class)));
+		});
+	}
+
 	@Test
 	void testPolygonWithNoLayersRecord() throws Exception {
 
@@ -3383,8 +3632,14 @@ class FipStartTest {
 			Map<String, Object> myControlMap, List<FipPolygon> polygons, List<Map<LayerType, FipLayer>> layers,
 			List<Collection<FipSpecies>> species, TestConsumer<FipStart> test
 	) throws Exception {
+		testWith(new FipStart(), myControlMap, polygons, layers, species, test);
+	}
 
-		VdypStartApplication<FipPolygon, FipLayer, FipSpecies, FipSite> app = new FipStart();
+	private static final void testWith(
+			VdypStartApplication<FipPolygon, FipLayer, FipSpecies, FipSite> app, Map<String, Object> myControlMap,
+			List<FipPolygon> polygons, List<Map<LayerType, FipLayer>> layers, List<Collection<FipSpecies>> species,
+			TestConsumer<FipStart> test
+	) throws Exception {
 
 		Map<String, Object> controlMap = new HashMap<>();
 
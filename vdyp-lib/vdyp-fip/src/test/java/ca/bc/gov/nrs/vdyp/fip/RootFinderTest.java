@@ -2,6 +2,7 @@ package ca.bc.gov.nrs.vdyp.fip;
 
 import static org.hamcrest.MatcherAssert.assertThat;
 import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
 
 import java.io.IOException;
 import java.util.Arrays;
@@ -12,7 +13,6 @@ import org.apache.commons.math3.analysis.MultivariateVectorFunction;
 import org.apache.commons.math3.linear.Array2DRowRealMatrix;
 import org.apache.commons.math3.linear.ArrayRealVector;
 import org.apache.commons.math3.linear.RealMatrix;
-import org.apache.commons.math3.linear.RealVector;
 import org.apache.commons.math3.util.FastMath;
 import org.hamcrest.CustomTypeSafeMatcher;
 import org.hamcrest.Matcher;
@@ -84,6 +84,69 @@ class RootFinderTest {
 		}
 	}
 
+	@Test
+	void testRootFunctionAnalyticJacobian() throws IOException {
+		var control = FipTestUtils.loadControlMap();
+		try (var app = new FipStart()) {
+			ApplicationTestUtils.setControlMap(app, control);
+
+			var diameterBase = new double[] { 31.7022133, 26.4500256, 33.9676628, 21.4272919, 34.4568748 };
+
+			var layer = mockLayer1(control);
+
+			MultivariateVectorFunction func = (point) -> app.rootFinderFunction(point, layer, diameterBase);
+
+			for (var x : new double[][] { { 1d, 7d, 74d, 9d, 0d }, { 3d, 20d, 50d, 15d, -2d } }) {
+				var result = new double[x.length][x.length];
+				app.rootFinderJacobian(x, layer, diameterBase, result);
+
+				// The function rounds to floats so compare with a central difference over a step large enough for
+				// the rounding not to matter.
+				assertThat(new Array2DRowRealMatrix(result), matrixCloseTo(centralDifference(x, func, 1e-2), 1e-3));
+			}
+		}
+	}
+
+	static double[][] centralDifference(double[] x, MultivariateVectorFunction func, double h) {
+		var result = new double[x.length][x.length];
+		for (int j = 0; j < x.length; j++) {
+			var forward = x.clone();
+			forward[j] += h;
+			var backward = x.clone();
+			backward[j] -= h;
+			var y1 = func.value(forward);
+			var y0 = func.value(backward);
+			for (int i = 0; i < x.length; i++) {
+				result[i][j] = (y1[i] - y0[i]) / (2 * h);
+			}
+		}
+		return result;
+	}
+
+	@Test
+	void testRootFunctionSolveAnalyticJacobian() throws IOException {
+		var control = FipTestUtils.loadControlMap();
+		try (var app = new FipStart()) {
+			ApplicationTestUtils.setControlMap(app, control);
+			app.setAnalyticRootJacobian(true);
+
+			var diameterBase = new double[] { 31.7022133, 26.4500256, 33.9676628, 21.4272919, 34.4568748 };
+			var goal = new double[] { 1d, 7d, 74d, 9d, 30.2601795d };
+			var x = new double[] { 1d, 7d, 74d, 9d, 0d };
+
+			var layer = mockLayer1(control);
+
+			var point = app.findRoot(diameterBase, goal, x, layer, 2.0e-3f);
+
+			assertThat(
+					point,
+					vectorCloseTo(
+							new double[] { 0.891877294, 11.4491625, 66.0574265, 12.3855982, 0.00443319743 }, 2.0E-03
+					)
+			);
+		}
+	}
+
 	@Test
 	void testRootFunctionSolve() throws IOException {
 		var control = FipTestUtils.loadControlMap();
@@ -107,6 +170,30 @@ class RootFinderTest {
 		}
 	}
 
+	@Test
+	void testRootFunctionSolveMatchesReference() throws IOException {
+		var control = FipTestUtils.loadControlMap();
+		try (var app = new FipStart()) {
+			ApplicationTestUtils.setControlMap(app, control);
+
+			var diameterBase = new double[] { 31.7022133, 26.4500256, 33.9676628, 21.4272919, 34.4568748 };
+			var goal = new double[] { 1d, 7d, 74d, 9d, 30.2601795d };
+			var x = new double[] { 1d, 7d, 74d, 9d, 0d };
+
+			var layer = mockLayer1(control);
+
+			var expected = FipRootFinderReference.findRoot(app, diameterBase, goal, x, layer, 2.0e-3f);
+
+			// Reusing the solver work space for a second root shouldn't change the result
+			for (int i = 0; i < 2; i++) {
+				var point = app.findRoot(diameterBase, goal, x, layer, 2.0e-3f);
+
+				assertThat(point, is(expected));
+				assertThat(x, is(new double[] { 1d, 7d, 74d, 9d, 0d }));
+			}
+		}
+	}
+
 	VdypLayer mockLayer1(Map<String, Object> control) {
 
 		final var layer = VdypLayer.build(builder -> {
@@ -204,17 +291,17 @@ class RootFinderTest {
 		};
 	}
 
-	Matcher<RealVector> vectorCloseTo(double[] value, double epsilon) {
+	Matcher<double[]> vectorCloseTo(double[] value, double epsilon) {
 		var expected = new ArrayRealVector(value);
-		return new CustomTypeSafeMatcher<RealVector>("expected Vector " + expected) {
+		return new CustomTypeSafeMatcher<double[]>("expected Vector " + expected) {
 			@Override
-			protected boolean matchesSafely(RealVector item) {
-				if (item.getDimension() != expected.getDimension()) {
+			protected boolean matchesSafely(double[] item) {
+				if (item.length != expected.getDimension()) {
 					return false;
 				}
-				for (int i = 0; i < item.getDimension(); i++) {
+				for (int i = 0; i < item.length; i++) {
 					final double expectedEntry = expected.getEntry(i);
-					final double itemEntry = item.getEntry(i);
+					final double itemEntry = item[i];
 					if (FastMath.abs(expectedEntry - itemEntry) > epsilon) {
 						return false;
 					}
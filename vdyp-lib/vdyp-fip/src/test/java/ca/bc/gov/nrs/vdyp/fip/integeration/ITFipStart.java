@@ -1,5 +1,6 @@
 package ca.bc.gov.nrs.vdyp.fip.integeration;
 
+import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 import static org.junit.jupiter.api.Assertions.fail;
@@ -12,6 +13,7 @@ import java.nio.file.NoSuchFileException;
 import java.nio.file.Path;
 import java.util.List;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.function.BiPredicate;
 import java.util.regex.Pattern;
 
@@ -20,8 +22,12 @@ import org.junit.jupiter.api.Test;
 import org.junit.jupiter.api.io.CleanupMode;
 import org.junit.jupiter.api.io.TempDir;
 
+import ca.bc.gov.nrs.vdyp.application.Checkpointer;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.application.StageProfiler;
+import ca.bc.gov.nrs.vdyp.application.StageProfiler.Stage;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
+import ca.bc.gov.nrs.vdyp.fip.FipRootFinderReference;
 import ca.bc.gov.nrs.vdyp.fip.FipStart;
 import ca.bc.gov.nrs.vdyp.fip.model.FipLayer;
 import ca.bc.gov.nrs.vdyp.fip.model.FipPolygon;
@@ -31,7 +37,9 @@ import ca.bc.gov.nrs.vdyp.fip.test.FipTestUtils;
 import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.write.ControlFileWriter;
+import ca.bc.gov.nrs.vdyp.io.write.VdypPolygonWriter;
 import ca.bc.gov.nrs.vdyp.math.FloatMath;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.test.TestUtils;
 
 class ITFipStart {
@@ -279,6 +287,154 @@ class ITFipStart {
 
 	}
 
+	@Test
+	void rootFinderMatchesReference() throws IOException, ResourceParseException, ProcessingException {
+		try (var app = new FipRootFinderReference.CheckingFipStart();) {
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			app.process();
+
+			assertTrue(app.getRoots() > 0, "No roots were found");
+		}
+
+		assertFileMatches(outputDir.resolve(POLYGON_OUTPUT_NAME), FipTestUtils.class, "vp_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(SPECIES_OUTPUT_NAME), FipTestUtils.class, "vs_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(UTILIZATION_OUTPUT_NAME), FipTestUtils.class, "vu_1.dat", this::linesMatch);
+	}
+
+	@Test
+	void controlFileWithAnalyticRootJacobian() throws IOException, ResourceParseException, ProcessingException {
+		try (var app = new FipStart();) {
+			app.setAnalyticRootJacobian(true);
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			app.process();
+		}
+
+		assertFileMatches(outputDir.resolve(POLYGON_OUTPUT_NAME), FipTestUtils.class, "vp_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(SPECIES_OUTPUT_NAME), FipTestUtils.class, "vs_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(UTILIZATION_OUTPUT_NAME), FipTestUtils.class, "vu_1.dat", this::linesMatch);
+	}
+
+	@Test
+	void controlFileWithThreads() throws IOException, ResourceParseException, ProcessingException {
+		try (var app = new FipStart();) {
+			app.setThreads(4);
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			app.process();
+		}
+
+		assertFileMatches(outputDir.resolve(POLYGON_OUTPUT_NAME), FipTestUtils.class, "vp_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(SPECIES_OUTPUT_NAME), FipTestUtils.class, "vs_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(UTILIZATION_OUTPUT_NAME), FipTestUtils.class, "vu_1.dat", this::linesMatch);
+	}
+
+	@Test
+	void controlFileWithSortMergeJoin() throws IOException, ResourceParseException, ProcessingException {
+		try (var app = new FipStart();) {
+			app.setSortMergeJoin(true);
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			app.process();
+		}
+
+		assertFileMatches(outputDir.resolve(POLYGON_OUTPUT_NAME), FipTestUtils.class, "vp_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(SPECIES_OUTPUT_NAME), FipTestUtils.class, "vs_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(UTILIZATION_OUTPUT_NAME), FipTestUtils.class, "vu_1.dat", this::linesMatch);
+	}
+
+	@Test
+	void controlFileWithProfiler() throws IOException, ResourceParseException, ProcessingException {
+		var profiler = new StageProfiler(StageProfiler.DEFAULT_SLOWEST_COUNT);
+		var summaryFile = outputDir.resolve("profile.txt");
+		profiler.setSummaryFile(Optional.of(summaryFile));
+
+		try (var app = new FipStart();) {
+			app.setProfiler(profiler);
+			app.setThreads(2);
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			app.process();
+		}
+
+		assertFileMatches(outputDir.resolve(POLYGON_OUTPUT_NAME), FipTestUtils.class, "vp_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(SPECIES_OUTPUT_NAME), FipTestUtils.class, "vs_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(UTILIZATION_OUTPUT_NAME), FipTestUtils.class, "vu_1.dat", this::linesMatch);
+
+		assertTrue(profiler.getPolygons() > 0);
+		assertTrue(profiler.getEvaluations() > 0);
+		assertTrue(profiler.getStageNanos().get(Stage.ROOT_FINDING) > 0);
+		assertTrue(Files.readString(summaryFile).contains("Slowest polygons"));
+	}
+
+	void resumeAfterCrash(int threads) throws IOException, ResourceParseException, ProcessingException {
+		var checkpointFile = outputDir.resolve("checkpoint.properties");
+
+		// Stop the first run after it has written a polygon past the last checkpoint
+		var crashing = new Checkpointer(checkpointFile, 2, false) {
+			@Override
+			public void committed(PolygonIdentifier polygonIdentifier, VdypPolygonWriter output) throws IOException {
+				super.committed(polygonIdentifier, output);
+				if (getCommitted() == 5) {
+					throw new IOException("Simulated crash");
+				}
+			}
+		};
+		try (var app = new FipStart();) {
+			app.setCheckpointer(crashing);
+			app.setThreads(threads);
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			assertThrows(ProcessingException.class, app::process);
+		}
+		assertTrue(Files.exists(checkpointFile));
+
+		try (var app = new FipStart();) {
+			app.setCheckpointer(new Checkpointer(checkpointFile, 2, true));
+			app.setThreads(threads);
+
+			var resolver = new FileSystemFileResolver(configDir);
+
+			app.init(resolver, baseControlFile.toString(), ioControlFile.toString());
+
+			app.process();
+		}
+		assertFalse(Files.exists(checkpointFile));
+
+		assertFileMatches(outputDir.resolve(POLYGON_OUTPUT_NAME), FipTestUtils.class, "vp_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(SPECIES_OUTPUT_NAME), FipTestUtils.class, "vs_1.dat", String::equals);
+		assertFileMatches(outputDir.resolve(UTILIZATION_OUTPUT_NAME), FipTestUtils.class, "vu_1.dat", this::linesMatch);
+	}
+
+	@Test
+	void controlFileResumedFromCheckpoint() throws IOException, ResourceParseException, ProcessingException {
+		resumeAfterCrash(1);
+	}
+
+	@Test
+	void controlFileResumedFromCheckpointWithThreads() throws IOException, ResourceParseException, ProcessingException {
+		resumeAfterCrash(2);
+	}
+
 	@Test
 	void utilizationFileLineMatcherSelfTest() {
 		assertTrue(
@@ -1,5 +1,7 @@
 package ca.bc.gov.nrs.vdyp.forward;
 
+import static ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser.nextForPolygon;
+
 import java.io.IOException;
 import java.text.MessageFormat;
 import java.util.ArrayList;
@@ -21,9 +23,11 @@ import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygonDescription;
 import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygonLayer;
 import ca.bc.gov.nrs.vdyp.forward.model.VdypSpeciesUtilization;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
 
 public class ForwardDataStreamReader {
@@ -31,11 +35,22 @@ public class ForwardDataStreamReader {
 	private static final Logger logger = LoggerFactory.getLogger(ForwardDataStreamReader.class);
 
 	private final StreamingParser<VdypPolygon> polygonStream;
-	private final StreamingParser<Collection<VdypLayerSpecies>> layerSpeciesStream;
-	private final StreamingParser<Collection<VdypSpeciesUtilization>> speciesUtilizationStream;
+	private StreamingParser<Collection<VdypLayerSpecies>> layerSpeciesStream;
+	private StreamingParser<Collection<VdypSpeciesUtilization>> speciesUtilizationStream;
 
-	@SuppressWarnings("unchecked")
 	public ForwardDataStreamReader(Map<String, Object> controlMap) throws IOException {
+		this(controlMap, false);
+	}
+
+	/**
+	 * @param controlMap
+	 * @param sortMergeJoin join the species and utilization files to the polygon file by polygon identifier rather than
+	 *                      by position. The files must then be sorted by polygon identifier but may leave out polygons
+	 *                      that have no records.
+	 * @throws IOException
+	 */
+	@SuppressWarnings("unchecked")
+	public ForwardDataStreamReader(Map<String, Object> controlMap, boolean sortMergeJoin) throws IOException {
 
 		var polygonStreamFactory = controlMap.get(ControlKey.FORWARD_INPUT_VDYP_POLY.name());
 		polygonStream = ((StreamingParserFactory<VdypPolygon>) polygonStreamFactory).get();
@@ -46,6 +61,21 @@ public class ForwardDataStreamReader {
 		var speciesUtilizationStreamFactory = controlMap.get(ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name());
 		speciesUtilizationStream = ((StreamingParserFactory<Collection<VdypSpeciesUtilization>>) speciesUtilizationStreamFactory)
 				.get();
+
+		if (sortMergeJoin) {
+			layerSpeciesStream = new SortMergeJoinStreamingParser<>(
+					layerSpeciesStream, ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(),
+					SortMergeJoinStreamingParser.firstKey(s -> polygonIdentifier(s.getPolygonId())), List::of
+			);
+			speciesUtilizationStream = new SortMergeJoinStreamingParser<>(
+					speciesUtilizationStream, ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(),
+					SortMergeJoinStreamingParser.firstKey(u -> polygonIdentifier(u.getPolygonId())), List::of
+			);
+		}
+	}
+
+	private static PolygonIdentifier polygonIdentifier(VdypPolygonDescription description) {
+		return new PolygonIdentifier(description.getName(), description.getYear());
 	}
 
 	public VdypPolygon readNextPolygon(VdypPolygonDescription polygonDescription) throws ProcessingException {
@@ -62,7 +92,9 @@ public class ForwardDataStreamReader {
 
 				logger.debug("Reading polygon {}", polygon);
 
-				var utilizationCollection = speciesUtilizationStream.next();
+				var polygonIdentifier = polygonIdentifier(polygon.getDescription());
+
+				var utilizationCollection = nextForPolygon(speciesUtilizationStream, polygonIdentifier);
 				var utilizationsBySpeciesMap = new HashMap<UtilizationBySpeciesKey, Map<UtilizationClass, VdypSpeciesUtilization>>();
 				for (var utilization : utilizationCollection) {
 					logger.trace("Saw utilization {}", utilization);
@@ -72,7 +104,7 @@ public class ForwardDataStreamReader {
 					utilizationsBySpeciesMap.get(key).put(utilization.getUcIndex(), utilization);
 				}
 
-				var speciesCollection = layerSpeciesStream.next();
+				var speciesCollection = nextForPolygon(layerSpeciesStream, polygonIdentifier);
 				var primarySpecies = new HashMap<Integer, VdypLayerSpecies>();
 				var veteranSpecies = new HashMap<Integer, VdypLayerSpecies>();
 				for (var species : speciesCollection) {
@@ -166,7 +198,7 @@ public class ForwardDataStreamReader {
 	 *
 	 * @param polygon
 	 */
-	private void adjustUtilizations(VdypPolygon polygon) throws ProcessingException {
+	static void adjustUtilizations(VdypPolygon polygon) throws ProcessingException {
 
 		float percentForestedLand = polygon.getPercentForestLand();
 		assert !Float.isNaN(percentForestedLand);
@@ -0,0 +1,227 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Map.Entry;
+import java.util.Optional;
+
+import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.GenusDefinitionMap;
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.common_calculators.BaseAreaTreeDensityDiameter;
+import ca.bc.gov.nrs.vdyp.forward.model.FipMode;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypEntity;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypLayerSpecies;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygonDescription;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygonLayer;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypSpeciesUtilization;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypPolygonDescriptionParser;
+import ca.bc.gov.nrs.vdyp.io.parse.coe.GenusDefinitionParser;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.model.BecLookup;
+import ca.bc.gov.nrs.vdyp.model.GenusDefinition;
+import ca.bc.gov.nrs.vdyp.model.GenusDistribution;
+import ca.bc.gov.nrs.vdyp.model.GenusDistributionSet;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
+
+/**
+ * Converts the polygons produced by FIPSTART and VRISTART directly into the model used by VDYP Forward, so that they
+ * can be processed without first being written to and read back from the VRI Adjust input files.
+ * <p>
+ * The result is the same as writing the polygon with {@link ca.bc.gov.nrs.vdyp.io.write.VriAdjustInputWriter} and
+ * reading it back with {@link ForwardDataStreamReader}, except that values are not rounded to the precision of the file
+ * formats.
+ */
+public class ForwardPolygonConverter {
+
+	// Values used by the VRI Adjust input file writer where a value is not available
+	private static final float EMPTY_FLOAT = -9f;
+	private static final int EMPTY_INT = -9;
+
+	private final Map<String, Object> controlMap;
+	private final GenusDefinitionMap genusDefinitionMap;
+	private final BecLookup becLookup;
+
+	@SuppressWarnings("unchecked")
+	public ForwardPolygonConverter(Map<String, Object> controlMap) {
+		this.controlMap = controlMap;
+		this.genusDefinitionMap = new GenusDefinitionMap(
+				Utils.<List<GenusDefinition>>expectParsedControl(controlMap, ControlKey.SP0_DEF, List.class)
+		);
+		this.becLookup = Utils.expectParsedControl(controlMap, ControlKey.BEC_DEF, BecLookup.class);
+	}
+
+	/**
+	 * Convert a polygon, along with its layers, species and utilizations, to the VDYP Forward model.
+	 *
+	 * @param polygon
+	 * @return
+	 * @throws ProcessingException if the polygon can not be represented in the VDYP Forward model.
+	 */
+	public VdypPolygon convert(ca.bc.gov.nrs.vdyp.model.VdypPolygon polygon) throws ProcessingException {
+
+		VdypPolygonDescription description;
+		try {
+			description = VdypPolygonDescriptionParser.parse(polygon.getPolygonIdentifier().toString().strip());
+		} catch (ResourceParseException e) {
+			throw new ProcessingException(e);
+		}
+
+		var bec = becLookup.get(polygon.getBiogeoclimaticZone()).orElseThrow(
+				() -> new ProcessingException(polygon.getBiogeoclimaticZone() + " is not a recognized BEC alias")
+		);
+
+		// The files record the percentage as an integer, and missing values of these as -9 which is then read as
+		// present.
+		var primary = Optional.ofNullable(polygon.getLayers().get(LayerType.PRIMARY));
+		var inventoryTypeGroup = primary.flatMap(VdypLayer::getInventoryTypeGroup).orElse(EMPTY_INT);
+		var basalAreaGroup = primary.flatMap(VdypLayer::getEmpiricalRelationshipParameterIndex).orElse(EMPTY_INT);
+
+		var result = new VdypPolygon(
+				description, bec, polygon.getForestInventoryZone().charAt(0), polygon.getPercentAvailable().intValue(),
+				Optional.of(inventoryTypeGroup), Optional.of(basalAreaGroup),
+				FipMode.getByCode(polygon.getMode().orElse(PolygonMode.START).getCode())
+		);
+
+		VdypPolygonLayer primaryLayer = null;
+		VdypPolygonLayer veteranLayer = null;
+		for (var layer : polygon.getLayers().values()) {
+			var convertedLayer = convertLayer(description, result, layer);
+			if (convertedLayer.isPresent()) {
+				if (layer.getLayerType() == LayerType.PRIMARY) {
+					primaryLayer = convertedLayer.get();
+				} else {
+					veteranLayer = convertedLayer.get();
+				}
+			}
+		}
+		result.setLayers(primaryLayer, veteranLayer);
+
+		ForwardDataStreamReader.adjustUtilizations(result);
+
+		return result;
+	}
+
+	Optional<VdypPolygonLayer> convertLayer(VdypPolygonDescription description, VdypPolygon parent, VdypLayer layer) {
+
+		// A layer without species has no records in the species file and so is dropped when read back.
+		if (layer.getSpecies().isEmpty()) {
+			return Optional.empty();
+		}
+
+		var genera = new HashMap<Integer, VdypLayerSpecies>();
+		for (var spec : layer.getSpecies().values()) {
+			var converted = convertSpecies(description, layer, spec);
+			genera.put(converted.getGenusIndex(), converted);
+		}
+
+		var result = new VdypPolygonLayer(
+				layer.getLayerType(), parent, genera,
+				Optional.of(convertUtilizations(description, layer, 0, Optional.empty(), layer))
+		);
+
+		for (var spec : genera.values()) {
+			spec.setParent(result);
+		}
+
+		return Optional.of(result);
+	}
+
+	VdypLayerSpecies convertSpecies(VdypPolygonDescription description, VdypLayer layer, VdypSpecies spec) {
+
+		int genusIndex = GenusDefinitionParser.getIndex(spec.getGenus(), controlMap).orElse(0);
+		boolean isSiteSpec = layer.getSiteGenus().map(spec.getGenus()::equals).orElse(false);
+
+		// Same order as the species distribution columns in the file
+		var entries = spec.getSpeciesPercent().entrySet().stream()
+				.sorted(Comparator.comparing(Entry<String, Float>::getValue)).limit(4).toList();
+
+		List<GenusDistribution> gdList = new ArrayList<>(entries.size());
+		int i = 0;
+		for (var entry : entries) {
+			if (genusDefinitionMap.contains(entry.getKey())) {
+				gdList.add(new GenusDistribution(i, genusDefinitionMap.get(entry.getKey()), entry.getValue()));
+			}
+			i++;
+		}
+
+		var result = new VdypLayerSpecies(
+				description, layer.getLayerType(), genusIndex, spec.getGenus(), new GenusDistributionSet(3, gdList),
+				siteValue(isSiteSpec, layer.getSiteIndex()), siteValue(isSiteSpec, layer.getHeight()),
+				siteValue(isSiteSpec, layer.getAgeTotal()), siteValue(isSiteSpec, layer.getBreastHeightAge()),
+				siteValue(isSiteSpec, layer.getYearsToBreastHeight()), Optional.of(isSiteSpec),
+				layer.getSiteCurveNumber().filter(x -> isSiteSpec).filter(x -> x != EMPTY_INT)
+						.orElse(VdypEntity.MISSING_INTEGER_VALUE)
+		);
+
+		var utilizations = convertUtilizations(description, layer, genusIndex, Optional.of(spec.getGenus()), spec);
+		for (var u : utilizations.values()) {
+			u.setParent(result);
+		}
+		result.setUtilizations(Optional.of(utilizations));
+
+		return result;
+	}
+
+	Map<UtilizationClass, VdypSpeciesUtilization> convertUtilizations(
+			VdypPolygonDescription description, VdypLayer layer, int genusIndex, Optional<String> genus,
+			VdypUtilizationHolder utils
+	) {
+		var result = new EnumMap<UtilizationClass, VdypSpeciesUtilization>(UtilizationClass.class);
+
+		for (var uc : UtilizationClass.values()) {
+			float basalArea = orMissing(utils.getBaseAreaByUtilization().getCoe(uc.index));
+			float treesPerHectare = orMissing(utils.getTreesPerHectareByUtilization().getCoe(uc.index));
+
+			float loreyHeight = VdypEntity.MISSING_FLOAT_VALUE;
+			if (uc.index < 1 && utils.getLoreyHeightByUtilization().getCoe(uc.index) > 0f) {
+				loreyHeight = utils.getLoreyHeightByUtilization().getCoe(uc.index);
+			}
+
+			float quadMeanDiameter = layer.getLayerType() == LayerType.PRIMARY ? VdypEntity.MISSING_FLOAT_VALUE : 0f;
+			if (basalArea > 0) {
+				quadMeanDiameter = BaseAreaTreeDensityDiameter.quadMeanDiameter(basalArea, treesPerHectare);
+			}
+
+			result.put(
+					uc,
+					new VdypSpeciesUtilization(
+							description, layer.getLayerType(), genusIndex, genus, uc, basalArea, treesPerHectare,
+							loreyHeight, //
+							orMissing(utils.getWholeStemVolumeByUtilization().getCoe(uc.index)), //
+							orMissing(utils.getCloseUtilizationVolumeByUtilization().getCoe(uc.index)), //
+							orMissing(utils.getCloseUtilizationVolumeNetOfDecayByUtilization().getCoe(uc.index)), //
+							orMissing(
+									utils.getCloseUtilizationVolumeNetOfDecayAndWasteByUtilization().getCoe(uc.index)
+							), //
+							orMissing(
+									utils.getCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization()
+											.getCoe(uc.index)
+							), //
+							quadMeanDiameter
+					)
+			);
+		}
+		return result;
+	}
+
+	private static float siteValue(boolean isSiteSpec, Optional<Float> value) {
+		return value.filter(x -> isSiteSpec).map(ForwardPolygonConverter::orMissing)
+				.orElse(VdypEntity.MISSING_FLOAT_VALUE);
+	}
+
+	private static float orMissing(float value) {
+		return value == EMPTY_FLOAT ? VdypEntity.MISSING_FLOAT_VALUE : value;
+	}
+}
@@ -22,6 +22,7 @@ import org.slf4j.LoggerFactory;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.common.EstimationMethods;
 import ca.bc.gov.nrs.vdyp.common.ReconcilationMethods;
+import ca.bc.gov.nrs.vdyp.common.UtilizationWorkspace;
 import ca.bc.gov.nrs.vdyp.common.Utils;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
@@ -67,6 +68,13 @@ public class ForwardProcessingEngine {
 		this.fps = new ForwardProcessingState(controlMap);
 	}
 
+	/**
+	 * @return the site index conversion cache of this engine
+	 */
+	public SiteIndexConversionCache getSiteIndexConversions() {
+		return fps.getSiteIndexConversions();
+	}
+
 	public enum ExecutionStep {
 		// Must be first
 		NONE, //
@@ -171,8 +179,6 @@ public class ForwardProcessingEngine {
 
 	@SuppressWarnings("unchecked")
 	static void setCompatibilityVariables(PolygonProcessingState pps) throws ProcessingException {
-		Coefficients aAdjust = new Coefficients(new float[] { 0.0f, 0.0f, 0.0f, 0.0f }, 1);
-
 		var growthDetails = pps.getVdypGrowthDetails();
 
 		// Note: L1COM2 (INL1VGRP, INL1DGRP, INL1BGRP) is initialized when
@@ -195,13 +201,17 @@ public class ForwardProcessingEngine {
 
 			float spLoreyHeight_All = pps.wallet.loreyHeights[s][UtilizationClass.ALL.ordinal()];
 
-			UtilizationVector basalAreas = Utils.utilizationVector();
-			UtilizationVector wholeStemVolumes = Utils.utilizationVector();
-			UtilizationVector closeUtilizationVolumes = Utils.utilizationVector();
-			UtilizationVector closeUtilizationVolumesNetOfDecay = Utils.utilizationVector();
-			UtilizationVector closeUtilizationVolumesNetOfDecayAndWaste = Utils.utilizationVector();
-			UtilizationVector quadMeanDiameters = Utils.utilizationVector();
-			UtilizationVector treesPerHectare = Utils.utilizationVector();
+			// Scratch vectors, only the compatibility variables computed from them are kept
+			var workspace = UtilizationWorkspace.forCurrentThread();
+			Coefficients aAdjust = workspace.volumeAdjust;
+			UtilizationVector basalAreas = workspace.basalAreas;
+			UtilizationVector wholeStemVolumes = workspace.wholeStemVolumes;
+			UtilizationVector closeUtilizationVolumes = workspace.closeUtilizationVolumes;
+			UtilizationVector closeUtilizationVolumesNetOfDecay = workspace.closeUtilizationVolumesNetOfDecay;
+			UtilizationVector closeUtilizationVolumesNetOfDecayAndWaste = //
+					workspace.closeUtilizationVolumesNetOfDecayAndWaste;
+			UtilizationVector quadMeanDiameters = workspace.quadMeanDiameters;
+			UtilizationVector treesPerHectare = workspace.treesPerHectare;
 
 			cvVolume[s] = new MatrixMap3Impl<UtilizationClass, VolumeVariable, LayerType, Float>(
 					UtilizationClass.ALL_BUT_SMALL_ALL, VolumeVariable.ALL, LayerType.ALL_USED, (k1, k2, k3) -> 0f
@@ -733,7 +743,8 @@ public class ForwardProcessingEngine {
 		SiteIndexEquation siteCurve2 = SiteIndexEquation.getByIndex(state.getSiteCurveNumber(0));
 
 		try {
-			double newSI = SiteTool.convertSiteIndexBetweenCurves(siteCurve1, activeIndex.get(), siteCurve2);
+			double newSI = state.getSiteIndexConversions()
+					.convertSiteIndexBetweenCurves(siteCurve1, activeIndex.get(), siteCurve2);
 			if (newSI > 1.3) {
 				primarySpeciesSiteIndex = (float) newSI;
 			}
@@ -796,7 +807,7 @@ public class ForwardProcessingEngine {
 					: defaultSiteIndex;
 			try {
 				SiteIndexEquation curve = SiteIndexEquation.getByIndex(state.getSiteCurveNumber(i));
-				double yearsToBreastHeight = SiteTool.yearsToBreastHeight(curve, siteIndex);
+				double yearsToBreastHeight = state.getSiteIndexConversions().yearsToBreastHeight(curve, siteIndex);
 				state.wallet.yearsToBreastHeight[i] = (float) yearsToBreastHeight;
 			} catch (CommonCalculatorException e) {
 				logger.warn(MessageFormat.format("Unable to determine yearsToBreastHeight of species {0}", i), e);
@@ -841,7 +852,7 @@ public class ForwardProcessingEngine {
 					SiteIndexEquation siteCurveI = SiteIndexEquation.getByIndex(state.getSiteCurveNumber(i));
 
 					try {
-						double mappedSiteIndex = SiteTool
+						double mappedSiteIndex = state.getSiteIndexConversions()
 								.convertSiteIndexBetweenCurves(siteCurveI, siteIndexI, primarySiteCurve);
 						if (mappedSiteIndex > 1.3) {
 							otherSiteIndicesSum += mappedSiteIndex;
@@ -886,7 +897,7 @@ public class ForwardProcessingEngine {
 					SiteIndexEquation siteCurveI = SiteIndexEquation.getByIndex(state.getSiteCurveNumber(i));
 
 					try {
-						double mappedSiteIndex = SiteTool
+						double mappedSiteIndex = state.getSiteIndexConversions()
 								.convertSiteIndexBetweenCurves(primarySiteCurve, primarySpeciesSiteIndex, siteCurveI);
 						state.wallet.siteIndices[i] = (float) mappedSiteIndex;
 					} catch (NoAnswerException e) {
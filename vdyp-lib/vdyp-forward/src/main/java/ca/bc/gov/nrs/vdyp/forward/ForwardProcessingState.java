@@ -57,6 +57,12 @@ class ForwardProcessingState {
 	final Map<String, Coefficients> smallComponentBasalAreaCoefficients;
 	final Map<String, Coefficients> smallComponentProbabilityCoefficients;
 
+	/**
+	 * Site index conversions, so that conversions recurring across the polygons processed with this state are computed
+	 * once.
+	 */
+	private final SiteIndexConversionCache siteIndexConversions = new SiteIndexConversionCache();
+
 	/** The storage banks */
 	private final Bank[] banks;
 
@@ -160,6 +166,10 @@ class ForwardProcessingState {
 		return pps;
 	}
 
+	public SiteIndexConversionCache getSiteIndexConversions() {
+		return siteIndexConversions;
+	}
+
 	public Map<String, Object> getControlMap() {
 		return controlMap;
 	}
@@ -10,13 +10,16 @@ import java.util.Set;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ca.bc.gov.nrs.vdyp.application.Checkpointer;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygonDescription;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.FileSystemFileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 
 /**
  *
@@ -51,6 +54,35 @@ public class ForwardProcessor {
 
 	private static final Logger logger = LoggerFactory.getLogger(ForwardProcessor.class);
 
+	private boolean sortMergeJoin = false;
+
+	public boolean isSortMergeJoin() {
+		return sortMergeJoin;
+	}
+
+	/**
+	 * Join the species and utilization files to the polygon file by polygon identifier rather than by position.
+	 *
+	 * @see ForwardDataStreamReader#ForwardDataStreamReader(Map, boolean)
+	 */
+	public void setSortMergeJoin(boolean sortMergeJoin) {
+		this.sortMergeJoin = sortMergeJoin;
+	}
+
+	private Checkpointer checkpointer = Checkpointer.DISABLED;
+
+	public Checkpointer getCheckpointer() {
+		return checkpointer;
+	}
+
+	/**
+	 * Save checkpoints while processing the polygons in the input files so that an interrupted run can be resumed. The
+	 * default checkpointer does nothing.
+	 */
+	public void setCheckpointer(Checkpointer checkpointer) {
+		this.checkpointer = checkpointer;
+	}
+
 	/**
 	 * Initialize VdypForwardProcessor
 	 *
@@ -125,7 +157,7 @@ public class ForwardProcessor {
 
 				var fpe = new ForwardProcessingEngine(controlMap);
 
-				var forwardDataStreamReader = new ForwardDataStreamReader(controlMap);
+				var forwardDataStreamReader = new ForwardDataStreamReader(controlMap, sortMergeJoin);
 
 				// Fetch the next polygon to process.
 				int nPolygonsProcessed = 0;
@@ -138,13 +170,67 @@ public class ForwardProcessor {
 						);
 					}
 
-					var polygon = forwardDataStreamReader.readNextPolygon(polygonDescriptionStream.next());
+					var polygonDescription = polygonDescriptionStream.next();
+					var polygon = forwardDataStreamReader.readNextPolygon(polygonDescription);
+					var polygonIdentifier = new PolygonIdentifier(
+							polygonDescription.getName(), polygonDescription.getYear()
+					);
+					if (checkpointer.skip(polygonIdentifier)) {
+						continue;
+					}
+
+					fpe.processPolygon(polygon);
+
+					nPolygonsProcessed += 1;
+					checkpointer.committed(polygonIdentifier);
+				}
+				checkpointer.finish();
+
+				logger.debug("Site index conversions: {}", fpe.getSiteIndexConversions().getStatistics());
+
+			} catch (ResourceParseException | IOException e) {
+				throw new ProcessingException(e);
+			}
+		}
+	}
+
+	/**
+	 * Process polygons handed over directly by FIPSTART or VRISTART, for instance through a
+	 * {@link ca.bc.gov.nrs.vdyp.application.PolygonPipeline}, instead of reading them from the input files. All of the
+	 * given polygons are processed, in order.
+	 *
+	 * @param vdypPassSet
+	 * @param controlMap
+	 * @param polygons
+	 * @throws ProcessingException
+	 */
+	public void process(
+			Set<ForwardPass> vdypPassSet, Map<String, Object> controlMap,
+			StreamingParser<ca.bc.gov.nrs.vdyp.model.VdypPolygon> polygons
+	) throws ProcessingException {
+
+		logger.info("Beginning processing of polygons passed in memory");
+
+		if (vdypPassSet.contains(ForwardPass.PASS_3)) {
+
+			try {
+				var fpe = new ForwardProcessingEngine(controlMap);
+
+				var converter = new ForwardPolygonConverter(controlMap);
+
+				int nPolygonsProcessed = 0;
+				while (polygons.hasNext()) {
+
+					var polygon = converter.convert(polygons.next());
 
 					fpe.processPolygon(polygon);
 
 					nPolygonsProcessed += 1;
 				}
 
+				logger.debug("Processed {} polygons", nPolygonsProcessed);
+				logger.debug("Site index conversions: {}", fpe.getSiteIndexConversions().getStatistics());
+
 			} catch (ResourceParseException | IOException e) {
 				throw new ProcessingException(e);
 			}
@@ -173,6 +173,10 @@ class PolygonProcessingState {
 		return wallet.getLayer();
 	}
 
+	public SiteIndexConversionCache getSiteIndexConversions() {
+		return fps.getSiteIndexConversions();
+	}
+
 	public VdypGrowthDetails getVdypGrowthDetails() {
 		return fps.vdypGrowthDetails;
 	}
@@ -0,0 +1,185 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import java.text.MessageFormat;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CalculatorFailure;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.SpeciesErrorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+
+/**
+ * A bounded, least-recently-used memo of the site index conversions performed by {@link ForwardProcessingEngine}:
+ * {@link SiteTool#convertSiteIndexBetweenCurves} and {@link SiteTool#yearsToBreastHeight}. These depend only on their
+ * arguments, and since inventory site indices are quantized, the same conversions recur across the polygons of a batch.
+ * <p>
+ * Failures are memoized as well as results; a cached failure is reported by throwing a new exception of the same kind
+ * and with the same message as the original call. Arguments rejected with an unchecked exception are not cached.
+ * <p>
+ * An instance may be shared by any number of threads. The map is guarded by the instance's monitor, which is not held
+ * while a conversion is computed, so two threads missing on the same key at the same time will both compute it.
+ */
+public class SiteIndexConversionCache {
+
+	public static final int DEFAULT_CAPACITY = 4096;
+
+	private enum Conversion {
+		SITE_INDEX_BETWEEN_CURVES, YEARS_TO_BREAST_HEIGHT
+	}
+
+	private record Key(Conversion conversion, SiteIndexEquation curve1, double siteIndex, SiteIndexEquation curve2) {
+	}
+
+	private record Result(double value, CalculatorFailure failure) {
+	}
+
+	/**
+	 * A snapshot of the activity of a cache.
+	 *
+	 * @param hits      the number of lookups answered from the cache
+	 * @param misses    the number of lookups that required a conversion
+	 * @param evictions the number of entries removed to stay within the capacity
+	 * @param size      the number of entries in the cache
+	 * @param capacity  the maximum number of entries in the cache
+	 */
+	public record Statistics(long hits, long misses, long evictions, int size, int capacity) {
+
+		/**
+		 * @return the proportion of lookups answered from the cache, or 0 if there have been none.
+		 */
+		public double hitRatio() {
+			long lookups = hits + misses;
+			return lookups == 0 ? 0.0 : (double) hits / lookups;
+		}
+
+		@Override
+		public String toString() {
+			return MessageFormat.format(
+					"{0} hits, {1} misses ({2,number,percent} hit ratio), {3} evictions, {4} of {5} entries", hits,
+					misses, hitRatio(), evictions, size, capacity
+			);
+		}
+	}
+
+	private final int capacity;
+	private final LinkedHashMap<Key, Result> entries;
+
+	private long hits;
+	private long misses;
+	private long evictions;
+
+	public SiteIndexConversionCache() {
+		this(DEFAULT_CAPACITY);
+	}
+
+	/**
+	 * @param capacity the maximum number of conversions to remember
+	 * @throws IllegalArgumentException if <code>capacity</code> is not positive
+	 */
+	public SiteIndexConversionCache(int capacity) {
+		if (capacity <= 0) {
+			throw new IllegalArgumentException(MessageFormat.format("Invalid cache capacity {0}", capacity));
+		}
+		this.capacity = capacity;
+		this.entries = new LinkedHashMap<>(16, 0.75f, true) {
+			private static final long serialVersionUID = 1L;
+
+			@Override
+			protected boolean removeEldestEntry(Map.Entry<Key, Result> eldest) {
+				if (size() > SiteIndexConversionCache.this.capacity) {
+					evictions += 1;
+					return true;
+				}
+				return false;
+			}
+		};
+	}
+
+	/**
+	 * Memoized {@link SiteTool#convertSiteIndexBetweenCurves}.
+	 */
+	public double
+			convertSiteIndexBetweenCurves(SiteIndexEquation siteCurve1, double siteIndex1, SiteIndexEquation siteCurve2)
+					throws CurveErrorException, SpeciesErrorException, NoAnswerException {
+		var key = new Key(Conversion.SITE_INDEX_BETWEEN_CURVES, siteCurve1, siteIndex1, siteCurve2);
+
+		var result = lookup(key);
+		if (result == null) {
+			try {
+				result = new Result(SiteTool.convertSiteIndexBetweenCurves(siteCurve1, siteIndex1, siteCurve2), null);
+			} catch (CurveErrorException | SpeciesErrorException | NoAnswerException e) {
+				result = new Result(Double.NaN, CalculatorFailure.of(e));
+			}
+			store(key, result);
+		}
+
+		if (result.failure() != null) {
+			var failure = result.failure().toException();
+			if (failure instanceof CurveErrorException e) {
+				throw e;
+			} else if (failure instanceof SpeciesErrorException e) {
+				throw e;
+			} else if (failure instanceof NoAnswerException e) {
+				throw e;
+			}
+		}
+		return result.value();
+	}
+
+	/**
+	 * Memoized {@link SiteTool#yearsToBreastHeight}.
+	 */
+	public double yearsToBreastHeight(SiteIndexEquation curve, double siteIndex) throws CommonCalculatorException {
+		var key = new Key(Conversion.YEARS_TO_BREAST_HEIGHT, curve, siteIndex, null);
+
+		var result = lookup(key);
+		if (result == null) {
+			try {
+				result = new Result(SiteTool.yearsToBreastHeight(curve, siteIndex), null);
+			} catch (CommonCalculatorException e) {
+				result = new Result(Double.NaN, CalculatorFailure.of(e));
+			}
+			store(key, result);
+		}
+
+		if (result.failure() != null) {
+			throw result.failure().toException();
+		}
+		return result.value();
+	}
+
+	private synchronized Result lookup(Key key) {
+		var result = entries.get(key);
+		if (result == null) {
+			misses += 1;
+		} else {
+			hits += 1;
+		}
+		return result;
+	}
+
+	private synchronized void store(Key key, Result result) {
+		entries.put(key, result);
+	}
+
+	/**
+	 * @return a snapshot of the activity of the cache
+	 */
+	public synchronized Statistics getStatistics() {
+		return new Statistics(hits, misses, evictions, entries.size(), capacity);
+	}
+
+	/**
+	 * Remove all entries and reset the statistics.
+	 */
+	public synchronized void clear() {
+		entries.clear();
+		hits = 0;
+		misses = 0;
+		evictions = 0;
+	}
+}
@@ -9,6 +9,7 @@ import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_5;
 import java.io.BufferedReader;
 import java.io.IOException;
 import java.io.InputStreamReader;
+import java.nio.file.Path;
 import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
@@ -44,6 +45,15 @@ public class VdypForwardApplication extends VdypApplication {
 
 	private static Set<ForwardPass> vdypPassSet = new HashSet<>(Arrays.asList(PASS_1, PASS_2, PASS_3, PASS_4, PASS_5));
 
+	/**
+	 * Run VDYP Forward from the command line. The arguments are any of these options followed by the control files,
+	 * which are asked for if none are given:
+	 * <ul>
+	 * <li>{@code -checkpoint <file>} save checkpoints to a file so that an interrupted run can be resumed
+	 * <li>{@code -checkpoint-interval <count>} polygons between checkpoints, after {@code -checkpoint}
+	 * <li>{@code -resume} resume from the checkpoint in the checkpoint file if there is one, after {@code -checkpoint}
+	 * </ul>
+	 */
 	@SuppressWarnings("java:S106")
 	public static void main(final String... args) {
 
@@ -51,10 +61,12 @@ public class VdypForwardApplication extends VdypApplication {
 
 		app.logVersionInformation();
 
+		ForwardProcessor processor = new ForwardProcessor();
 		List<String> controlFileNames = null;
 
 		try {
-			if (args.length == 0) {
+			controlFileNames = applyOptions(processor, args);
+			if (controlFileNames.isEmpty()) {
 				System.out.print("Enter name of VDYP control file (or RETURN for vdyp.ctr) or *name for both): ");
 
 				controlFileNames = new ArrayList<>();
@@ -69,8 +81,6 @@ public class VdypForwardApplication extends VdypApplication {
 						controlFileNames.addAll(Arrays.asList(userResponse.split("[[:space:]]+")));
 					}
 				}
-			} else {
-				controlFileNames = Arrays.asList(args);
 			}
 		} catch (Exception ex) {
 			logger.error("Error during initialization", ex);
@@ -78,8 +88,6 @@ public class VdypForwardApplication extends VdypApplication {
 		}
 
 		try {
-			ForwardProcessor processor = new ForwardProcessor();
-
 			processor.run(new FileSystemFileResolver(), controlFileNames, vdypPassSet);
 
 		} catch (Exception ex) {
@@ -88,6 +96,29 @@ public class VdypForwardApplication extends VdypApplication {
 		}
 	}
 
+	/**
+	 * Apply the options at the start of the command line arguments to the processor.
+	 *
+	 * @return the remaining arguments, which name the control files
+	 * @throws IllegalArgumentException if an option is unknown or its argument is missing or invalid
+	 */
+	static List<String> applyOptions(ForwardProcessor processor, String... args) {
+		int i = 0;
+		for (; i < args.length && args[i].startsWith("-"); i++) {
+			var option = args[i];
+			var checkpointer = processor.getCheckpointer();
+			switch (option) {
+			case "-checkpoint" ->
+				processor.setCheckpointer(checkpointer.withFile(Path.of(optionArgument(args, ++i, option))));
+			case "-checkpoint-interval" -> processor
+					.setCheckpointer(checkpointer.withInterval(Integer.parseInt(optionArgument(args, ++i, option))));
+			case "-resume" -> processor.setCheckpointer(checkpointer.withResume(true));
+			default -> throw new IllegalArgumentException("Unknown option " + option);
+			}
+		}
+		return Arrays.asList(args).subList(i, args.length);
+	}
+
 	private void logVersionInformation() {
 		logger.info("{} {}", RESOURCE_SHORT_VERSION, RESOURCE_VERSION_DATE);
 		logger.info("{} Ver:{} {}", RESOURCE_BINARY_NAME, RESOURCE_SHORT_VERSION, RESOURCE_VERSION_DATE);
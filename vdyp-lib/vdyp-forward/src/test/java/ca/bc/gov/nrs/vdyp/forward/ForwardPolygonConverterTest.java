@@ -0,0 +1,254 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.notNullValue;
+
+import java.io.IOException;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common.ControlKey;
+import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypLayerSpecies;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypPolygonLayer;
+import ca.bc.gov.nrs.vdyp.forward.model.VdypSpeciesUtilization;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypPolygonParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypSpeciesParser;
+import ca.bc.gov.nrs.vdyp.forward.parsers.VdypUtilizationParser;
+import ca.bc.gov.nrs.vdyp.io.MemoryFileResolver;
+import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.write.VriAdjustInputWriter;
+import ca.bc.gov.nrs.vdyp.model.LayerType;
+import ca.bc.gov.nrs.vdyp.model.PolygonMode;
+import ca.bc.gov.nrs.vdyp.model.UtilizationClass;
+import ca.bc.gov.nrs.vdyp.model.UtilizationVector;
+import ca.bc.gov.nrs.vdyp.model.VdypLayer;
+import ca.bc.gov.nrs.vdyp.model.VdypPolygon;
+import ca.bc.gov.nrs.vdyp.model.VdypSpecies;
+import ca.bc.gov.nrs.vdyp.model.VdypUtilizationHolder;
+import ca.bc.gov.nrs.vdyp.test.TestUtils;
+
+class ForwardPolygonConverterTest {
+
+	// Larger than the rounding of any of the values in the files
+	private static final double TOLERANCE = 0.06;
+
+	Map<String, Object> controlMap;
+
+	@BeforeEach
+	void loadControlMap() throws IOException, ResourceParseException {
+		var parser = new ForwardControlParser();
+		try (var is = TestUtils.class.getResourceAsStream("VDYP.CTR")) {
+			controlMap = parser.parse(is, TestUtils.fileResolver(TestUtils.class), new HashMap<>());
+		}
+	}
+
+	static UtilizationVector vector(float scale, float small, float all, float u1, float u2, float u3, float u4) {
+		return Utils.utilizationVector(small * scale, all * scale, u1 * scale, u2 * scale, u3 * scale, u4 * scale);
+	}
+
+	static void setUtilization(VdypUtilizationHolder holder, float scale) {
+		holder.setBaseAreaByUtilization(vector(scale, 0.02865f, 19.97867f, 6.79731f, 8.54690f, 3.63577f, 0.99869f));
+		holder.setTreesPerHectareByUtilization(vector(scale, 9.29f, 1485.82f, 834.25f, 509.09f, 123.56f, 18.92f));
+		holder.setLoreyHeightByUtilization(Utils.heightVector(7.8377f, 13.0660f));
+		holder.setWholeStemVolumeByUtilization(
+				vector(scale, 0.1077f, 117.9938f, 33.3680f, 52.4308f, 25.2296f, 6.9654f)
+		);
+		holder.setCloseUtilizationVolumeByUtilization(
+				vector(scale, 0f, 67.7539f, 2.4174f, 36.8751f, 22.0156f, 6.4459f)
+		);
+		holder.setCloseUtilizationVolumeNetOfDecayByUtilization(
+				vector(scale, 0f, 67.0665f, 2.3990f, 36.5664f, 21.7930f, 6.3080f)
+		);
+		holder.setCloseUtilizationVolumeNetOfDecayAndWasteByUtilization(
+				vector(scale, 0f, 66.8413f, 2.3951f, 36.4803f, 21.7218f, 6.2442f)
+		);
+		holder.setCloseUtilizationVolumeNetOfDecayWasteAndBreakageByUtilization(
+				vector(scale, 0f, 65.4214f, 2.3464f, 35.7128f, 21.2592f, 6.1030f)
+		);
+	}
+
+	VdypPolygon testPolygon() {
+		var polygon = VdypPolygon.build(builder -> {
+			builder.polygonIdentifier("082E004    615", 1988);
+			builder.percentAvailable(85.7f);
+			builder.biogeoclimaticZone("IDF");
+			builder.forestInventoryZone("D");
+			builder.mode(PolygonMode.START);
+		});
+
+		var primary = VdypLayer.build(polygon, builder -> {
+			builder.layerType(LayerType.PRIMARY);
+			builder.addSite(siteBuilder -> {
+				siteBuilder.height(15f);
+				siteBuilder.siteIndex(14.7f);
+				siteBuilder.ageTotal(60f);
+				siteBuilder.yearsToBreastHeight(8.5f);
+				siteBuilder.siteGenus("PL");
+				siteBuilder.siteCurveNumber(0);
+			});
+		});
+		primary.setEmpericalRelationshipParameterIndex(Optional.of(119));
+		primary.setInventoryTypeGroup(Optional.of(28));
+		setUtilization(primary, 1f);
+
+		var pl = VdypSpecies.build(primary, builder -> {
+			builder.genus("PL");
+			builder.addSpecies("PL", 100f);
+			builder.percentGenus(70f);
+			builder.volumeGroup(0);
+			builder.decayGroup(0);
+			builder.breakageGroup(0);
+		});
+		setUtilization(pl, 0.7f);
+
+		var f = VdypSpecies.build(primary, builder -> {
+			builder.genus("F");
+			builder.addSpecies("FD", 100f);
+			builder.percentGenus(30f);
+			builder.volumeGroup(0);
+			builder.decayGroup(0);
+			builder.breakageGroup(0);
+		});
+		setUtilization(f, 0.3f);
+
+		var veteran = VdypLayer.build(polygon, builder -> {
+			builder.layerType(LayerType.VETERAN);
+			builder.addSite(siteBuilder -> {
+				siteBuilder.height(34f);
+				siteBuilder.siteIndex(20.1f);
+				siteBuilder.ageTotal(200f);
+				siteBuilder.yearsToBreastHeight(6.2f);
+				siteBuilder.siteGenus("F");
+				siteBuilder.siteCurveNumber(8);
+			});
+		});
+		setUtilization(veteran, 0.1f);
+
+		var vetF = VdypSpecies.build(veteran, builder -> {
+			builder.genus("F");
+			builder.addSpecies("FD", 100f);
+			builder.percentGenus(100f);
+			builder.volumeGroup(0);
+			builder.decayGroup(0);
+			builder.breakageGroup(0);
+		});
+		setUtilization(vetF, 0.1f);
+
+		return polygon;
+	}
+
+	ca.bc.gov.nrs.vdyp.forward.model.VdypPolygon roundTripThroughFiles(VdypPolygon polygon) throws Exception {
+		var resolver = new MemoryFileResolver();
+		try (
+				var writer = new VriAdjustInputWriter(
+						resolver.resolveForOutput("poly"), resolver.resolveForOutput("spec"),
+						resolver.resolveForOutput("util"), controlMap
+				)
+		) {
+			writer.writePolygonWithSpeciesAndUtilization(polygon);
+		}
+
+		var readControl = new HashMap<>(controlMap);
+		readControl.put(
+				ControlKey.FORWARD_INPUT_VDYP_POLY.name(), new VdypPolygonParser().map("poly", resolver, controlMap)
+		);
+		readControl.put(
+				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SPECIES.name(),
+				new VdypSpeciesParser().map("spec", resolver, controlMap)
+		);
+		readControl.put(
+				ControlKey.FORWARD_INPUT_VDYP_LAYER_BY_SP0_BY_UTIL.name(),
+				new VdypUtilizationParser().map("util", resolver, controlMap)
+		);
+
+		var reader = new ForwardDataStreamReader(readControl);
+		var converted = new ForwardPolygonConverter(controlMap).convert(polygon);
+		return reader.readNextPolygon(converted.getDescription());
+	}
+
+	@Test
+	void testSameAsFiles() throws Exception {
+		var polygon = testPolygon();
+
+		var unit = new ForwardPolygonConverter(controlMap);
+
+		var result = unit.convert(polygon);
+		var expected = roundTripThroughFiles(polygon);
+
+		assertThat(result.getDescription(), is(expected.getDescription()));
+		assertThat(result.getBiogeoclimaticZone(), is(expected.getBiogeoclimaticZone()));
+		assertThat(result.getForestInventoryZone(), is(expected.getForestInventoryZone()));
+		assertThat(result.getPercentForestLand(), is(expected.getPercentForestLand()));
+		assertThat(result.getInventoryTypeGroup(), is(expected.getInventoryTypeGroup()));
+		assertThat(result.getBasalAreaGroup(), is(expected.getBasalAreaGroup()));
+		assertThat(result.getFipMode(), is(expected.getFipMode()));
+
+		assertLayer(result.getPrimaryLayer(), expected.getPrimaryLayer());
+		assertThat(result.getVeteranLayer().isPresent(), is(true));
+		assertLayer(result.getVeteranLayer().get(), expected.getVeteranLayer().get());
+	}
+
+	void assertLayer(VdypPolygonLayer result, VdypPolygonLayer expected) {
+		assertThat(result.getLayerType(), is(expected.getLayerType()));
+		assertThat(result.getGenera().keySet(), is(expected.getGenera().keySet()));
+		assertUtilizations(result.getDefaultUtilizationMap().get(), expected.getDefaultUtilizationMap().get());
+
+		for (var entry : expected.getGenera().entrySet()) {
+			var resultSpecies = result.getGenera().get(entry.getKey());
+			assertThat(resultSpecies.getParent(), is(result));
+			assertSpecies(resultSpecies, entry.getValue());
+		}
+	}
+
+	void assertSpecies(VdypLayerSpecies result, VdypLayerSpecies expected) {
+		assertThat(result.getGenus(), is(expected.getGenus()));
+		assertThat(result.getGenusIndex(), is(expected.getGenusIndex()));
+		assertThat(result.getLayerType(), is(expected.getLayerType()));
+		assertThat(result.getSpeciesDistributions(), is(expected.getSpeciesDistributions()));
+		assertClose(result.getSiteIndex(), expected.getSiteIndex());
+		assertClose(result.getDominantHeight(), expected.getDominantHeight());
+		assertClose(result.getAgeTotal(), expected.getAgeTotal());
+		assertClose(result.getAgeAtBreastHeight(), expected.getAgeAtBreastHeight());
+		assertClose(result.getYearsToBreastHeight(), expected.getYearsToBreastHeight());
+		assertThat(result.getIsPrimary(), is(expected.getIsPrimary()));
+		assertThat(result.getSiteCurveNumber(), is(expected.getSiteCurveNumber()));
+		assertUtilizations(result.getUtilizations().get(), expected.getUtilizations().get());
+	}
+
+	void assertUtilizations(
+			Map<UtilizationClass, VdypSpeciesUtilization> result, Map<UtilizationClass, VdypSpeciesUtilization> expected
+	) {
+		assertThat(result.keySet(), is(expected.keySet()));
+		for (var uc : expected.keySet()) {
+			var r = result.get(uc);
+			var e = expected.get(uc);
+			assertThat(r, notNullValue());
+			assertThat(r.getGenus(), is(e.getGenus()));
+			assertThat(r.getGenusIndex(), is(e.getGenusIndex()));
+			assertClose(r.getBasalArea(), e.getBasalArea());
+			assertClose(r.getLiveTreesPerHectare(), e.getLiveTreesPerHectare());
+			assertClose(r.getLoreyHeight(), e.getLoreyHeight());
+			assertClose(r.getWholeStemVolume(), e.getWholeStemVolume());
+			assertClose(r.getCloseUtilizationVolume(), e.getCloseUtilizationVolume());
+			assertClose(r.getCuVolumeMinusDecay(), e.getCuVolumeMinusDecay());
+			assertClose(r.getCuVolumeMinusDecayWastage(), e.getCuVolumeMinusDecayWastage());
+			assertClose(r.getCuVolumeMinusDecayWastageBreakage(), e.getCuVolumeMinusDecayWastageBreakage());
+			assertClose(r.getQuadraticMeanDiameterAtBH(), e.getQuadraticMeanDiameterAtBH());
+		}
+	}
+
+	static void assertClose(float result, float expected) {
+		if (Float.isNaN(expected)) {
+			assertThat(Float.isNaN(result), is(true));
+		} else {
+			assertThat((double) result, closeTo(expected, TOLERANCE));
+		}
+	}
+}
@@ -3,6 +3,8 @@ package ca.bc.gov.nrs.vdyp.forward;
 import java.io.IOException;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
 import static org.hamcrest.Matchers.notNullValue;
 
 import org.junit.jupiter.api.Test;
@@ -35,6 +37,11 @@ class ForwardProcessingEngineTest extends AbstractForwardProcessingEngineTest {
 		}
 
 		logger.info("{} polygons processed", nPolygonsProcessed);
+
+		// Site index conversions are counted for each engine, not across engines
+		var statistics = fpe.getSiteIndexConversions().getStatistics();
+		assertThat(statistics.hits() + statistics.misses(), greaterThan(0L));
+		assertThat(new ForwardProcessingEngine(controlMap).getSiteIndexConversions().getStatistics().misses(), is(0L));
 	}
 
 }
@@ -6,19 +6,31 @@ import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_3;
 import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_4;
 import static ca.bc.gov.nrs.vdyp.forward.ForwardPass.PASS_5;
 
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.hasSize;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
 import java.io.IOException;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.HashSet;
 import java.util.List;
 import java.util.Set;
 
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
+import ca.bc.gov.nrs.vdyp.application.Checkpointer;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.io.FileResolver;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
+import ca.bc.gov.nrs.vdyp.io.write.VdypPolygonWriter;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.test.TestUtils;
 
 class ForwardProcessorTest {
@@ -37,4 +49,42 @@ class ForwardProcessorTest {
 
 		fp.run(fileResolver, List.of("VDYP.CTR"), vdypPassSet);
 	}
+
+	@Test
+	void testResumeFromCheckpoint(@TempDir Path dir) throws IOException, ResourceParseException, ProcessingException {
+
+		FileResolver fileResolver = TestUtils.fileResolver(TestUtils.class);
+		var checkpointFile = dir.resolve("checkpoint.properties");
+
+		// Stop the first run part way through, after a checkpoint
+		var crashed = new ForwardProcessor();
+		crashed.setCheckpointer(new Checkpointer(checkpointFile, 2, false) {
+			@Override
+			public void committed(PolygonIdentifier polygonIdentifier, VdypPolygonWriter output) throws IOException {
+				super.committed(polygonIdentifier, output);
+				if (getCommitted() == 3) {
+					throw new IOException("Simulated crash");
+				}
+			}
+		});
+		assertThrows(ProcessingException.class, () -> crashed.run(fileResolver, List.of("VDYP.CTR"), vdypPassSet));
+
+		// Resume from the checkpoint after the second polygon
+		List<PolygonIdentifier> processed = new ArrayList<>();
+		var resumed = new ForwardProcessor();
+		var checkpointer = new Checkpointer(checkpointFile, 2, true) {
+			@Override
+			public void committed(PolygonIdentifier polygonIdentifier, VdypPolygonWriter output) throws IOException {
+				super.committed(polygonIdentifier, output);
+				processed.add(polygonIdentifier);
+			}
+		};
+		resumed.setCheckpointer(checkpointer);
+		resumed.run(fileResolver, List.of("VDYP.CTR"), vdypPassSet);
+
+		assertThat(processed, hasSize(8));
+		assertThat(processed.get(0), is(new PolygonIdentifier("01002 S000003 00", 1990)));
+		assertThat(checkpointer.getCommitted(), is(10));
+		assertThat(Files.exists(checkpointFile), is(false));
+	}
 }
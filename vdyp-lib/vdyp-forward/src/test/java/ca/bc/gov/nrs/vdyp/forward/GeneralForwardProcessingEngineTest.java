@@ -274,6 +274,46 @@ class GeneralForwardProcessingEngineTest {
 		}
 	}
 
+	@Test
+	void testReadWithSortMergeJoin() throws IOException, ResourceParseException, ProcessingException {
+
+		// The same polygons are read when the files are aligned
+		var joinedReader = new ForwardDataStreamReader(controlMap, true);
+		while (polygonDescriptionStream.hasNext()) {
+			var polygonDescription = polygonDescriptionStream.next();
+
+			var polygon = forwardDataStreamReader.readNextPolygon(polygonDescription);
+			var joinedPolygon = joinedReader.readNextPolygon(polygonDescription);
+
+			assertThat(joinedPolygon.getDescription(), is(polygon.getDescription()));
+			assertThat(
+					joinedPolygon.getPrimaryLayer().getGenera().keySet(),
+					is(polygon.getPrimaryLayer().getGenera().keySet())
+			);
+			assertThat(joinedPolygon.getVeteranLayer().isPresent(), is(polygon.getVeteranLayer().isPresent()));
+		}
+
+		// Species for every polygon but the first are left out, so the others have no layers
+		buildSpeciesParserForStream(
+				"testSpecies.dat", //
+				"01002 S000001 00     1970 P  3 B  B  100.0     0.0     0.0     0.0 -9.00 -9.00  -9.0  -9.0  -9.0 0 -9", //
+				"01002 S000001 00     1970 P  4 C  C  100.0     0.0     0.0     0.0 -9.00 -9.00  -9.0  -9.0  -9.0 0 -9", //
+				"01002 S000001 00     1970 P  5 D  D  100.0     0.0     0.0     0.0 -9.00 -9.00  -9.0  62.9   9.1 0 -9", //
+				"01002 S000001 00     1970 P  8 H  H  100.0     0.0     0.0     0.0 -9.00 -9.00  -9.0 253.9  11.1 0 -9", //
+				"01002 S000001 00     1970 P 15 S  S  100.0     0.0     0.0     0.0 -9.00 -9.00  -9.0  -9.0  -9.0 0 -9", //
+				"01002 S000001 00     1970"
+		);
+
+		var reader = new ForwardDataStreamReader(controlMap, true);
+
+		var polygon = reader.readNextPolygon(VdypPolygonDescriptionParser.parse("01002 S000001 00     1970"));
+		assertThat(polygon.getPrimaryLayer().getGenera().keySet(), Matchers.contains(3, 4, 5, 8, 15));
+		assertThat(polygon.getPrimaryLayer().getGenera().get(3).getUtilizations().isPresent(), is(true));
+
+		polygon = reader.readNextPolygon(VdypPolygonDescriptionParser.parse("01002 S000002 00     1970"));
+		assertThat(polygon.getLayers(), Matchers.empty());
+	}
+
 	@Test
 	void testCalculateMissingSiteCurves() throws IOException, ResourceParseException, ProcessingException {
 
@@ -0,0 +1,139 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.not;
+import static org.hamcrest.Matchers.sameInstance;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.stream.IntStream;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+
+class SiteIndexConversionCacheTest {
+
+	static final SiteIndexEquation[] CURVES = { SiteIndexEquation.SI_FDC_BRUCE, SiteIndexEquation.SI_HWC_WILEY,
+			SiteIndexEquation.SI_PLI_THROWER, SiteIndexEquation.SI_SW_GOUDIE_PLAAC };
+
+	static String convert(SiteIndexEquation curve1, double siteIndex, SiteIndexEquation curve2) {
+		try {
+			return Double.toString(SiteTool.convertSiteIndexBetweenCurves(curve1, siteIndex, curve2));
+		} catch (CommonCalculatorException e) {
+			return e.getClass().getSimpleName();
+		}
+	}
+
+	static String convert(
+			SiteIndexConversionCache cache, SiteIndexEquation curve1, double siteIndex, SiteIndexEquation curve2
+	) {
+		try {
+			return Double.toString(cache.convertSiteIndexBetweenCurves(curve1, siteIndex, curve2));
+		} catch (CommonCalculatorException e) {
+			return e.getClass().getSimpleName();
+		}
+	}
+
+	@Test
+	void testMatchesSiteTool() throws CommonCalculatorException {
+		var cache = new SiteIndexConversionCache();
+
+		for (int pass = 0; pass < 2; pass++) {
+			for (var curve1 : CURVES) {
+				for (var curve2 : CURVES) {
+					for (double siteIndex = 5; siteIndex <= 40; siteIndex += 2.5) {
+						assertThat(convert(cache, curve1, siteIndex, curve2), is(convert(curve1, siteIndex, curve2)));
+					}
+				}
+				assertThat(cache.yearsToBreastHeight(curve1, 20), is(SiteTool.yearsToBreastHeight(curve1, 20)));
+			}
+		}
+
+		var statistics = cache.getStatistics();
+		int distinct = CURVES.length * CURVES.length * 15 + CURVES.length;
+		assertThat(statistics.misses(), is((long) distinct));
+		assertThat(statistics.hits(), is((long) distinct));
+		assertThat(statistics.evictions(), is(0L));
+		assertThat(statistics.size(), is(distinct));
+		assertThat(statistics.hitRatio(), closeTo(0.5, 1e-12));
+	}
+
+	@Test
+	void testFailureIsCached() {
+		var cache = new SiteIndexConversionCache();
+
+		// Site index of at most 1.3 can't be converted
+		var first = assertThrows(
+				CommonCalculatorException.class, () -> cache.yearsToBreastHeight(SiteIndexEquation.SI_FDC_BRUCE, 1.0)
+		);
+		var second = assertThrows(
+				CommonCalculatorException.class, () -> cache.yearsToBreastHeight(SiteIndexEquation.SI_FDC_BRUCE, 1.0)
+		);
+
+		// Each failure is a new exception so stack traces aren't shared between callers
+		assertThat(second, not(sameInstance(first)));
+		assertThat(second.getClass(), is((Object) first.getClass()));
+		assertThat(second.getMessage(), is(first.getMessage()));
+		assertThat(cache.getStatistics().hits(), is(1L));
+		assertThat(cache.getStatistics().misses(), is(1L));
+	}
+
+	@Test
+	void testUncheckedFailureIsNotCached() {
+		var cache = new SiteIndexConversionCache();
+
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> cache.convertSiteIndexBetweenCurves(null, 20, SiteIndexEquation.SI_FDC_BRUCE)
+		);
+		assertThat(cache.getStatistics().size(), is(0));
+	}
+
+	@Test
+	void testEviction() throws CommonCalculatorException {
+		var cache = new SiteIndexConversionCache(2);
+		var curve = SiteIndexEquation.SI_FDC_BRUCE;
+
+		cache.yearsToBreastHeight(curve, 10);
+		cache.yearsToBreastHeight(curve, 20);
+		cache.yearsToBreastHeight(curve, 10); // hit; 20 is now the least recently used
+		cache.yearsToBreastHeight(curve, 30); // evicts 20
+		cache.yearsToBreastHeight(curve, 10); // hit
+		cache.yearsToBreastHeight(curve, 20); // miss; evicts 30
+
+		var statistics = cache.getStatistics();
+		assertThat(statistics.hits(), is(2L));
+		assertThat(statistics.misses(), is(4L));
+		assertThat(statistics.evictions(), is(2L));
+		assertThat(statistics.size(), is(2));
+		assertThat(statistics.capacity(), is(2));
+
+		cache.clear();
+		assertThat(cache.getStatistics().hits(), is(0L));
+		assertThat(cache.getStatistics().size(), is(0));
+
+		assertThrows(IllegalArgumentException.class, () -> new SiteIndexConversionCache(0));
+	}
+
+	@Test
+	void testSharedBetweenThreads() {
+		var cache = new SiteIndexConversionCache(64);
+
+		IntStream.range(0, 10_000).parallel().forEach(i -> {
+			var curve1 = CURVES[i % CURVES.length];
+			var curve2 = CURVES[ (i / CURVES.length) % CURVES.length];
+			double siteIndex = 10 + i % 100;
+			assertThat(convert(cache, curve1, siteIndex, curve2), is(convert(curve1, siteIndex, curve2)));
+		});
+
+		var statistics = cache.getStatistics();
+		assertThat(statistics.hits() + statistics.misses(), is(10_000L));
+		// Threads that miss on the same key at the same time both store it, replacing rather than adding an entry
+		assertThat(statistics.misses() - statistics.evictions() >= statistics.size(), is(true));
+		assertThat(statistics.size() <= 64, is(true));
+	}
+}
@@ -0,0 +1,57 @@
+package ca.bc.gov.nrs.vdyp.forward;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.empty;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.nio.file.Path;
+import java.util.Optional;
+
+import org.junit.jupiter.api.Test;
+
+class VdypForwardApplicationTest {
+
+	@Test
+	void testNoOptions() {
+		var processor = new ForwardProcessor();
+
+		assertThat(VdypForwardApplication.applyOptions(processor, "a.ctr", "b.ctr"), contains("a.ctr", "b.ctr"));
+		assertThat(VdypForwardApplication.applyOptions(processor), empty());
+		assertThat(processor.getCheckpointer().isEnabled(), is(false));
+	}
+
+	@Test
+	void testCheckpoint() {
+		var processor = new ForwardProcessor();
+
+		assertThat(
+				VdypForwardApplication.applyOptions(
+						processor, "-checkpoint", "checkpoint.properties", "-checkpoint-interval", "50", "-resume",
+						"a.ctr"
+				), contains("a.ctr")
+		);
+		var checkpointer = processor.getCheckpointer();
+		assertThat(checkpointer.isEnabled(), is(true));
+		assertThat(checkpointer.getFile(), is(Optional.of(Path.of("checkpoint.properties"))));
+		assertThat(checkpointer.getInterval(), is(50));
+		assertThat(checkpointer.isResume(), is(true));
+	}
+
+	@Test
+	void testBadOptions() {
+		var processor = new ForwardProcessor();
+
+		assertThrows(IllegalArgumentException.class, () -> VdypForwardApplication.applyOptions(processor, "-unknown"));
+		assertThrows(IllegalArgumentException.class, () -> VdypForwardApplication.applyOptions(processor, "-resume"));
+		assertThrows(
+				IllegalArgumentException.class, () -> VdypForwardApplication.applyOptions(processor, "-checkpoint")
+		);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> VdypForwardApplication.applyOptions(processor, "-checkpoint-interval", "5", "a.ctr")
+		);
+		assertThat(processor.getCheckpointer().isEnabled(), is(false));
+	}
+}
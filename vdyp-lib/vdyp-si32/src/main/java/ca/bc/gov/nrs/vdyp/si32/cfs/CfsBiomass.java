@@ -0,0 +1,78 @@
+package ca.bc.gov.nrs.vdyp.si32.cfs;
+
+/**
+ * Columnar results of a bulk CFS biomass conversion, as computed by {@link CfsBiomassConverter}. Element <code>i</code>
+ * of each array holds the result for row <code>i</code> of the input arrays. Biomass is in tonnes per hectare.
+ * <p>
+ * Rows for which no conversion coefficients are available have every value set to {@link CfsBiomassConverter#NO_DATA}.
+ */
+public class CfsBiomass {
+
+	private final int size;
+
+	/** Merchantable stemwood biomass of live trees */
+	public final float[] merchantableStemwood;
+	/** Stemwood biomass of live non-merchantable trees */
+	public final float[] nonMerchantableStemwood;
+	/** Stemwood biomass of live saplings */
+	public final float[] saplingStemwood;
+	/** Total stemwood biomass of live trees */
+	public final float[] stemwood;
+	/** Stem bark biomass of live trees */
+	public final float[] bark;
+	/** Branch biomass of live trees */
+	public final float[] branches;
+	/** Foliage biomass of live trees */
+	public final float[] foliage;
+
+	/** Proportion of the total tree biomass in the stemwood */
+	public final float[] stemwoodProportion;
+	/** Proportion of the total tree biomass in the stem bark */
+	public final float[] barkProportion;
+	/** Proportion of the total tree biomass in the branches */
+	public final float[] branchesProportion;
+	/** Proportion of the total tree biomass in the foliage */
+	public final float[] foliageProportion;
+
+	/** Dead conversion proportion for the merchantable volume class of the row */
+	public final float[] deadProportion;
+	/** Merchantable stemwood biomass of dead trees */
+	public final float[] deadStemwood;
+
+	public CfsBiomass(int size) {
+		this.size = size;
+
+		merchantableStemwood = new float[size];
+		nonMerchantableStemwood = new float[size];
+		saplingStemwood = new float[size];
+		stemwood = new float[size];
+		bark = new float[size];
+		branches = new float[size];
+		foliage = new float[size];
+
+		stemwoodProportion = new float[size];
+		barkProportion = new float[size];
+		branchesProportion = new float[size];
+		foliageProportion = new float[size];
+
+		deadProportion = new float[size];
+		deadStemwood = new float[size];
+	}
+
+	/**
+	 * @return the number of rows
+	 */
+	public int size() {
+		return size;
+	}
+
+	/**
+	 * @return the total biomass of the live trees in row <code>i</code>
+	 */
+	public float total(int i) {
+		if (stemwood[i] == CfsBiomassConverter.NO_DATA) {
+			return CfsBiomassConverter.NO_DATA;
+		}
+		return stemwood[i] + bark[i] + branches[i] + foliage[i];
+	}
+}
@@ -1,10 +1,12 @@
 package ca.bc.gov.nrs.vdyp.si32.cfs;
 
 /**
- * A two-dimensional array indexed by {@link CfsBiomassConversionSupportedEcoZone} and then
- * {@link CfsBiomassConversionSupportedGenera} given the biomass conversion coefficients for that Eco Zone and Genus.
- * Each array element is a record indicating whether it "contains data" - that is, has meaningful values and, if so, an
- * array of floats indexed by {@link CfsDeadConversionParams}.
+ * A table indexed by {@link CfsBiomassConversionSupportedEcoZone} and then {@link CfsBiomassConversionSupportedGenera}
+ * given the biomass conversion coefficients for that Eco Zone and Genus. The table is a single array holding
+ * {@link #ROW_LENGTH} coefficients, one for each {@link CfsLiveConversionParams}, for every Eco Zone and Genus in turn,
+ * so coefficient {@code k} of Eco Zone {@code z} and Genus {@code g} is at index
+ * {@code (z * ROWS_PER_ECO_ZONE + g) * ROW_LENGTH + k}. A row contains data - that is, has meaningful values - unless
+ * all of its coefficients are {@link CfsBiomassConversionCoefficientsHelper#NO_DATA}.
  * <p>
  * The values are derived from
  * <ul>
@@ -17,854 +19,164 @@ package ca.bc.gov.nrs.vdyp.si32.cfs;
  */
 public class CfsBiomassConversionCoefficientsForGenus {
 
+	/**
+	 * Number of CfsBiomassConversionSupportedGenera values for each Eco Zone
+	 */
+	static final int ROWS_PER_ECO_ZONE = CfsBiomassConversionSupportedGenera.size();
+
+	/**
+	 * Number of coefficients in each row, one for each CfsLiveConversionParams value
+	 */
+	static final int ROW_LENGTH = CfsLiveConversionParams.size();
+
 	public static CfsBiomassConversionCoefficientsDetails get(int cfsSupportedEcoZone, int cfsSupportedGeneraIndex) {
-		return array[cfsSupportedEcoZone][cfsSupportedGeneraIndex];
+		return CfsBiomassConversionCoefficientsHelper.details(
+				Table.COEFFICIENTS, cfsSupportedEcoZone, cfsSupportedGeneraIndex, ROWS_PER_ECO_ZONE, ROW_LENGTH
+		);
 	}
 
-	private static CfsBiomassConversionCoefficientsDetails[][] array = new CfsBiomassConversionCoefficientsDetails[][] {
-			{
-					// Order of values:
-					// containsData
-					// cfsLiveParm_A
-					// cfsLiveParm_B
-					// cfsLiveParm_a_nonmerch
-					// cfsLiveParm_b_nonmerch
-					// cfsLiveParm_k_nonmerch
-					// cfsLiveParm_cap_nonmerch
-					// cfsLiveParm_a_sap
-					// cfsLiveParm_b_sap
-					// cfsLiveParm_k_sap
-					// cfsLiveParm_cap_sap
-					// cfsLiveParm_a1
-					// cfsLiveParm_a2
-					// cfsLiveParm_a3
-					// cfsLiveParm_b1
-					// cfsLiveParm_b2
-					// cfsLiveParm_b3
-					// cfsLiveParm_c1
-					// cfsLiveParm_c2
-					// cfsLiveParm_c3
-					// cfsLiveParm_min_volume
-					// cfsLiveParm_max_volume
-					// cfsLiveParm_low_stemwood_prop
-					// cfsLiveParm_high_stemwood_prop
-					// cfsLiveParm_low_stembark_prop
-					// cfsLiveParm_high_stembark_prop
-					// cfsLiveParm_low_branches_prop
-					// cfsLiveParm_high_branches_prop
-					// cfsLiveParm_low_foliage_prop
-					// cfsLiveParm_high_foliage_prop
+	/**
+	 * The coefficients of every row in a single array, ordered by Eco Zone and then by
+	 * CfsBiomassConversionSupportedGenera. The array is shared, and must not be modified.
+	 */
+	/* pp */ static float[] coefficients() {
+		return Table.COEFFICIENTS;
+	}
 
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.22712652f, 0.81452013f, 30.54103246f, -0.85134424f, 0.66976961f,
-									7.47663677f, 38.20710600f, -1.70180922f, 0.99582731f, 1.07813018f, -1.36048400f,
-									-0.00020830f, -0.03628110f, -2.11027300f, -0.00008480f, -0.06130400f, -2.14430900f,
-									-0.00021470f, -0.22855880f, 0.24238936f, 1054.28216650f, 0.69867966f, 0.79917170f,
-									0.16877191f, 0.12783935f, 0.07650313f, 0.05779464f, 0.05604530f, 0.01519431f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.62123600f, 0.92745332f, 19.30602940f, -0.94332226f, 0.92391419f,
-									5.50265387f, 0.14752324f, -0.49851762f, 0.98816410f, 1.06044551f, -0.40594000f,
-									0.00205040f, -0.35415510f, 0.40718550f, 0.00015900f, -0.39484070f, 0.48957120f,
-									-0.00012160f, -0.48394590f, 39.64644616f, 266.25940420f, 0.56054960f, 0.69704505f,
-									0.10552136f, 0.11022134f, 0.18914164f, 0.11958752f, 0.14478740f, 0.07314609f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.47900000f, 0.82207852f, 89.91541732f, -1.24726876f, 0.91515667f,
-									6.83443838f, 1.10477944f, -0.01874544f, 0.00000001f, 1.02552035f, -1.57762200f,
-									0.00003310f, -0.03969230f, -2.00615700f, -0.00204870f, 0.10301540f, -2.14700900f,
-									-0.00123410f, -0.12901470f, 0.25627796f, 454.14807021f, 0.69104251f, 0.77260407f,
-									0.13358280f, 0.12696204f, 0.11021858f, 0.07706247f, 0.06515611f, 0.02337143f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.73894058f, 0.89903682f, 5.04867873f, -0.50000000f, 0.50000000f, 1.54482693f,
-									0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -1.32900800f, 0.00383030f,
-									-0.24264460f, -2.82064400f, -0.01062890f, 0.37359610f, -2.06120800f, 0.00053430f,
-									-0.16929620f, 0.50567326f, 72.27241858f, 0.72316860f, 0.75461402f, 0.12680788f,
-									0.09175900f, 0.08103621f, 0.10579828f, 0.06898732f, 0.04782870f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.11524473f, 0.84169055f, 20.60369700f, -0.58616931f, 0.00000001f,
-									5.56727848f, 1.08149613f, -0.01429235f, 0.00000001f, 1.02309335f, -1.64386500f,
-									-0.00002470f, -0.09903390f, -1.81417200f, -0.00062740f, -0.08014660f, -1.37449000f,
-									-0.00063830f, -0.23191160f, 0.83204805f, 568.79515544f, 0.67950647f, 0.82613837f,
-									0.11026074f, 0.08391108f, 0.09609572f, 0.05663432f, 0.11413707f, 0.03331623f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.90798114f, 0.85023846f, 99.99999999f, -1.41043986f, 1.03274335f,
-									8.20066147f, 99.99999999f, -2.83447829f, 1.00090451f, 1.01001280f, -1.65191800f,
-									-0.00040550f, -0.03374770f, -2.45555900f, -0.00149860f, 0.03946860f, -1.61498800f,
-									-0.00020820f, -0.13928020f, 0.30162951f, 762.59457018f, 0.69908945f, 0.82285440f,
-									0.12665245f, 0.09252088f, 0.06404602f, 0.02927097f, 0.11021208f, 0.05535374f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.10569830f, 0.81758788f, 99.99999999f, -1.38307410f, 1.06044355f,
-									9.09948714f, 0.95217531f, -0.01430719f, 0.11594155f, 1.02036282f, -1.53866200f,
-									-0.00020320f, -0.08322460f, -2.58313000f, -0.00221930f, 0.10208420f, -1.60939000f,
-									-0.00005150f, -0.14558330f, 0.41433015f, 753.09896287f, 0.69804346f, 0.82829281f,
-									0.13018607f, 0.08786734f, 0.06259323f, 0.02314516f, 0.10917725f, 0.06069470f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.52128657f, 0.78020277f, 60.22191801f, -1.08440396f, 0.82555881f,
-									6.83453138f, 0.95217531f, -0.01430719f, 0.11594155f, 1.02036282f, -1.58397100f,
-									-0.00021960f, 0.00547460f, -1.78569000f, -0.00055610f, -0.07375640f, -2.02195000f,
-									-0.00103160f, -0.23426020f, 0.24238936f, 997.95058130f, 0.69195659f, 0.80753904f,
-									0.14324682f, 0.13820026f, 0.10266800f, 0.04669479f, 0.06212858f, 0.00756591f }
-					) },
-			{ //
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.97256578f, 0.86611870f, 45.46295155f, -1.09418571f, 0.85670801f,
-									5.66662597f, 99.99999999f, -2.15263277f, 0.99857098f, 1.02336272f, -1.00057300f,
-									-0.00030490f, -0.07143910f, -2.16631200f, -0.00131480f, 0.08564480f, -2.31349300f,
-									-0.00091140f, -0.17245520f, 0.09828630f, 689.20102504f, 0.65202134f, 0.77827133f,
-									0.21338688f, 0.14532256f, 0.08589652f, 0.06311480f, 0.04869526f, 0.01329132f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.50161727f, 0.95456459f, 19.30602940f, -0.94332226f, 0.92391419f,
-									5.50265387f, 0.14752324f, -0.49851762f, 0.98816410f, 1.06044551f, -1.34574000f,
-									-0.00020440f, -0.07845520f, 0.74642220f, -0.00028490f, -0.37654620f, 0.40160500f,
-									-0.00051830f, -0.39382150f, 5.78922549f, 475.65127586f, 0.37599847f, 0.70017385f,
-									0.08112996f, 0.10188997f, 0.32334657f, 0.12609197f, 0.21952501f, 0.07184420f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.61065753f, 0.78606195f, 89.91541732f, -1.24726876f, 0.91515667f,
-									6.83443838f, 1.10477944f, -0.01874544f, 0.00000001f, 1.02552035f, -1.21676200f,
-									0.00150430f, -0.14650710f, -1.63293500f, -0.00093830f, 0.04912600f, -2.73702000f,
-									-0.00446580f, 0.05602320f, 1.42087907f, 226.24300731f, 0.66172058f, 0.70129971f,
-									0.14957244f, 0.13149960f, 0.14144737f, 0.14476799f, 0.04725962f, 0.02243270f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.73894058f, 0.89903682f, 10.74498908f, -0.46301133f, 0.17440278f,
-									4.39212937f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -2.34729600f,
-									-0.00003810f, 0.06769770f, -1.76185300f, -0.00011640f, -0.06103690f, -1.94045600f,
-									-0.00012810f, -0.13599980f, 3.85755740f, 795.06432589f, 0.73110412f, 0.76791169f,
-									0.08102680f, 0.11201413f, 0.10985001f, 0.07993896f, 0.07801907f, 0.04013522f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.87341785f, 0.88584353f, 18.49059513f, -0.81688612f, 0.74475979f,
-									4.28030152f, 4.92796382f, -1.48569944f, 0.99862398f, 1.02587380f, -1.82187500f,
-									-0.00016140f, -0.05956620f, -0.99845870f, -0.00078900f, -0.17691240f, -0.89145050f,
-									-0.00119050f, -0.27904040f, 1.55186635f, 602.98422592f, 0.60581000f, 0.82832204f,
-									0.08757288f, 0.08296154f, 0.15986540f, 0.06101709f, 0.14675173f, 0.02769933f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.68240619f, 0.91300724f, 34.65989360f, -1.01231266f, 0.89466476f,
-									7.15868932f, 2.19977366f, -1.13986322f, 0.99439857f, 1.02290213f, -1.79189200f,
-									-0.00028190f, -0.02135110f, -0.72406220f, -0.00076990f, -0.16885150f, -0.30348010f,
-									-0.00061290f, -0.35807330f, 2.31853307f, 762.47661989f, 0.53566152f, 0.80172981f,
-									0.08549513f, 0.09351294f, 0.18522504f, 0.07038498f, 0.19361830f, 0.03437227f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.93779205f, 0.86409283f, 18.80527779f, -0.74345459f, 0.61053358f,
-									4.99449127f, 161.84395144f, -2.42884701f, 1.00074088f, 1.02934255f, -1.61138000f,
-									0.00023810f, -0.11009750f, -0.53917320f, -0.00014150f, -0.26319330f, -0.34011280f,
-									-0.00033260f, -0.37922670f, 1.55186635f, 762.47661989f, 0.53572969f, 0.79949996f,
-									0.08697872f, 0.09208965f, 0.19047088f, 0.07285720f, 0.18682071f, 0.03555319f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.00020415f, 0.86223995f, 90.20388218f, -1.34210476f, 0.95044283f,
-									6.50429314f, 161.84395144f, -2.42884701f, 1.00074088f, 1.02934255f, -1.09638100f,
-									-0.00024010f, -0.04763380f, -1.99742900f, -0.00140100f, 0.05348370f, -2.46675200f,
-									-0.00173120f, -0.14754920f, 0.09828630f, 689.20102504f, 0.65622716f, 0.77493823f,
-									0.20285907f, 0.16065650f, 0.09713096f, 0.05681014f, 0.04378281f, 0.00759513f }
-					) },
-			{ //
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.93907563f, 0.86907074f, 15.23670150f, -0.59440244f, 0.27390132f,
-									2.82978026f, 99.99999999f, -1.98054049f, 0.99342853f, 1.02731153f, -1.49593200f,
-									-0.00068250f, -0.02807240f, -2.02491500f, -0.00124610f, 0.04922820f, -2.45091400f,
-									-0.00085170f, -0.11623440f, 0.26796332f, 468.71108750f, 0.70025293f, 0.79062887f,
-									0.14970705f, 0.10820836f, 0.10028262f, 0.07881694f, 0.04975740f, 0.02234584f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.50161727f, 0.95456459f, 19.30602940f, -0.94332226f, 0.92391419f,
-									5.50265387f, 0.14752324f, -0.49851762f, 0.98816410f, 1.06044551f, -1.34574000f,
-									-0.00020440f, -0.07845520f, 0.74642220f, -0.00028490f, -0.37654620f, 0.40160500f,
-									-0.00051830f, -0.39382150f, 5.78922549f, 475.65127586f, 0.37599847f, 0.70017385f,
-									0.08112996f, 0.10188997f, 0.32334657f, 0.12609197f, 0.21952501f, 0.07184420f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.24956394f, 1.14970766f, 89.91541732f, -1.24726876f, 0.91515667f,
-									6.83443838f, 0.89089561f, -0.01067487f, 0.17039872f, 1.02312178f, -1.33895600f,
-									0.00081880f, -0.12336360f, -1.41422400f, -0.00104250f, -0.03766460f, -1.95898400f,
-									-0.00020870f, -0.18615050f, 9.03693839f, 313.08661895f, 0.66902232f, 0.73923055f,
-									0.12753262f, 0.12299555f, 0.14586392f, 0.10437158f, 0.05758114f, 0.03340232f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.73894058f, 0.89903682f, 10.74498908f, -0.46301133f, 0.17440278f,
-									4.39212937f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -1.32900800f,
-									0.00383030f, -0.24264460f, -2.82064400f, -0.01062890f, 0.37359610f, -2.06120800f,
-									0.00053430f, -0.16929620f, 0.50567326f, 72.27241858f, 0.72316860f, 0.75461402f,
-									0.12680788f, 0.09175900f, 0.08103621f, 0.10579828f, 0.06898732f, 0.04782870f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54666980f, 0.95097600f, 93.21069475f, -1.24450027f, 1.02252356f,
-									10.00000000f, 99.99999999f, -2.15618973f, 0.99869492f, 1.01461155f, -1.46010300f,
-									-0.00047030f, -0.06626670f, -0.99576940f, -0.00132930f, -0.09669010f, -0.79102100f,
-									-0.00132050f, -0.22242250f, 0.39409858f, 663.54261911f, 0.54559901f, 0.80880496f,
-									0.11328608f, 0.08932838f, 0.17116682f, 0.06594113f, 0.16994809f, 0.03592553f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.57815435f, 0.94681768f, 48.33658787f, -0.97969898f, 0.76523839f,
-									9.25477784f, 314.11706147f, -6.76103493f, 1.00004277f, 1.00004277f, -1.51236800f,
-									-0.00035740f, -0.08252140f, -0.90970900f, -0.00130120f, -0.11933550f, -0.78707810f,
-									-0.00115120f, -0.23858400f, 0.10441706f, 686.41906881f, 0.54569235f, 0.82003247f,
-									0.10512303f, 0.08243938f, 0.18085235f, 0.06193974f, 0.16833226f, 0.03558841f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.01772222f, 0.85873636f, 15.15963478f, -0.61073808f, 0.40512124f,
-									2.82631488f, 314.11706147f, -6.76103493f, 1.00004277f, 1.00004277f, -1.54017600f,
-									-0.00076190f, -0.00690530f, -2.06819300f, -0.00088180f, 0.04514330f, -2.58355000f,
-									-0.00091270f, -0.13501530f, 0.26796332f, 459.37201005f, 0.71002514f, 0.78266600f,
-									0.15042221f, 0.11331043f, 0.09672609f, 0.08706454f, 0.04282656f, 0.01695903f }
-					) },
-			{ //
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.64772928f, 0.94162485f, 55.13896265f, -1.51367177f, 1.03313008f,
-									8.38025754f, 99.99999999f, -2.27217165f, 0.99833119f, 1.03702532f, -0.59874750f,
-									-0.00011080f, -0.21794720f, -1.65683500f, 0.00002700f, -0.02888160f, -0.67601050f,
-									0.00018460f, -0.48926450f, 0.92043504f, 1725.56858110f, 0.56586577f, 0.78820571f,
-									0.21101051f, 0.07043988f, 0.10253287f, 0.12699749f, 0.12059086f, 0.01435692f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.56944583f, 0.91532961f, 31.39666730f, -1.02777824f, 0.94642188f,
-									9.18107298f, 0.75234771f, -0.95237853f, 0.99539267f, 1.03198103f, -1.54198600f,
-									0.00005300f, -0.06327440f, -0.01419130f, -0.00015260f, -0.24278350f, 0.17288250f,
-									-0.00012050f, -0.30416220f, 0.76792086f, 2097.06361430f, 0.39474967f, 0.74119070f,
-									0.07559802f, 0.10921566f, 0.25429906f, 0.08281400f, 0.27535325f, 0.06677964f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.52088855f, 0.94632729f, 18.50902609f, -0.89112871f, 0.91783946f,
-									7.02054935f, 99.99999999f, -1.89667906f, 1.00626274f, 1.24221247f, -0.56168120f,
-									0.00041310f, -0.25963210f, 0.46318200f, 0.00007200f, -0.33131920f, 0.84558450f,
-									-0.00001230f, -0.50534910f, 0.83015197f, 2434.11139860f, 0.31223696f, 0.71811131f,
-									0.11269461f, 0.14774725f, 0.27668347f, 0.10261409f, 0.29838496f, 0.03152735f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.15614194f, 0.86780411f, 99.99999999f, -1.02151845f, 0.50244812f,
-									1.30509023f, 0.89089561f, -0.01067487f, 0.17039872f, 1.02312178f, -1.73345400f,
-									-0.00057860f, 0.01230670f, -1.25374400f, -0.00042280f, -0.05854420f, -0.51310460f,
-									0.00111130f, -0.47248060f, 5.83228488f, 382.79089205f, 0.61559167f, 0.72546682f,
-									0.11161734f, 0.11052395f, 0.15245822f, 0.12424763f, 0.12033277f, 0.03976160f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.49774614f, 0.97765601f, 41.27354201f, -1.02538495f, 0.92360211f,
-									7.76561681f, 0.54870672f, -0.83582989f, 0.99627406f, 1.02299762f, -1.24487700f,
-									-0.00001930f, -0.07287960f, -0.02489450f, -0.00017240f, -0.20916150f, 0.29007030f,
-									-0.00038080f, -0.34102540f, 2.58742354f, 3057.88515840f, 0.39130667f, 0.77781265f,
-									0.09721011f, 0.11763407f, 0.24970666f, 0.08355030f, 0.26177656f, 0.02100297f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.45858950f, 0.98278724f, 22.87158951f, -0.88605824f, 0.92036267f,
-									6.99046643f, 2.89670029f, -1.26232671f, 0.99868853f, 1.05108276f, -1.77413400f,
-									-0.00004250f, -0.01024570f, 0.33021410f, -0.00015300f, -0.30612350f, 0.46850620f,
-									-0.00027800f, -0.43642600f, 0.41108922f, 3462.67458580f, 0.36219768f, 0.81991878f,
-									0.06038491f, 0.11043117f, 0.30050578f, 0.05538696f, 0.27691162f, 0.01426309f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.59524454f, 0.95946064f, 0.99561952f, -0.00000001f, 0.01076243f, 1.00638191f,
-									99.99999999f, -2.27217165f, 0.99833119f, 1.03702532f, -1.29145400f, 0.00005210f,
-									-0.07563690f, -0.10166420f, 0.00006500f, -0.27327530f, -0.80874890f, 0.00011330f,
-									-0.42555760f, 49.42286060f, 1286.02461060f, 0.62914565f, 0.74957214f, 0.12814717f,
-									0.12815607f, 0.19127050f, 0.10394965f, 0.05143668f, 0.01832213f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 1.03258133f, 0.86795166f, 99.99999999f, -1.59855267f, 1.09461767f,
-									4.07784783f, 1.76795544f, -1.26359193f, 0.99869074f, 1.02003536f, -1.62556800f,
-									0.00007080f, -0.10984650f, -0.75309770f, 0.00034810f, -0.24502570f, -0.84790530f,
-									0.00018460f, -0.31207720f, 0.53918763f, 1265.71506110f, 0.58012229f, 0.77924767f,
-									0.09460105f, 0.07649794f, 0.17962695f, 0.09894319f, 0.14564971f, 0.04531120f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.45503127f, 0.97538468f, 27.38948282f, -1.09385796f, 0.99254803f,
-									5.32443974f, 0.33706098f, -0.90510633f, 0.99876103f, 1.01838283f, -1.89604300f,
-									-0.00007680f, -0.00562740f, -0.31066650f, -0.00011480f, -0.21458010f, 0.34359680f,
-									0.00034100f, -0.44244520f, 2.79461012f, 2727.80352570f, 0.45684024f, 0.75620751f,
-									0.06779718f, 0.08808017f, 0.21544823f, 0.07418094f, 0.25991435f, 0.08153137f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f,
-									4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f,
-									0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f,
-									0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f,
-									0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.48709928f, 0.96734384f, 26.48860333f, -0.95979582f, 0.94482724f,
-									7.13729638f, 0.39271630f, -0.53306450f, 0.98572840f, 1.05432492f, -1.44008000f,
-									0.00002650f, -0.06903850f, 0.17922700f, -0.00012340f, -0.27406520f, 0.62988630f,
-									-0.00008050f, -0.45382520f, 0.41108922f, 3462.67458580f, 0.35255693f, 0.78948647f,
-									0.07433448f, 0.11678262f, 0.26550744f, 0.06597953f, 0.30760115f, 0.02775139f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.53990148f, 0.97195036f, 46.36424452f, -1.38247826f, 1.01256937f,
-									8.36972670f, 0.39271630f, -0.53306450f, 0.98572840f, 1.05432492f, -1.29914800f,
-									-0.00048530f, -0.06536840f, -1.55181900f, -0.00055230f, 0.02773460f, -2.10359900f,
-									-0.00139830f, -0.12973620f, 0.92043504f, 1182.79198230f, 0.64023257f, 0.80632503f,
-									0.15539729f, 0.07798616f, 0.14242672f, 0.10817700f, 0.06194342f, 0.00751181f }
-					) },
-			{ //
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.67009855f, 0.94067057f, 27.88004392f, -1.00060879f, 0.86527095f,
-									5.19232053f, 99.99999999f, -2.16809311f, 0.99862246f, 1.05240888f, -1.42166800f,
-									-0.00058300f, -0.03238900f, -1.01960900f, 0.00077360f, -0.19565680f, -2.03539900f,
-									-0.00109110f, -0.13415590f, 0.47830595f, 1197.34645060f, 0.62855228f, 0.74821914f,
-									0.14350721f, 0.07139809f, 0.16261866f, 0.17016187f, 0.06532185f, 0.01022090f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.54814551f, 0.93656900f, 19.30602940f, -0.94332226f, 0.92391419f,
-									5.50265387f, 73.57445775f, -2.38923453f, 1.00085276f, 1.03428673f, -1.31240700f,
-									0.00012520f, -0.10739770f, 0.14599290f, 0.00017430f, -0.26954290f, 0.10678760f,
-									-0.00011530f, -0.35141520f, 1.39660345f, 1226.17974350f, 0.39967925f, 0.69642748f,
-									0.08815751f, 0.10178488f, 0.28053257f, 0.14659676f, 0.23163067f, 0.05519088f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.70176268f, 0.90110099f, 5.32215783f, -0.45183117f, 0.59182212f, 4.29821913f,
-									0.37187560f, -0.66318784f, 0.99125833f, 1.07026039f, -0.82097040f, 0.00028320f,
-									-0.20117560f, -0.06664280f, 0.00015010f, -0.26410680f, 0.21570500f, -0.00000117f,
-									-0.42609660f, 1.33188317f, 2571.70932790f, 0.40924970f, 0.71215818f, 0.12426831f,
-									0.13369359f, 0.23520270f, 0.12313793f, 0.23127929f, 0.03101029f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f,
-									10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.91879430f, 0.90792131f, 24.28989959f, -0.96744188f, 0.88976283f,
-									4.94599152f, 0.71912159f, -1.04365442f, 0.99774433f, 1.01976539f, -1.54513500f,
-									-0.00019840f, -0.03831720f, -0.99383840f, 0.00022260f, -0.14005690f, -1.23773700f,
-									-0.00028010f, -0.25702420f, 0.78750000f, 553.21248691f, 0.59753173f, 0.72912258f,
-									0.11913325f, 0.10935541f, 0.17299217f, 0.12587950f, 0.11034285f, 0.03564251f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.61495547f, 0.94445681f, 15.60925025f, -0.98799751f, 0.99656179f,
-									3.65329157f, 16.74973840f, -1.93559715f, 1.00023378f, 1.04665261f, -1.40325200f,
-									0.00004760f, -0.06294830f, -0.38615170f, 0.00011320f, -0.19501550f, -0.11680800f,
-									0.00008170f, -0.33527570f, 0.59098570f, 1855.68858950f, 0.45328151f, 0.69287488f,
-									0.09997755f, 0.11581675f, 0.22025293f, 0.13382703f, 0.22648801f, 0.05748134f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.47454907f, 0.98260486f, 16.70139891f, -0.73662534f, 0.76729925f,
-									5.88320373f, 14.47105918f, -1.78727591f, 1.00291472f, 1.03779573f, -1.51923000f,
-									0.00012600f, -0.06511670f, 0.06798800f, -0.00027180f, -0.25273790f, 0.27767050f,
-									-0.00078460f, -0.38504310f, 0.78861194f, 1390.61479690f, 0.39172506f, 0.76471357f,
-									0.07648477f, 0.12445857f, 0.26895748f, 0.08996514f, 0.26283269f, 0.02086272f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.75143778f, 0.91192913f, 10.74498908f, -0.46301133f, 0.17440278f,
-									4.39212937f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -2.34729600f,
-									-0.00003810f, 0.06769770f, -1.76185300f, -0.00011640f, -0.06103690f, -1.94045600f,
-									-0.00012810f, -0.13599980f, 3.85755740f, 795.06432589f, 0.73110412f, 0.76791169f,
-									0.08102680f, 0.11201413f, 0.10985001f, 0.07993896f, 0.07801907f, 0.04013522f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f,
-									10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84850997f, 0.89465920f, 23.99910025f, -1.01042144f, 0.92777541f,
-									3.74374191f, 99.99999999f, -2.25728374f, 1.00003645f, 1.03971916f, -1.77465000f,
-									-0.00014700f, -0.08501490f, -1.31654100f, -0.00056280f, -0.12264720f, -1.29248500f,
-									-0.00056240f, -0.22100480f, 0.18979415f, 1134.25872860f, 0.64217484f, 0.85526087f,
-									0.09465031f, 0.06746941f, 0.14064660f, 0.05107512f, 0.12252825f, 0.02619460f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f,
-									10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f,
-									10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.59814725f, 0.93255530f, 13.07983918f, -0.74279211f, 0.80427988f,
-									5.28207770f, 0.20035501f, -0.67730965f, 0.99549914f, 1.02138922f, -1.36165800f,
-									0.00002450f, -0.12396780f, -0.34735010f, -0.00014560f, -0.24093310f, 0.09661250f,
-									-0.00020260f, -0.41447830f, 0.41950119f, 1105.81627740f, 0.44950661f, 0.78770374f,
-									0.09340985f, 0.08693745f, 0.21135973f, 0.08745613f, 0.24572381f, 0.03790268f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f,
-									10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f,
-									10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							false,
-							new float[] { -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
-									-9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.71277167f, 0.91839618f, 18.91496167f, -0.95750355f, 0.95031550f,
-									4.07752734f, 13.99522104f, -1.82655187f, 1.00020156f, 1.03737665f, -1.40125200f,
-									0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f,
-									-0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f,
-									0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f }
-					),
-					new CfsBiomassConversionCoefficientsDetails(
-							true,
-							new float[] { 0.79527572f, 0.91775576f, 33.76304740f, -1.04270349f, 0.84826796f,
-									6.77734507f, 13.99522104f, -1.82655187f, 1.00020156f, 1.03737665f, -1.53983400f,
-									-0.00074650f, 0.00618410f, -1.03329800f, 0.00084690f, -0.19931300f, -1.69923300f,
-									-0.00087010f, -0.25812380f, 0.47830595f, 1182.23962780f, 0.62970420f, 0.74660676f,
-									0.13639799f, 0.06919595f, 0.15971109f, 0.17634912f, 0.07418672f, 0.00784817f }
-					) } };
+	/**
+	 * Check the table, see {@link CfsBiomassConversionCoefficientsHelper#validate}.
+	 */
+	public static void validate() {
+		CfsBiomassConversionCoefficientsHelper.validate(
+				CfsBiomassConversionCoefficientsForGenus.class.getName(), Table.COEFFICIENTS, ROWS_PER_ECO_ZONE,
+				ROW_LENGTH
+		);
+	}
 
-	static {
-		new CfsBiomassConversionCoefficientsHelper<CfsBiomassConversionSupportedEcoZone, CfsBiomassConversionSupportedGenera, CfsLiveConversionParams>()
-				.validateCoefficientArray(
-						CfsBiomassConversionCoefficientsDead.class, array, CfsBiomassConversionSupportedEcoZone.class,
-						CfsBiomassConversionSupportedGenera.class, CfsLiveConversionParams.class
-				);
+	/**
+	 * Holds the table so that it is only built when it is first used, rather than when this class is loaded. Rows
+	 * without data contain only -9.0f. The table is checked by the unit tests rather than when it is loaded.
+	 */
+	private static class Table {
+		// Order of values in each row:
+		// cfsLiveParm_A, cfsLiveParm_B,
+		// cfsLiveParm_a_nonmerch, cfsLiveParm_b_nonmerch, cfsLiveParm_k_nonmerch, cfsLiveParm_cap_nonmerch,
+		// cfsLiveParm_a_sap, cfsLiveParm_b_sap, cfsLiveParm_k_sap, cfsLiveParm_cap_sap,
+		// cfsLiveParm_a1, cfsLiveParm_a2, cfsLiveParm_a3, cfsLiveParm_b1, cfsLiveParm_b2, cfsLiveParm_b3,
+		// cfsLiveParm_c1, cfsLiveParm_c2, cfsLiveParm_c3,
+		// cfsLiveParm_min_volume, cfsLiveParm_max_volume,
+		// cfsLiveParm_low_stemwood_prop, cfsLiveParm_high_stemwood_prop,
+		// cfsLiveParm_low_stembark_prop, cfsLiveParm_high_stembark_prop,
+		// cfsLiveParm_low_branches_prop, cfsLiveParm_high_branches_prop,
+		// cfsLiveParm_low_foliage_prop, cfsLiveParm_high_foliage_prop
+		/* @formatter:off */
+		private static final float[] COEFFICIENTS = new float[] {
+				// TAIGA_PLAINS
+				/* 0, "AC" */ 1.22712652f, 0.81452013f, 30.54103246f, -0.85134424f, 0.66976961f, 7.47663677f, 38.20710600f, -1.70180922f, 0.99582731f, 1.07813018f, -1.36048400f, -0.00020830f, -0.03628110f, -2.11027300f, -0.00008480f, -0.06130400f, -2.14430900f, -0.00021470f, -0.22855880f, 0.24238936f, 1054.28216650f, 0.69867966f, 0.79917170f, 0.16877191f, 0.12783935f, 0.07650313f, 0.05779464f, 0.05604530f, 0.01519431f,
+				/* 1, "B" */ 0.62123600f, 0.92745332f, 19.30602940f, -0.94332226f, 0.92391419f, 5.50265387f, 0.14752324f, -0.49851762f, 0.98816410f, 1.06044551f, -0.40594000f, 0.00205040f, -0.35415510f, 0.40718550f, 0.00015900f, -0.39484070f, 0.48957120f, -0.00012160f, -0.48394590f, 39.64644616f, 266.25940420f, 0.56054960f, 0.69704505f, 0.10552136f, 0.11022134f, 0.18914164f, 0.11958752f, 0.14478740f, 0.07314609f,
+				/* 2, "C" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 3, "D" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 4, "E" */ 1.47900000f, 0.82207852f, 89.91541732f, -1.24726876f, 0.91515667f, 6.83443838f, 1.10477944f, -0.01874544f, 0.00000001f, 1.02552035f, -1.57762200f, 0.00003310f, -0.03969230f, -2.00615700f, -0.00204870f, 0.10301540f, -2.14700900f, -0.00123410f, -0.12901470f, 0.25627796f, 454.14807021f, 0.69104251f, 0.77260407f, 0.13358280f, 0.12696204f, 0.11021858f, 0.07706247f, 0.06515611f, 0.02337143f,
+				/* 5, "F" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 6, "G" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 7, "H" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 8, "L" */ 0.73894058f, 0.89903682f, 5.04867873f, -0.50000000f, 0.50000000f, 1.54482693f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -1.32900800f, 0.00383030f, -0.24264460f, -2.82064400f, -0.01062890f, 0.37359610f, -2.06120800f, 0.00053430f, -0.16929620f, 0.50567326f, 72.27241858f, 0.72316860f, 0.75461402f, 0.12680788f, 0.09175900f, 0.08103621f, 0.10579828f, 0.06898732f, 0.04782870f,
+				/* 9, "M" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 10, "PL" */ 1.11524473f, 0.84169055f, 20.60369700f, -0.58616931f, 0.00000001f, 5.56727848f, 1.08149613f, -0.01429235f, 0.00000001f, 1.02309335f, -1.64386500f, -0.00002470f, -0.09903390f, -1.81417200f, -0.00062740f, -0.08014660f, -1.37449000f, -0.00063830f, -0.23191160f, 0.83204805f, 568.79515544f, 0.67950647f, 0.82613837f, 0.11026074f, 0.08391108f, 0.09609572f, 0.05663432f, 0.11413707f, 0.03331623f,
+				/* 11, "Q" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 12, "R" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 13, "S" */ 0.90798114f, 0.85023846f, 99.99999999f, -1.41043986f, 1.03274335f, 8.20066147f, 99.99999999f, -2.83447829f, 1.00090451f, 1.01001280f, -1.65191800f, -0.00040550f, -0.03374770f, -2.45555900f, -0.00149860f, 0.03946860f, -1.61498800f, -0.00020820f, -0.13928020f, 0.30162951f, 762.59457018f, 0.69908945f, 0.82285440f, 0.12665245f, 0.09252088f, 0.06404602f, 0.02927097f, 0.11021208f, 0.05535374f,
+				/* 14, "U" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 15, "V" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 16, "W" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 17, "XH" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 18, "ZC" */ 1.10569830f, 0.81758788f, 99.99999999f, -1.38307410f, 1.06044355f, 9.09948714f, 0.95217531f, -0.01430719f, 0.11594155f, 1.02036282f, -1.53866200f, -0.00020320f, -0.08322460f, -2.58313000f, -0.00221930f, 0.10208420f, -1.60939000f, -0.00005150f, -0.14558330f, 0.41433015f, 753.09896287f, 0.69804346f, 0.82829281f, 0.13018607f, 0.08786734f, 0.06259323f, 0.02314516f, 0.10917725f, 0.06069470f,
+				/* 19, "ZH" */ 1.52128657f, 0.78020277f, 60.22191801f, -1.08440396f, 0.82555881f, 6.83453138f, 0.95217531f, -0.01430719f, 0.11594155f, 1.02036282f, -1.58397100f, -0.00021960f, 0.00547460f, -1.78569000f, -0.00055610f, -0.07375640f, -2.02195000f, -0.00103160f, -0.23426020f, 0.24238936f, 997.95058130f, 0.69195659f, 0.80753904f, 0.14324682f, 0.13820026f, 0.10266800f, 0.04669479f, 0.06212858f, 0.00756591f,
+				// BOREAL_PLAINS
+				/* 0, "AC" */ 0.97256578f, 0.86611870f, 45.46295155f, -1.09418571f, 0.85670801f, 5.66662597f, 99.99999999f, -2.15263277f, 0.99857098f, 1.02336272f, -1.00057300f, -0.00030490f, -0.07143910f, -2.16631200f, -0.00131480f, 0.08564480f, -2.31349300f, -0.00091140f, -0.17245520f, 0.09828630f, 689.20102504f, 0.65202134f, 0.77827133f, 0.21338688f, 0.14532256f, 0.08589652f, 0.06311480f, 0.04869526f, 0.01329132f,
+				/* 1, "B" */ 0.50161727f, 0.95456459f, 19.30602940f, -0.94332226f, 0.92391419f, 5.50265387f, 0.14752324f, -0.49851762f, 0.98816410f, 1.06044551f, -1.34574000f, -0.00020440f, -0.07845520f, 0.74642220f, -0.00028490f, -0.37654620f, 0.40160500f, -0.00051830f, -0.39382150f, 5.78922549f, 475.65127586f, 0.37599847f, 0.70017385f, 0.08112996f, 0.10188997f, 0.32334657f, 0.12609197f, 0.21952501f, 0.07184420f,
+				/* 2, "C" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 3, "D" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 4, "E" */ 1.61065753f, 0.78606195f, 89.91541732f, -1.24726876f, 0.91515667f, 6.83443838f, 1.10477944f, -0.01874544f, 0.00000001f, 1.02552035f, -1.21676200f, 0.00150430f, -0.14650710f, -1.63293500f, -0.00093830f, 0.04912600f, -2.73702000f, -0.00446580f, 0.05602320f, 1.42087907f, 226.24300731f, 0.66172058f, 0.70129971f, 0.14957244f, 0.13149960f, 0.14144737f, 0.14476799f, 0.04725962f, 0.02243270f,
+				/* 5, "F" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 6, "G" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 7, "H" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 8, "L" */ 0.73894058f, 0.89903682f, 10.74498908f, -0.46301133f, 0.17440278f, 4.39212937f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -2.34729600f, -0.00003810f, 0.06769770f, -1.76185300f, -0.00011640f, -0.06103690f, -1.94045600f, -0.00012810f, -0.13599980f, 3.85755740f, 795.06432589f, 0.73110412f, 0.76791169f, 0.08102680f, 0.11201413f, 0.10985001f, 0.07993896f, 0.07801907f, 0.04013522f,
+				/* 9, "M" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 10, "PL" */ 0.87341785f, 0.88584353f, 18.49059513f, -0.81688612f, 0.74475979f, 4.28030152f, 4.92796382f, -1.48569944f, 0.99862398f, 1.02587380f, -1.82187500f, -0.00016140f, -0.05956620f, -0.99845870f, -0.00078900f, -0.17691240f, -0.89145050f, -0.00119050f, -0.27904040f, 1.55186635f, 602.98422592f, 0.60581000f, 0.82832204f, 0.08757288f, 0.08296154f, 0.15986540f, 0.06101709f, 0.14675173f, 0.02769933f,
+				/* 11, "Q" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 12, "R" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 13, "S" */ 0.68240619f, 0.91300724f, 34.65989360f, -1.01231266f, 0.89466476f, 7.15868932f, 2.19977366f, -1.13986322f, 0.99439857f, 1.02290213f, -1.79189200f, -0.00028190f, -0.02135110f, -0.72406220f, -0.00076990f, -0.16885150f, -0.30348010f, -0.00061290f, -0.35807330f, 2.31853307f, 762.47661989f, 0.53566152f, 0.80172981f, 0.08549513f, 0.09351294f, 0.18522504f, 0.07038498f, 0.19361830f, 0.03437227f,
+				/* 14, "U" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 15, "V" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 16, "W" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 17, "XH" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 18, "ZC" */ 0.93779205f, 0.86409283f, 18.80527779f, -0.74345459f, 0.61053358f, 4.99449127f, 161.84395144f, -2.42884701f, 1.00074088f, 1.02934255f, -1.61138000f, 0.00023810f, -0.11009750f, -0.53917320f, -0.00014150f, -0.26319330f, -0.34011280f, -0.00033260f, -0.37922670f, 1.55186635f, 762.47661989f, 0.53572969f, 0.79949996f, 0.08697872f, 0.09208965f, 0.19047088f, 0.07285720f, 0.18682071f, 0.03555319f,
+				/* 19, "ZH" */ 1.00020415f, 0.86223995f, 90.20388218f, -1.34210476f, 0.95044283f, 6.50429314f, 161.84395144f, -2.42884701f, 1.00074088f, 1.02934255f, -1.09638100f, -0.00024010f, -0.04763380f, -1.99742900f, -0.00140100f, 0.05348370f, -2.46675200f, -0.00173120f, -0.14754920f, 0.09828630f, 689.20102504f, 0.65622716f, 0.77493823f, 0.20285907f, 0.16065650f, 0.09713096f, 0.05681014f, 0.04378281f, 0.00759513f,
+				// BOREAL_CORDILLERA
+				/* 0, "AC" */ 0.93907563f, 0.86907074f, 15.23670150f, -0.59440244f, 0.27390132f, 2.82978026f, 99.99999999f, -1.98054049f, 0.99342853f, 1.02731153f, -1.49593200f, -0.00068250f, -0.02807240f, -2.02491500f, -0.00124610f, 0.04922820f, -2.45091400f, -0.00085170f, -0.11623440f, 0.26796332f, 468.71108750f, 0.70025293f, 0.79062887f, 0.14970705f, 0.10820836f, 0.10028262f, 0.07881694f, 0.04975740f, 0.02234584f,
+				/* 1, "B" */ 0.50161727f, 0.95456459f, 19.30602940f, -0.94332226f, 0.92391419f, 5.50265387f, 0.14752324f, -0.49851762f, 0.98816410f, 1.06044551f, -1.34574000f, -0.00020440f, -0.07845520f, 0.74642220f, -0.00028490f, -0.37654620f, 0.40160500f, -0.00051830f, -0.39382150f, 5.78922549f, 475.65127586f, 0.37599847f, 0.70017385f, 0.08112996f, 0.10188997f, 0.32334657f, 0.12609197f, 0.21952501f, 0.07184420f,
+				/* 2, "C" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 3, "D" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 4, "E" */ 0.24956394f, 1.14970766f, 89.91541732f, -1.24726876f, 0.91515667f, 6.83443838f, 0.89089561f, -0.01067487f, 0.17039872f, 1.02312178f, -1.33895600f, 0.00081880f, -0.12336360f, -1.41422400f, -0.00104250f, -0.03766460f, -1.95898400f, -0.00020870f, -0.18615050f, 9.03693839f, 313.08661895f, 0.66902232f, 0.73923055f, 0.12753262f, 0.12299555f, 0.14586392f, 0.10437158f, 0.05758114f, 0.03340232f,
+				/* 5, "F" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 6, "G" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 7, "H" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 8, "L" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 9, "M" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 10, "PL" */ 0.73894058f, 0.89903682f, 10.74498908f, -0.46301133f, 0.17440278f, 4.39212937f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -1.32900800f, 0.00383030f, -0.24264460f, -2.82064400f, -0.01062890f, 0.37359610f, -2.06120800f, 0.00053430f, -0.16929620f, 0.50567326f, 72.27241858f, 0.72316860f, 0.75461402f, 0.12680788f, 0.09175900f, 0.08103621f, 0.10579828f, 0.06898732f, 0.04782870f,
+				/* 11, "Q" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 12, "R" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 13, "S" */ 0.54666980f, 0.95097600f, 93.21069475f, -1.24450027f, 1.02252356f, 10.00000000f, 99.99999999f, -2.15618973f, 0.99869492f, 1.01461155f, -1.46010300f, -0.00047030f, -0.06626670f, -0.99576940f, -0.00132930f, -0.09669010f, -0.79102100f, -0.00132050f, -0.22242250f, 0.39409858f, 663.54261911f, 0.54559901f, 0.80880496f, 0.11328608f, 0.08932838f, 0.17116682f, 0.06594113f, 0.16994809f, 0.03592553f,
+				/* 14, "U" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 15, "V" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 16, "W" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 17, "XH" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 18, "ZC" */ 0.57815435f, 0.94681768f, 48.33658787f, -0.97969898f, 0.76523839f, 9.25477784f, 314.11706147f, -6.76103493f, 1.00004277f, 1.00004277f, -1.51236800f, -0.00035740f, -0.08252140f, -0.90970900f, -0.00130120f, -0.11933550f, -0.78707810f, -0.00115120f, -0.23858400f, 0.10441706f, 686.41906881f, 0.54569235f, 0.82003247f, 0.10512303f, 0.08243938f, 0.18085235f, 0.06193974f, 0.16833226f, 0.03558841f,
+				/* 19, "ZH" */ 1.01772222f, 0.85873636f, 15.15963478f, -0.61073808f, 0.40512124f, 2.82631488f, 314.11706147f, -6.76103493f, 1.00004277f, 1.00004277f, -1.54017600f, -0.00076190f, -0.00690530f, -2.06819300f, -0.00088180f, 0.04514330f, -2.58355000f, -0.00091270f, -0.13501530f, 0.26796332f, 459.37201005f, 0.71002514f, 0.78266600f, 0.15042221f, 0.11331043f, 0.09672609f, 0.08706454f, 0.04282656f, 0.01695903f,
+				// PACIFIC_MARITIME
+				/* 0, "AC" */ 0.64772928f, 0.94162485f, 55.13896265f, -1.51367177f, 1.03313008f, 8.38025754f, 99.99999999f, -2.27217165f, 0.99833119f, 1.03702532f, -0.59874750f, -0.00011080f, -0.21794720f, -1.65683500f, 0.00002700f, -0.02888160f, -0.67601050f, 0.00018460f, -0.48926450f, 0.92043504f, 1725.56858110f, 0.56586577f, 0.78820571f, 0.21101051f, 0.07043988f, 0.10253287f, 0.12699749f, 0.12059086f, 0.01435692f,
+				/* 1, "B" */ 0.56944583f, 0.91532961f, 31.39666730f, -1.02777824f, 0.94642188f, 9.18107298f, 0.75234771f, -0.95237853f, 0.99539267f, 1.03198103f, -1.54198600f, 0.00005300f, -0.06327440f, -0.01419130f, -0.00015260f, -0.24278350f, 0.17288250f, -0.00012050f, -0.30416220f, 0.76792086f, 2097.06361430f, 0.39474967f, 0.74119070f, 0.07559802f, 0.10921566f, 0.25429906f, 0.08281400f, 0.27535325f, 0.06677964f,
+				/* 2, "C" */ 0.52088855f, 0.94632729f, 18.50902609f, -0.89112871f, 0.91783946f, 7.02054935f, 99.99999999f, -1.89667906f, 1.00626274f, 1.24221247f, -0.56168120f, 0.00041310f, -0.25963210f, 0.46318200f, 0.00007200f, -0.33131920f, 0.84558450f, -0.00001230f, -0.50534910f, 0.83015197f, 2434.11139860f, 0.31223696f, 0.71811131f, 0.11269461f, 0.14774725f, 0.27668347f, 0.10261409f, 0.29838496f, 0.03152735f,
+				/* 3, "D" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 4, "E" */ 1.15614194f, 0.86780411f, 99.99999999f, -1.02151845f, 0.50244812f, 1.30509023f, 0.89089561f, -0.01067487f, 0.17039872f, 1.02312178f, -1.73345400f, -0.00057860f, 0.01230670f, -1.25374400f, -0.00042280f, -0.05854420f, -0.51310460f, 0.00111130f, -0.47248060f, 5.83228488f, 382.79089205f, 0.61559167f, 0.72546682f, 0.11161734f, 0.11052395f, 0.15245822f, 0.12424763f, 0.12033277f, 0.03976160f,
+				/* 5, "F" */ 0.49774614f, 0.97765601f, 41.27354201f, -1.02538495f, 0.92360211f, 7.76561681f, 0.54870672f, -0.83582989f, 0.99627406f, 1.02299762f, -1.24487700f, -0.00001930f, -0.07287960f, -0.02489450f, -0.00017240f, -0.20916150f, 0.29007030f, -0.00038080f, -0.34102540f, 2.58742354f, 3057.88515840f, 0.39130667f, 0.77781265f, 0.09721011f, 0.11763407f, 0.24970666f, 0.08355030f, 0.26177656f, 0.02100297f,
+				/* 6, "G" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 7, "H" */ 0.45858950f, 0.98278724f, 22.87158951f, -0.88605824f, 0.92036267f, 6.99046643f, 2.89670029f, -1.26232671f, 0.99868853f, 1.05108276f, -1.77413400f, -0.00004250f, -0.01024570f, 0.33021410f, -0.00015300f, -0.30612350f, 0.46850620f, -0.00027800f, -0.43642600f, 0.41108922f, 3462.67458580f, 0.36219768f, 0.81991878f, 0.06038491f, 0.11043117f, 0.30050578f, 0.05538696f, 0.27691162f, 0.01426309f,
+				/* 8, "L" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 9, "M" */ 0.59524454f, 0.95946064f, 0.99561952f, -0.00000001f, 0.01076243f, 1.00638191f, 99.99999999f, -2.27217165f, 0.99833119f, 1.03702532f, -1.29145400f, 0.00005210f, -0.07563690f, -0.10166420f, 0.00006500f, -0.27327530f, -0.80874890f, 0.00011330f, -0.42555760f, 49.42286060f, 1286.02461060f, 0.62914565f, 0.74957214f, 0.12814717f, 0.12815607f, 0.19127050f, 0.10394965f, 0.05143668f, 0.01832213f,
+				/* 10, "PL" */ 1.03258133f, 0.86795166f, 99.99999999f, -1.59855267f, 1.09461767f, 4.07784783f, 1.76795544f, -1.26359193f, 0.99869074f, 1.02003536f, -1.62556800f, 0.00007080f, -0.10984650f, -0.75309770f, 0.00034810f, -0.24502570f, -0.84790530f, 0.00018460f, -0.31207720f, 0.53918763f, 1265.71506110f, 0.58012229f, 0.77924767f, 0.09460105f, 0.07649794f, 0.17962695f, 0.09894319f, 0.14564971f, 0.04531120f,
+				/* 11, "Q" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 12, "R" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 13, "S" */ 0.45503127f, 0.97538468f, 27.38948282f, -1.09385796f, 0.99254803f, 5.32443974f, 0.33706098f, -0.90510633f, 0.99876103f, 1.01838283f, -1.89604300f, -0.00007680f, -0.00562740f, -0.31066650f, -0.00011480f, -0.21458010f, 0.34359680f, 0.00034100f, -0.44244520f, 2.79461012f, 2727.80352570f, 0.45684024f, 0.75620751f, 0.06779718f, 0.08808017f, 0.21544823f, 0.07418094f, 0.25991435f, 0.08153137f,
+				/* 14, "U" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 15, "V" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 16, "W" */ 0.54140729f, 0.96013822f, 75.29415243f, -1.40243839f, 0.97681172f, 4.96553717f, 99.99999999f, -2.20262961f, 0.99811588f, 1.04273521f, -1.55489900f, 0.00004840f, -0.04432050f, -0.44199880f, -0.00039210f, -0.12287190f, -0.03352580f, 0.00060350f, -0.51184090f, 5.80790313f, 1074.61155770f, 0.51130851f, 0.71742579f, 0.09720869f, 0.11712380f, 0.24474769f, 0.12826961f, 0.14673511f, 0.03718080f,
+				/* 17, "XH" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 18, "ZC" */ 0.48709928f, 0.96734384f, 26.48860333f, -0.95979582f, 0.94482724f, 7.13729638f, 0.39271630f, -0.53306450f, 0.98572840f, 1.05432492f, -1.44008000f, 0.00002650f, -0.06903850f, 0.17922700f, -0.00012340f, -0.27406520f, 0.62988630f, -0.00008050f, -0.45382520f, 0.41108922f, 3462.67458580f, 0.35255693f, 0.78948647f, 0.07433448f, 0.11678262f, 0.26550744f, 0.06597953f, 0.30760115f, 0.02775139f,
+				/* 19, "ZH" */ 0.53990148f, 0.97195036f, 46.36424452f, -1.38247826f, 1.01256937f, 8.36972670f, 0.39271630f, -0.53306450f, 0.98572840f, 1.05432492f, -1.29914800f, -0.00048530f, -0.06536840f, -1.55181900f, -0.00055230f, 0.02773460f, -2.10359900f, -0.00139830f, -0.12973620f, 0.92043504f, 1182.79198230f, 0.64023257f, 0.80632503f, 0.15539729f, 0.07798616f, 0.14242672f, 0.10817700f, 0.06194342f, 0.00751181f,
+				// MONTANE_CORDILLERA
+				/* 0, "AC" */ 0.67009855f, 0.94067057f, 27.88004392f, -1.00060879f, 0.86527095f, 5.19232053f, 99.99999999f, -2.16809311f, 0.99862246f, 1.05240888f, -1.42166800f, -0.00058300f, -0.03238900f, -1.01960900f, 0.00077360f, -0.19565680f, -2.03539900f, -0.00109110f, -0.13415590f, 0.47830595f, 1197.34645060f, 0.62855228f, 0.74821914f, 0.14350721f, 0.07139809f, 0.16261866f, 0.17016187f, 0.06532185f, 0.01022090f,
+				/* 1, "B" */ 0.54814551f, 0.93656900f, 19.30602940f, -0.94332226f, 0.92391419f, 5.50265387f, 73.57445775f, -2.38923453f, 1.00085276f, 1.03428673f, -1.31240700f, 0.00012520f, -0.10739770f, 0.14599290f, 0.00017430f, -0.26954290f, 0.10678760f, -0.00011530f, -0.35141520f, 1.39660345f, 1226.17974350f, 0.39967925f, 0.69642748f, 0.08815751f, 0.10178488f, 0.28053257f, 0.14659676f, 0.23163067f, 0.05519088f,
+				/* 2, "C" */ 0.70176268f, 0.90110099f, 5.32215783f, -0.45183117f, 0.59182212f, 4.29821913f, 0.37187560f, -0.66318784f, 0.99125833f, 1.07026039f, -0.82097040f, 0.00028320f, -0.20117560f, -0.06664280f, 0.00015010f, -0.26410680f, 0.21570500f, -0.00000117f, -0.42609660f, 1.33188317f, 2571.70932790f, 0.40924970f, 0.71215818f, 0.12426831f, 0.13369359f, 0.23520270f, 0.12313793f, 0.23127929f, 0.03101029f,
+				/* 3, "D" */ 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f, 10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 4, "E" */ 0.91879430f, 0.90792131f, 24.28989959f, -0.96744188f, 0.88976283f, 4.94599152f, 0.71912159f, -1.04365442f, 0.99774433f, 1.01976539f, -1.54513500f, -0.00019840f, -0.03831720f, -0.99383840f, 0.00022260f, -0.14005690f, -1.23773700f, -0.00028010f, -0.25702420f, 0.78750000f, 553.21248691f, 0.59753173f, 0.72912258f, 0.11913325f, 0.10935541f, 0.17299217f, 0.12587950f, 0.11034285f, 0.03564251f,
+				/* 5, "F" */ 0.61495547f, 0.94445681f, 15.60925025f, -0.98799751f, 0.99656179f, 3.65329157f, 16.74973840f, -1.93559715f, 1.00023378f, 1.04665261f, -1.40325200f, 0.00004760f, -0.06294830f, -0.38615170f, 0.00011320f, -0.19501550f, -0.11680800f, 0.00008170f, -0.33527570f, 0.59098570f, 1855.68858950f, 0.45328151f, 0.69287488f, 0.09997755f, 0.11581675f, 0.22025293f, 0.13382703f, 0.22648801f, 0.05748134f,
+				/* 6, "G" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 7, "H" */ 0.47454907f, 0.98260486f, 16.70139891f, -0.73662534f, 0.76729925f, 5.88320373f, 14.47105918f, -1.78727591f, 1.00291472f, 1.03779573f, -1.51923000f, 0.00012600f, -0.06511670f, 0.06798800f, -0.00027180f, -0.25273790f, 0.27767050f, -0.00078460f, -0.38504310f, 0.78861194f, 1390.61479690f, 0.39172506f, 0.76471357f, 0.07648477f, 0.12445857f, 0.26895748f, 0.08996514f, 0.26283269f, 0.02086272f,
+				/* 8, "L" */ 0.75143778f, 0.91192913f, 10.74498908f, -0.46301133f, 0.17440278f, 4.39212937f, 0.90308376f, -1.22332431f, 0.99952427f, 1.01477127f, -2.34729600f, -0.00003810f, 0.06769770f, -1.76185300f, -0.00011640f, -0.06103690f, -1.94045600f, -0.00012810f, -0.13599980f, 3.85755740f, 795.06432589f, 0.73110412f, 0.76791169f, 0.08102680f, 0.11201413f, 0.10985001f, 0.07993896f, 0.07801907f, 0.04013522f,
+				/* 9, "M" */ 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f, 10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 10, "PL" */ 0.84850997f, 0.89465920f, 23.99910025f, -1.01042144f, 0.92777541f, 3.74374191f, 99.99999999f, -2.25728374f, 1.00003645f, 1.03971916f, -1.77465000f, -0.00014700f, -0.08501490f, -1.31654100f, -0.00056280f, -0.12264720f, -1.29248500f, -0.00056240f, -0.22100480f, 0.18979415f, 1134.25872860f, 0.64217484f, 0.85526087f, 0.09465031f, 0.06746941f, 0.14064660f, 0.05107512f, 0.12252825f, 0.02619460f,
+				/* 11, "Q" */ 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f, 10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 12, "R" */ 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f, 10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 13, "S" */ 0.59814725f, 0.93255530f, 13.07983918f, -0.74279211f, 0.80427988f, 5.28207770f, 0.20035501f, -0.67730965f, 0.99549914f, 1.02138922f, -1.36165800f, 0.00002450f, -0.12396780f, -0.34735010f, -0.00014560f, -0.24093310f, 0.09661250f, -0.00020260f, -0.41447830f, 0.41950119f, 1105.81627740f, 0.44950661f, 0.78770374f, 0.09340985f, 0.08693745f, 0.21135973f, 0.08745613f, 0.24572381f, 0.03790268f,
+				/* 14, "U" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 15, "V" */ 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f, 10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 16, "W" */ 0.84945579f, 0.90640025f, 39.10988503f, -1.09616671f, 1.03953801f, 10.00000000f, 99.99999999f, -2.11009888f, 0.99538160f, 1.04090822f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 17, "XH" */ -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f, -9.00000000f,
+				/* 18, "ZC" */ 0.71277167f, 0.91839618f, 18.91496167f, -0.95750355f, 0.95031550f, 4.07752734f, 13.99522104f, -1.82655187f, 1.00020156f, 1.03737665f, -1.40125200f, 0.00029920f, -0.12317990f, -0.56233390f, 0.00016490f, -0.20800120f, -0.55519280f, -0.00025920f, -0.28653120f, 0.18979415f, 2571.70932790f, 0.50922886f, 0.71271393f, 0.10239754f, 0.14399744f, 0.20604212f, 0.12116144f, 0.18233148f, 0.02212719f,
+				/* 19, "ZH" */ 0.79527572f, 0.91775576f, 33.76304740f, -1.04270349f, 0.84826796f, 6.77734507f, 13.99522104f, -1.82655187f, 1.00020156f, 1.03737665f, -1.53983400f, -0.00074650f, 0.00618410f, -1.03329800f, 0.00084690f, -0.19931300f, -1.69923300f, -0.00087010f, -0.25812380f, 0.47830595f, 1182.23962780f, 0.62970420f, 0.74660676f, 0.13639799f, 0.06919595f, 0.15971109f, 0.17634912f, 0.07418672f, 0.00784817f
+		};
+		/* @formatter:on */
 	}
 }
@@ -1,77 +1,73 @@
 package ca.bc.gov.nrs.vdyp.si32.cfs;
 
-import java.lang.reflect.InvocationTargetException;
 import java.text.MessageFormat;
+import java.util.Arrays;
 
-public class CfsBiomassConversionCoefficientsHelper<MajorIndexType extends Enum<MajorIndexType>, MinorIndexType extends Enum<MinorIndexType>, ParamType extends Enum<ParamType>> {
+/**
+ * Access to and validation of the flattened CFS biomass conversion coefficient tables. Each table is a single array of
+ * rows, ordered by Eco Zone and then by species or genus, of a fixed number of coefficients. Rows without data contain
+ * only {@link #NO_DATA}.
+ */
+public class CfsBiomassConversionCoefficientsHelper {
 
-	/* pp */ void validateCoefficientArray(
-			Class<?> callingClass, CfsBiomassConversionCoefficientsDetails[][] array,
-			Class<MajorIndexType> majorIndexType, Class<MinorIndexType> minorIndexType, Class<ParamType> paramListType
-	) {
+	public static final float NO_DATA = -9.0f;
 
-		try {
-			if (array.length != ((int) majorIndexType.getMethod("size").invoke(null))) {
-				throw new IllegalStateException(
-						"CfsBiomassConversionCoefficientsForSpecies does not contain exactly one "
-								+ " entry for each CfsBiomassConversionSupportedEcoZone"
-				);
-			}
+	private CfsBiomassConversionCoefficientsHelper() {
+	}
+
+	/* pp */ static int rowOffset(int ecoZone, int index, int rowsPerEcoZone, int rowLength) {
+		if (ecoZone < 0 || ecoZone >= CfsBiomassConversionSupportedEcoZone.size() || index < 0
+				|| index >= rowsPerEcoZone) {
+			throw new ArrayIndexOutOfBoundsException(
+					MessageFormat.format("No coefficients for Eco Zone {0} at index {1}", ecoZone, index)
+			);
+		}
+		return (ecoZone * rowsPerEcoZone + index) * rowLength;
+	}
+
+	/* pp */ static boolean containsData(float[] table, int offset) {
+		return table[offset] != NO_DATA;
+	}
 
-			for (int i = 0; i < array.length; i++) {
-				if (array[i].length != ((int) minorIndexType.getMethod("size").invoke(null))) {
+	/* pp */ static CfsBiomassConversionCoefficientsDetails
+			details(float[] table, int ecoZone, int index, int rowsPerEcoZone, int rowLength) {
+		int offset = rowOffset(ecoZone, index, rowsPerEcoZone, rowLength);
+		return new CfsBiomassConversionCoefficientsDetails(
+				containsData(table, offset), Arrays.copyOfRange(table, offset, offset + rowLength)
+		);
+	}
+
+	/**
+	 * Check that a table has one row for each Eco Zone and species or genus, and that each row either contains only
+	 * data or contains no data at all.
+	 *
+	 * @throws IllegalStateException if the table is not valid
+	 */
+	public static void validate(String tableName, float[] table, int rowsPerEcoZone, int rowLength) {
+		int expectedLength = CfsBiomassConversionSupportedEcoZone.size() * rowsPerEcoZone * rowLength;
+		if (table.length != expectedLength) {
+			throw new IllegalStateException(
+					MessageFormat.format(
+							"{0} contains {1} coefficients, but {2} were expected", tableName, table.length,
+							expectedLength
+					)
+			);
+		}
+
+		for (int offset = 0; offset < table.length; offset += rowLength) {
+			boolean containsData = containsData(table, offset);
+			for (int k = 0; k < rowLength; k++) {
+				if (containsData == (table[offset + k] == NO_DATA)) {
+					int row = offset / rowLength;
 					throw new IllegalStateException(
 							MessageFormat.format(
-									callingClass.getName() + " at index {0} does not contain exactly one "
-											+ " entry for each CfsBiomassConversionSupportedSpecies",
-									i
+									"{0} at index {1} {2} {3} is {4} but the row is recorded as {5}containing data",
+									tableName, row / rowsPerEcoZone, row % rowsPerEcoZone, k, table[offset + k],
+									containsData ? "" : "not "
 							)
 					);
 				}
 			}
-
-			int paramListSize = ((int) paramListType.getMethod("size").invoke(null));
-			for (int i = 0; i < array.length; i++) {
-				for (int j = 0; j < array[i].length; j++) {
-					if (array[i][j].parms().length != paramListSize) {
-						throw new IllegalStateException(
-								MessageFormat.format(
-										callingClass.getName()
-												+ " at index {0} {1} contains {2} elements, but {3} were expected",
-										i, j, array[i][j].parms().length, CfsLiveConversionParams.size()
-								)
-						);
-					}
-					if (array[i][j].containsData()) {
-						for (int k = 0; k < paramListSize; k++) {
-							if (array[i][j].parms()[k] == -9.0f) {
-								throw new IllegalStateException(
-										MessageFormat.format(
-												callingClass.getName()
-														+ " at index {0} {1} {2} is recorded as not containing data, but contains -9.0f",
-												i, j, k
-										)
-								);
-							}
-						}
-					} else {
-						for (int k = 0; k < paramListSize; k++) {
-							if (array[i][j].parms()[k] != -9.0f) {
-								throw new IllegalStateException(
-										MessageFormat.format(
-												callingClass.getName()
-														+ " at index {0} {1} {2} is recorded as not containing data, but contains {3}",
-												i, j, k, array[i][j].parms()[k]
-										)
-								);
-							}
-						}
-					}
-				}
-			}
-		} catch (IllegalAccessException | IllegalArgumentException | InvocationTargetException | NoSuchMethodException
-				| SecurityException e) {
-			throw new IllegalStateException(e);
 		}
 	}
 }
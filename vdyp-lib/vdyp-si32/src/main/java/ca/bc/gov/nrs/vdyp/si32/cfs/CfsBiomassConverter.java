@@ -0,0 +1,314 @@
+package ca.bc.gov.nrs.vdyp.si32.cfs;
+
+import static ca.bc.gov.nrs.vdyp.math.FloatMath.exp;
+import static ca.bc.gov.nrs.vdyp.math.FloatMath.log;
+import static ca.bc.gov.nrs.vdyp.math.FloatMath.pow;
+
+import java.util.function.Supplier;
+import java.util.stream.IntStream;
+
+/**
+ * Converts merchantable volumes to CFS biomass in bulk. The inputs are parallel arrays of Eco Zone offsets
+ * ({@link CfsBiomassConversionSupportedEcoZone}), species or genus offsets and merchantable volumes (m<sup>3</sup>/ha),
+ * and the results are written to a {@link CfsBiomass}.
+ * <p>
+ * The live conversion follows the model in 'Model_based_volume_to_biomass_CFS.pdf' found in 'Documents/CFS-Biomass':
+ * <ol>
+ * <li>merchantable stemwood biomass is <code>A * V<sup>B</sup></code>
+ * <li>merchantable and non-merchantable stemwood is that times <code>k + a * b<sup>b</sup></code>, capped at
+ * <code>cap</code>, using the non-merchantable parameters
+ * <li>total stemwood is that times the same expression using the sapling parameters
+ * <li>the stemwood, bark, branches and foliage proportions are a multinomial logit of the volume, held at the low and
+ * high proportions outside of the volume range of the coefficients
+ * </ol>
+ * The dead conversion selects one of five proportions using the volume class boundaries V1 to V4 of the
+ * {@link CfsBiomassConversionCoefficientsDead} table and applies it to the live merchantable stemwood biomass.
+ * <p>
+ * The conversion reads the flattened coefficient tables directly, so rows can be converted without any lookups through
+ * the coefficient records.
+ */
+public class CfsBiomassConverter {
+
+	/**
+	 * Value of the results for rows without conversion coefficients
+	 */
+	public static final float NO_DATA = CfsBiomassConversionCoefficientsHelper.NO_DATA;
+
+	/**
+	 * Arrays with more rows than this are converted in parallel chunks of this size.
+	 */
+	public static final int CHUNK_SIZE = 4096;
+
+	private static final int A = CfsLiveConversionParams.A.getOffset();
+	private static final int B = CfsLiveConversionParams.B.getOffset();
+	private static final int A_NONMERCH = CfsLiveConversionParams.A_NONMERCH.getOffset();
+	private static final int A_SAP = CfsLiveConversionParams.A_SAP.getOffset();
+	private static final int A1 = CfsLiveConversionParams.A1.getOffset();
+	private static final int B1 = CfsLiveConversionParams.B1.getOffset();
+	private static final int C1 = CfsLiveConversionParams.C1.getOffset();
+	private static final int MIN_VOLUME = CfsLiveConversionParams.MIN_VOLUME.getOffset();
+	private static final int MAX_VOLUME = CfsLiveConversionParams.MAX_VOLUME.getOffset();
+	private static final int LOW_STEMWOOD_PROP = CfsLiveConversionParams.LOW_STEMWOOD_PROP.getOffset();
+	private static final int HIGH_STEMWOOD_PROP = CfsLiveConversionParams.HIGH_STEMWOOD_PROP.getOffset();
+
+	private static final int PROP1 = CfsDeadConversionParams.PROP1.getOffset();
+	private static final int V1 = CfsDeadConversionParams.V1.getOffset();
+	private static final int VOLUME_CLASS_BOUNDARIES = CfsDeadConversionParams.V4.getOffset() - V1 + 1;
+
+	/**
+	 * Live conversion coefficient tables
+	 */
+	public enum LiveTable {
+		/** Indexed by {@link CfsBiomassConversionSupportedSpecies} */
+		SPECIES(
+				CfsBiomassConversionCoefficientsForSpecies.ROWS_PER_ECO_ZONE,
+				CfsBiomassConversionCoefficientsForSpecies.ROW_LENGTH,
+				CfsBiomassConversionCoefficientsForSpecies::coefficients
+		),
+		/** Indexed by {@link CfsBiomassConversionSupportedGenera} */
+		GENUS(
+				CfsBiomassConversionCoefficientsForGenus.ROWS_PER_ECO_ZONE,
+				CfsBiomassConversionCoefficientsForGenus.ROW_LENGTH,
+				CfsBiomassConversionCoefficientsForGenus::coefficients
+		);
+
+		private final Table table;
+
+		private LiveTable(int size, int params, Supplier<float[]> coefficients) {
+			this.table = new Table(size, params, coefficients);
+		}
+	}
+
+	/**
+	 * One of the flattened coefficient tables. The coefficients are only loaded when they are first used.
+	 */
+	private static class Table {
+		final int size;
+		final int params;
+		final Supplier<float[]> coefficients;
+
+		Table(int size, int params, Supplier<float[]> coefficients) {
+			this.size = size;
+			this.params = params;
+			this.coefficients = coefficients;
+		}
+
+		/**
+		 * @return the offset of the first coefficient of the row, or -1 if there is no data for it
+		 */
+		int rowOffset(float[] c, int ecoZone, int index) {
+			if (ecoZone < 0 || ecoZone >= CfsBiomassConversionSupportedEcoZone.size() || index < 0 || index >= size) {
+				return -1;
+			}
+			int offset = (ecoZone * size + index) * params;
+			return CfsBiomassConversionCoefficientsHelper.containsData(c, offset) ? offset : -1;
+		}
+	}
+
+	private static final Table DEAD = new Table(
+			CfsBiomassConversionCoefficientsDead.ROWS_PER_ECO_ZONE, CfsBiomassConversionCoefficientsDead.ROW_LENGTH,
+			CfsBiomassConversionCoefficientsDead::coefficients
+	);
+
+	private CfsBiomassConverter() {
+	}
+
+	@FunctionalInterface
+	private interface RangeConversion {
+		void convert(int from, int to);
+	}
+
+	private static void forEachChunk(int size, RangeConversion conversion) {
+		if (size <= CHUNK_SIZE) {
+			conversion.convert(0, size);
+		} else {
+			int chunks = (size + CHUNK_SIZE - 1) / CHUNK_SIZE;
+			IntStream.range(0, chunks).parallel()
+					.forEach(c -> conversion.convert(c * CHUNK_SIZE, Math.min(size, (c + 1) * CHUNK_SIZE)));
+		}
+	}
+
+	private static void checkLengths(int size, CfsBiomass result, int... lengths) {
+		for (var length : lengths) {
+			if (length != size) {
+				throw new IllegalArgumentException(
+						"Input arrays must all have the same length but found " + length + " and " + size
+				);
+			}
+		}
+		if (result.size() < size) {
+			throw new IllegalArgumentException(
+					"Result has room for " + result.size() + " rows but " + size + " were given"
+			);
+		}
+	}
+
+	/**
+	 * Compute the live biomass and its proportions for every row.
+	 *
+	 * @param table               the coefficient table that <code>indices</code> refers to
+	 * @param ecoZones            Eco Zone offsets
+	 * @param indices             species or genus offsets, depending on <code>table</code>
+	 * @param merchantableVolumes merchantable volume in m<sup>3</sup>/ha
+	 * @param result              receives the live biomass columns
+	 */
+	public static void convertLive(
+			LiveTable table, int[] ecoZones, int[] indices, float[] merchantableVolumes, CfsBiomass result
+	) {
+		int size = ecoZones.length;
+		checkLengths(size, result, indices.length, merchantableVolumes.length);
+		forEachChunk(size, (from, to) -> convertLive(table, ecoZones, indices, merchantableVolumes, result, from, to));
+	}
+
+	/**
+	 * Compute the live biomass and its proportions for rows <code>from</code> (inclusive) to <code>to</code>
+	 * (exclusive) on the calling thread.
+	 */
+	public static void convertLive(
+			LiveTable table, int[] ecoZones, int[] indices, float[] merchantableVolumes, CfsBiomass result, int from,
+			int to
+	) {
+		final Table t = table.table;
+		final float[] c = t.coefficients.get();
+
+		for (int i = from; i < to; i++) {
+			int row = t.rowOffset(c, ecoZones[i], indices[i]);
+			float volume = merchantableVolumes[i];
+
+			if (row < 0) {
+				setNoData(result, i);
+				continue;
+			}
+			if (volume <= 0f) {
+				result.merchantableStemwood[i] = 0f;
+				result.nonMerchantableStemwood[i] = 0f;
+				result.saplingStemwood[i] = 0f;
+				setLive(
+						result, i, 0f, c[row + LOW_STEMWOOD_PROP], c[row + LOW_STEMWOOD_PROP + 2],
+						c[row + LOW_STEMWOOD_PROP + 4], c[row + LOW_STEMWOOD_PROP + 6]
+				);
+				continue;
+			}
+
+			float merch = c[row + A] * pow(volume, c[row + B]);
+			float merchAndNonMerch = merch * factor(c, row + A_NONMERCH, merch);
+			float stemwood = merchAndNonMerch * factor(c, row + A_SAP, merchAndNonMerch);
+
+			float pStemwood;
+			float pBark;
+			float pBranches;
+			float pFoliage;
+			if (volume < c[row + MIN_VOLUME] || volume > c[row + MAX_VOLUME]) {
+				// Low and high values alternate, starting with stemwood
+				int offset = row + (volume < c[row + MIN_VOLUME] ? LOW_STEMWOOD_PROP : HIGH_STEMWOOD_PROP);
+				pStemwood = c[offset];
+				pBark = c[offset + 2];
+				pBranches = c[offset + 4];
+				pFoliage = c[offset + 6];
+			} else {
+				float logVolume = log(volume + 5f);
+				float bark = logit(c, row + A1, volume, logVolume);
+				float branches = logit(c, row + B1, volume, logVolume);
+				float foliage = logit(c, row + C1, volume, logVolume);
+				float denominator = 1f + bark + branches + foliage;
+
+				pStemwood = 1f / denominator;
+				pBark = bark / denominator;
+				pBranches = branches / denominator;
+				pFoliage = foliage / denominator;
+			}
+
+			result.merchantableStemwood[i] = merch;
+			result.nonMerchantableStemwood[i] = merchAndNonMerch - merch;
+			result.saplingStemwood[i] = stemwood - merchAndNonMerch;
+			setLive(result, i, stemwood, pStemwood, pBark, pBranches, pFoliage);
+		}
+	}
+
+	// k + a * b^b capped at cap, with the parameters in the order a, b, k, cap
+	private static float factor(float[] c, int offset, float biomass) {
+		float value = c[offset + 2] + c[offset] * pow(biomass, c[offset + 1]);
+		return Math.min(value, c[offset + 3]);
+	}
+
+	// exp(x1 + x2 * V + x3 * ln(V + 5))
+	private static float logit(float[] c, int offset, float volume, float logVolume) {
+		return exp(c[offset] + c[offset + 1] * volume + c[offset + 2] * logVolume);
+	}
+
+	private static void setLive(
+			CfsBiomass result, int i, float stemwood, float pStemwood, float pBark, float pBranches, float pFoliage
+	) {
+		float total = pStemwood > 0f ? stemwood / pStemwood : 0f;
+
+		result.stemwood[i] = stemwood;
+		result.bark[i] = total * pBark;
+		result.branches[i] = total * pBranches;
+		result.foliage[i] = total * pFoliage;
+		result.stemwoodProportion[i] = pStemwood;
+		result.barkProportion[i] = pBark;
+		result.branchesProportion[i] = pBranches;
+		result.foliageProportion[i] = pFoliage;
+	}
+
+	private static void setNoData(CfsBiomass result, int i) {
+		result.merchantableStemwood[i] = NO_DATA;
+		result.nonMerchantableStemwood[i] = NO_DATA;
+		result.saplingStemwood[i] = NO_DATA;
+		result.stemwood[i] = NO_DATA;
+		result.bark[i] = NO_DATA;
+		result.branches[i] = NO_DATA;
+		result.foliage[i] = NO_DATA;
+		result.stemwoodProportion[i] = NO_DATA;
+		result.barkProportion[i] = NO_DATA;
+		result.branchesProportion[i] = NO_DATA;
+		result.foliageProportion[i] = NO_DATA;
+	}
+
+	/**
+	 * Compute the dead conversion proportion and dead merchantable stemwood biomass for every row. The live
+	 * merchantable stemwood must already have been computed into <code>result</code> for the same rows by
+	 * {@link #convertLive}.
+	 *
+	 * @param ecoZones            Eco Zone offsets
+	 * @param genera              genus offsets ({@link CfsBiomassConversionSupportedGenera})
+	 * @param merchantableVolumes merchantable volume in m<sup>3</sup>/ha
+	 * @param result              receives the dead biomass columns
+	 */
+	public static void convertDead(int[] ecoZones, int[] genera, float[] merchantableVolumes, CfsBiomass result) {
+		int size = ecoZones.length;
+		checkLengths(size, result, genera.length, merchantableVolumes.length);
+		forEachChunk(size, (from, to) -> convertDead(ecoZones, genera, merchantableVolumes, result, from, to));
+	}
+
+	/**
+	 * Compute the dead conversion for rows <code>from</code> (inclusive) to <code>to</code> (exclusive) on the calling
+	 * thread.
+	 */
+	public static void convertDead(
+			int[] ecoZones, int[] genera, float[] merchantableVolumes, CfsBiomass result, int from, int to
+	) {
+		final float[] c = DEAD.coefficients.get();
+
+		for (int i = from; i < to; i++) {
+			int row = DEAD.rowOffset(c, ecoZones[i], genera[i]);
+			float merch = result.merchantableStemwood[i];
+
+			if (row < 0 || merch == NO_DATA) {
+				result.deadProportion[i] = NO_DATA;
+				result.deadStemwood[i] = NO_DATA;
+				continue;
+			}
+
+			float volume = merchantableVolumes[i];
+			int volumeClass = 0;
+			while (volumeClass < VOLUME_CLASS_BOUNDARIES && volume >= c[row + V1 + volumeClass]) {
+				volumeClass++;
+			}
+
+			float proportion = c[row + PROP1 + volumeClass];
+			result.deadProportion[i] = proportion;
+			result.deadStemwood[i] = proportion * merch;
+		}
+	}
+}
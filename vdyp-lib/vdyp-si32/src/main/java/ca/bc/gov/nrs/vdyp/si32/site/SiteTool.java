@@ -21,6 +21,7 @@ import ca.bc.gov.nrs.vdyp.si32.cfs.CfsSpeciesMethods;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsTreeSpecies;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesCodeResolver;
 import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
 import ca.bc.gov.nrs.vdyp.sindex.Reference;
 import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
@@ -41,7 +42,7 @@ public class SiteTool {
 	 */
 	public static CfsBiomassConversionSupportedSpecies lcl_MoFSP64ToCFSSpecies(String spcsNm) {
 
-		SP64Name sp64Name = SP64Name.forText(spcsNm);
+		SP64Name sp64Name = SpeciesCodeResolver.resolve(spcsNm).sp64Name();
 
 		switch (sp64Name) {
 		case AC:
@@ -259,7 +260,7 @@ public class SiteTool {
 	public static boolean getIsSoftwood(String sp64CodeName) {
 
 		// Note that if spName is not a recognized species name, the correct default value is returned.
-		return VdypMethods.speciesTable.getByCode(sp64CodeName).details().isSoftwood();
+		return VdypMethods.getSpeciesTable().getByCode(sp64CodeName).details().isSoftwood();
 	}
 
 	/**
@@ -296,7 +297,7 @@ public class SiteTool {
 	public static CfsTreeSpecies getSpeciesCFSSpcs(String sp64CodeName) {
 
 		// Note that if spName is not a recognized species name, the correct default value is returned.
-		return VdypMethods.speciesTable.getByCode(sp64CodeName).details().cfsSpecies();
+		return VdypMethods.getSpeciesTable().getByCode(sp64CodeName).details().cfsSpecies();
 	}
 
 	/**
@@ -347,12 +348,7 @@ public class SiteTool {
 			SiteIndexEstimationType estType
 	) throws CommonCalculatorException {
 
-		Reference<Double> siRef = new Reference<>();
-
-		// This method always returns 0; in the event of an error, an exception is thrown.
-		Sindxdll.HtAgeToSI(curve, age, ageType, height, estType, siRef);
-
-		double siteIndex = siRef.get();
+		double siteIndex = Sindxdll.HtAgeToSI(curve, age, ageType, height, estType);
 
 		// Round SI off to two decimals.
 		siteIndex = Math.round(siteIndex * 100.0) / 100.0;
@@ -383,12 +379,7 @@ public class SiteTool {
 			double years2BreastHeight
 	) throws CommonCalculatorException {
 
-		Reference<Double> tempRef_rtrn = new Reference<>();
-
-		// This call always returns 0; in the event of an error, an exception is thrown.
-		Sindxdll.HtSIToAge(curve, height, ageType, siteIndex, years2BreastHeight, tempRef_rtrn);
-
-		return tempRef_rtrn.get();
+		return Sindxdll.HtSIToAge(curve, height, ageType, siteIndex, years2BreastHeight);
 	}
 
 	/**
@@ -418,12 +409,7 @@ public class SiteTool {
 			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double years2BreastHeight
 	) throws CommonCalculatorException {
 
-		Reference<Double> tempRef_rtrn = new Reference<>();
-
-		// This call always returns 0; if an error occurs, an exception is thrown.
-		Sindxdll.AgeSIToHt(curve, age, ageType, siteIndex, years2BreastHeight, tempRef_rtrn);
-
-		return tempRef_rtrn.get();
+		return Sindxdll.AgeSIToHt(curve, age, ageType, siteIndex, years2BreastHeight);
 	}
 
 	/**
@@ -437,14 +423,7 @@ public class SiteTool {
 	 */
 	public static double yearsToBreastHeight(SiteIndexEquation curve, double siteIndex)
 			throws CommonCalculatorException {
-		double rtrn = 0.0;
-
-		Reference<Double> tempRef_rtrn = new Reference<>(rtrn);
-
-		// This call always returns 0; if an error occurs, an exception is thrown.
-		Sindxdll.Y2BH(curve, siteIndex, tempRef_rtrn);
-
-		rtrn = tempRef_rtrn.get();
+		double rtrn = Sindxdll.Y2BH(curve, siteIndex);
 
 		// Round off to 1 decimal.
 		rtrn = Math.round(rtrn * 10.0) / 10.0;
@@ -484,15 +463,15 @@ public class SiteTool {
 	}
 
 	public static String getSpeciesFullName(String spcsCodeName) {
-		return VdypMethods.getSpeciesFullName(SP64Name.forText(spcsCodeName));
+		return VdypMethods.getSpeciesFullName(SpeciesCodeResolver.resolve(spcsCodeName).sp64Name());
 	}
 
 	public static String getSpeciesLatinName(String spcsCodeName) {
-		return VdypMethods.getSpeciesLatinName(SP64Name.forText(spcsCodeName));
+		return VdypMethods.getSpeciesLatinName(SpeciesCodeResolver.resolve(spcsCodeName).sp64Name());
 	}
 
 	public static String getSpeciesGenusCode(String spcsCodeName) {
-		return VdypMethods.getSpeciesGenus(SP64Name.forText(spcsCodeName));
+		return VdypMethods.getSpeciesGenus(SpeciesCodeResolver.resolve(spcsCodeName).sp64Name());
 	}
 
 	public static String getSpeciesSINDEXCode(String spcsCode, boolean isCoastal) {
@@ -536,9 +515,7 @@ public class SiteTool {
 			);
 		}
 
-		Reference<Double> rSiteIndex2 = new Reference<>();
-		Sindxdll.SIToSI(speciesIndex1, siteIndex1, speciesIndex2, rSiteIndex2);
-		return rSiteIndex2.get();
+		return Sindxdll.SIToSI(speciesIndex1, siteIndex1, speciesIndex2);
 	}
 
 	/**
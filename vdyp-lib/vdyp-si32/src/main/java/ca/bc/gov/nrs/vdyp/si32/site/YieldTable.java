@@ -0,0 +1,234 @@
+package ca.bc.gov.nrs.vdyp.si32.site;
+
+import java.io.BufferedOutputStream;
+import java.io.DataInputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.Writer;
+import java.text.MessageFormat;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+/**
+ * A dense table of heights over a grid of site index curves, site indices and ages, as computed by
+ * {@link YieldTableGenerator}. Heights are stored in a single array ordered by curve, then site index, then age.
+ * <p>
+ * A height that could not be computed holds the (negative) SINDEX error code of the failure, as given by
+ * {@link Sindxdll#errorCode}. If the years to breast height could not be computed for a curve and site index, every
+ * height of that curve and site index holds its error code.
+ */
+public class YieldTable {
+
+	/** Identifies the binary format written by {@link #writeBinary(OutputStream)} */
+	public static final int BINARY_MAGIC = 0x56595431; // "VYT1"
+
+	/** Most curves, site indices or ages {@link #readBinary(InputStream)} will accept */
+	public static final int MAX_BINARY_COLUMN_LENGTH = 1 << 16;
+	/** Most heights {@link #readBinary(InputStream)} will accept */
+	public static final long MAX_BINARY_HEIGHTS = 1L << 25;
+
+	private final SiteIndexEquation[] curves;
+	private final double[] siteIndices;
+	private final double[] ages;
+	private final SiteIndexAgeType ageType;
+
+	/** Years to breast height, ordered by curve then site index */
+	private final double[] yearsToBreastHeight;
+	/** Heights, ordered by curve, then site index, then age */
+	private final double[] heights;
+
+	public YieldTable(SiteIndexEquation[] curves, double[] siteIndices, double[] ages, SiteIndexAgeType ageType) {
+		this(
+				curves, siteIndices, ages, ageType, new double[curves.length * siteIndices.length],
+				new double[curves.length * siteIndices.length * ages.length]
+		);
+	}
+
+	private YieldTable(
+			SiteIndexEquation[] curves, double[] siteIndices, double[] ages, SiteIndexAgeType ageType,
+			double[] yearsToBreastHeight, double[] heights
+	) {
+		this.curves = curves;
+		this.siteIndices = siteIndices;
+		this.ages = ages;
+		this.ageType = ageType;
+		this.yearsToBreastHeight = yearsToBreastHeight;
+		this.heights = heights;
+	}
+
+	public SiteIndexEquation[] getCurves() {
+		return curves;
+	}
+
+	public double[] getSiteIndices() {
+		return siteIndices;
+	}
+
+	public double[] getAges() {
+		return ages;
+	}
+
+	public SiteIndexAgeType getAgeType() {
+		return ageType;
+	}
+
+	/**
+	 * @return the number of rows (curve and site index combinations) of the table
+	 */
+	public int rows() {
+		return curves.length * siteIndices.length;
+	}
+
+	/**
+	 * @return the index of the row of a curve and site index
+	 */
+	public int row(int curve, int siteIndex) {
+		return curve * siteIndices.length + siteIndex;
+	}
+
+	/**
+	 * @return the years to breast height of a curve and site index
+	 */
+	public double yearsToBreastHeight(int curve, int siteIndex) {
+		return yearsToBreastHeight[row(curve, siteIndex)];
+	}
+
+	/**
+	 * @return the height of a curve, site index and age
+	 */
+	public double height(int curve, int siteIndex, int age) {
+		return heights[row(curve, siteIndex) * ages.length + age];
+	}
+
+	/* pp */ void setYearsToBreastHeight(int row, double value) {
+		yearsToBreastHeight[row] = value;
+	}
+
+	/* pp */ void setHeight(int row, int age, double value) {
+		heights[row * ages.length + age] = value;
+	}
+
+	/**
+	 * Write the table as CSV, with one line for each curve, site index and age.
+	 */
+	public void writeCsv(Writer writer) throws IOException {
+		writer.write("curve,siteIndex,age,yearsToBreastHeight,height\n");
+
+		var line = new StringBuilder();
+		for (int c = 0; c < curves.length; c++) {
+			for (int s = 0; s < siteIndices.length; s++) {
+				int row = row(c, s);
+				for (int a = 0; a < ages.length; a++) {
+					line.setLength(0);
+					line.append(curves[c].name()).append(',').append(siteIndices[s]).append(',').append(ages[a])
+							.append(',').append(yearsToBreastHeight[row]).append(',')
+							.append(heights[row * ages.length + a]).append('\n');
+					writer.append(line);
+				}
+			}
+		}
+		writer.flush();
+	}
+
+	/**
+	 * Write the table in a binary columnar format: a header of {@link #BINARY_MAGIC}, the age type ordinal, and each of
+	 * the curve indices, site indices and ages preceded by its length; followed by the years to breast height column
+	 * and the heights column. All values are big-endian.
+	 */
+	public void writeBinary(OutputStream os) throws IOException {
+		var out = new DataOutputStream(new BufferedOutputStream(os));
+
+		out.writeInt(BINARY_MAGIC);
+		out.writeInt(ageType.ordinal());
+		out.writeInt(curves.length);
+		for (var curve : curves) {
+			out.writeInt(curve.n());
+		}
+		writeColumn(out, siteIndices);
+		writeColumn(out, ages);
+		for (double v : yearsToBreastHeight) {
+			out.writeDouble(v);
+		}
+		for (double v : heights) {
+			out.writeDouble(v);
+		}
+		out.flush();
+	}
+
+	/**
+	 * Read a table written by {@link #writeBinary(OutputStream)}. The stream should be buffered.
+	 *
+	 * @throws IOException if the stream is not in the expected format, is truncated, or holds more than
+	 *                     {@link #MAX_BINARY_COLUMN_LENGTH} curves, site indices or ages or more than
+	 *                     {@link #MAX_BINARY_HEIGHTS} heights
+	 */
+	public static YieldTable readBinary(InputStream is) throws IOException {
+		var in = new DataInputStream(is);
+
+		int magic = in.readInt();
+		if (magic != BINARY_MAGIC) {
+			throw new IOException(MessageFormat.format("Not a yield table: unexpected header {0}", magic));
+		}
+		int ageTypeOrdinal = in.readInt();
+		if (ageTypeOrdinal < 0 || ageTypeOrdinal >= SiteIndexAgeType.values().length) {
+			throw new IOException(MessageFormat.format("Invalid yield table: unknown age type {0}", ageTypeOrdinal));
+		}
+		var ageType = SiteIndexAgeType.values()[ageTypeOrdinal];
+		var curves = new SiteIndexEquation[readLength(in, "curves")];
+		for (int i = 0; i < curves.length; i++) {
+			int curveIndex = in.readInt();
+			try {
+				curves[i] = SiteIndexEquation.getByIndex(curveIndex);
+			} catch (IllegalArgumentException e) {
+				throw new IOException(MessageFormat.format("Invalid yield table: unknown curve {0}", curveIndex), e);
+			}
+		}
+		var siteIndices = readColumn(in, readLength(in, "site indices"));
+		var ages = readColumn(in, readLength(in, "ages"));
+		long heightCount = (long) curves.length * siteIndices.length * ages.length;
+		if (heightCount > MAX_BINARY_HEIGHTS) {
+			throw new IOException(
+					MessageFormat.format(
+							"Invalid yield table: {0} heights is more than the limit of {1}", heightCount,
+							MAX_BINARY_HEIGHTS
+					)
+			);
+		}
+		var yearsToBreastHeight = readColumn(in, curves.length * siteIndices.length);
+		var heights = readColumn(in, yearsToBreastHeight.length * ages.length);
+
+		return new YieldTable(curves, siteIndices, ages, ageType, yearsToBreastHeight, heights);
+	}
+
+	private static void writeColumn(DataOutputStream out, double[] values) throws IOException {
+		out.writeInt(values.length);
+		for (double v : values) {
+			out.writeDouble(v);
+		}
+	}
+
+	private static int readLength(DataInputStream in, String column) throws IOException {
+		int length = in.readInt();
+		if (length < 0 || length > MAX_BINARY_COLUMN_LENGTH) {
+			throw new IOException(
+					MessageFormat.format(
+							"Invalid yield table: {0} {1} is not between 0 and {2}", length, column,
+							MAX_BINARY_COLUMN_LENGTH
+					)
+			);
+		}
+		return length;
+	}
+
+	private static double[] readColumn(DataInputStream in, int length) throws IOException {
+		var values = new double[length];
+		for (int i = 0; i < length; i++) {
+			values[i] = in.readDouble();
+		}
+		return values;
+	}
+}
@@ -0,0 +1,290 @@
+package ca.bc.gov.nrs.vdyp.si32.site;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.Collection;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Optional;
+import java.util.stream.IntStream;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+/**
+ * Generates {@link YieldTable}s: the height of each of a set of site index curves at each of a range of site indices
+ * and ages. The heights are those of {@link SiteTool#ageAndSiteIndexToHeight}, using the years to breast height of
+ * {@link SiteTool#yearsToBreastHeight}.
+ * <p>
+ * The years to breast height of each curve and site index are computed once and reused for every age. The rows of the
+ * table (curve and site index combinations) are computed in parallel on the common fork-join pool.
+ */
+public class YieldTableGenerator {
+
+	public static final int USAGE_ERROR = 1;
+	public static final int PROCESSING_ERROR = 2;
+
+	static final String USAGE = "Usage: YieldTableGenerator (-curves <curve,...> | -species <species,...> -region <COAST|INTERIOR>)"
+			+ " -siteIndex <start> <end> <step> -age <start> <end> <step> [-ageType <T|B>] [-binary] <output.csv | ->";
+
+	private YieldTableGenerator() {
+	}
+
+	/**
+	 * Generate a yield table from the command line. The arguments are these options followed by the output file, or
+	 * <code>-</code> for standard output:
+	 * <ul>
+	 * <li>{@code -curves <curve,...>} the site index curves, each given by name or index
+	 * <li>{@code -species <species,...>} the curves currently assigned to these species, as well as or instead of
+	 * {@code -curves}
+	 * <li>{@code -region <COAST|INTERIOR>} the region of the species
+	 * <li>{@code -siteIndex <start> <end> <step>} the site indices
+	 * <li>{@code -age <start> <end> <step>} the ages
+	 * <li>{@code -ageType <T|B>} whether the ages are total or breast height ages, total if not given
+	 * <li>{@code -binary} write the table in the format of {@link YieldTable#writeBinary} rather than as CSV
+	 * </ul>
+	 */
+	public static void main(final String... args) {
+		int result = run(System.out, args);
+		if (result != 0) {
+			System.exit(result);
+		}
+	}
+
+	/**
+	 * As {@link #main(String...)}, but returning the exit code rather than exiting.
+	 *
+	 * @param stdout where to write a table with an output file of <code>-</code>. It is flushed but not closed.
+	 */
+	@SuppressWarnings("java:S106")
+	public static int run(OutputStream stdout, String... args) {
+		Collection<SiteIndexEquation> curves = new LinkedHashSet<>();
+		List<String> species = List.of();
+		Optional<SpeciesRegion> region = Optional.empty();
+		double[] siteIndices = null;
+		double[] ages = null;
+		var ageType = SiteIndexAgeType.SI_AT_TOTAL;
+		boolean binary = false;
+		String output = null;
+		try {
+			for (int i = 0; i < args.length; i++) {
+				var option = args[i];
+				switch (option) {
+				case "-curves" -> {
+					for (var curve : argument(args, ++i, option).split(",")) {
+						curves.add(parseCurve(curve));
+					}
+				}
+				case "-species" -> species = List.of(argument(args, ++i, option).split(","));
+				case "-region" ->
+					region = Optional.of(SpeciesRegion.valueOf(argument(args, ++i, option).toUpperCase()));
+				case "-siteIndex" -> {
+					siteIndices = rangeArgument(args, i, option);
+					i += 3;
+				}
+				case "-age" -> {
+					ages = rangeArgument(args, i, option);
+					i += 3;
+				}
+				case "-ageType" -> ageType = parseAgeType(argument(args, ++i, option));
+				case "-binary" -> binary = true;
+				default -> {
+					if (output != null || option.startsWith("-") && !option.equals("-")) {
+						throw new IllegalArgumentException("Unexpected argument " + option);
+					}
+					output = option;
+				}
+				}
+			}
+			if (!species.isEmpty()) {
+				curves.addAll(
+						curvesForSpecies(
+								species, region.orElseThrow(() -> new IllegalArgumentException("Missing -region"))
+						)
+				);
+			}
+			if (curves.isEmpty()) {
+				throw new IllegalArgumentException("No curves");
+			}
+			if (siteIndices == null) {
+				throw new IllegalArgumentException("Missing -siteIndex");
+			}
+			if (ages == null) {
+				throw new IllegalArgumentException("Missing -age");
+			}
+			if (output == null) {
+				throw new IllegalArgumentException("Missing output file");
+			}
+		} catch (IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.err.println(USAGE);
+			return USAGE_ERROR;
+		}
+
+		long start = System.nanoTime();
+		var table = generate(curves, siteIndices, ages, ageType);
+		try {
+			if ("-".equals(output)) {
+				write(table, stdout, binary);
+			} else {
+				try (var os = Files.newOutputStream(Path.of(output))) {
+					write(table, os, binary);
+				}
+			}
+		} catch (IOException e) {
+			System.err.println(e.getMessage());
+			return PROCESSING_ERROR;
+		}
+		long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+		System.err.println(
+				MessageFormat.format(
+						"Generated {0} heights ({1} curves, {2} site indices, {3} ages) in {4} ms",
+						table.rows() * ages.length, curves.size(), siteIndices.length, ages.length, elapsedMillis
+				)
+		);
+		return 0;
+	}
+
+	private static void write(YieldTable table, OutputStream os, boolean binary) throws IOException {
+		if (binary) {
+			table.writeBinary(os);
+		} else {
+			table.writeCsv(new BufferedWriter(new OutputStreamWriter(os, StandardCharsets.UTF_8)));
+		}
+	}
+
+	private static String argument(String[] args, int i, String option) {
+		if (i >= args.length) {
+			throw new IllegalArgumentException("Missing argument for " + option);
+		}
+		return args[i];
+	}
+
+	private static double[] rangeArgument(String[] args, int i, String option) {
+		return range(
+				Double.parseDouble(argument(args, i + 1, option)), Double.parseDouble(argument(args, i + 2, option)),
+				Double.parseDouble(argument(args, i + 3, option))
+		);
+	}
+
+	private static SiteIndexEquation parseCurve(String text) {
+		try {
+			return SiteIndexEquation.getByIndex(Integer.parseInt(text));
+		} catch (NumberFormatException e) {
+			return SiteIndexEquation.valueOf(text);
+		}
+	}
+
+	private static SiteIndexAgeType parseAgeType(String text) {
+		switch (text.toUpperCase()) {
+		case "T", "TOTAL":
+			return SiteIndexAgeType.SI_AT_TOTAL;
+		case "B", "BREAST":
+			return SiteIndexAgeType.SI_AT_BREAST;
+		default:
+			throw new IllegalArgumentException(MessageFormat.format("ageType \"{0}\" is not T or B", text));
+		}
+	}
+
+	/**
+	 * Generate a yield table.
+	 *
+	 * @param curves      the site index curves
+	 * @param siteIndices the site indices
+	 * @param ages        the ages
+	 * @param ageType     the type of the ages
+	 * @return the table
+	 */
+	public static YieldTable generate(
+			Collection<SiteIndexEquation> curves, double[] siteIndices, double[] ages, SiteIndexAgeType ageType
+	) {
+		var table = new YieldTable(curves.toArray(SiteIndexEquation[]::new), siteIndices, ages, ageType);
+
+		IntStream.range(0, table.rows()).parallel().forEach(row -> computeRow(table, row));
+
+		return table;
+	}
+
+	private static void computeRow(YieldTable table, int row) {
+		int siteIndexCount = table.getSiteIndices().length;
+		var curve = table.getCurves()[row / siteIndexCount];
+		double siteIndex = table.getSiteIndices()[row % siteIndexCount];
+		double[] ages = table.getAges();
+
+		double yearsToBreastHeight;
+		try {
+			yearsToBreastHeight = SiteTool.yearsToBreastHeight(curve, siteIndex);
+		} catch (CommonCalculatorException e) {
+			int errorCode = Sindxdll.errorCode(e);
+			table.setYearsToBreastHeight(row, errorCode);
+			for (int a = 0; a < ages.length; a++) {
+				table.setHeight(row, a, errorCode);
+			}
+			return;
+		}
+		table.setYearsToBreastHeight(row, yearsToBreastHeight);
+
+		for (int a = 0; a < ages.length; a++) {
+			double height;
+			try {
+				height = Sindxdll.AgeSIToHt(curve, ages[a], table.getAgeType(), siteIndex, yearsToBreastHeight);
+			} catch (CommonCalculatorException e) {
+				height = Sindxdll.errorCode(e);
+			}
+			table.setHeight(row, a, height);
+		}
+	}
+
+	/**
+	 * Determine the site index curves currently assigned to a set of species in a region, in the order of the species
+	 * and without duplicates. Species without a curve are skipped.
+	 *
+	 * @param sp64CodeNames the species' code names
+	 * @param region        the region
+	 * @return the curves
+	 */
+	public static Collection<SiteIndexEquation>
+			curvesForSpecies(Collection<String> sp64CodeNames, SpeciesRegion region) {
+		var curves = new LinkedHashSet<SiteIndexEquation>();
+		for (var sp64CodeName : sp64CodeNames) {
+			var curve = VdypMethods.getCurrentSICurve(sp64CodeName, region);
+			if (curve != SiteIndexEquation.SI_NO_EQUATION) {
+				curves.add(curve);
+			}
+		}
+		return curves;
+	}
+
+	/**
+	 * Create the values of an axis of a yield table: <code>start</code>, <code>start + step</code> and so on up to and
+	 * including <code>end</code>. Each value is computed from its index, rather than accumulated, to avoid drift.
+	 *
+	 * @throws IllegalArgumentException if <code>step</code> is not positive or <code>end</code> is less than
+	 *                                  <code>start</code>
+	 */
+	public static double[] range(double start, double end, double step) {
+		if (step <= 0 || end < start) {
+			throw new IllegalArgumentException(
+					MessageFormat.format("Invalid range from {0} to {1} by {2}", start, end, step)
+			);
+		}
+		// Allow for rounding error in the division so that end is included when it is a whole number of steps away
+		int count = (int) Math.floor( (end - start) / step + 1e-9) + 1;
+		var values = new double[count];
+		for (int i = 0; i < count; i++) {
+			values[i] = start + i * step;
+		}
+		return values;
+	}
+}
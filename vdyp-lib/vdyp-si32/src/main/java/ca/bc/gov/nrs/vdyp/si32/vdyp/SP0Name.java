@@ -1,6 +1,10 @@
 package ca.bc.gov.nrs.vdyp.si32.vdyp;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import ca.bc.gov.nrs.vdyp.model.EnumIterator;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SI32Enum;
@@ -28,6 +32,9 @@ public enum SP0Name implements SI32Enum<SP0Name> {
 	S(14), //
 	Y(15);
 
+	private static final Map<String, SP0Name> byText = Arrays.stream(values())
+			.collect(Collectors.toUnmodifiableMap(SP0Name::name, Function.identity()));
+
 	private final int index;
 
 	private SP0Name(int index) {
@@ -65,14 +72,17 @@ public enum SP0Name implements SI32Enum<SP0Name> {
 	 * Returns the enumeration constant corresponding to the given text value.
 	 *
 	 * @param text the text value in question. Example: "AC". The value is converted to upper-case before the lookup.
-	 * @return the enumeration value, unless <code>text</code> is null or
+	 * @return the enumeration value, or <code>UNKNOWN</code> if <code>text</code> is null or not recognized
 	 */
 	public static SP0Name forText(String text) {
-		try {
-			return valueOf("" + text.toUpperCase());
-		} catch (IllegalArgumentException | NullPointerException e) {
+		if (text == null) {
 			return UNKNOWN;
 		}
+		SP0Name e = byText.get(text);
+		if (e == null) {
+			e = byText.getOrDefault(text.toUpperCase(), UNKNOWN);
+		}
+		return e;
 	}
 
 	/**
@@ -1,6 +1,10 @@
 package ca.bc.gov.nrs.vdyp.si32.vdyp;
 
 import java.text.MessageFormat;
+import java.util.Arrays;
+import java.util.Map;
+import java.util.function.Function;
+import java.util.stream.Collectors;
 
 import ca.bc.gov.nrs.vdyp.model.EnumIterator;
 import ca.bc.gov.nrs.vdyp.si32.enumerations.SI32Enum;
@@ -157,6 +161,9 @@ public enum SP64Name implements SI32Enum<SP64Name> {
 	ZC(141), //
 	ZH(142);
 
+	private static final Map<String, SP64Name> byText = Arrays.stream(values())
+			.collect(Collectors.toUnmodifiableMap(SP64Name::name, Function.identity()));
+
 	private final int index;
 
 	private SP64Name(int index) {
@@ -198,15 +205,14 @@ public enum SP64Name implements SI32Enum<SP64Name> {
 	 */
 	public static SP64Name forText(String text) {
 
-		if (text != null) {
-			try {
-				return valueOf(SP64Name.class, text.toUpperCase());
-			} catch (IllegalArgumentException e) {
-				return UNKNOWN;
-			}
-		} else {
+		if (text == null) {
 			return UNKNOWN;
 		}
+		SP64Name e = byText.get(text);
+		if (e == null) {
+			e = byText.getOrDefault(text.toUpperCase(), UNKNOWN);
+		}
+		return e;
 	}
 
 	/**
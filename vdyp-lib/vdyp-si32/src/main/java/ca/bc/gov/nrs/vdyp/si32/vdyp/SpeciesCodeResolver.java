@@ -0,0 +1,133 @@
+package ca.bc.gov.nrs.vdyp.si32.vdyp;
+
+import java.util.HashMap;
+import java.util.Map;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsTreeSpecies;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+/**
+ * Resolves species code names to the various species identifiers used by SI32 - the SP64 species, its index in the
+ * species table, its SP0 genus, its CFS species and its SINDEX species in each region - without throwing exceptions.
+ * <p>
+ * The identifiers for every SP64 species are computed once, when this class is initialized, so that resolving a code is
+ * a single map lookup. Codes that are not recognized resolve to {@link #UNKNOWN}, whose members are the "unknown" value
+ * of each identifier.
+ */
+public class SpeciesCodeResolver {
+
+	/**
+	 * The identifiers of a species.
+	 *
+	 * @param index           the index of the species in the species table
+	 * @param sp64Name        the SP64 species
+	 * @param sp0Name         the SP0 genus of the species
+	 * @param cfsSpecies      the corresponding CFS species
+	 * @param coastalSpecies  the SINDEX species to use for the species on the coast
+	 * @param interiorSpecies the SINDEX species to use for the species in the interior
+	 */
+	public record Resolution(
+			int index, SP64Name sp64Name, SP0Name sp0Name, CfsTreeSpecies cfsSpecies, SiteIndexSpecies coastalSpecies,
+			SiteIndexSpecies interiorSpecies
+	) {
+
+		/**
+		 * @return the SINDEX species to use for the species in the given region, or <code>SI_NO_SPECIES</code> if there
+		 *         is none or the region is <code>null</code>.
+		 */
+		public SiteIndexSpecies sindexSpecies(SpeciesRegion region) {
+			if (region == null) {
+				return SiteIndexSpecies.SI_NO_SPECIES;
+			}
+			switch (region) {
+			case COAST:
+				return coastalSpecies;
+			case INTERIOR:
+				return interiorSpecies;
+			default:
+				return SiteIndexSpecies.SI_NO_SPECIES;
+			}
+		}
+
+		/**
+		 * @return true iff the code resolved to a species in the species table
+		 */
+		public boolean isKnown() {
+			return index != SpeciesTable.UNKNOWN_ENTRY_INDEX;
+		}
+	}
+
+	public static final Resolution UNKNOWN = new Resolution(
+			SpeciesTable.UNKNOWN_ENTRY_INDEX, SP64Name.UNKNOWN, SP0Name.UNKNOWN, CfsTreeSpecies.UNKNOWN,
+			SiteIndexSpecies.SI_NO_SPECIES, SiteIndexSpecies.SI_NO_SPECIES
+	);
+
+	private static final Map<String, Resolution> byCode = new HashMap<>();
+
+	static {
+		for (SP64Name sp64Name : SP64Name.values()) {
+			if (sp64Name == SP64Name.UNKNOWN) {
+				continue;
+			}
+
+			var item = VdypMethods.getSpeciesTable().getByCode(sp64Name.getText());
+			var details = item.details();
+
+			byCode.put(
+					sp64Name.getText(),
+					new Resolution(
+							item.index(), sp64Name, SP0Name.forText(details.sp0Name()), details.cfsSpecies(),
+							Sindxdll.FindSpecRemap(sp64Name.getText(), 'A'),
+							Sindxdll.FindSpecRemap(sp64Name.getText(), 'D')
+					)
+			);
+		}
+	}
+
+	private SpeciesCodeResolver() {
+	}
+
+	/**
+	 * Resolve an SP64 species code name. Case is ignored.
+	 *
+	 * @param sp64CodeName the code name of the species, such as "ABAL"
+	 * @return the identifiers of the species, or {@link #UNKNOWN} if the code is <code>null</code> or not recognized.
+	 */
+	public static Resolution resolve(String sp64CodeName) {
+		if (sp64CodeName == null) {
+			return UNKNOWN;
+		}
+		var resolution = byCode.get(sp64CodeName);
+		if (resolution == null) {
+			resolution = byCode.getOrDefault(sp64CodeName.toUpperCase(), UNKNOWN);
+		}
+		return resolution;
+	}
+
+	/**
+	 * Determine the SINDEX species for a species code in the given region. Unlike {@link #resolve(String)}, this
+	 * accepts any code known to SINDEX, including those that are not SP64 species.
+	 *
+	 * @param speciesCode the species code
+	 * @param region      the region
+	 * @return the SINDEX species, or <code>SI_NO_SPECIES</code> if the code or region is <code>null</code> or not
+	 *         recognized.
+	 */
+	public static SiteIndexSpecies sindexSpecies(String speciesCode, SpeciesRegion region) {
+		if (speciesCode == null || region == null) {
+			return SiteIndexSpecies.SI_NO_SPECIES;
+		}
+
+		var resolution = byCode.get(speciesCode);
+		if (resolution == null) {
+			resolution = byCode.get(speciesCode.toUpperCase());
+		}
+		if (resolution != null) {
+			return resolution.sindexSpecies(region);
+		}
+
+		return Sindxdll.FindSpecRemap(speciesCode, region == SpeciesRegion.COAST ? 'A' : 'D');
+	}
+}
@@ -5,14 +5,11 @@ import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.List;
 
-import org.apache.commons.lang3.StringUtils;
 import org.slf4j.Logger;
 import org.slf4j.LoggerFactory;
 
-import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CurveErrorException;
-import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ForestInventoryZoneException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.NoAnswerException;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
@@ -25,7 +22,20 @@ public class VdypMethods {
 
 	private static final int SI_MAX_CURVES = 123;
 
-	public static SpeciesTable speciesTable = new SpeciesTable();
+	/**
+	 * Holds the species table, so that it is only built when first needed rather than whenever this class is loaded.
+	 * Site index calculations that don't involve SP64 species never need it.
+	 */
+	private static class SpeciesTableHolder {
+		private static final SpeciesTable speciesTable = new SpeciesTable();
+	}
+
+	/**
+	 * @return the table of SP64 species, which is built on the first call
+	 */
+	public static SpeciesTable getSpeciesTable() {
+		return SpeciesTableHolder.speciesTable;
+	}
 
 	/**
 	 * Returns the total number of defined species. One is subtracted one off of the size of the speciesTable because
@@ -34,7 +44,7 @@ public class VdypMethods {
 	 * @return as described.
 	 */
 	public static int getNumDefinedSpecies() {
-		return speciesTable.getNSpecies();
+		return getSpeciesTable().getNSpecies();
 	}
 
 	/**
@@ -45,20 +55,7 @@ public class VdypMethods {
 	 *         the species was not recognized.
 	 */
 	public static int speciesIndex(String sp64CodeName) {
-		int result;
-
-		if (StringUtils.isNotBlank(sp64CodeName)) {
-			try {
-				SpeciesTableItem spsc = speciesTable.getByCode(sp64CodeName);
-				result = spsc.index();
-			} catch (IllegalArgumentException e) {
-				result = SpeciesTable.UNKNOWN_ENTRY_INDEX;
-			}
-		} else {
-			result = SpeciesTable.UNKNOWN_ENTRY_INDEX;
-		}
-
-		return result;
+		return SpeciesCodeResolver.resolve(sp64CodeName).index();
 	}
 
 	/**
@@ -80,7 +77,7 @@ public class VdypMethods {
 	 */
 	public static boolean isDeciduous(SP64Name sp64Name) {
 		if (sp64Name != null) {
-			return speciesTable.getByCode(sp64Name.getText()).details().isDeciduous();
+			return getSpeciesTable().getByCode(sp64Name.getText()).details().isDeciduous();
 		} else {
 			return false;
 		}
@@ -94,7 +91,7 @@ public class VdypMethods {
 	 */
 	public static boolean isCommercial(SP64Name sp64Name) {
 		if (sp64Name != null) {
-			return speciesTable.getByCode(sp64Name.getText()).details().isCommercial();
+			return getSpeciesTable().getByCode(sp64Name.getText()).details().isCommercial();
 		} else {
 			return false;
 		}
@@ -122,7 +119,7 @@ public class VdypMethods {
 	 */
 	public static String getSpeciesFullName(SP64Name sp64Name) {
 		if (sp64Name != null) {
-			return speciesTable.getByCode(sp64Name.getText()).details().fullName();
+			return getSpeciesTable().getByCode(sp64Name.getText()).details().fullName();
 		} else {
 			return SpeciesTable.DefaultEntry.fullName();
 		}
@@ -136,7 +133,7 @@ public class VdypMethods {
 	 */
 	public static String getSpeciesLatinName(SP64Name sp64Name) {
 		if (sp64Name != null) {
-			return speciesTable.getByCode(sp64Name.getText()).details().latinName();
+			return getSpeciesTable().getByCode(sp64Name.getText()).details().latinName();
 		} else {
 			return SpeciesTable.DefaultEntry.latinName();
 		}
@@ -150,7 +147,7 @@ public class VdypMethods {
 	 */
 	public static String getSpeciesGenus(SP64Name sp64Name) {
 		if (sp64Name != null) {
-			return speciesTable.getByCode(sp64Name.getText()).details().genusName();
+			return getSpeciesTable().getByCode(sp64Name.getText()).details().genusName();
 		} else {
 			return SpeciesTable.DefaultEntry.genusName();
 		}
@@ -167,40 +164,9 @@ public class VdypMethods {
 	 */
 	public static String getSINDEXSpecies(String speciesName, SpeciesRegion region) {
 
-		String speciesCode = "";
-
-		if (speciesName != null && region != null) {
-
-			char fiz;
-
-			switch (region) {
-			case COAST:
-				fiz = 'A';
-				break;
-			case INTERIOR:
-				fiz = 'D';
-				break;
-			default:
-				fiz = ' ';
-				break;
-			}
-
-			if (fiz != ' ') {
-				SiteIndexSpecies s = SiteIndexSpecies.SI_NO_SPECIES;
+		SiteIndexSpecies s = SpeciesCodeResolver.sindexSpecies(speciesName, region);
 
-				try {
-					s = Sindxdll.SpecRemap(speciesName, fiz);
-				} catch (CodeErrorException | ForestInventoryZoneException e) {
-					// fall through
-				}
-
-				if (s != SiteIndexSpecies.SI_NO_SPECIES) {
-					speciesCode = Sindxdll.SpecCode(s);
-				}
-			}
-		}
-
-		return speciesCode;
+		return s == SiteIndexSpecies.SI_NO_SPECIES ? "" : Sindxdll.SpecCode(s);
 	}
 
 	/**
@@ -212,7 +178,7 @@ public class VdypMethods {
 	 */
 	public static String getVDYP7Species(String sp64CodeName) {
 		if (sp64CodeName != null) {
-			return speciesTable.getByCode(sp64CodeName).details().sp0Name();
+			return getSpeciesTable().getByCode(sp64CodeName).details().sp0Name();
 		} else {
 			return SpeciesTable.DefaultEntry.sp0Name();
 		}
@@ -260,19 +226,19 @@ public class VdypMethods {
 		SiteIndexEquation siCurve = SiteIndexEquation.SI_NO_EQUATION;
 
 		if (sp64Name != null && region != null) {
-			var entry = speciesTable.getByCode(sp64Name);
+			var entry = getSpeciesTable().getByCode(sp64Name);
 			siCurve = entry.details().currentSICurve()[region.ordinal()];
 
 			// If the curve for this species is not set, look it up from SINDEX.
 
 			if (siCurve == SiteIndexEquation.SI_NO_EQUATION) {
-				SiteIndexSpecies sindexSpcs;
-				try {
-					sindexSpcs = Sindxdll.SpecRemap(sp64Name, region == SpeciesRegion.COAST ? 'A' : 'D');
-
-					siCurve = Sindxdll.DefCurve(sindexSpcs);
-				} catch (CommonCalculatorException e) {
-					siCurve = SiteIndexEquation.SI_NO_EQUATION;
+				SiteIndexSpecies sindexSpcs = SpeciesCodeResolver.sindexSpecies(sp64Name, region);
+				if (sindexSpcs != SiteIndexSpecies.SI_NO_SPECIES) {
+					try {
+						siCurve = Sindxdll.DefCurve(sindexSpcs);
+					} catch (CommonCalculatorException e) {
+						siCurve = SiteIndexEquation.SI_NO_EQUATION;
+					}
 				}
 				entry.details().currentSICurve()[region.ordinal()] = siCurve;
 			}
@@ -297,14 +263,15 @@ public class VdypMethods {
 		SiteIndexEquation siCurve = SiteIndexEquation.SI_NO_EQUATION;
 
 		if (sp64Name != null && region != null
-				&& speciesTable.getByCode(sp64Name).details() != SpeciesTable.DefaultEntry) {
-
-			try {
-				SiteIndexSpecies sindxSpcs = Sindxdll.SpecRemap(sp64Name, (region == SpeciesRegion.COAST) ? 'A' : 'D');
+				&& getSpeciesTable().getByCode(sp64Name).details() != SpeciesTable.DefaultEntry) {
 
-				siCurve = Sindxdll.DefCurve(sindxSpcs);
-			} catch (CommonCalculatorException e) {
-				// fall through
+			SiteIndexSpecies sindxSpcs = SpeciesCodeResolver.sindexSpecies(sp64Name, region);
+			if (sindxSpcs != SiteIndexSpecies.SI_NO_SPECIES) {
+				try {
+					siCurve = Sindxdll.DefCurve(sindxSpcs);
+				} catch (CommonCalculatorException e) {
+					// fall through
+				}
 			}
 		}
 
@@ -324,7 +291,7 @@ public class VdypMethods {
 			setCurrentSICurve(String sp64CodeName, SpeciesRegion region, SiteIndexEquation siCurve) {
 
 		SiteIndexEquation oldCurve = getCurrentSICurve(sp64CodeName, region);
-		var speciesEntry = speciesTable.getByCode(sp64CodeName);
+		var speciesEntry = getSpeciesTable().getByCode(sp64CodeName);
 		if (region != null && speciesEntry.details() != SpeciesTable.DefaultEntry) {
 			speciesEntry.details().currentSICurve()[region.ordinal()] = siCurve;
 		}
@@ -466,7 +433,7 @@ public class VdypMethods {
 		// turn contains the right default value of -1.0f.
 
 		if (sp64CodeName != null && region != null) {
-			return speciesTable.getByCode(sp64CodeName).details().defaultCrownClosure()[region.ordinal()];
+			return getSpeciesTable().getByCode(sp64CodeName).details().defaultCrownClosure()[region.ordinal()];
 		} else {
 			return -1.0f;
 		}
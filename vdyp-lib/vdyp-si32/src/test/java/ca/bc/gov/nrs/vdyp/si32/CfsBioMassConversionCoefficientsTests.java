@@ -1,9 +1,13 @@
 package ca.bc.gov.nrs.vdyp.si32;
 
 import static org.hamcrest.MatcherAssert.assertThat;
+import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertThrows;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
+import java.util.Arrays;
+
 import org.hamcrest.Matchers;
 import org.junit.jupiter.api.Test;
 
@@ -11,9 +15,55 @@ import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsDead;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsDetails;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsForGenus;
 import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsForSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsHelper;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedEcoZone;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsDeadConversionParams;
 
 class CfsBioMassConversionCoefficientsTests {
 
+	@Test
+	void test_validate() {
+		assertDoesNotThrow(CfsBiomassConversionCoefficientsDead::validate);
+		assertDoesNotThrow(CfsBiomassConversionCoefficientsForGenus::validate);
+		assertDoesNotThrow(CfsBiomassConversionCoefficientsForSpecies::validate);
+	}
+
+	@Test
+	void test_validateWrongLength() {
+		assertThrows(
+				IllegalStateException.class,
+				() -> CfsBiomassConversionCoefficientsHelper.validate("test", new float[] { 1f, 2f }, 1, 2)
+		);
+	}
+
+	@Test
+	void test_validatePartialRow() {
+		int rows = CfsBiomassConversionSupportedEcoZone.size();
+		var table = new float[rows * 2];
+		Arrays.fill(table, 1f);
+		table[3] = CfsBiomassConversionCoefficientsHelper.NO_DATA;
+
+		var ex = assertThrows(
+				IllegalStateException.class, () -> CfsBiomassConversionCoefficientsHelper.validate("test", table, 1, 2)
+		);
+		assertThat(ex.getMessage(), Matchers.containsString("test at index 1 0 1"));
+	}
+
+	@Test
+	void test_noData() {
+		CfsBiomassConversionCoefficientsDetails d = CfsBiomassConversionCoefficientsDead.get(0, 3);
+
+		assertFalse(d.containsData());
+		assertThat(d.parms().length, Matchers.is(CfsDeadConversionParams.size()));
+	}
+
+	@Test
+	void test_outOfRange() {
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> CfsBiomassConversionCoefficientsDead.get(5, 0));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> CfsBiomassConversionCoefficientsForGenus.get(0, 20));
+		assertThrows(ArrayIndexOutOfBoundsException.class, () -> CfsBiomassConversionCoefficientsForSpecies.get(-1, 0));
+	}
+
 	@Test
 	void test_dead() {
 		CfsBiomassConversionCoefficientsDetails d1 = CfsBiomassConversionCoefficientsDead.get(1, 1);
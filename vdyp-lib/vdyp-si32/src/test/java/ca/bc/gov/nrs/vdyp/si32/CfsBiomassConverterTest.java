@@ -0,0 +1,208 @@
+package ca.bc.gov.nrs.vdyp.si32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.closeTo;
+import static org.hamcrest.Matchers.greaterThan;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.util.Arrays;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomass;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsDead;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionCoefficientsForSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedEcoZone;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedGenera;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConversionSupportedSpecies;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConverter;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsBiomassConverter.LiveTable;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsDeadConversionParams;
+import ca.bc.gov.nrs.vdyp.si32.cfs.CfsLiveConversionParams;
+
+class CfsBiomassConverterTest {
+
+	static final int ECO_ZONE = CfsBiomassConversionSupportedEcoZone.MONTANE_CORDILLERA.getOffset();
+	static final int SPECIES = CfsBiomassConversionSupportedSpecies.AC.getOffset();
+
+	static float p(float[] parms, CfsLiveConversionParams param) {
+		return parms[param.getOffset()];
+	}
+
+	static CfsBiomass convert(float volume) {
+		var result = new CfsBiomass(1);
+		CfsBiomassConverter.convertLive(
+				LiveTable.SPECIES, new int[] { ECO_ZONE }, new int[] { SPECIES }, new float[] { volume }, result
+		);
+		return result;
+	}
+
+	@Test
+	void testLiveWithinVolumeRange() {
+		var parms = CfsBiomassConversionCoefficientsForSpecies.get(ECO_ZONE, SPECIES).parms();
+		double volume = 150.0;
+
+		// Computed directly from the equations in double precision
+		double merch = p(parms, CfsLiveConversionParams.A) * Math.pow(volume, p(parms, CfsLiveConversionParams.B));
+		double nonMerchFactor = Math.min(
+				p(parms, CfsLiveConversionParams.K_NONMERCH) + p(parms, CfsLiveConversionParams.A_NONMERCH)
+						* Math.pow(merch, p(parms, CfsLiveConversionParams.B_NONMERCH)),
+				p(parms, CfsLiveConversionParams.CAP_NONMERCH)
+		);
+		double nonMerch = merch * nonMerchFactor;
+		double saplingFactor = Math.min(
+				p(parms, CfsLiveConversionParams.K_SAP) + p(parms, CfsLiveConversionParams.A_SAP)
+						* Math.pow(nonMerch, p(parms, CfsLiveConversionParams.B_SAP)),
+				p(parms, CfsLiveConversionParams.CAP_SAP)
+		);
+		double stemwood = nonMerch * saplingFactor;
+
+		double logVolume = Math.log(volume + 5);
+		double bark = Math.exp(
+				p(parms, CfsLiveConversionParams.A1) + p(parms, CfsLiveConversionParams.A2) * volume
+						+ p(parms, CfsLiveConversionParams.A3) * logVolume
+		);
+		double branches = Math.exp(
+				p(parms, CfsLiveConversionParams.B1) + p(parms, CfsLiveConversionParams.B2) * volume
+						+ p(parms, CfsLiveConversionParams.B3) * logVolume
+		);
+		double foliage = Math.exp(
+				p(parms, CfsLiveConversionParams.C1) + p(parms, CfsLiveConversionParams.C2) * volume
+						+ p(parms, CfsLiveConversionParams.C3) * logVolume
+		);
+		double denominator = 1 + bark + branches + foliage;
+		double total = stemwood * denominator;
+
+		var result = convert((float) volume);
+
+		assertThat((double) result.merchantableStemwood[0], closeTo(merch, merch * 1e-5));
+		assertThat((double) result.nonMerchantableStemwood[0], closeTo(nonMerch - merch, nonMerch * 1e-5));
+		assertThat((double) result.saplingStemwood[0], closeTo(stemwood - nonMerch, stemwood * 1e-5));
+		assertThat((double) result.stemwood[0], closeTo(stemwood, stemwood * 1e-5));
+		assertThat((double) result.stemwoodProportion[0], closeTo(1 / denominator, 1e-5));
+		assertThat((double) result.barkProportion[0], closeTo(bark / denominator, 1e-5));
+		assertThat((double) result.branchesProportion[0], closeTo(branches / denominator, 1e-5));
+		assertThat((double) result.foliageProportion[0], closeTo(foliage / denominator, 1e-5));
+		assertThat((double) result.bark[0], closeTo(total * bark / denominator, total * 1e-5));
+		assertThat((double) result.total(0), closeTo(total, total * 1e-5));
+	}
+
+	@Test
+	void testLiveOutsideVolumeRange() {
+		var parms = CfsBiomassConversionCoefficientsForSpecies.get(ECO_ZONE, SPECIES).parms();
+
+		var low = convert(p(parms, CfsLiveConversionParams.MIN_VOLUME) / 2);
+		assertThat(low.stemwoodProportion[0], is(p(parms, CfsLiveConversionParams.LOW_STEMWOOD_PROP)));
+		assertThat(low.barkProportion[0], is(p(parms, CfsLiveConversionParams.LOW_STEMBARK_PROP)));
+		assertThat(low.branchesProportion[0], is(p(parms, CfsLiveConversionParams.LOW_BRANCHES_PROP)));
+		assertThat(low.foliageProportion[0], is(p(parms, CfsLiveConversionParams.LOW_FOLIAGE_PROP)));
+
+		var high = convert(p(parms, CfsLiveConversionParams.MAX_VOLUME) * 2);
+		assertThat(high.stemwoodProportion[0], is(p(parms, CfsLiveConversionParams.HIGH_STEMWOOD_PROP)));
+		assertThat(high.barkProportion[0], is(p(parms, CfsLiveConversionParams.HIGH_STEMBARK_PROP)));
+		assertThat(high.branchesProportion[0], is(p(parms, CfsLiveConversionParams.HIGH_BRANCHES_PROP)));
+		assertThat(high.foliageProportion[0], is(p(parms, CfsLiveConversionParams.HIGH_FOLIAGE_PROP)));
+	}
+
+	@Test
+	void testLiveZeroVolume() {
+		var result = convert(0f);
+		assertThat(result.stemwood[0], is(0f));
+		assertThat(result.total(0), is(0f));
+	}
+
+	@Test
+	void testNoData() {
+		// Find a row without data
+		int ecoZone = -1;
+		int species = -1;
+		for (int e = 0; e < CfsBiomassConversionSupportedEcoZone.size() && ecoZone < 0; e++) {
+			for (int s = 0; s < CfsBiomassConversionSupportedSpecies.size(); s++) {
+				if (!CfsBiomassConversionCoefficientsForSpecies.get(e, s).containsData()) {
+					ecoZone = e;
+					species = s;
+					break;
+				}
+			}
+		}
+
+		var result = new CfsBiomass(2);
+		CfsBiomassConverter.convertLive(
+				LiveTable.SPECIES, new int[] { ecoZone, -1 }, new int[] { species, SPECIES },
+				new float[] { 100f, 100f }, result
+		);
+
+		for (int i = 0; i < 2; i++) {
+			assertThat(result.stemwood[i], is(CfsBiomassConverter.NO_DATA));
+			assertThat(result.foliageProportion[i], is(CfsBiomassConverter.NO_DATA));
+			assertThat(result.total(i), is(CfsBiomassConverter.NO_DATA));
+		}
+	}
+
+	@Test
+	void testDead() {
+		int genus = CfsBiomassConversionSupportedGenera.AC.getOffset();
+		var parms = CfsBiomassConversionCoefficientsDead.get(ECO_ZONE, genus).parms();
+		float v1 = parms[CfsDeadConversionParams.V1.getOffset()];
+		float v4 = parms[CfsDeadConversionParams.V4.getOffset()];
+
+		var volumes = new float[] { v1 / 2, v1, v4 * 2 };
+		var ecoZones = new int[] { ECO_ZONE, ECO_ZONE, ECO_ZONE };
+		var result = new CfsBiomass(3);
+		CfsBiomassConverter.convertLive(LiveTable.GENUS, ecoZones, new int[] { genus, genus, genus }, volumes, result);
+		CfsBiomassConverter.convertDead(ecoZones, new int[] { genus, genus, genus }, volumes, result);
+
+		assertThat(result.deadProportion[0], is(parms[CfsDeadConversionParams.PROP1.getOffset()]));
+		assertThat(result.deadProportion[1], is(parms[CfsDeadConversionParams.PROP2.getOffset()]));
+		assertThat(result.deadProportion[2], is(parms[CfsDeadConversionParams.PROP5.getOffset()]));
+		assertThat(result.deadStemwood[2], is(result.deadProportion[2] * result.merchantableStemwood[2]));
+	}
+
+	@Test
+	void testChunkedMatchesSingleRows() {
+		int size = CfsBiomassConverter.CHUNK_SIZE * 3 + 7;
+		int ecoZones = CfsBiomassConversionSupportedEcoZone.size();
+		int species = CfsBiomassConversionSupportedSpecies.size();
+
+		var ecoZone = new int[size];
+		var index = new int[size];
+		var volume = new float[size];
+		for (int i = 0; i < size; i++) {
+			ecoZone[i] = i % ecoZones;
+			index[i] = (i / ecoZones) % species;
+			volume[i] = (i % 997) * 1.5f;
+		}
+
+		var bulk = new CfsBiomass(size);
+		CfsBiomassConverter.convertLive(LiveTable.SPECIES, ecoZone, index, volume, bulk);
+
+		int withData = 0;
+		for (int i = 0; i < size; i++) {
+			var single = new CfsBiomass(1);
+			CfsBiomassConverter.convertLive(
+					LiveTable.SPECIES, new int[] { ecoZone[i] }, new int[] { index[i] }, new float[] { volume[i] },
+					single
+			);
+			assertThat(bulk.stemwood[i], is(single.stemwood[0]));
+			assertThat(bulk.foliage[i], is(single.foliage[0]));
+			if (single.stemwood[0] != CfsBiomassConverter.NO_DATA) {
+				withData++;
+			}
+		}
+		assertThat(withData, greaterThan(0));
+	}
+
+	@Test
+	void testMismatchedLengths() {
+		var result = new CfsBiomass(2);
+		var ecoZones = new int[] { ECO_ZONE, ECO_ZONE };
+		var species = new int[] { SPECIES };
+		var volumes = new float[2];
+		Arrays.fill(volumes, 100f);
+		assertThrows(
+				IllegalArgumentException.class,
+				() -> CfsBiomassConverter.convertLive(LiveTable.SPECIES, ecoZones, species, volumes, result)
+		);
+	}
+}
@@ -0,0 +1,102 @@
+package ca.bc.gov.nrs.vdyp.si32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.sameInstance;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP0Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SP64Name;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesCodeResolver;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.SpeciesTable;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+class SpeciesCodeResolverTest {
+
+	static SiteIndexSpecies remap(String code, char fiz) {
+		try {
+			return Sindxdll.SpecRemap(code, fiz);
+		} catch (CommonCalculatorException e) {
+			return SiteIndexSpecies.SI_NO_SPECIES;
+		}
+	}
+
+	@Test
+	void testAllSpeciesMatchTables() {
+		for (SP64Name sp64Name : SP64Name.values()) {
+			if (sp64Name == SP64Name.UNKNOWN) {
+				continue;
+			}
+
+			var code = sp64Name.getText();
+			var item = VdypMethods.getSpeciesTable().getByCode(code);
+
+			for (var text : new String[] { code, code.toLowerCase() }) {
+				var resolution = SpeciesCodeResolver.resolve(text);
+
+				assertThat(text, resolution.index(), is(item.index()));
+				assertThat(text, resolution.index(), is(sp64Name.getIndex()));
+				assertThat(text, resolution.sp64Name(), is(sp64Name));
+				assertThat(text, resolution.sp0Name(), is(SP0Name.forText(item.details().sp0Name())));
+				assertThat(text, resolution.cfsSpecies(), is(item.details().cfsSpecies()));
+				assertThat(text, resolution.coastalSpecies(), is(remap(code, 'A')));
+				assertThat(text, resolution.interiorSpecies(), is(remap(code, 'D')));
+				assertThat(text, resolution.isKnown(), is(true));
+			}
+		}
+	}
+
+	@Test
+	void testUnknownCodes() {
+		for (var text : new String[] { null, "", " ", "ZZZ", "UNKNOWN", "??" }) {
+			assertThat(SpeciesCodeResolver.resolve(text), sameInstance(SpeciesCodeResolver.UNKNOWN));
+		}
+		assertThat(SpeciesCodeResolver.UNKNOWN.isKnown(), is(false));
+		assertThat(SpeciesCodeResolver.UNKNOWN.index(), is(SpeciesTable.UNKNOWN_ENTRY_INDEX));
+	}
+
+	@Test
+	void testSindexSpecies() {
+		assertThat(SpeciesCodeResolver.sindexSpecies("FD", SpeciesRegion.COAST), is(SiteIndexSpecies.SI_SPEC_FDC));
+		assertThat(SpeciesCodeResolver.sindexSpecies("fd", SpeciesRegion.INTERIOR), is(SiteIndexSpecies.SI_SPEC_FDI));
+
+		// Not an SP64 species code, but known to SINDEX
+		assertThat(SpeciesCodeResolver.resolve("f d").isKnown(), is(false));
+		assertThat(SpeciesCodeResolver.sindexSpecies("f d", SpeciesRegion.COAST), is(SiteIndexSpecies.SI_SPEC_FDC));
+
+		assertThat(SpeciesCodeResolver.sindexSpecies("ZZZ", SpeciesRegion.COAST), is(SiteIndexSpecies.SI_NO_SPECIES));
+		assertThat(SpeciesCodeResolver.sindexSpecies(null, SpeciesRegion.COAST), is(SiteIndexSpecies.SI_NO_SPECIES));
+		assertThat(SpeciesCodeResolver.sindexSpecies("FD", null), is(SiteIndexSpecies.SI_NO_SPECIES));
+	}
+
+	@Test
+	void testForText() {
+		for (SP64Name sp64Name : SP64Name.values()) {
+			assertThat(SP64Name.forText(sp64Name.name()), is(sp64Name));
+			assertThat(SP64Name.forText(sp64Name.name().toLowerCase()), is(sp64Name));
+		}
+		assertThat(SP64Name.forText(null), is(SP64Name.UNKNOWN));
+		assertThat(SP64Name.forText("ZZZ"), is(SP64Name.UNKNOWN));
+
+		for (SP0Name sp0Name : SP0Name.values()) {
+			assertThat(SP0Name.forText(sp0Name.name()), is(sp0Name));
+			assertThat(SP0Name.forText(sp0Name.name().toLowerCase()), is(sp0Name));
+		}
+		assertThat(SP0Name.forText(null), is(SP0Name.UNKNOWN));
+		assertThat(SP0Name.forText("ZZZ"), is(SP0Name.UNKNOWN));
+	}
+
+	@Test
+	void testGetSINDEXSpecies() {
+		assertThat(VdypMethods.getSINDEXSpecies("FD", SpeciesRegion.COAST), equalTo("Fdc"));
+		assertThat(VdypMethods.getSINDEXSpecies("ABCO", SpeciesRegion.INTERIOR), equalTo("Ba"));
+		assertThat(VdypMethods.getSINDEXSpecies("ZZZ", SpeciesRegion.INTERIOR), equalTo(""));
+		assertThat(VdypMethods.getSINDEXSpecies(null, SpeciesRegion.INTERIOR), equalTo(""));
+	}
+}
@@ -101,7 +101,7 @@ class VdypMethodsTest {
 		);
 		// ensure result from previous call was cached properly.
 		assertThat(
-				VdypMethods.speciesTable.getByCode(SP0Name.AC.getText()).details()
+				VdypMethods.getSpeciesTable().getByCode(SP0Name.AC.getText()).details()
 						.currentSICurve()[SpeciesRegion.INTERIOR.ordinal()],
 				equalTo(SiteIndexEquation.SI_ACB_HUANGAC)
 		);
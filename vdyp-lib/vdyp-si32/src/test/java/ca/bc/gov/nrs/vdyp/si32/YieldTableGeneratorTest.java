@@ -0,0 +1,292 @@
+package ca.bc.gov.nrs.vdyp.si32;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.contains;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertArrayEquals;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.ByteArrayInputStream;
+import java.io.ByteArrayOutputStream;
+import java.io.DataOutputStream;
+import java.io.IOException;
+import java.io.StringWriter;
+import java.nio.ByteBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.si32.enumerations.SpeciesRegion;
+import ca.bc.gov.nrs.vdyp.si32.site.SiteTool;
+import ca.bc.gov.nrs.vdyp.si32.site.YieldTable;
+import ca.bc.gov.nrs.vdyp.si32.site.YieldTableGenerator;
+import ca.bc.gov.nrs.vdyp.si32.vdyp.VdypMethods;
+import ca.bc.gov.nrs.vdyp.sindex.Sindxdll;
+
+class YieldTableGeneratorTest {
+
+	static final List<SiteIndexEquation> CURVES = List
+			.of(SiteIndexEquation.SI_FDC_BRUCE, SiteIndexEquation.SI_HWC_WILEY, SiteIndexEquation.SI_PLI_THROWER);
+
+	@Test
+	void testMatchesSiteTool() throws CommonCalculatorException {
+		double[] siteIndices = YieldTableGenerator.range(5, 40, 5);
+		double[] ages = YieldTableGenerator.range(0, 200, 10);
+
+		var table = YieldTableGenerator.generate(CURVES, siteIndices, ages, SiteIndexAgeType.SI_AT_TOTAL);
+
+		for (int c = 0; c < CURVES.size(); c++) {
+			for (int s = 0; s < siteIndices.length; s++) {
+				double y2bh = SiteTool.yearsToBreastHeight(CURVES.get(c), siteIndices[s]);
+				assertThat(table.yearsToBreastHeight(c, s), is(y2bh));
+
+				for (int a = 0; a < ages.length; a++) {
+					double expected;
+					try {
+						expected = SiteTool.ageAndSiteIndexToHeight(
+								CURVES.get(c), ages[a], SiteIndexAgeType.SI_AT_TOTAL, siteIndices[s], y2bh
+						);
+					} catch (CommonCalculatorException e) {
+						expected = Sindxdll.errorCode(e);
+					}
+					assertThat(table.height(c, s, a), is(expected));
+				}
+			}
+		}
+	}
+
+	@Test
+	void testYearsToBreastHeightError() {
+		// Site index of at most 1.3 can't be converted
+		var table = YieldTableGenerator
+				.generate(CURVES, new double[] { 1.0 }, new double[] { 10, 20 }, SiteIndexAgeType.SI_AT_TOTAL);
+
+		for (int c = 0; c < CURVES.size(); c++) {
+			assertThat(table.yearsToBreastHeight(c, 0), is((double) SI32Errors.SI_ERR_LT13));
+			assertThat(table.height(c, 0, 0), is((double) SI32Errors.SI_ERR_LT13));
+			assertThat(table.height(c, 0, 1), is((double) SI32Errors.SI_ERR_LT13));
+		}
+	}
+
+	@Test
+	void testCsv() throws IOException {
+		var table = YieldTableGenerator.generate(
+				List.of(SiteIndexEquation.SI_FDC_BRUCE), new double[] { 20, 30 }, new double[] { 50, 100 },
+				SiteIndexAgeType.SI_AT_TOTAL
+		);
+
+		var writer = new StringWriter();
+		table.writeCsv(writer);
+		var lines = writer.toString().split("\n");
+
+		assertThat(lines.length, is(5));
+		assertThat(lines[0], is("curve,siteIndex,age,yearsToBreastHeight,height"));
+		assertThat(
+				lines[4], is("SI_FDC_BRUCE,30.0,100.0," + table.yearsToBreastHeight(0, 1) + "," + table.height(0, 1, 1))
+		);
+	}
+
+	@Test
+	void testBinaryRoundTrip() throws IOException {
+		var table = YieldTableGenerator.generate(
+				CURVES, YieldTableGenerator.range(10, 30, 10), YieldTableGenerator.range(5, 50, 5),
+				SiteIndexAgeType.SI_AT_BREAST
+		);
+
+		var out = new ByteArrayOutputStream();
+		table.writeBinary(out);
+		var read = YieldTable.readBinary(new ByteArrayInputStream(out.toByteArray()));
+
+		assertArrayEquals(table.getCurves(), read.getCurves());
+		assertArrayEquals(table.getSiteIndices(), read.getSiteIndices());
+		assertArrayEquals(table.getAges(), read.getAges());
+		assertThat(read.getAgeType(), is(SiteIndexAgeType.SI_AT_BREAST));
+		for (int c = 0; c < CURVES.size(); c++) {
+			for (int s = 0; s < table.getSiteIndices().length; s++) {
+				assertThat(read.yearsToBreastHeight(c, s), is(table.yearsToBreastHeight(c, s)));
+				for (int a = 0; a < table.getAges().length; a++) {
+					assertThat(read.height(c, s, a), is(table.height(c, s, a)));
+				}
+			}
+		}
+
+		assertThrows(IOException.class, () -> YieldTable.readBinary(new ByteArrayInputStream(new byte[8])));
+	}
+
+	static byte[] binary(int ageType, int[] curves, int siteIndices, int ages) throws IOException {
+		var bytes = new ByteArrayOutputStream();
+		var out = new DataOutputStream(bytes);
+		out.writeInt(YieldTable.BINARY_MAGIC);
+		out.writeInt(ageType);
+		out.writeInt(curves.length);
+		for (int curve : curves) {
+			out.writeInt(curve);
+		}
+		out.writeInt(siteIndices);
+		for (int i = 0; i < siteIndices; i++) {
+			out.writeDouble(10);
+		}
+		out.writeInt(ages);
+		for (int i = 0; i < ages; i++) {
+			out.writeDouble(50);
+		}
+		out.flush();
+		return bytes.toByteArray();
+	}
+
+	@Test
+	void testReadBinaryInvalid() throws IOException {
+		int curve = SiteIndexEquation.SI_FDC_BRUCE.n();
+		int total = SiteIndexAgeType.SI_AT_TOTAL.ordinal();
+
+		// Valid header, truncated before the heights
+		assertThrows(IOException.class, () -> read(binary(total, new int[] { curve }, 1, 1)));
+
+		// Age type ordinal out of range
+		assertThrows(IOException.class, () -> read(binary(-1, new int[] { curve }, 1, 1)));
+		assertThrows(
+				IOException.class, () -> read(binary(SiteIndexAgeType.values().length, new int[] { curve }, 1, 1))
+		);
+
+		// Unknown curve
+		assertThrows(IOException.class, () -> read(binary(total, new int[] { 9999 }, 1, 1)));
+
+		// Negative or too large lengths
+		assertThrows(IOException.class, () -> read(binary(total, new int[] { curve }, -1, 1)));
+		assertThrows(IOException.class, () -> read(binary(total, new int[] { curve }, 1, -1)));
+		var bytes = binary(total, new int[] { curve }, 1, 1);
+		ByteBuffer.wrap(bytes).putInt(8, -1);
+		assertThrows(IOException.class, () -> read(bytes));
+		ByteBuffer.wrap(bytes).putInt(8, Integer.MAX_VALUE);
+		assertThrows(IOException.class, () -> read(bytes));
+
+		// Too many heights in all
+		int length = YieldTable.MAX_BINARY_COLUMN_LENGTH;
+		assertThrows(IOException.class, () -> read(binary(total, new int[] { curve }, length, length)));
+	}
+
+	static YieldTable read(byte[] bytes) throws IOException {
+		return YieldTable.readBinary(new ByteArrayInputStream(bytes));
+	}
+
+	@Test
+	void testRange() {
+		assertArrayEquals(new double[] { 0.5, 0.6, 0.7 }, YieldTableGenerator.range(0.5, 0.7, 0.1), 1e-12);
+		assertArrayEquals(new double[] { 1, 3 }, YieldTableGenerator.range(1, 4, 2));
+		assertArrayEquals(new double[] { 7 }, YieldTableGenerator.range(7, 7, 1));
+		assertThrows(IllegalArgumentException.class, () -> YieldTableGenerator.range(1, 0, 1));
+		assertThrows(IllegalArgumentException.class, () -> YieldTableGenerator.range(0, 1, 0));
+	}
+
+	@Test
+	void testCurvesForSpecies() {
+		var curves = YieldTableGenerator.curvesForSpecies(List.of("FD", "FDC", "ZZZ", "HW"), SpeciesRegion.COAST);
+
+		assertThat(
+				curves,
+				contains(
+						VdypMethods.getCurrentSICurve("FD", SpeciesRegion.COAST),
+						VdypMethods.getCurrentSICurve("HW", SpeciesRegion.COAST)
+				)
+		);
+	}
+
+	@Test
+	void testRunCsv() throws IOException {
+		var out = new ByteArrayOutputStream();
+
+		int result = YieldTableGenerator.run(
+				out, "-curves", "SI_FDC_BRUCE," + SiteIndexEquation.SI_HWC_WILEY.n(), "-siteIndex", "20", "30", "10",
+				"-age", "50", "100", "50", "-"
+		);
+
+		var expected = new StringWriter();
+		YieldTableGenerator.generate(
+				List.of(SiteIndexEquation.SI_FDC_BRUCE, SiteIndexEquation.SI_HWC_WILEY), new double[] { 20, 30 },
+				new double[] { 50, 100 }, SiteIndexAgeType.SI_AT_TOTAL
+		).writeCsv(expected);
+
+		assertThat(result, is(0));
+		assertThat(out.toString(StandardCharsets.UTF_8), is(expected.toString()));
+	}
+
+	@Test
+	void testRunBinary(@TempDir Path dir) throws IOException {
+		var file = dir.resolve("table.bin");
+
+		int result = YieldTableGenerator.run(
+				new ByteArrayOutputStream(), "-species", "FD,HW", "-region", "coast", "-siteIndex", "10", "30", "10",
+				"-age", "5", "50", "5", "-ageType", "B", "-binary", file.toString()
+		);
+
+		assertThat(result, is(0));
+		YieldTable read;
+		try (var is = Files.newInputStream(file)) {
+			read = YieldTable.readBinary(is);
+		}
+		var expected = YieldTableGenerator.generate(
+				YieldTableGenerator.curvesForSpecies(List.of("FD", "HW"), SpeciesRegion.COAST),
+				YieldTableGenerator.range(10, 30, 10), YieldTableGenerator.range(5, 50, 5),
+				SiteIndexAgeType.SI_AT_BREAST
+		);
+		assertArrayEquals(expected.getCurves(), read.getCurves());
+		assertArrayEquals(expected.getSiteIndices(), read.getSiteIndices());
+		assertArrayEquals(expected.getAges(), read.getAges());
+		assertThat(read.getAgeType(), is(SiteIndexAgeType.SI_AT_BREAST));
+		for (int r = 0; r < expected.rows(); r++) {
+			int c = r / expected.getSiteIndices().length;
+			int s = r % expected.getSiteIndices().length;
+			for (int a = 0; a < expected.getAges().length; a++) {
+				assertThat(read.height(c, s, a), is(expected.height(c, s, a)));
+			}
+		}
+	}
+
+	@Test
+	void testRunUsageErrors() {
+		var out = new ByteArrayOutputStream();
+		String[] ranges = { "-siteIndex", "20", "30", "10", "-age", "50", "100", "50" };
+
+		assertThat(YieldTableGenerator.run(out, ranges), is(YieldTableGenerator.USAGE_ERROR));
+		assertThat(YieldTableGenerator.run(out, "-curves", "SI_FDC_BRUCE", "-"), is(YieldTableGenerator.USAGE_ERROR));
+		assertThat(
+				YieldTableGenerator.run(out, "-curves", "SI_FDC_BRUCE", "-age", "50", "100"),
+				is(YieldTableGenerator.USAGE_ERROR)
+		);
+		assertThat(
+				YieldTableGenerator.run(out, "-curves", "SI_NOT_A_CURVE", "-siteIndex", "20", "30", "10", "-"),
+				is(YieldTableGenerator.USAGE_ERROR)
+		);
+		assertThat(
+				YieldTableGenerator
+						.run(out, "-species", "FD", "-siteIndex", "20", "30", "10", "-age", "1", "2", "1", "-"),
+				is(YieldTableGenerator.USAGE_ERROR)
+		);
+		assertThat(
+				YieldTableGenerator
+						.run(out, "-curves", "SI_FDC_BRUCE", "-ageType", "X", "-siteIndex", "20", "30", "10", "-"),
+				is(YieldTableGenerator.USAGE_ERROR)
+		);
+		assertThat(YieldTableGenerator.run(out, "-unknown", "-"), is(YieldTableGenerator.USAGE_ERROR));
+		assertThat(out.size(), is(0));
+	}
+
+	@Test
+	void testRunProcessingError(@TempDir Path dir) {
+		var file = dir.resolve("missing").resolve("table.csv");
+
+		assertThat(
+				YieldTableGenerator.run(
+						new ByteArrayOutputStream(), "-curves", "SI_FDC_BRUCE", "-siteIndex", "20", "30", "10", "-age",
+						"50", "100", "50", file.toString()
+				), is(YieldTableGenerator.PROCESSING_ERROR)
+		);
+	}
+}
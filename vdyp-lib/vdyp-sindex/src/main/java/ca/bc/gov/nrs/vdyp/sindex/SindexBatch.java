@@ -0,0 +1,330 @@
+package ca.bc.gov.nrs.vdyp.sindex;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.Reader;
+import java.io.Writer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.text.MessageFormat;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.stream.IntStream;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies;
+
+/**
+ * Batch site index conversions over CSV files.
+ * <p>
+ * Each input row, after a header line, has the fields <code>species,fiz,age,ageType,height,siteIndex</code>, where
+ * <code>ageType</code> is <code>T</code> (or <code>TOTAL</code>) or <code>B</code> (or <code>BREAST</code>) and exactly
+ * one of <code>height</code> and <code>siteIndex</code> is given. The curve of the row is the default curve
+ * ({@link Sindxdll#DefCurve}) of the species to which the species code and FIZ remap ({@link Sindxdll#SpecRemap}). The
+ * missing site index is computed with {@link Sindxdll#HtAgeToSI}, or the missing height with
+ * {@link Sindxdll#AgeSIToHt}.
+ * <p>
+ * Each output row has the fields <code>species,fiz,age,ageType,height,siteIndex,curve,yearsToBreastHeight,error</code>:
+ * the input row with its missing value filled in, the name of the curve, the years to breast height for the site index
+ * on the curve, and 0 or, if the row could not be converted, the SINDEX error code ({@link Sindxdll#errorCode}) of the
+ * failure, in which case the computed fields are empty.
+ * <p>
+ * Rows are read in chunks of a fixed size into primitive arrays that are reused from chunk to chunk, so memory use does
+ * not depend on the size of the input. The curve of each distinct species code and FIZ is resolved once, as rows are
+ * read; the conversions of a chunk are then done in parallel on the common fork-join pool, and the chunk is written out
+ * in input order.
+ */
+public class SindexBatch {
+
+	public static final String INPUT_HEADER = "species,fiz,age,ageType,height,siteIndex";
+	public static final String OUTPUT_HEADER = INPUT_HEADER + ",curve,yearsToBreastHeight,error";
+
+	public static final int DEFAULT_CHUNK_SIZE = 8192;
+
+	public static final int USAGE_ERROR = 1;
+	public static final int PROCESSING_ERROR = 2;
+
+	private static final int INPUT_FIELDS = 6;
+
+	/**
+	 * The outcome of processing a file.
+	 *
+	 * @param rows   the number of rows processed
+	 * @param errors the number of rows that could not be converted
+	 * @param curves the number of distinct species code and FIZ combinations resolved to curves
+	 */
+	public record Summary(long rows, long errors, int curves) {
+	}
+
+	/** The default curve of a species code and FIZ, or the error code of the failure to determine it */
+	private record Curve(SiteIndexEquation equation, int error) {
+	}
+
+	private final int chunkSize;
+
+	private final Map<String, Curve> curves = new HashMap<>();
+
+	// The current chunk
+	private int n;
+	private final String[] species;
+	private final String[] fiz;
+	private final String[] age;
+	private final String[] ageType;
+	private final double[] ageValues;
+	private final SiteIndexAgeType[] ageTypeValues;
+	private final double[] heights;
+	private final double[] siteIndices;
+	private final boolean[] computeSiteIndex;
+	private final Curve[] rowCurves;
+	private final double[] yearsToBreastHeight;
+	private final int[] errors;
+
+	public SindexBatch() {
+		this(DEFAULT_CHUNK_SIZE);
+	}
+
+	/**
+	 * @param chunkSize the number of rows to convert at a time
+	 * @throws IllegalArgumentException if <code>chunkSize</code> is not positive
+	 */
+	public SindexBatch(int chunkSize) {
+		if (chunkSize <= 0) {
+			throw new IllegalArgumentException(MessageFormat.format("Invalid chunk size {0}", chunkSize));
+		}
+		this.chunkSize = chunkSize;
+
+		species = new String[chunkSize];
+		fiz = new String[chunkSize];
+		age = new String[chunkSize];
+		ageType = new String[chunkSize];
+		ageValues = new double[chunkSize];
+		ageTypeValues = new SiteIndexAgeType[chunkSize];
+		heights = new double[chunkSize];
+		siteIndices = new double[chunkSize];
+		computeSiteIndex = new boolean[chunkSize];
+		rowCurves = new Curve[chunkSize];
+		yearsToBreastHeight = new double[chunkSize];
+		errors = new int[chunkSize];
+	}
+
+	/**
+	 * Process a CSV file, as described above.
+	 *
+	 * @param input  the input; its first line is a header and is skipped
+	 * @param output receives the output, starting with {@link #OUTPUT_HEADER}
+	 * @return a summary of the processing
+	 * @throws IOException if the input can't be read or the output written, or the input has a malformed row
+	 */
+	public Summary process(Reader input, Writer output) throws IOException {
+		var reader = input instanceof BufferedReader br ? br : new BufferedReader(input);
+		var writer = output instanceof BufferedWriter bw ? bw : new BufferedWriter(output);
+
+		long rows = 0;
+		long errorCount = 0;
+
+		reader.readLine(); // header
+
+		writer.write(OUTPUT_HEADER);
+		writer.write('\n');
+
+		var line = new StringBuilder();
+		int lineNumber = 1;
+		String text;
+		n = 0;
+		while ( (text = reader.readLine()) != null) {
+			lineNumber++;
+			if (text.isBlank()) {
+				continue;
+			}
+			read(text, lineNumber);
+			if (n == chunkSize) {
+				errorCount += processChunk(writer, line);
+				rows += n;
+				n = 0;
+			}
+		}
+		errorCount += processChunk(writer, line);
+		rows += n;
+
+		writer.flush();
+
+		return new Summary(rows, errorCount, curves.size());
+	}
+
+	private void read(String text, int lineNumber) throws IOException {
+		String[] fields = text.split(",", -1);
+		if (fields.length != INPUT_FIELDS) {
+			throw malformed(
+					lineNumber, MessageFormat.format("expected {0} fields, not {1}", INPUT_FIELDS, fields.length)
+			);
+		}
+
+		int i = n;
+		species[i] = fields[0].trim();
+		fiz[i] = fields[1].trim();
+		age[i] = fields[2].trim();
+		ageType[i] = fields[3].trim();
+
+		ageValues[i] = parseDouble(age[i], "age", lineNumber);
+		ageTypeValues[i] = parseAgeType(ageType[i], lineNumber);
+		heights[i] = parseOptionalDouble(fields[4].trim(), "height", lineNumber);
+		siteIndices[i] = parseOptionalDouble(fields[5].trim(), "siteIndex", lineNumber);
+
+		if (Double.isNaN(heights[i]) == Double.isNaN(siteIndices[i])) {
+			throw malformed(lineNumber, "exactly one of height and siteIndex must be given");
+		}
+		computeSiteIndex[i] = Double.isNaN(siteIndices[i]);
+
+		rowCurves[i] = curves.computeIfAbsent(
+				species[i].toUpperCase() + ',' + fiz[i].toUpperCase(), k -> resolveCurve(species[i], fiz[i])
+		);
+
+		n++;
+	}
+
+	private static Curve resolveCurve(String speciesCode, String fizCode) {
+		char fizChar = fizCode.length() == 1 ? Character.toUpperCase(fizCode.charAt(0)) : ' ';
+		try {
+			SiteIndexSpecies sp = Sindxdll.SpecRemap(speciesCode, fizChar);
+			return new Curve(Sindxdll.DefCurve(sp), 0);
+		} catch (CommonCalculatorException e) {
+			return new Curve(null, Sindxdll.errorCode(e));
+		}
+	}
+
+	private int processChunk(BufferedWriter writer, StringBuilder line) throws IOException {
+		IntStream.range(0, n).parallel().forEach(this::convert);
+
+		int errorCount = 0;
+		for (int i = 0; i < n; i++) {
+			line.setLength(0);
+			line.append(species[i]).append(',').append(fiz[i]).append(',').append(age[i]).append(',').append(ageType[i])
+					.append(',');
+			if (errors[i] == 0) {
+				line.append(heights[i]).append(',').append(siteIndices[i]).append(',')
+						.append(rowCurves[i].equation().name()).append(',').append(yearsToBreastHeight[i]).append(",0");
+			} else {
+				errorCount++;
+				if (!computeSiteIndex[i]) {
+					line.append(',').append(siteIndices[i]);
+				} else {
+					line.append(heights[i]).append(',');
+				}
+				line.append(',');
+				if (rowCurves[i].equation() != null) {
+					line.append(rowCurves[i].equation().name());
+				}
+				line.append(",,").append(errors[i]);
+			}
+			line.append('\n');
+			writer.append(line);
+		}
+		return errorCount;
+	}
+
+	private void convert(int i) {
+		var curve = rowCurves[i];
+		if (curve.equation() == null) {
+			errors[i] = curve.error();
+			return;
+		}
+		try {
+			if (computeSiteIndex[i]) {
+				siteIndices[i] = Sindxdll.HtAgeToSI(
+						curve.equation(), ageValues[i], ageTypeValues[i], heights[i],
+						SiteIndexEstimationType.SI_EST_DIRECT
+				);
+				yearsToBreastHeight[i] = Sindxdll.Y2BH(curve.equation(), siteIndices[i]);
+			} else {
+				yearsToBreastHeight[i] = Sindxdll.Y2BH(curve.equation(), siteIndices[i]);
+				heights[i] = Sindxdll.AgeSIToHt(
+						curve.equation(), ageValues[i], ageTypeValues[i], siteIndices[i], yearsToBreastHeight[i]
+				);
+			}
+			errors[i] = 0;
+		} catch (CommonCalculatorException e) {
+			errors[i] = Sindxdll.errorCode(e);
+		}
+	}
+
+	private static double parseDouble(String text, String field, int lineNumber) throws IOException {
+		try {
+			return Double.parseDouble(text);
+		} catch (NumberFormatException e) {
+			throw malformed(lineNumber, MessageFormat.format("{0} \"{1}\" is not a number", field, text));
+		}
+	}
+
+	private static double parseOptionalDouble(String text, String field, int lineNumber) throws IOException {
+		return text.isEmpty() ? Double.NaN : parseDouble(text, field, lineNumber);
+	}
+
+	private static SiteIndexAgeType parseAgeType(String text, int lineNumber) throws IOException {
+		switch (text.toUpperCase()) {
+		case "T", "TOTAL":
+			return SiteIndexAgeType.SI_AT_TOTAL;
+		case "B", "BREAST":
+			return SiteIndexAgeType.SI_AT_BREAST;
+		default:
+			throw malformed(lineNumber, MessageFormat.format("ageType \"{0}\" is not T or B", text));
+		}
+	}
+
+	private static IOException malformed(int lineNumber, String message) {
+		return new IOException(MessageFormat.format("Line {0}: {1}", lineNumber, message));
+	}
+
+	/**
+	 * Run a batch from the command line.
+	 *
+	 * @param args the input file, the output file and, optionally, the chunk size. A file of <code>-</code> is standard
+	 *             input or output.
+	 */
+	@SuppressWarnings("java:S106")
+	public static void main(final String... args) {
+		if (args.length < 2 || args.length > 3) {
+			System.err.println("Usage: SindexBatch <input.csv | -> <output.csv | -> [chunkSize]");
+			System.exit(USAGE_ERROR);
+		}
+
+		int chunkSize = DEFAULT_CHUNK_SIZE;
+		if (args.length == 3) {
+			try {
+				chunkSize = Integer.parseInt(args[2]);
+			} catch (NumberFormatException e) {
+				System.err.println(MessageFormat.format("Invalid chunk size {0}", args[2]));
+				System.exit(USAGE_ERROR);
+			}
+		}
+
+		try (
+				var input = "-".equals(args[0])
+						? new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8))
+						: Files.newBufferedReader(Path.of(args[0]));
+				var output = "-".equals(args[1])
+						? new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8))
+						: Files.newBufferedWriter(Path.of(args[1]))
+		) {
+			long start = System.nanoTime();
+			var summary = new SindexBatch(chunkSize).process(input, output);
+			long elapsedMillis = (System.nanoTime() - start) / 1_000_000;
+
+			System.err.println(
+					MessageFormat.format(
+							"Processed {0} rows ({1} errors, {2} curves) in {3} ms", summary.rows(), summary.errors(),
+							summary.curves(), elapsedMillis
+					)
+			);
+		} catch (IOException | IllegalArgumentException e) {
+			System.err.println(e.getMessage());
+			System.exit(PROCESSING_ERROR);
+		}
+	}
+}
@@ -26,6 +26,8 @@ import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecie
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_SS;
 import static ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexSpecies.SI_SPEC_SW;
 
+import java.text.MessageFormat;
+
 import ca.bc.gov.nrs.vdyp.common_calculators.AgeToAge;
 import ca.bc.gov.nrs.vdyp.common_calculators.Height2SiteIndex;
 import ca.bc.gov.nrs.vdyp.common_calculators.SiteClassCode2SiteIndex;
@@ -35,6 +37,7 @@ import ca.bc.gov.nrs.vdyp.common_calculators.SiteIndex2HeightSmoothed;
 import ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexNames;
 import ca.bc.gov.nrs.vdyp.common_calculators.SiteIndexYears2BreastHeight;
 import ca.bc.gov.nrs.vdyp.common_calculators.SpecRMap;
+import ca.bc.gov.nrs.vdyp.common_calculators.SpeciesConversionParams;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.AgeTypeErrorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.ClassErrorException;
 import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CodeErrorException;
@@ -235,8 +238,18 @@ public class Sindxdll {
 	/*
 	 * error codes as return values from functions
 	 */
+	private static final int SI_ERR_LT13 = -1;
+	private static final int SI_ERR_GI_MIN = -2;
+	private static final int SI_ERR_GI_MAX = -3;
 	private static final int SI_ERR_NO_ANS = -4;
+	private static final int SI_ERR_CURVE = -5;
+	private static final int SI_ERR_CLASS = -6;
+	private static final int SI_ERR_FIZ = -7;
+	private static final int SI_ERR_CODE = -8;
+	private static final int SI_ERR_GI_TOT = -9;
 	private static final int SI_ERR_SPEC = -10;
+	private static final int SI_ERR_AGE_TYPE = -11;
+	private static final int SI_ERR_ESTAB = -12;
 
 	// These are taken from sindex.h (since it was missing everywhere else). These were not defined in the orginal
 	// sindxdll.c
@@ -2762,11 +2775,57 @@ public class Sindxdll {
 			SiteIndexEstimationType estType, Reference<Double> site
 	) throws CommonCalculatorException {
 
-		site.set(Height2SiteIndex.heightToIndex(curve, age, ageType, height, estType));
+		site.set(HtAgeToSI(curve, age, ageType, height, estType));
 
 		return 0;
 	}
 
+	/**
+	 * Converts a Height and Age to a Site Index for a particular Site Index Curve, as
+	 * {@link #HtAgeToSI(SiteIndexEquation, double, SiteIndexAgeType, double, SiteIndexEstimationType, Reference)}.
+	 *
+	 * @return the site index
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double HtAgeToSI(
+			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double height,
+			SiteIndexEstimationType estType
+	) throws CommonCalculatorException {
+		return Height2SiteIndex.heightToIndex(curve, age, ageType, height, estType);
+	}
+
+	/**
+	 * Converts each of an array of Heights and Ages to a Site Index for a particular Site Index Curve. Rather than
+	 * throwing an exception, a height and age that can't be converted has the error code of the exception, as given by
+	 * {@link #errorCode(CommonCalculatorException)}, stored as its site index.
+	 *
+	 * @param curve   the site index curve
+	 * @param ages    the ages
+	 * @param ageType the type of the ages
+	 * @param heights the heights, one for each age
+	 * @param estType the estimate type
+	 * @param sites   receives the site indices, one for each age
+	 * @return the number of heights and ages that could not be converted
+	 * @throws IllegalArgumentException if the arrays are of different lengths
+	 */
+	public static int HtAgeToSI(
+			SiteIndexEquation curve, double[] ages, SiteIndexAgeType ageType, double[] heights,
+			SiteIndexEstimationType estType, double[] sites
+	) {
+		checkLengths(ages.length, heights.length, sites.length);
+
+		int errors = 0;
+		for (int i = 0; i < ages.length; i++) {
+			try {
+				sites[i] = Height2SiteIndex.heightToIndex(curve, ages[i], ageType, heights[i], estType);
+			} catch (CommonCalculatorException e) {
+				sites[i] = errorCode(e);
+				errors++;
+			}
+		}
+		return errors;
+	}
+
 	/**
 	 * Converts a Height and Site Index to an Age for a particular Site Index Curve.
 	 *
@@ -2791,11 +2850,56 @@ public class Sindxdll {
 			Reference<Double> age
 	) throws CommonCalculatorException {
 
-		age.set(SiteIndex2Age.indexToAge(curve, height, ageType, siteIndex, y2bh));
+		age.set(HtSIToAge(curve, height, ageType, siteIndex, y2bh));
 
 		return 0;
 	}
 
+	/**
+	 * Converts a Height and Site Index to an Age for a particular Site Index Curve, as
+	 * {@link #HtSIToAge(SiteIndexEquation, double, SiteIndexAgeType, double, double, Reference)}.
+	 *
+	 * @return the age
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double
+			HtSIToAge(SiteIndexEquation curve, double height, SiteIndexAgeType ageType, double siteIndex, double y2bh)
+					throws CommonCalculatorException {
+		return SiteIndex2Age.indexToAge(curve, height, ageType, siteIndex, y2bh);
+	}
+
+	/**
+	 * Converts each of an array of Heights and Site Indices to an Age for a particular Site Index Curve. Rather than
+	 * throwing an exception, a height and site index that can't be converted has the error code of the exception, as
+	 * given by {@link #errorCode(CommonCalculatorException)}, stored as its age.
+	 *
+	 * @param curve       the site index curve
+	 * @param heights     the heights
+	 * @param ageType     the type of the computed ages
+	 * @param siteIndices the site indices, one for each height
+	 * @param y2bhs       the years to breast height, one for each height
+	 * @param ages        receives the ages, one for each height
+	 * @return the number of heights and site indices that could not be converted
+	 * @throws IllegalArgumentException if the arrays are of different lengths
+	 */
+	public static int HtSIToAge(
+			SiteIndexEquation curve, double[] heights, SiteIndexAgeType ageType, double[] siteIndices, double[] y2bhs,
+			double[] ages
+	) {
+		checkLengths(heights.length, siteIndices.length, y2bhs.length, ages.length);
+
+		int errors = 0;
+		for (int i = 0; i < heights.length; i++) {
+			try {
+				ages[i] = SiteIndex2Age.indexToAge(curve, heights[i], ageType, siteIndices[i], y2bhs[i]);
+			} catch (CommonCalculatorException e) {
+				ages[i] = errorCode(e);
+				errors++;
+			}
+		}
+		return errors;
+	}
+
 	/**
 	 * Converts an Age and Site Index to a Height for a particular Site Index Curve.
 	 *
@@ -2824,11 +2928,56 @@ public class Sindxdll {
 			Reference<Double> height
 	) throws CommonCalculatorException {
 
-		height.set(SiteIndex2Height.indexToHeight(curve, age, ageType, siteIndex, y2bh, 0.5));
+		height.set(AgeSIToHt(curve, age, ageType, siteIndex, y2bh));
 
 		return 0;
 	}
 
+	/**
+	 * Converts an Age and Site Index to a Height for a particular Site Index Curve, as
+	 * {@link #AgeSIToHt(SiteIndexEquation, double, SiteIndexAgeType, double, double, Reference)}.
+	 *
+	 * @return the height
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double
+			AgeSIToHt(SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double y2bh)
+					throws CommonCalculatorException {
+		return SiteIndex2Height.indexToHeight(curve, age, ageType, siteIndex, y2bh, 0.5);
+	}
+
+	/**
+	 * Converts each of an array of Ages and Site Indices to a Height for a particular Site Index Curve. Rather than
+	 * throwing an exception, an age and site index that can't be converted has the error code of the exception, as
+	 * given by {@link #errorCode(CommonCalculatorException)}, stored as its height.
+	 *
+	 * @param curve       the site index curve
+	 * @param ages        the ages
+	 * @param ageType     the type of the ages
+	 * @param siteIndices the site indices, one for each age
+	 * @param y2bhs       the years to breast height, one for each age
+	 * @param heights     receives the heights, one for each age
+	 * @return the number of ages and site indices that could not be converted
+	 * @throws IllegalArgumentException if the arrays are of different lengths
+	 */
+	public static int AgeSIToHt(
+			SiteIndexEquation curve, double[] ages, SiteIndexAgeType ageType, double[] siteIndices, double[] y2bhs,
+			double[] heights
+	) {
+		checkLengths(ages.length, siteIndices.length, y2bhs.length, heights.length);
+
+		int errors = 0;
+		for (int i = 0; i < ages.length; i++) {
+			try {
+				heights[i] = SiteIndex2Height.indexToHeight(curve, ages[i], ageType, siteIndices[i], y2bhs[i], 0.5);
+			} catch (CommonCalculatorException e) {
+				heights[i] = errorCode(e);
+				errors++;
+			}
+		}
+		return errors;
+	}
+
 	/**
 	 * Converts an Age and Site Index to a Height for a particular Site Index Curve. This includes a smoothing equation
 	 * centered at breast-height age 0. Also, user can specify seedling age and height.
@@ -2859,14 +3008,63 @@ public class Sindxdll {
 			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double y2bh,
 			double seedling_age, double seedling_ht, Reference<Double> height
 	) throws CommonCalculatorException {
-		height.set(
-				SiteIndex2HeightSmoothed
-						.indexToHeightSmoothed(curve, age, ageType, siteIndex, y2bh, seedling_age, seedling_ht)
-		);
+		height.set(AgeSIToHtSmooth(curve, age, ageType, siteIndex, y2bh, seedling_age, seedling_ht));
 
 		return 0;
 	}
 
+	/**
+	 * Converts an Age and Site Index to a Height for a particular Site Index Curve, with smoothing, as
+	 * {@link #AgeSIToHtSmooth(SiteIndexEquation, double, SiteIndexAgeType, double, double, double, double, Reference)}.
+	 *
+	 * @return the height
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double AgeSIToHtSmooth(
+			SiteIndexEquation curve, double age, SiteIndexAgeType ageType, double siteIndex, double y2bh,
+			double seedling_age, double seedling_ht
+	) throws CommonCalculatorException {
+		return SiteIndex2HeightSmoothed
+				.indexToHeightSmoothed(curve, age, ageType, siteIndex, y2bh, seedling_age, seedling_ht);
+	}
+
+	/**
+	 * Converts each of an array of Ages to a Height for a particular Site Index Curve and Site Index, with smoothing.
+	 * The smoothing is set up once for all of the ages. Rather than throwing an exception, an age that can't be
+	 * converted has the error code of the exception, as given by {@link #errorCode(CommonCalculatorException)}, stored
+	 * as its height.
+	 *
+	 * @param curve        the site index curve
+	 * @param ages         the ages
+	 * @param ageType      the type of the ages
+	 * @param siteIndex    the site index
+	 * @param y2bh         the years to breast height
+	 * @param seedling_age the seedling age
+	 * @param seedling_ht  the seedling height
+	 * @param heights      receives the heights, one for each age
+	 * @return the number of ages that could not be converted
+	 * @throws IllegalArgumentException if the arrays are of different lengths
+	 */
+	public static int AgeSIToHtSmooth(
+			SiteIndexEquation curve, double[] ages, SiteIndexAgeType ageType, double siteIndex, double y2bh,
+			double seedling_age, double seedling_ht, double[] heights
+	) {
+		checkLengths(ages.length, heights.length);
+
+		var smoother = SiteIndex2HeightSmoothed.smoother(curve, siteIndex, y2bh, seedling_age, seedling_ht);
+
+		int errors = 0;
+		for (int i = 0; i < ages.length; i++) {
+			try {
+				heights[i] = smoother.height(ages[i], ageType);
+			} catch (CommonCalculatorException e) {
+				heights[i] = errorCode(e);
+				errors++;
+			}
+		}
+		return errors;
+	}
+
 	/**
 	 * Calculates the number of years a stand takes to grow from seed to breast height, in steps ending in 0.5 (i.e.
 	 * 0.5, 1.5. 2.5, etc.)
@@ -2886,11 +3084,22 @@ public class Sindxdll {
 	public static int Y2BH05(SiteIndexEquation curve, double siteIndex, Reference<Double> y2bh)
 			throws CommonCalculatorException {
 
-		y2bh.set(SiteIndexYears2BreastHeight.y2bh05(curve, siteIndex));
+		y2bh.set(Y2BH05(curve, siteIndex));
 
 		return 0;
 	}
 
+	/**
+	 * Calculates the number of years a stand takes to grow from seed to breast height, in steps ending in 0.5, as
+	 * {@link #Y2BH05(SiteIndexEquation, double, Reference)}.
+	 *
+	 * @return the years to breast height
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double Y2BH05(SiteIndexEquation curve, double siteIndex) throws CommonCalculatorException {
+		return SiteIndexYears2BreastHeight.y2bh05(curve, siteIndex);
+	}
+
 	/**
 	 * Calculates the number of years a stand takes to grow from seed to breast height.
 	 *
@@ -2907,11 +3116,48 @@ public class Sindxdll {
 	public static int Y2BH(SiteIndexEquation curve, double siteIndex, Reference<Double> y2bh)
 			throws CommonCalculatorException {
 
-		y2bh.set(SiteIndexYears2BreastHeight.y2bh(curve, siteIndex));
+		y2bh.set(Y2BH(curve, siteIndex));
 
 		return 0;
 	}
 
+	/**
+	 * Calculates the number of years a stand takes to grow from seed to breast height, as
+	 * {@link #Y2BH(SiteIndexEquation, double, Reference)}.
+	 *
+	 * @return the years to breast height
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double Y2BH(SiteIndexEquation curve, double siteIndex) throws CommonCalculatorException {
+		return SiteIndexYears2BreastHeight.y2bh(curve, siteIndex);
+	}
+
+	/**
+	 * Calculates the number of years a stand takes to grow from seed to breast height for each of an array of site
+	 * indices. Rather than throwing an exception, a site index for which the years can't be calculated has the error
+	 * code of the exception, as given by {@link #errorCode(CommonCalculatorException)}, stored as its result.
+	 *
+	 * @param curve       the site index curve
+	 * @param siteIndices the site indices
+	 * @param y2bhs       receives the years to breast height, one for each site index
+	 * @return the number of site indices for which the years could not be calculated
+	 * @throws IllegalArgumentException if the arrays are of different lengths
+	 */
+	public static int Y2BH(SiteIndexEquation curve, double[] siteIndices, double[] y2bhs) {
+		checkLengths(siteIndices.length, y2bhs.length);
+
+		int errors = 0;
+		for (int i = 0; i < siteIndices.length; i++) {
+			try {
+				y2bhs[i] = SiteIndexYears2BreastHeight.y2bh(curve, siteIndices[i]);
+			} catch (CommonCalculatorException e) {
+				y2bhs[i] = errorCode(e);
+				errors++;
+			}
+		}
+		return errors;
+	}
+
 	/**
 	 * Site index conversion between species
 	 *
@@ -2929,29 +3175,47 @@ public class Sindxdll {
 			SIToSI(SiteIndexSpecies spIndex1, double siteIndex, SiteIndexSpecies spIndex2, Reference<Double> result)
 					throws SpeciesErrorException, NoAnswerException {
 
-		if (spIndex1 == null) {
+		try {
+			result.set(SIToSI(spIndex1, siteIndex, spIndex2));
+		} catch (SpeciesErrorException e) {
 			result.set(Double.valueOf(SI_ERR_SPEC));
+			throw e;
+		} catch (NoAnswerException e) {
+			result.set(Double.valueOf(SI_ERR_NO_ANS));
+			throw e;
+		}
+
+		return 0;
+	}
+
+	/**
+	 * Site index conversion between species, as {@link #SIToSI(SiteIndexSpecies, double, SiteIndexSpecies, Reference)}.
+	 *
+	 * @return the target species site index
+	 * @throws SpeciesErrorException when source or target species index is not valid
+	 * @throws NoAnswerException     when there is no conversion defined
+	 */
+	public static double SIToSI(SiteIndexSpecies spIndex1, double siteIndex, SiteIndexSpecies spIndex2)
+			throws SpeciesErrorException, NoAnswerException {
+
+		if (spIndex1 == null) {
 			throw new SpeciesErrorException("Source or target species index is not valid" + spIndex1);
 		}
 
 		if (spIndex2 == null) {
-			result.set(Double.valueOf(SI_ERR_SPEC));
 			throw new SpeciesErrorException("Source or target species index is not valid" + spIndex2);
 		}
 
 		if (spIndex1.equals(spIndex2)) {
-			result.set(siteIndex);
+			return siteIndex;
 		} else {
-			var params = SiteIndexNames.getSpeciesConversionParams(spIndex1, spIndex2);
+			var params = SpeciesConversionParams.getSpeciesConversionParams(spIndex1, spIndex2);
 			if (params != null) {
-				result.set(params.param1() + params.param2() * siteIndex);
+				return params.param1() + params.param2() * siteIndex;
 			} else {
-				result.set(Double.valueOf(SI_ERR_NO_ANS));
 				throw new NoAnswerException("There is no conversion defined");
 			}
 		}
-
-		return 0;
 	}
 
 	/**
@@ -2970,11 +3234,66 @@ public class Sindxdll {
 	public static int SCToSI(SiteIndexSpecies spIndex, char sitecl, char fiz, Reference<Double> site)
 			throws CommonCalculatorException {
 
-		site.set(SiteClassCode2SiteIndex.classToIndex(spIndex, sitecl, fiz));
+		site.set(SCToSI(spIndex, sitecl, fiz));
 
 		return 0;
 	}
 
+	/**
+	 * Get site index based on site class, as {@link #SCToSI(SiteIndexSpecies, char, char, Reference)}.
+	 *
+	 * @return the site index
+	 * @throws CommonCalculatorException as the method above
+	 */
+	public static double SCToSI(SiteIndexSpecies spIndex, char sitecl, char fiz) throws CommonCalculatorException {
+		return SiteClassCode2SiteIndex.classToIndex(spIndex, sitecl, fiz);
+	}
+
+	/**
+	 * Returns the error code of the original C library corresponding to an exception, for use where results are
+	 * returned in bulk and an exception can't be thrown for an individual result.
+	 *
+	 * @param e the exception
+	 * @return the error code, which is always negative
+	 */
+	public static int errorCode(CommonCalculatorException e) {
+		if (e instanceof LessThan13Exception) {
+			return SI_ERR_LT13;
+		} else if (e instanceof GrowthInterceptMinimumException) {
+			return SI_ERR_GI_MIN;
+		} else if (e instanceof GrowthInterceptMaximumException) {
+			return SI_ERR_GI_MAX;
+		} else if (e instanceof CurveErrorException) {
+			return SI_ERR_CURVE;
+		} else if (e instanceof ClassErrorException) {
+			return SI_ERR_CLASS;
+		} else if (e instanceof ForestInventoryZoneException) {
+			return SI_ERR_FIZ;
+		} else if (e instanceof CodeErrorException) {
+			return SI_ERR_CODE;
+		} else if (e instanceof GrowthInterceptTotalException) {
+			return SI_ERR_GI_TOT;
+		} else if (e instanceof SpeciesErrorException) {
+			return SI_ERR_SPEC;
+		} else if (e instanceof AgeTypeErrorException) {
+			return SI_ERR_AGE_TYPE;
+		} else if (e instanceof EstablishmentErrorException) {
+			return SI_ERR_ESTAB;
+		} else {
+			return SI_ERR_NO_ANS;
+		}
+	}
+
+	private static void checkLengths(int length, int... otherLengths) {
+		for (int otherLength : otherLengths) {
+			if (otherLength != length) {
+				throw new IllegalArgumentException(
+						MessageFormat.format("All arrays must be of length {0}, not {1}", length, otherLength)
+				);
+			}
+		}
+	}
+
 	/**
 	 * Determine species index from species code
 	 *
@@ -3006,6 +3325,19 @@ public class Sindxdll {
 		return SpecRMap.species_remap(sc, fiz);
 	}
 
+	/**
+	 * Remap species to recommended species, as {@link #SpecRemap(String, char)}, without throwing an exception when the
+	 * species or FIZ code is unknown.
+	 *
+	 * @param sc  Character string species code
+	 * @param fiz Character FIZ code (A,B,C)=coast, (D,E,F,G,H,I,J,K,L)=interior
+	 *
+	 * @return Species index, or <code>SI_NO_SPECIES</code> if the species or FIZ code is unknown
+	 */
+	public static SiteIndexSpecies FindSpecRemap(String sc, char fiz) {
+		return SpecRMap.findSpeciesRemap(sc, fiz);
+	}
+
 	/**
 	 * Returns string containing publication source.
 	 *
@@ -0,0 +1,115 @@
+package ca.bc.gov.nrs.vdyp.sindex;
+
+import static org.hamcrest.MatcherAssert.assertThat;
+import static org.hamcrest.Matchers.containsString;
+import static org.hamcrest.Matchers.is;
+import static org.junit.jupiter.api.Assertions.assertThrows;
+
+import java.io.IOException;
+import java.io.StringReader;
+import java.io.StringWriter;
+
+import org.junit.jupiter.api.Test;
+
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEstimationType;
+
+class SindexBatchTest {
+
+	static String[] run(SindexBatch batch, String input) throws IOException {
+		var output = new StringWriter();
+		batch.process(new StringReader(input), output);
+		return output.toString().split("\n");
+	}
+
+	@Test
+	void testSiteIndexFromHeight() throws IOException, CommonCalculatorException {
+		var lines = run(new SindexBatch(), SindexBatch.INPUT_HEADER + "\nFD,A,50,B,30,\n");
+
+		var curve = Sindxdll.DefCurve(Sindxdll.SpecRemap("FD", 'A'));
+		double siteIndex = Sindxdll
+				.HtAgeToSI(curve, 50, SiteIndexAgeType.SI_AT_BREAST, 30, SiteIndexEstimationType.SI_EST_DIRECT);
+		double y2bh = Sindxdll.Y2BH(curve, siteIndex);
+
+		assertThat(lines.length, is(2));
+		assertThat(lines[0], is(SindexBatch.OUTPUT_HEADER));
+		assertThat(lines[1], is("FD,A,50,B,30.0," + siteIndex + "," + curve.name() + "," + y2bh + ",0"));
+	}
+
+	@Test
+	void testHeightFromSiteIndex() throws IOException, CommonCalculatorException {
+		var lines = run(new SindexBatch(), SindexBatch.INPUT_HEADER + "\nfd,d,80,total,,18.5\n");
+
+		var curve = Sindxdll.DefCurve(Sindxdll.SpecRemap("FD", 'D'));
+		double y2bh = Sindxdll.Y2BH(curve, 18.5);
+		double height = Sindxdll.AgeSIToHt(curve, 80, SiteIndexAgeType.SI_AT_TOTAL, 18.5, y2bh);
+
+		assertThat(lines[1], is("fd,d,80,total," + height + ",18.5," + curve.name() + "," + y2bh + ",0"));
+	}
+
+	@Test
+	void testRowErrors() throws IOException, CommonCalculatorException {
+		var lines = run(
+				new SindexBatch(), SindexBatch.INPUT_HEADER + "\nZZZ,A,50,B,30,\nFD,,50,B,30,\nFD,A,50,B,,1.0\n"
+		);
+
+		var curve = Sindxdll.DefCurve(Sindxdll.SpecRemap("FD", 'A'));
+
+		assertThat(lines[1], is("ZZZ,A,50,B,30.0,,,,-8"));
+		// FD needs a FIZ to choose between the coastal and interior species
+		assertThat(lines[2], is("FD,,50,B,30.0,,,,-8"));
+		// Site index of at most 1.3
+		assertThat(lines[3], is("FD,A,50,B,,1.0," + curve.name() + ",,-1"));
+	}
+
+	@Test
+	void testChunksMatchSingleRows() throws IOException {
+		var input = new StringBuilder(SindexBatch.INPUT_HEADER).append('\n');
+		String[] species = { "FD", "HW", "PL", "SW", "CW", "ZZ" };
+		String[] fizs = { "A", "D", "" };
+		int rows = 0;
+		for (int i = 0; i < 500; i++) {
+			input.append(species[i % species.length]).append(',').append(fizs[ (i / species.length) % fizs.length])
+					.append(',').append(5 + i % 150).append(',').append(i % 2 == 0 ? "T" : "B").append(',');
+			if (i % 3 == 0) {
+				input.append(",").append(5 + i % 40);
+			} else {
+				input.append(2 + i % 45).append(",");
+			}
+			input.append('\n');
+			rows++;
+		}
+
+		var batch = new SindexBatch(7);
+		var chunked = new StringWriter();
+		var summary = batch.process(new StringReader(input.toString()), chunked);
+
+		var single = new StringWriter();
+		new SindexBatch(1).process(new StringReader(input.toString()), single);
+
+		assertThat(chunked.toString(), is(single.toString()));
+		assertThat(summary.rows(), is((long) rows));
+		assertThat(summary.curves(), is(species.length * fizs.length));
+
+		long errorRows = chunked.toString().lines().skip(1).filter(l -> !l.endsWith(",0")).count();
+		assertThat(summary.errors(), is(errorRows));
+	}
+
+	@Test
+	void testMalformedInput() {
+		var batch = new SindexBatch();
+
+		var e = assertThrows(
+				IOException.class, () -> run(batch, SindexBatch.INPUT_HEADER + "\nFD,A,50,B,30,\nFD,A,50,B\n")
+		);
+		assertThat(e.getMessage(), containsString("Line 3"));
+
+		assertThrows(IOException.class, () -> run(batch, SindexBatch.INPUT_HEADER + "\nFD,A,old,B,30,\n"));
+		assertThrows(IOException.class, () -> run(batch, SindexBatch.INPUT_HEADER + "\nFD,A,50,X,30,\n"));
+		assertThrows(IOException.class, () -> run(batch, SindexBatch.INPUT_HEADER + "\nFD,A,50,B,30,20\n"));
+		assertThrows(IOException.class, () -> run(batch, SindexBatch.INPUT_HEADER + "\nFD,A,50,B,,\n"));
+
+		assertThrows(IllegalArgumentException.class, () -> new SindexBatch(0));
+	}
+}
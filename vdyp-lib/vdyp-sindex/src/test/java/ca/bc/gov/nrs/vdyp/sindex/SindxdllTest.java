@@ -3362,6 +3362,39 @@ class SindxdllTest {
 			assertEquals(actualResult, expectedResult);
 			assertEquals(site.get(), expectedSiteValue, ERROR_TOLERANCE);
 		}
+
+		@Test
+		void testHtAgeToSIPrimitive() throws CommonCalculatorException {
+			Reference<Double> site = new Reference<>();
+			Sindxdll.HtAgeToSI(SI_FDI_THROWER, 1, SI_AT_BREAST, 2, SI_EST_DIRECT, site);
+
+			assertEquals(site.get(), Sindxdll.HtAgeToSI(SI_FDI_THROWER, 1, SI_AT_BREAST, 2, SI_EST_DIRECT));
+			assertThrows(
+					LessThan13Exception.class, () -> Sindxdll.HtAgeToSI(null, 0.0, SI_AT_BREAST, 1.2, SI_EST_ITERATE)
+			);
+		}
+
+		@Test
+		void testHtAgeToSIBatch() throws CommonCalculatorException {
+			double[] ages = { 1, 10, 50, 0 };
+			double[] heights = { 2, 5, 20, 1.2 };
+			double[] sites = new double[ages.length];
+
+			int errors = Sindxdll.HtAgeToSI(SI_FDI_THROWER, ages, SI_AT_BREAST, heights, SI_EST_DIRECT, sites);
+
+			assertEquals(1, errors);
+			for (int i = 0; i < 3; i++) {
+				assertEquals(
+						Sindxdll.HtAgeToSI(SI_FDI_THROWER, ages[i], SI_AT_BREAST, heights[i], SI_EST_DIRECT), sites[i]
+				);
+			}
+			assertEquals(-1, sites[3]);
+
+			assertThrows(
+					IllegalArgumentException.class,
+					() -> Sindxdll.HtAgeToSI(SI_FDI_THROWER, ages, SI_AT_BREAST, heights, SI_EST_DIRECT, new double[1])
+			);
+		}
 	}
 
 	@Nested
@@ -3394,6 +3427,22 @@ class SindxdllTest {
 			assertEquals(actualResult, expectedResult);
 			assertEquals(site.get(), expectedSiteValue, ERROR_TOLERANCE);
 		}
+
+		@Test
+		void testHtSIToAgeBatch() throws CommonCalculatorException {
+			double[] heights = { 1.5, 10, 1.2 };
+			double[] siteIndices = { 25, 25, 1.2 };
+			double[] y2bhs = { 12, 12, 0 };
+			double[] ages = new double[heights.length];
+
+			int errors = Sindxdll.HtSIToAge(SI_FDC_BRUCE, heights, SI_AT_BREAST, siteIndices, y2bhs, ages);
+
+			assertEquals(1, errors);
+			for (int i = 0; i < 2; i++) {
+				assertEquals(Sindxdll.HtSIToAge(SI_FDC_BRUCE, heights[i], SI_AT_BREAST, siteIndices[i], 12), ages[i]);
+			}
+			assertEquals(-1, ages[2]);
+		}
 	}
 
 	@Nested
@@ -3417,6 +3466,24 @@ class SindxdllTest {
 			assertEquals(actualResult, expectedResult);
 			assertEquals(site.get(), expectedSiteValue, ERROR_TOLERANCE);
 		}
+
+		@Test
+		void testAgeSIToHtBatch() throws CommonCalculatorException {
+			double[] ages = { 0, 20, 60, 10 };
+			double[] siteIndices = { 1.31, 30, 30, 1.2 };
+			double[] y2bhs = { 1, 5, 5, 0 };
+			double[] heights = new double[ages.length];
+
+			int errors = Sindxdll.AgeSIToHt(SI_HWC_WILEY, ages, SI_AT_BREAST, siteIndices, y2bhs, heights);
+
+			assertEquals(1, errors);
+			for (int i = 0; i < 3; i++) {
+				assertEquals(
+						Sindxdll.AgeSIToHt(SI_HWC_WILEY, ages[i], SI_AT_BREAST, siteIndices[i], y2bhs[i]), heights[i]
+				);
+			}
+			assertEquals(-1, heights[3]);
+		}
 	}
 
 	@Nested
@@ -3443,6 +3510,33 @@ class SindxdllTest {
 			assertEquals(height.get(), expectedHeightValue, ERROR_TOLERANCE);
 		}
 
+		@Test
+		void testAgeSIToHtSmoothBatch() throws CommonCalculatorException {
+			double[] ages = { -1, 0, 2, 5, 10, 60 };
+			double[] heights = new double[ages.length];
+
+			int errors = Sindxdll.AgeSIToHtSmooth(SI_FDI_HUANG_NAT, ages, SI_AT_TOTAL, 16.0, 4.0, 0.0, 0.0, heights);
+
+			assertEquals(1, errors);
+			assertEquals(-4, heights[0]);
+			for (int i = 1; i < ages.length; i++) {
+				assertEquals(
+						Sindxdll.AgeSIToHtSmooth(SI_FDI_HUANG_NAT, ages[i], SI_AT_TOTAL, 16.0, 4.0, 0.0, 0.0),
+						heights[i]
+				);
+			}
+
+			// Site index of at most 1.3
+			errors = Sindxdll.AgeSIToHtSmooth(SI_FDI_HUANG_NAT, ages, SI_AT_TOTAL, 1.2, 4.0, 0.0, 0.0, heights);
+			assertEquals(ages.length, errors);
+			assertEquals(-1, heights[1]);
+
+			assertThrows(
+					IllegalArgumentException.class,
+					() -> Sindxdll
+							.AgeSIToHtSmooth(SI_FDI_HUANG_NAT, ages, SI_AT_TOTAL, 16.0, 4.0, 0.0, 0.0, new double[1])
+			);
+		}
 	}
 
 	@Nested
@@ -3467,6 +3561,21 @@ class SindxdllTest {
 			assertEquals(y2bh.get(), expectedY2BHValue, ERROR_TOLERANCE);
 		}
 
+		@Test
+		void testY2BHBatch() throws CommonCalculatorException {
+			double[] siteIndices = { 1.3, 20, 35 };
+			double[] y2bhs = new double[siteIndices.length];
+
+			assertEquals(0, Sindxdll.Y2BH(SI_FDC_BRUCE, siteIndices, y2bhs));
+			for (int i = 0; i < siteIndices.length; i++) {
+				assertEquals(Sindxdll.Y2BH(SI_FDC_BRUCE, siteIndices[i]), y2bhs[i]);
+			}
+
+			double[] lessThan13 = { 1.0 };
+			assertEquals(1, Sindxdll.Y2BH(SI_FDC_BRUCE, lessThan13, lessThan13));
+			assertEquals(-1, lessThan13[0]);
+		}
+
 		@Test
 		void testY2BH05Error() throws CommonCalculatorException {
 			Reference<Double> site = new Reference<>();
@@ -3534,6 +3643,22 @@ class SindxdllTest {
 			Sindxdll.SIToSI(SI_SPEC_AT, 10.0, SI_SPEC_AT, resultSiteIndex);
 			assertEquals(10.0f, resultSiteIndex.get());
 		}
+
+		@Test
+		void testPrimitive() throws CommonCalculatorException {
+			assertEquals(11.782, Sindxdll.SIToSI(SI_SPEC_AT, 10.0, SI_SPEC_SW), ERROR_TOLERANCE);
+			assertEquals(10.0, Sindxdll.SIToSI(SI_SPEC_AT, 10.0, SI_SPEC_AT));
+			assertThrows(SpeciesErrorException.class, () -> Sindxdll.SIToSI(null, 10.0, SI_SPEC_AT));
+		}
+
+		@Test
+		void testErrorCode() {
+			assertEquals(-1, Sindxdll.errorCode(new LessThan13Exception()));
+			assertEquals(-4, Sindxdll.errorCode(new NoAnswerException()));
+			assertEquals(-5, Sindxdll.errorCode(new CurveErrorException()));
+			assertEquals(SI_ERR_SPEC, Sindxdll.errorCode(new SpeciesErrorException()));
+			assertEquals(-12, Sindxdll.errorCode(new EstablishmentErrorException()));
+		}
 	}
 
 	@Nested
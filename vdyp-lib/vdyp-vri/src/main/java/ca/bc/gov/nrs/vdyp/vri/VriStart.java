@@ -1,9 +1,11 @@
 package ca.bc.gov.nrs.vdyp.vri;
 
 import static ca.bc.gov.nrs.vdyp.common_calculators.BaseAreaTreeDensityDiameter.*;
+import static ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser.nextForPolygon;
 
 import java.io.Closeable;
 import java.io.IOException;
+import java.text.MessageFormat;
 import java.util.Collection;
 import java.util.EnumSet;
 import java.util.HashMap;
@@ -18,7 +20,6 @@ import java.util.function.Consumer;
 import java.util.stream.Collectors;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
-import org.apache.commons.math3.analysis.solvers.BrentSolver;
 import org.apache.commons.math3.exception.NoBracketingException;
 import org.apache.commons.math3.exception.TooManyEvaluationsException;
 import org.slf4j.Logger;
@@ -26,6 +27,7 @@ import org.slf4j.LoggerFactory;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
 import ca.bc.gov.nrs.vdyp.application.RuntimeProcessingException;
 import ca.bc.gov.nrs.vdyp.application.RuntimeStandProcessingException;
+import ca.bc.gov.nrs.vdyp.application.StageProfiler.Stage;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
@@ -39,7 +41,9 @@ import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.control.BaseControlParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
+import ca.bc.gov.nrs.vdyp.math.BrentRootFinder;
 import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
 import ca.bc.gov.nrs.vdyp.model.Region;
@@ -71,6 +75,10 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 
 	static final Logger log = LoggerFactory.getLogger(VriStart.class);
 
+	private long solves = 0;
+	private long bracketEvaluations = 0;
+	private long solverEvaluations = 0;
+
 	static final float EMPOC = 0.85f;
 
 	public static void main(final String... args) throws IOException {
@@ -106,12 +114,19 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		int polygonsWritten = 0;
 		try (
 				var polyStream = this.<VriPolygon>getStreamingParser(ControlKey.VRI_INPUT_YIELD_POLY);
-				var layerStream = this.<Map<LayerType, VriLayer.Builder>>getStreamingParser(
-						ControlKey.VRI_INPUT_YIELD_LAYER
+				var layerStream = this.<Map<LayerType, VriLayer.Builder>>getChildStreamingParser(
+						ControlKey.VRI_INPUT_YIELD_LAYER,
+						layers -> layers.values().stream().findFirst().flatMap(VriLayer.Builder::getPolygonIdentifier),
+						HashMap::new
+				);
+				var speciesStream = this.<Collection<VriSpecies>>getChildStreamingParser(
+						ControlKey.VRI_INPUT_YIELD_SPEC_DIST,
+						SortMergeJoinStreamingParser.firstKey(VriSpecies::getPolygonIdentifier), List::of
+				);
+				var siteStream = this.<Collection<VriSite>>getChildStreamingParser(
+						ControlKey.VRI_INPUT_YIELD_HEIGHT_AGE_SI,
+						SortMergeJoinStreamingParser.firstKey(VriSite::getPolygonIdentifier), List::of
 				);
-				var speciesStream = this
-						.<Collection<VriSpecies>>getStreamingParser(ControlKey.VRI_INPUT_YIELD_SPEC_DIST);
-				var siteStream = this.<Collection<VriSite>>getStreamingParser(ControlKey.VRI_INPUT_YIELD_HEIGHT_AGE_SI);
 		) {
 			log.atDebug().setMessage("Start Stand processing").log();
 
@@ -120,6 +135,9 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 				// FIP_GET
 				log.atInfo().setMessage("Getting polygon {}").addArgument(polygonsRead + 1).log();
 				var polygon = getPolygon(polyStream, layerStream, speciesStream, siteStream);
+				if (getCheckpointer().skip(polygon.getPolygonIdentifier())) {
+					continue;
+				}
 				try {
 
 					var resultPoly = processPolygon(polygonsRead, polygon);
@@ -142,8 +160,13 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 					log.atWarn().setMessage("Polygon {} bypassed").addArgument(polygon.getPolygonIdentifier())
 							.setCause(ex).log();
 				}
+				commitPolygon(polygon.getPolygonIdentifier());
 
 			}
+			log.atDebug().setMessage("Quadratic mean diameter root finding: {}").addArgument(getRootFindingStatistics())
+					.log();
+			getCheckpointer().finish();
+			getProfiler().finish();
 		} catch (IOException | ResourceParseException ex) {
 			throw new ProcessingException("Error while reading or writing data.", ex);
 		}
@@ -165,12 +188,12 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		log.trace("Getting species for polygon {}", polygon.getPolygonIdentifier());
 		Collection<VriSpecies> species;
 		try {
-			species = speciesStream.next();
+			species = nextForPolygon(speciesStream, polygon.getPolygonIdentifier());
 		} catch (NoSuchElementException ex) {
 			throw validationError("Species file has fewer records than polygon file.", ex);
 		}
 
-		Map<LayerType, VriLayer.Builder> layersBuilders = layerStream.next();
+		Map<LayerType, VriLayer.Builder> layersBuilders = nextForPolygon(layerStream, polygon.getPolygonIdentifier());
 
 		for (var spec : species) {
 			var layerBuilder = layersBuilders.get(spec.getLayerType());
@@ -193,7 +216,7 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		log.trace("Getting sites for polygon {}", polygon.getPolygonIdentifier());
 		Collection<VriSite> sites;
 		try {
-			sites = siteStream.next();
+			sites = nextForPolygon(siteStream, polygon.getPolygonIdentifier());
 		} catch (NoSuchElementException ex) {
 			throw validationError("Sites file has fewer records than polygon file.", ex);
 		}
@@ -334,6 +357,16 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 	static final EnumSet<PolygonMode> ACCEPTABLE_MODES = EnumSet.of(PolygonMode.START, PolygonMode.YOUNG);
 
 	Optional<VdypPolygon> processPolygon(int polygonsRead, VriPolygon polygon) throws ProcessingException {
+		getProfiler().startPolygon(polygon.getPolygonIdentifier());
+		try {
+			return processPolygonStages(polygonsRead, polygon);
+		} finally {
+			getProfiler().endPolygon();
+		}
+	}
+
+	private Optional<VdypPolygon> processPolygonStages(int polygonsRead, VriPolygon polygon)
+			throws ProcessingException {
 		log.atInfo().setMessage("Read polygon {}, preparing to process").addArgument(polygon.getPolygonIdentifier())
 				.log();
 		var bec = Utils.getBec(polygon.getBiogeoclimaticZone(), controlMap);
@@ -348,26 +381,30 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		log.atInfo().setMessage("Checking validity of polygon {}:{}").addArgument(polygonsRead)
 				.addArgument(polygon.getPolygonIdentifier()).log();
 
-		mode = checkPolygon(polygon);
+		try (var timer = getProfiler().time(Stage.CHECK)) {
+			mode = checkPolygon(polygon);
+		}
 
 		final VriPolygon preProcessedPolygon;
-		switch (mode) {
-		case YOUNG:
-			log.atTrace().setMessage(SPECIAL_PROCESSING_LOG_TEMPLATE).addArgument(mode).log();
-			preProcessedPolygon = processYoung(polygon);
-			break;
-		case BATC:
-			log.atTrace().setMessage(SPECIAL_PROCESSING_LOG_TEMPLATE).addArgument(mode).log();
-			preProcessedPolygon = processBatc(polygon);
-			break;
-		case BATN:
-			log.atTrace().setMessage(SPECIAL_PROCESSING_LOG_TEMPLATE).addArgument(mode).log();
-			preProcessedPolygon = processBatn(polygon);
-			break;
-		default:
-			log.atTrace().setMessage("No special processing for mode {}").addArgument(mode).log();
-			preProcessedPolygon = polygon;
-			break;
+		try (var timer = getProfiler().time(Stage.SPECIAL_MODE)) {
+			switch (mode) {
+			case YOUNG:
+				log.atTrace().setMessage(SPECIAL_PROCESSING_LOG_TEMPLATE).addArgument(mode).log();
+				preProcessedPolygon = processYoung(polygon);
+				break;
+			case BATC:
+				log.atTrace().setMessage(SPECIAL_PROCESSING_LOG_TEMPLATE).addArgument(mode).log();
+				preProcessedPolygon = processBatc(polygon);
+				break;
+			case BATN:
+				log.atTrace().setMessage(SPECIAL_PROCESSING_LOG_TEMPLATE).addArgument(mode).log();
+				preProcessedPolygon = processBatn(polygon);
+				break;
+			default:
+				log.atTrace().setMessage("No special processing for mode {}").addArgument(mode).log();
+				preProcessedPolygon = polygon;
+				break;
+			}
 		}
 
 		try {
@@ -375,7 +412,7 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 				pBuilder.adapt(preProcessedPolygon, x -> x.orElse(0f));
 
 				pBuilder.addLayer(lBuilder -> {
-					try {
+					try (var timer = getProfiler().time(Stage.PRIMARY_LAYER)) {
 						lBuilder.adapt(preProcessedPolygon.getLayers().get(LayerType.PRIMARY));
 						processPrimaryLayer(preProcessedPolygon, lBuilder);
 					} catch (ProcessingException e) {
@@ -384,7 +421,7 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 				});
 				if (preProcessedPolygon.getLayers().containsKey(LayerType.VETERAN)) {
 					pBuilder.addLayer(lBuilder -> {
-						try {
+						try (var timer = getProfiler().time(Stage.VETERAN_LAYER)) {
 							processVeteranLayer(preProcessedPolygon, lBuilder);
 						} catch (StandProcessingException e) {
 							throw new RuntimeStandProcessingException(e);
@@ -399,12 +436,16 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 				try {
 					getDqBySpecies(resultPrimaryLayer, bec.getRegion());
 
-					estimateSmallComponents(polygon, resultPrimaryLayer);
+					try (var timer = getProfiler().time(Stage.SMALL_COMPONENTS)) {
+						estimateSmallComponents(polygon, resultPrimaryLayer);
+					}
 
-					computeUtilizationComponentsPrimary(
-							bec, resultPrimaryLayer, VolumeComputeMode.BY_UTIL_WITH_WHOLE_STEM_BY_SPEC,
-							CompatibilityVariableMode.NONE
-					);
+					try (var timer = getProfiler().time(Stage.UTILIZATION)) {
+						computeUtilizationComponentsPrimary(
+								bec, resultPrimaryLayer, VolumeComputeMode.BY_UTIL_WITH_WHOLE_STEM_BY_SPEC,
+								CompatibilityVariableMode.NONE
+						);
+					}
 
 				} catch (ProcessingException e) {
 					throw new RuntimeProcessingException(e);
@@ -554,10 +595,12 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 			// TODO
 		}
 
-		findRootForQuadMeanDiameterFractionalError(
-				-0.6f, 0.5f, resultsPerSpecies, initialDqEstimate, baseAreaPerSpecies, minPerSpecies, maxPerSpecies,
-				treeDensityTotal
-		);
+		try (var timer = getProfiler().time(Stage.ROOT_FINDING)) {
+			findRootForQuadMeanDiameterFractionalError(
+					-0.6f, 0.5f, resultsPerSpecies, initialDqEstimate, baseAreaPerSpecies, minPerSpecies, maxPerSpecies,
+					treeDensityTotal
+			);
+		}
 
 		applyDqBySpecies(layer, baseAreaTotal, baseAreaPerSpecies, resultsPerSpecies);
 	}
@@ -623,19 +666,108 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 			double x, Map<String, Float> finalDiameters, Map<String, Float> initial, Map<String, Float> baseArea,
 			Map<String, Float> min, Map<String, Float> max, float totalTreeDensity
 	) {
-		finalDiameters.clear();
+		var error = new QuadMeanDiameterError(initial, baseArea, min, max, totalTreeDensity);
+		float result = (float) error.value(x);
+		error.getFinalDiameters(finalDiameters);
+		return result;
+	}
+
+	QuadMeanDiameterError quadMeanDiameterError(
+			Map<String, Float> initial, Map<String, Float> baseArea, Map<String, Float> min, Map<String, Float> max,
+			float totalTreeDensity
+	) {
+		return new QuadMeanDiameterError(initial, baseArea, min, max, totalTreeDensity);
+	}
+
+	/**
+	 * The fractional error in the trees per hectare of a layer when the quadratic mean diameter of each of its species
+	 * is adjusted by a factor, as a function of the log of the factor.
+	 * <p>
+	 * The values for each species are copied into arrays, in the order of {@code initial}, when the function is
+	 * created, so the function can be evaluated at each trial point of the root finding without allocating. The
+	 * diameters for the last point evaluated are kept and can be retrieved with {@link #getFinalDiameters}.
+	 */
+	static class QuadMeanDiameterError implements UnivariateFunction {
 
-		float xToUse = FloatMath.clamp((float) x, -10, 10);
+		final String[] genera;
+		final float[] initial;
+		final float[] min;
+		final float[] max;
+		final float[] finalDiameters;
 
-		double tphSum = initial.entrySet().stream().mapToDouble(spec -> {
-			float speciesFinal = quadMeanDiameterSpeciesAdjust(
-					xToUse, spec.getValue(), min.get(spec.getKey()), max.get(spec.getKey())
-			);
-			finalDiameters.put(spec.getKey(), speciesFinal);
-			return treesPerHectare(baseArea.get(spec.getKey()), speciesFinal);
-		}).sum();
+		// Initial diameter less the diameter that isn't adjusted
+		private final float[] adjustable;
+		// Trees per hectare times the square of the diameter
+		private final float[] treesDiameterSquared;
+
+		final float totalTreeDensity;
+
+		boolean evaluated = false;
+
+		QuadMeanDiameterError(
+				Map<String, Float> initial, Map<String, Float> baseArea, Map<String, Float> min, Map<String, Float> max,
+				float totalTreeDensity
+		) {
+			int n = initial.size();
+			this.genera = new String[n];
+			this.initial = new float[n];
+			this.min = new float[n];
+			this.max = new float[n];
+			this.finalDiameters = new float[n];
+			this.adjustable = new float[n];
+			this.treesDiameterSquared = new float[n];
+			this.totalTreeDensity = totalTreeDensity;
+
+			int i = 0;
+			for (var spec : initial.entrySet()) {
+				String genus = spec.getKey();
+				genera[i] = genus;
+				this.initial[i] = spec.getValue();
+				this.min[i] = min.get(genus);
+				this.max[i] = max.get(genus);
+				this.adjustable[i] = spec.getValue() - 7.5f;
+
+				// As treesPerHectare, which divides by PI_40K before dividing by the square of the diameter
+				float specBaseArea = baseArea.get(genus);
+				this.treesDiameterSquared[i] = specBaseArea > 0 ? specBaseArea / PI_40K : 0f;
+				i++;
+			}
+		}
+
+		@Override
+		public double value(double x) {
+			float factor = FloatMath.exp(FloatMath.clamp((float) x, -10, 10));
+
+			double tphSum = 0;
+			for (int i = 0; i < genera.length; i++) {
+				// As quadMeanDiameterSpeciesAdjust
+				float speciesFinal = FloatMath.clamp(7.5f + adjustable[i] * factor, min[i], max[i]);
+				finalDiameters[i] = speciesFinal;
+				if (speciesFinal > 0) {
+					tphSum += treesDiameterSquared[i] / (speciesFinal * speciesFinal);
+				}
+			}
 
-		return (float) ( (tphSum - totalTreeDensity) / totalTreeDensity);
+			evaluated = true;
+			return (float) ( (tphSum - totalTreeDensity) / totalTreeDensity);
+		}
+
+		/**
+		 * @return whether the function has been evaluated
+		 */
+		boolean isEvaluated() {
+			return evaluated;
+		}
+
+		/**
+		 * Replace the contents of a map with the diameter of each species at the last point evaluated
+		 */
+		void getFinalDiameters(Map<String, Float> result) {
+			result.clear();
+			for (int i = 0; i < genera.length; i++) {
+				result.put(genera[i], finalDiameters[i]);
+			}
+		}
 	}
 
 	float quadMeanDiameterSpeciesAdjust(float x, float initialDq, float min, float max) {
@@ -826,6 +958,20 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 
 		float upperBoundBaseArea = upperBoundsBaseArea(baseAreaGroup);
 
+		return estimateBaseAreaYield(
+				coe, upperBoundBaseArea, dominantHeight, breastHeightAge, baseAreaOverstory, fullOccupancy
+		);
+	}
+
+	/**
+	 * As {@link #estimateBaseAreaYield(float, float, Optional, boolean, Collection, BecDefinition, int)} with the
+	 * coefficients and upper bound already found.
+	 */
+	float estimateBaseAreaYield(
+			Coefficients coe, float upperBoundBaseArea, float dominantHeight, float breastHeightAge,
+			Optional<Float> baseAreaOverstory, boolean fullOccupancy
+	) throws StandProcessingException {
+
 		/*
 		 * The original Fortran had the following comment and a commented out modification to upperBoundsBaseArea
 		 * (BATOP98). I have included them here.
@@ -1122,54 +1268,123 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 		}
 	}
 
-	private Increase findIncreaseForYoungMode(
+	/**
+	 * Find the smallest increase in age, up to {@code moreYears}, that brings a young stand to the target height and
+	 * age and a predicted base area at full occupancy of at least the target.
+	 * <p>
+	 * Each year is tried in turn as in VDYP7. Neither the dominant height nor the predicted base area is guaranteed to
+	 * increase with age for every site curve and set of base area yield coefficients, so the first increase that meets
+	 * the targets can't be found by searching.
+	 */
+	Increase findIncreaseForYoungMode(
 			BecDefinition bec, VriLayer primaryLayer, SiteIndexEquation siteCurve, float primaryBreastHeightAge0,
 			float siteIndex, float yeastToBreastHeight, float baseAreaTarget, float heightTarget, float ageTarget,
 			float dominantHeight0, int moreYears, float primaryHeight
 	) throws CommonCalculatorException, StandProcessingException {
-		float dominantHeight;
-		float ageIncrease;
+
+		var targets = new YoungIncreaseTargets(
+				primaryLayer, bec, siteCurve, primaryBreastHeightAge0, siteIndex, yeastToBreastHeight, baseAreaTarget,
+				heightTarget, ageTarget, dominantHeight0, primaryHeight
+		);
+
 		for (int increase = 0; increase <= moreYears; increase++) {
+			var found = targets.tryIncrease(increase);
+			if (found.isPresent()) {
+				return found.get();
+			}
+		}
+		throw new StandProcessingException("Unable to increase to target height.");
+	}
+
+	/**
+	 * Checks increases in the age of a young stand against the targets of {@link #findIncreaseForYoungMode}. The base
+	 * area yield coefficients of the primary layer are only found once.
+	 */
+	private class YoungIncreaseTargets {
+		private final SiteIndexEquation siteCurve;
+		private final float primaryBreastHeightAge0;
+		private final float siteIndex;
+		private final float yeastToBreastHeight;
+		private final float baseAreaTarget;
+		private final float heightTarget;
+		private final float ageTarget;
+		private final float primaryHeight;
+
+		private final VriLayer primaryLayer;
+		private final BecDefinition bec;
+
+		// Found when first needed
+		private Coefficients baseAreaYieldCoefficients;
+		private float upperBoundBaseArea;
+
+		private float dominantHeight0; // HD0
+
+		YoungIncreaseTargets(
+				VriLayer primaryLayer, BecDefinition bec, SiteIndexEquation siteCurve, float primaryBreastHeightAge0,
+				float siteIndex, float yeastToBreastHeight, float baseAreaTarget, float heightTarget, float ageTarget,
+				float dominantHeight0, float primaryHeight
+		) {
+			this.siteCurve = siteCurve;
+			this.primaryBreastHeightAge0 = primaryBreastHeightAge0;
+			this.siteIndex = siteIndex;
+			this.yeastToBreastHeight = yeastToBreastHeight;
+			this.baseAreaTarget = baseAreaTarget;
+			this.heightTarget = heightTarget;
+			this.ageTarget = ageTarget;
+			this.dominantHeight0 = dominantHeight0;
+			this.primaryHeight = primaryHeight;
+			this.primaryLayer = primaryLayer;
+			this.bec = bec;
+		}
+
+		/**
+		 * @return the increase if it meets the targets, otherwise empty
+		 */
+		Optional<Increase> tryIncrease(int increase) throws CommonCalculatorException, StandProcessingException {
 			float primaryBreastHeightAge = primaryBreastHeightAge0 + increase; // AGEBH
 
-			if (primaryBreastHeightAge > 1f) {
+			if (primaryBreastHeightAge <= 1f) {
+				return Optional.empty();
+			}
 
-				float ageD = primaryBreastHeightAge; // AGED
+			float ageD = primaryBreastHeightAge; // AGED
 
-				float dominantHeightD = (float) SiteIndex2Height.indexToHeight(
-						siteCurve, ageD, SiteIndexAgeType.SI_AT_BREAST, siteIndex, ageD, yeastToBreastHeight
-				); // HDD
+			float dominantHeightD = (float) SiteIndex2Height.indexToHeight(
+					siteCurve, ageD, SiteIndexAgeType.SI_AT_BREAST, siteIndex, ageD, yeastToBreastHeight
+			); // HDD
 
-				if (increase == 0) {
-					dominantHeight0 = dominantHeightD;
-				}
-				dominantHeight = dominantHeightD; // HD
-				if (primaryHeight > 0f && dominantHeight0 > 0f) {
-					dominantHeight = primaryHeight + (dominantHeight - dominantHeight0);
-				}
+			if (increase == 0) {
+				dominantHeight0 = dominantHeightD;
+			}
+			float dominantHeight = dominantHeightD; // HD
+			if (primaryHeight > 0f && dominantHeight0 > 0f) {
+				dominantHeight = primaryHeight + (dominantHeight - dominantHeight0);
+			}
 
-				// check empirical BA assuming BAV = 0
+			// check empirical BA assuming BAV = 0
 
-				float predictedBaseArea = estimateBaseAreaYield(
-						dominantHeight, primaryBreastHeightAge, Optional.empty(), false,
-						primaryLayer.getSpecies().values(), bec,
+			if (baseAreaYieldCoefficients == null) {
+				baseAreaYieldCoefficients = estimateBaseAreaYieldCoefficients(primaryLayer.getSpecies().values(), bec);
+				upperBoundBaseArea = upperBoundsBaseArea(
 						primaryLayer.getEmpericalRelationshipParameterIndex().orElseThrow()
-				); // BAP
+				);
+			}
+			float predictedBaseArea = estimateBaseAreaYield(
+					baseAreaYieldCoefficients, upperBoundBaseArea, dominantHeight, primaryBreastHeightAge,
+					Optional.empty(), false
+			); // BAP
 
-				// Calculate the full occupancy BA Hence the BA we will test is the Full
-				// occupanct BA
+			// Calculate the full occupancy BA Hence the BA we will test is the Full
+			// occupanct BA
 
-				predictedBaseArea /= FRACTION_AVAILABLE_N;
+			predictedBaseArea /= FRACTION_AVAILABLE_N;
 
-				if (dominantHeight >= heightTarget && primaryBreastHeightAge >= ageTarget
-						&& predictedBaseArea >= baseAreaTarget) {
-					ageIncrease = increase;
-					return new Increase(dominantHeight, ageIncrease);
-				}
+			if (dominantHeight >= heightTarget && primaryBreastHeightAge >= ageTarget
+					&& predictedBaseArea >= baseAreaTarget) {
+				return Optional.of(new Increase(dominantHeight, increase));
 			}
+			return Optional.empty();
 		}
-		throw new StandProcessingException("Unable to increase to target height.");
-
 	}
 
 	static final <T, B extends ModelClassBuilder<T>> BiConsumer<B, T> noChange() {
@@ -1355,12 +1570,14 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 
 		final double tol = 0.00001;
 
+		// The values for each species don't change while looking for the root so they are only gathered once
+		var error = quadMeanDiameterError(initialDqs, baseAreas, minDq, maxDq, tph);
+
 		UnivariateFunction errorFunc = x -> {
 			lastXes[1] = lastXes[0];
 			lastXes[0] = x;
 			lastFs[1] = lastFs[0];
-			lastFs[0] = this
-					.quadMeanDiameterFractionalError(x, resultPerSpecies, initialDqs, baseAreas, minDq, maxDq, tph);
+			lastFs[0] = error.value(x);
 			return lastFs[0];
 		};
 		try {
@@ -1376,7 +1593,7 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 
 			double x = bestOf(errorFunc, 0, -0.1, 0.1);
 
-			// Invoke the function again to set the species map via
+			// Invoke the function again to set the species diameters
 			errorFunc.value(x);
 
 			return (float) x;
@@ -1398,22 +1615,70 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 					"Could not find solution for quadratic mean diameter.  There appears to be a discontinuity.", ex
 			);
 
+		} finally {
+			if (error.isEvaluated()) {
+				error.getFinalDiameters(resultPerSpecies);
+			}
 		}
 	}
 
 	double doSolve(float min, float max, UnivariateFunction errorFunc) {
-		var interval = new Interval(min, max);
+
+		// The Fortran solver library, $ZERO, included an ability to search for a better interval if given one where
+		// the function values at the end points have the same sign. This replicates that.
+		var bracket = findBracket(new Interval(min, max), errorFunc);
 
 		// I couldn't identify the method the original Fortran was using, so I just picked one and it worked
 		// We could swap this for another like NewtonRaphsonSolver
-		var solver = new BrentSolver();
+		var solver = new BrentRootFinder();
 
-		// The Fortran solver library, $ZERO, included an ability to search for a better interval if given one where
-		// the function values at the end points have the same sign. This replicates that.
-		interval = findInterval(new Interval(min, max), errorFunc);
+		// Brent's method reuses the function values at the ends of the bracket, and starts from where the line between
+		// them crosses 0 rather than from the middle as that is usually much closer to the root.
+		var interval = bracket.interval();
+		var values = bracket.values();
+		try {
+			double x = solver.solve(
+					100, errorFunc, interval.start(), interval.end(), values.start(), values.end(),
+					BrentRootFinder.secant(interval.start(), interval.end(), values.start(), values.end())
+			);
+			solves++;
+			log.atDebug().setMessage("Found root {} with {} evaluations finding the interval and {} solving")
+					.addArgument(x).addArgument(bracket.evaluations()).addArgument(solver.getEvaluations()).log();
+			return x;
+		} finally {
+			solverEvaluations += solver.getEvaluations();
+			getProfiler().addEvaluations(solver.getEvaluations());
+		}
+	}
+
+	/**
+	 * Number of evaluations of the error function made while finding the quadratic mean diameter by species
+	 *
+	 * @param solves             number of roots found
+	 * @param bracketEvaluations evaluations made looking for an interval containing the root
+	 * @param solverEvaluations  evaluations made looking for the root within the interval
+	 */
+	public record RootFindingStatistics(long solves, long bracketEvaluations, long solverEvaluations) {
+
+		public long evaluations() {
+			return bracketEvaluations + solverEvaluations;
+		}
 
-		double x = solver.solve(100, errorFunc, interval.start(), interval.end(), interval.mid());
-		return x;
+		@Override
+		public String toString() {
+			return MessageFormat.format(
+					"{0} roots found with {1} evaluations ({2} finding intervals, {3} solving)", solves, evaluations(),
+					bracketEvaluations, solverEvaluations
+			);
+		}
+	}
+
+	/**
+	 * @return the number of evaluations of the error function made while finding the quadratic mean diameter by species
+	 *         so far
+	 */
+	public RootFindingStatistics getRootFindingStatistics() {
+		return new RootFindingStatistics(solves, bracketEvaluations, solverEvaluations);
 	}
 
 	/**
@@ -1476,6 +1741,23 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 	 * @return an interval for parameters to func
 	 */
 	public Interval findInterval(Interval intervalInit, UnivariateFunction func) {
+		return findBracket(intervalInit, func).interval();
+	}
+
+	/**
+	 * An interval containing a root and the values of the function at its ends
+	 *
+	 * @param interval    the interval
+	 * @param values      values of the function at the start and end of the interval
+	 * @param evaluations number of evaluations of the function made to find it
+	 */
+	record Bracket(Interval interval, Interval values, int evaluations) {
+	}
+
+	/**
+	 * As {@link #findInterval} but also returns the values of the function at the ends of the interval.
+	 */
+	Bracket findBracket(Interval intervalInit, UnivariateFunction func) {
 
 		var interval = intervalInit;
 		// Try 40 times before giving up.
@@ -1489,8 +1771,11 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 
 			if (currentF * lastF <= 0) {
 				var newInterval = new Interval(Math.min(currentX, lastX), Math.max(currentX, lastX));
+				var newValues = currentX <= lastX ? new Interval(currentF, lastF) : new Interval(lastF, currentF);
 				log.atInfo().setMessage("Looking for root in range {}").addArgument(interval);
-				return newInterval;
+				bracketEvaluations += i + 2;
+				getProfiler().addEvaluations(i + 2);
+				return new Bracket(newInterval, newValues, i + 2);
 			}
 
 			double tp = currentF / lastF;
@@ -1520,6 +1805,8 @@ public class VriStart extends VdypStartApplication<VriPolygon, VriLayer, VriSpec
 			currentF = func.value(currentX);
 		}
 
+		bracketEvaluations += i + 2;
+		getProfiler().addEvaluations(i + 2);
 		throw new NoBracketingException(currentX, lastX, currentF, lastF);
 	}
 }
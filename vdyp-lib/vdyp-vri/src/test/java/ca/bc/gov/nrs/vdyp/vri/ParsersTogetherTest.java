@@ -38,6 +38,7 @@ import ca.bc.gov.nrs.vdyp.io.parse.coe.EquationModifierParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.GenusDefinitionParser;
 import ca.bc.gov.nrs.vdyp.io.parse.common.ResourceParseException;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.MockStreamingParser;
+import ca.bc.gov.nrs.vdyp.io.parse.streaming.SortMergeJoinStreamingParser;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.test.MockFileResolver;
@@ -157,6 +158,96 @@ class ParsersTogetherTest {
 		app.close();
 	}
 
+	@Test
+	void testSortMergeJoin() throws IOException, StandProcessingException, ResourceParseException {
+		var app = new VriStart();
+
+		final var missingId = new PolygonIdentifier("A", 2024);
+		final var orphanId = new PolygonIdentifier("B", 2024);
+		final var polygonId = new PolygonIdentifier("C", 2024);
+		final var layerType = LayerType.PRIMARY;
+
+		mockControl.replay();
+
+		app.init(resolver, controlMap);
+
+		var polyStream = new MockStreamingParser<VriPolygon>();
+		var layerStream = new MockStreamingParser<Map<LayerType, VriLayer.Builder>>();
+		var speciesStream = new MockStreamingParser<Collection<VriSpecies>>();
+		var siteStream = new MockStreamingParser<Collection<VriSite>>();
+
+		for (var id : List.of(missingId, polygonId)) {
+			polyStream.addValue(VriPolygon.build(polyBuilder -> {
+				polyBuilder.polygonIdentifier(id);
+				polyBuilder.percentAvailable(Optional.of(100.0f));
+				polyBuilder.biogeoclimaticZone("IDF");
+				polyBuilder.yieldFactor(0.9f);
+			}));
+		}
+
+		// Layers for a polygon that isn't in the polygon file are skipped
+		for (var id : List.of(orphanId, polygonId)) {
+			var layerBuilder = new VriLayer.Builder();
+			layerBuilder.polygonIdentifier(id);
+			layerBuilder.layerType(layerType);
+			layerBuilder.crownClosure(95f);
+			layerBuilder.utilization(0.6f);
+			layerBuilder.baseArea(20);
+			layerBuilder.treesPerHectare(300);
+			layerStream.addValue(Collections.singletonMap(layerType, layerBuilder));
+		}
+
+		speciesStream.addValue(Collections.singleton(VriSpecies.build(specBuilder -> {
+			specBuilder.polygonIdentifier(polygonId);
+			specBuilder.layerType(layerType);
+			specBuilder.genus("B");
+			specBuilder.percentGenus(100f);
+		})));
+		siteStream.addValue(Collections.singleton(VriSite.build(siteBuilder -> {
+			siteBuilder.polygonIdentifier(polygonId);
+			siteBuilder.layerType(layerType);
+			siteBuilder.siteGenus("B");
+			siteBuilder.siteSpecies("B");
+		})));
+
+		var joinedLayerStream = new SortMergeJoinStreamingParser<>(
+				layerStream, "Layers",
+				layers -> layers.values().stream().findFirst().flatMap(VriLayer.Builder::getPolygonIdentifier),
+				HashMap::new
+		);
+		var joinedSpeciesStream = new SortMergeJoinStreamingParser<>(
+				speciesStream, "Species", SortMergeJoinStreamingParser.firstKey(VriSpecies::getPolygonIdentifier),
+				List::of
+		);
+		var joinedSiteStream = new SortMergeJoinStreamingParser<>(
+				siteStream, "Sites", SortMergeJoinStreamingParser.firstKey(VriSite::getPolygonIdentifier), List::of
+		);
+
+		var missingResult = app.getPolygon(polyStream, joinedLayerStream, joinedSpeciesStream, joinedSiteStream);
+
+		assertThat(missingResult, hasProperty("polygonIdentifier", is(missingId)));
+		assertThat(missingResult, hasProperty("layers", Matchers.anEmptyMap()));
+
+		var result = app.getPolygon(polyStream, joinedLayerStream, joinedSpeciesStream, joinedSiteStream);
+
+		assertThat(result, hasProperty("layers", Matchers.aMapWithSize(1)));
+		var primaryResult = result.getLayers().get(LayerType.PRIMARY);
+		assertThat(
+				primaryResult, allOf(
+						hasProperty("polygonIdentifier", is(polygonId)), //
+						hasProperty("layerType", is(LayerType.PRIMARY)), //
+						hasProperty("primaryGenus", present(is("B"))), //
+						hasProperty("sites", Matchers.aMapWithSize(1))
+				)
+		);
+
+		assertThat(joinedLayerStream.getSkippedCount(), is(1));
+		assertThat(joinedSpeciesStream.getMissingCount(), is(1));
+		assertThat(joinedSiteStream.getMissingCount(), is(1));
+
+		app.close();
+	}
+
 	@Test
 	void testVeteranOnly() throws IOException, StandProcessingException, ResourceParseException {
 		var app = new VriStart();
@@ -14,12 +14,17 @@ import static org.hamcrest.Matchers.allOf;
 import static org.hamcrest.Matchers.anything;
 import static org.hamcrest.Matchers.blankString;
 import static org.hamcrest.Matchers.both;
+import static org.hamcrest.Matchers.empty;
 import static org.hamcrest.Matchers.endsWith;
 import static org.hamcrest.Matchers.equalTo;
+import static org.hamcrest.Matchers.greaterThan;
 import static org.hamcrest.Matchers.hasEntry;
 import static org.hamcrest.Matchers.hasKey;
 import static org.hamcrest.Matchers.hasProperty;
+import static org.hamcrest.Matchers.hasSize;
 import static org.hamcrest.Matchers.is;
+import static org.hamcrest.Matchers.lessThan;
+import static org.hamcrest.Matchers.not;
 import static org.hamcrest.Matchers.notNullValue;
 import static org.junit.jupiter.api.Assertions.assertDoesNotThrow;
 import static org.junit.jupiter.api.Assertions.assertThrows;
@@ -28,11 +33,14 @@ import static org.junit.jupiter.api.Assertions.assertTrue;
 import java.io.ByteArrayOutputStream;
 import java.io.IOException;
 import java.io.OutputStream;
+import java.text.MessageFormat;
+import java.util.ArrayList;
 import java.util.Collection;
 import java.util.HashMap;
 import java.util.List;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.Callable;
 
 import org.apache.commons.math3.analysis.UnivariateFunction;
 import org.apache.commons.math3.exception.NoBracketingException;
@@ -50,11 +58,13 @@ import org.junit.jupiter.params.provider.ValueSource;
 
 import ca.bc.gov.nrs.vdyp.application.ApplicationTestUtils;
 import ca.bc.gov.nrs.vdyp.application.ProcessingException;
+import ca.bc.gov.nrs.vdyp.application.StageProfiler;
 import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
 import ca.bc.gov.nrs.vdyp.application.VdypApplicationIdentifier;
 import ca.bc.gov.nrs.vdyp.application.VdypStartApplication;
 import ca.bc.gov.nrs.vdyp.common.ControlKey;
 import ca.bc.gov.nrs.vdyp.common.Utils;
+import ca.bc.gov.nrs.vdyp.common_calculators.BaseAreaTreeDensityDiameter;
 import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.BasalAreaYieldParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.BaseAreaCoefficientParser;
@@ -68,14 +78,17 @@ import ca.bc.gov.nrs.vdyp.io.parse.coe.QuadraticMeanDiameterYieldParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.SiteCurveParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.UpperBoundsParser;
 import ca.bc.gov.nrs.vdyp.io.parse.coe.UpperCoefficientParser;
+import ca.bc.gov.nrs.vdyp.io.parse.control.ControlMapValueReplacer;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.MockStreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParser;
 import ca.bc.gov.nrs.vdyp.io.parse.streaming.StreamingParserFactory;
+import ca.bc.gov.nrs.vdyp.math.FloatMath;
 import ca.bc.gov.nrs.vdyp.model.BecDefinition;
 import ca.bc.gov.nrs.vdyp.model.BecLookup;
 import ca.bc.gov.nrs.vdyp.model.Coefficients;
 import ca.bc.gov.nrs.vdyp.model.LayerType;
 import ca.bc.gov.nrs.vdyp.model.MatrixMap2Impl;
+import ca.bc.gov.nrs.vdyp.model.PolygonIdentifier;
 import ca.bc.gov.nrs.vdyp.model.PolygonMode;
 import ca.bc.gov.nrs.vdyp.model.Region;
 import ca.bc.gov.nrs.vdyp.model.VdypLayer;
@@ -651,6 +664,66 @@ class VriStartTest {
 				}
 			}
 
+			@Test
+			void testMatchesPerSpeciesMaps() {
+
+				controlMap = VriTestUtils.loadControlMap();
+				VriStart app = new VriStart();
+				ApplicationTestUtils.setControlMap(app, controlMap);
+
+				Map<String, Float> initialDqs = Utils.constMap(map -> {
+					map.put("B", 12.0803461f);
+					map.put("C", 8.66746521f);
+					map.put("F", 11.8044939f);
+					map.put("H", 9.06493855f);
+					map.put("S", 10.4460621f);
+				});
+				Map<String, Float> baseAreas = Utils.constMap(map -> {
+					map.put("B", 0.634290636f);
+					map.put("C", 1.26858127f);
+					map.put("F", 1.90287197f);
+					map.put("H", 1.90287197f);
+					map.put("S", 0f);
+				});
+				Map<String, Float> minDq = Utils.constMap(map -> {
+					map.put("B", 7.6f);
+					map.put("C", 7.6f);
+					map.put("F", 7.6f);
+					map.put("H", 7.6f);
+					map.put("S", 7.6f);
+				});
+				Map<String, Float> maxDq = Utils.constMap(map -> {
+					map.put("B", 13.8423338f);
+					map.put("C", 16.6669998f);
+					map.put("F", 15.5116472f);
+					map.put("H", 12.5369997f);
+					map.put("S", 12.6630001f);
+				});
+
+				float tph = 748.402222f;
+
+				var error = app.quadMeanDiameterError(initialDqs, baseAreas, minDq, maxDq, tph);
+				var resultPerSpecies = new HashMap<String, Float>();
+
+				for (double x = -12; x <= 12; x += 0.0137) {
+					// The error function as it was written over the maps of values for each species
+					float xToUse = FloatMath.clamp((float) x, -10, 10);
+					var expectedPerSpecies = new HashMap<String, Float>();
+					double tphSum = initialDqs.entrySet().stream().mapToDouble(spec -> {
+						float speciesFinal = app.quadMeanDiameterSpeciesAdjust(
+								xToUse, spec.getValue(), minDq.get(spec.getKey()), maxDq.get(spec.getKey())
+						);
+						expectedPerSpecies.put(spec.getKey(), speciesFinal);
+						return BaseAreaTreeDensityDiameter.treesPerHectare(baseAreas.get(spec.getKey()), speciesFinal);
+					}).sum();
+					float expected = (float) ( (tphSum - tph) / tph);
+
+					assertThat(error.value(x), is((double) expected));
+					error.getFinalDiameters(resultPerSpecies);
+					assertThat(resultPerSpecies, is(expectedPerSpecies));
+				}
+			}
+
 			@Test
 			void testComputeXClamppedHigh() throws StandProcessingException {
 
@@ -977,6 +1050,12 @@ class VriStartTest {
 
 				assertThat(result, closeTo(0.172141284f));
 
+				var statistics = app.getRootFindingStatistics();
+				assertThat(statistics.solves(), is(1L));
+				assertThat(statistics.bracketEvaluations(), is(2L));
+				// Solving from the middle of the interval without the values at its ends took 7 evaluations
+				assertThat(statistics.solverEvaluations(), lessThan(7L));
+
 				assertThat(
 						resultPerSpecies, allOf(
 								hasEntry(is("B"), closeTo(12.9407434f)), //
@@ -989,6 +1068,43 @@ class VriStartTest {
 
 			}
 
+			@Test
+			void testProfiled() throws StandProcessingException {
+				controlMap = VriTestUtils.loadControlMap();
+				VriStart app = new VriStart();
+				ApplicationTestUtils.setControlMap(app, controlMap);
+
+				var profiler = new StageProfiler(1);
+				app.setProfiler(profiler);
+
+				Map<String, Float> initialDqs = Utils.constMap(map -> {
+					map.put("B", 12.0803461f);
+					map.put("C", 8.66746521f);
+				});
+				Map<String, Float> baseAreas = Utils.constMap(map -> {
+					map.put("B", 0.634290636f);
+					map.put("C", 1.26858127f);
+				});
+				Map<String, Float> minDq = Utils.constMap(map -> {
+					map.put("B", 7.6f);
+					map.put("C", 7.6f);
+				});
+				Map<String, Float> maxDq = Utils.constMap(map -> {
+					map.put("B", 13.8423338f);
+					map.put("C", 16.6669998f);
+				});
+
+				profiler.startPolygon(new PolygonIdentifier("Test", 2024));
+				app.findRootForQuadMeanDiameterFractionalError(
+						-0.6f, 0.5f, new HashMap<>(), initialDqs, baseAreas, minDq, maxDq, 300f
+				);
+				profiler.endPolygon();
+
+				assertThat(profiler.getPolygons(), is(1L));
+				assertThat(profiler.getEvaluations(), is(app.getRootFindingStatistics().evaluations()));
+				assertThat(profiler.getSlowest().get(0).evaluations(), is(profiler.getEvaluations()));
+			}
+
 			@Test
 			void testNoIntervalThrow() {
 				controlMap = VriTestUtils.loadControlMap();
@@ -996,19 +1112,26 @@ class VriStartTest {
 				VriStart app = new VriStart() {
 
 					@Override
-					float quadMeanDiameterFractionalError(
-							double x, Map<String, Float> finalDiameters, Map<String, Float> initial,
-							Map<String, Float> baseArea, Map<String, Float> min, Map<String, Float> max,
-							float totalTreeDensity
+					QuadMeanDiameterError quadMeanDiameterError(
+							Map<String, Float> initial, Map<String, Float> baseArea, Map<String, Float> min,
+							Map<String, Float> max, float totalTreeDensity
 					) {
-						// Force this to be something with no root. Finding a set of inputs that have no real root or
-						// which the interval fixer can't handle would be better
-
-						var f = Math.exp(x) + 1;
-
-						initial.forEach((k, v) -> finalDiameters.put(k, (float) (v * x)));
-
-						return (float) f;
+						return new QuadMeanDiameterError(initial, baseArea, min, max, totalTreeDensity) {
+							@Override
+							public double value(double x) {
+								// Force this to be something with no root. Finding a set of inputs that have no real
+								// root or which the interval fixer can't handle would be better
+
+								var f = Math.exp(x) + 1;
+
+								for (int i = 0; i < genera.length; i++) {
+									finalDiameters[i] = (float) (this.initial[i] * x);
+								}
+								evaluated = true;
+
+								return (float) f;
+							}
+						};
 					}
 
 				};
@@ -1069,19 +1192,26 @@ class VriStartTest {
 				VriStart app = new VriStart() {
 
 					@Override
-					float quadMeanDiameterFractionalError(
-							double x, Map<String, Float> finalDiameters, Map<String, Float> initial,
-							Map<String, Float> baseArea, Map<String, Float> min, Map<String, Float> max,
-							float totalTreeDensity
+					QuadMeanDiameterError quadMeanDiameterError(
+							Map<String, Float> initial, Map<String, Float> baseArea, Map<String, Float> min,
+							Map<String, Float> max, float totalTreeDensity
 					) {
-						// Force this to be something with no root. Finding a set of inputs that have no real root or
-						// which the interval fixer can't handle would be better
-
-						var f = Math.exp(x) + 1;
-
-						initial.forEach((k, v) -> finalDiameters.put(k, (float) (v * x)));
-
-						return (float) f;
+						return new QuadMeanDiameterError(initial, baseArea, min, max, totalTreeDensity) {
+							@Override
+							public double value(double x) {
+								// Force this to be something with no root. Finding a set of inputs that have no real
+								// root or which the interval fixer can't handle would be better
+
+								var f = Math.exp(x) + 1;
+
+								for (int i = 0; i < genera.length; i++) {
+									finalDiameters[i] = (float) (this.initial[i] * x);
+								}
+								evaluated = true;
+
+								return (float) f;
+							}
+						};
 					}
 
 				};
@@ -2259,6 +2389,136 @@ class VriStartTest {
 	@Nested
 	class ProcessYoung {
 
+		static Object increaseOrFailure(Callable<VriStart.Increase> search) {
+			try {
+				return search.call();
+			} catch (Exception e) {
+				return e.getClass().getName() + ": " + e.getMessage();
+			}
+		}
+
+		@SuppressWarnings("unchecked")
+		static <T> StreamingParser<T> testDataStream(
+				ControlMapValueReplacer<? extends StreamingParserFactory<? extends T>, String> parser, String fileName,
+				Map<String, Object> controlMap
+		) throws Exception {
+			return (StreamingParser<T>) parser.map(fileName, TestUtils.fileResolver(VriTestUtils.class), controlMap)
+					.get();
+		}
+
+		/**
+		 * The polygons in the VRI test data
+		 */
+		static List<VriPolygon> testDataPolygons(VriStart app, Map<String, Object> controlMap) throws Exception {
+			List<VriPolygon> polygons = new ArrayList<>();
+			try (
+					StreamingParser<VriPolygon> polyStream = testDataStream(
+							new VriPolygonParser(), "vri_p1.dat", controlMap
+					);
+					StreamingParser<Map<LayerType, VriLayer.Builder>> layerStream = testDataStream(
+							new VriLayerParser(), "vri_l1.dat", controlMap
+					);
+					StreamingParser<Collection<VriSpecies>> speciesStream = testDataStream(
+							new VriSpeciesParser(), "vri_sp1.dat", controlMap
+					);
+					StreamingParser<Collection<VriSite>> siteStream = testDataStream(
+							new VriSiteParser(), "vri_si1.dat", controlMap
+					);
+					StreamingParser<Collection<VriSpecies>> layerSpeciesStream = testDataStream(
+							new VriSpeciesParser(), "vri_sp1.dat", controlMap
+					);
+			) {
+				while (polyStream.hasNext()) {
+					var polygon = app.getPolygon(polyStream, layerStream, speciesStream, siteStream);
+
+					// getPolygon leaves the layers without species so add them again
+					var species = layerSpeciesStream.next();
+					for (var layer : polygon.getLayers().values()) {
+						layer.setSpecies(
+								species.stream().filter(spec -> spec.getLayerType() == layer.getLayerType()).toList()
+						);
+					}
+					polygons.add(polygon);
+				}
+			}
+			return polygons;
+		}
+
+		@SuppressWarnings("resource")
+		@Test
+		void testIncreaseMatchesEachYearInTurn() throws Exception {
+			Map<String, Object> controlMap = VriTestUtils.loadControlMap();
+			VriStart app = new VriStart();
+			ApplicationTestUtils.setControlMap(app, controlMap);
+
+			var polygons = testDataPolygons(app, controlMap);
+			assertThat(polygons, hasSize(2));
+
+			List<Object> results = new ArrayList<>();
+			for (var poly : polygons) {
+				var layer = poly.getLayers().get(LayerType.PRIMARY);
+				var bec = Utils.getBec(poly.getBiogeoclimaticZone(), controlMap);
+
+				// The site curves given for the layer's sites, as the primary site depends on the species
+				var curves = layer.getSites().values().stream().map(VriSite::getSiteCurveNumber)
+						.flatMap(Optional::stream).filter(curve -> curve > 0).distinct().toList();
+				assertThat(curves, not(empty()));
+
+				for (int curve : curves) {
+					results.addAll(compareIncreases(app, poly, layer, bec, curve));
+				}
+			}
+			// Make sure the comparison covered both stands that can be increased and those that can't
+			long found = results.stream().filter(VriStart.Increase.class::isInstance).count();
+			assertThat(found, greaterThan(0L));
+			assertThat(found, lessThan((long) results.size()));
+		}
+
+		/**
+		 * Compare the increase found for the primary layer of a polygon with the one found trying each year in turn,
+		 * over a range of site indices, ages, heights and base area targets.
+		 *
+		 * @return the increases or failures compared
+		 */
+		static List<Object>
+				compareIncreases(VriStart app, VriPolygon poly, VriLayer layer, BecDefinition bec, int curve) {
+			var siteCurve = SiteIndexEquation.getByIndex(curve);
+			List<Object> results = new ArrayList<>();
+			for (float siteIndex : new float[] { 4f, 19.7f, 35f }) {
+				for (float yearsToBreastHeight : new float[] { 3f, 9f }) {
+					for (float ageTotal = 0; ageTotal <= 60; ageTotal += 12) {
+						float breastHeightAge0 = ageTotal - yearsToBreastHeight;
+						int moreYears = Math.max(80, (int) (130 - ageTotal));
+						for (float height : new float[] { 0f, 7.6f }) {
+							for (float baseAreaTarget : new float[] { 2f, 20f, 80f }) {
+								var expected = increaseOrFailure(
+										() -> VriYoungIncreaseReference.findIncreaseForYoungMode(
+												app, bec, layer, siteCurve, breastHeightAge0, siteIndex,
+												yearsToBreastHeight, baseAreaTarget, 6f, 5f, 0f, moreYears, height
+										)
+								);
+								var actual = increaseOrFailure(
+										() -> app.findIncreaseForYoungMode(
+												bec, layer, siteCurve, breastHeightAge0, siteIndex, yearsToBreastHeight,
+												baseAreaTarget, 6f, 5f, 0f, moreYears, height
+										)
+								);
+								assertThat(
+										MessageFormat.format(
+												"polygon {0} curve {1} site index {2} ytbh {3} age {4} height {5} target {6}",
+												poly.getPolygonIdentifier(), curve, siteIndex, yearsToBreastHeight,
+												ageTotal, height, baseAreaTarget
+										), actual, is(expected)
+								);
+								results.add(expected);
+							}
+						}
+					}
+				}
+			}
+			return results;
+		}
+
 		@Test
 		void testBasic() throws Exception {
 			var control = EasyMock.createControl();
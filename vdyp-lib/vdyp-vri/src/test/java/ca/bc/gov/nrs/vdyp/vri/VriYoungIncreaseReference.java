@@ -0,0 +1,72 @@
+package ca.bc.gov.nrs.vdyp.vri;
+
+import java.util.Optional;
+
+import ca.bc.gov.nrs.vdyp.application.StandProcessingException;
+import ca.bc.gov.nrs.vdyp.common_calculators.SiteIndex2Height;
+import ca.bc.gov.nrs.vdyp.common_calculators.custom_exceptions.CommonCalculatorException;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexAgeType;
+import ca.bc.gov.nrs.vdyp.common_calculators.enumerations.SiteIndexEquation;
+import ca.bc.gov.nrs.vdyp.model.BecDefinition;
+import ca.bc.gov.nrs.vdyp.vri.VriStart.Increase;
+import ca.bc.gov.nrs.vdyp.vri.model.VriLayer;
+
+/**
+ * The implementation of {@link VriStart#findIncreaseForYoungMode} that found the base area yield coefficients again for
+ * each year tried, kept to check that finding them once gives the same increase.
+ */
+public class VriYoungIncreaseReference {
+
+	private VriYoungIncreaseReference() {
+	}
+
+	public static Increase findIncreaseForYoungMode(
+			VriStart app, BecDefinition bec, VriLayer primaryLayer, SiteIndexEquation siteCurve,
+			float primaryBreastHeightAge0, float siteIndex, float yeastToBreastHeight, float baseAreaTarget,
+			float heightTarget, float ageTarget, float dominantHeight0, int moreYears, float primaryHeight
+	) throws CommonCalculatorException, StandProcessingException {
+		float dominantHeight;
+		float ageIncrease;
+		for (int increase = 0; increase <= moreYears; increase++) {
+			float primaryBreastHeightAge = primaryBreastHeightAge0 + increase; // AGEBH
+
+			if (primaryBreastHeightAge > 1f) {
+
+				float ageD = primaryBreastHeightAge; // AGED
+
+				float dominantHeightD = (float) SiteIndex2Height.indexToHeight(
+						siteCurve, ageD, SiteIndexAgeType.SI_AT_BREAST, siteIndex, ageD, yeastToBreastHeight
+				); // HDD
+
+				if (increase == 0) {
+					dominantHeight0 = dominantHeightD;
+				}
+				dominantHeight = dominantHeightD; // HD
+				if (primaryHeight > 0f && dominantHeight0 > 0f) {
+					dominantHeight = primaryHeight + (dominantHeight - dominantHeight0);
+				}
+
+				// check empirical BA assuming BAV = 0
+
+				float predictedBaseArea = app.estimateBaseAreaYield(
+						dominantHeight, primaryBreastHeightAge, Optional.empty(), false,
+						primaryLayer.getSpecies().values(), bec,
+						primaryLayer.getEmpericalRelationshipParameterIndex().orElseThrow()
+				); // BAP
+
+				// Calculate the full occupancy BA Hence the BA we will test is the Full
+				// occupanct BA
+
+				predictedBaseArea /= VriStart.FRACTION_AVAILABLE_N;
+
+				if (dominantHeight >= heightTarget && primaryBreastHeightAge >= ageTarget
+						&& predictedBaseArea >= baseAreaTarget) {
+					ageIncrease = increase;
+					return new Increase(dominantHeight, ageIncrease);
+				}
+			}
+		}
+		throw new StandProcessingException("Unable to increase to target height.");
+
+	}
+}